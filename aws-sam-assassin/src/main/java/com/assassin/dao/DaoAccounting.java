@@ -0,0 +1,324 @@
+package com.assassin.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.metrics.JfrEvents;
+import com.assassin.metrics.Metrics;
+
+/**
+ * Per-invocation accounting of DynamoDB work.
+ * <p>
+ * DAOs handed out by the {@link com.assassin.util.ServiceRegistry} are wrapped with {@link #wrap}, which
+ * records every call: the DAO method, whether it reads or writes, how many items it returned and how long
+ * it took. The DynamoDB client reports the round trips and consumed capacity underneath
+ * ({@link com.assassin.util.ConsumedCapacityInterceptor}). Handlers open a {@link Scope} per invocation
+ * and closing it logs one summary line, so a request that suddenly makes ten reads instead of two shows up
+ * in the logs and in budget tests. Each call's latency also goes to {@link Metrics} under
+ * {@code <Dao>.<method>}.
+ * <p>
+ * Scopes are thread-confined and may nest; work is recorded in every open scope on the current thread.
+ * Outside a scope nothing is recorded.
+ */
+public final class DaoAccounting {
+
+    private static final Logger logger = LoggerFactory.getLogger(DaoAccounting.class);
+
+    // Innermost open scope on this thread, linked to its parent
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    // DAO method prefixes that modify data; every other DAO method is counted as a read
+    private static final String[] WRITE_PREFIXES = {
+            "save", "update", "delete", "put", "increment", "mark", "remove", "add", "create"
+    };
+
+    // Private constructor to prevent instantiation
+    private DaoAccounting() {}
+
+    /**
+     * Wraps a DAO so every call is recorded in the current scope.
+     * <p>
+     * The wrapper is a dynamic proxy, so the native image needs {@code daoInterface} listed in
+     * {@code proxy-config.json} and {@code reflect-config.json} (checked by NativeImageConfigTest).
+     *
+     * @param daoInterface The DAO interface, e.g. {@code PlayerDao.class}
+     * @param delegate The DAO doing the work
+     * @return A DAO implementing {@code daoInterface} that records and delegates
+     */
+    public static <T> T wrap(Class<T> daoInterface, T delegate) {
+        String daoName = daoInterface.getSimpleName();
+        return daoInterface.cast(Proxy.newProxyInstance(daoInterface.getClassLoader(), new Class<?>[] {daoInterface},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return invokeObjectMethod(proxy, method, args, daoName, delegate);
+                    }
+                    Scope scope = currentScope.get();
+                    // Calls one DAO makes to another are part of the outer call
+                    if (scope == null || scope.inDaoCall) {
+                        return invoke(method, delegate, args);
+                    }
+                    scope.inDaoCall = true;
+                    String operation = daoName + "." + method.getName();
+                    JfrEvents.DaoCall event = JfrEvents.begin(JfrEvents.DaoCall::new);
+                    long start = System.nanoTime();
+                    Object result = null;
+                    boolean failed = true;
+                    try {
+                        result = invoke(method, delegate, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        long nanos = System.nanoTime() - start;
+                        scope.inDaoCall = false;
+                        boolean write = isWrite(method.getName());
+                        int items = itemCount(result);
+                        scope.recordCall(operation, write, items, nanos);
+                        Metrics.recordLatency(operation, nanos);
+                        if (failed) {
+                            Metrics.recordFault(operation);
+                        }
+                        if (JfrEvents.shouldCommit(event)) {
+                            event.operation = operation;
+                            event.write = write;
+                            event.items = items;
+                            event.failed = failed;
+                            event.commit();
+                        }
+                    }
+                }));
+    }
+
+    /**
+     * Opens an accounting scope on the current thread. Close it in a finally block or try-with-resources.
+     *
+     * @param label What is being accounted, e.g. the handler name; used in the summary line
+     * @return The open scope
+     */
+    public static Scope begin(String label) {
+        Scope scope = new Scope(label, currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return True if work on this thread is currently being recorded
+     */
+    public static boolean isActive() {
+        return currentScope.get() != null;
+    }
+
+    /**
+     * Records one DynamoDB request, as seen by the client, in every open scope on this thread.
+     *
+     * @param operation The DynamoDB operation, e.g. {@code GetItem}
+     * @param write True for operations that modify data
+     * @param capacityUnits Capacity units the request consumed, 0 if DynamoDB did not report any
+     */
+    public static void recordRoundTrip(String operation, boolean write, double capacityUnits) {
+        for (Scope scope = currentScope.get(); scope != null; scope = scope.parent) {
+            scope.requestsByOperation.merge(operation, 1, Integer::sum);
+            if (write) {
+                scope.writeCapacityUnits += capacityUnits;
+            } else {
+                scope.readCapacityUnits += capacityUnits;
+            }
+        }
+    }
+
+    static boolean isWrite(String methodName) {
+        for (String prefix : WRITE_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Items a DAO call returned: collection and map sizes, 0 or 1 for Optionals and single items
+    static int itemCount(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static Object invoke(Method method, Object delegate, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Method method, Object[] args, String daoName, Object delegate)
+            throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return daoName + "[" + delegate + "]";
+            default:
+                return invoke(method, delegate, args);
+        }
+    }
+
+    /**
+     * DynamoDB work recorded between {@link #begin} and {@link #close}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final String label;
+        private final Scope parent;
+        private final long startNanos = System.nanoTime();
+        // "Dao.method" -> calls
+        private final Map<String, Integer> callsByMethod = new LinkedHashMap<>();
+        // DynamoDB operation -> requests
+        private final Map<String, Integer> requestsByOperation = new LinkedHashMap<>();
+        private int reads;
+        private int writes;
+        private int items;
+        private long daoNanos;
+        private double readCapacityUnits;
+        private double writeCapacityUnits;
+        private boolean inDaoCall;
+        private boolean closed;
+
+        private Scope(String label, Scope parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+
+        private void recordCall(String method, boolean write, int itemCount, long nanos) {
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                scope.callsByMethod.merge(method, 1, Integer::sum);
+                if (write) {
+                    scope.writes++;
+                } else {
+                    scope.reads++;
+                }
+                scope.items += itemCount;
+                scope.daoNanos += nanos;
+            }
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * @return DAO calls that read data
+         */
+        public int getReads() {
+            return reads;
+        }
+
+        /**
+         * @return DAO calls that modified data
+         */
+        public int getWrites() {
+            return writes;
+        }
+
+        public int getCalls() {
+            return reads + writes;
+        }
+
+        /**
+         * @return Items returned by all DAO calls
+         */
+        public int getItems() {
+            return items;
+        }
+
+        /**
+         * @return Requests the DynamoDB client sent; a single DAO call may make several
+         */
+        public int getRoundTrips() {
+            int total = 0;
+            for (int requests : requestsByOperation.values()) {
+                total += requests;
+            }
+            return total;
+        }
+
+        public double getReadCapacityUnits() {
+            return readCapacityUnits;
+        }
+
+        public double getWriteCapacityUnits() {
+            return writeCapacityUnits;
+        }
+
+        /**
+         * @return Time spent inside DAO calls, in milliseconds
+         */
+        public double getDaoMillis() {
+            return daoNanos / 1_000_000.0;
+        }
+
+        /**
+         * @return Calls per DAO method, in first-call order
+         */
+        public Map<String, Integer> getCallsByMethod() {
+            return Collections.unmodifiableMap(callsByMethod);
+        }
+
+        /**
+         * @return DynamoDB requests per operation, e.g. {@code GetItem}
+         */
+        public Map<String, Integer> getRequestsByOperation() {
+            return Collections.unmodifiableMap(requestsByOperation);
+        }
+
+        /**
+         * @return One-line summary of the recorded work
+         */
+        public String summary() {
+            return String.format("%s: %d DAO calls (%d reads, %d writes), %d items, %d DynamoDB requests %s, "
+                            + "%.1f RCU, %.1f WCU, %.1f ms in DAOs of %.1f ms, calls %s",
+                    label, getCalls(), reads, writes, items, getRoundTrips(), requestsByOperation,
+                    readCapacityUnits, writeCapacityUnits, getDaoMillis(),
+                    (System.nanoTime() - startNanos) / 1_000_000.0, callsByMethod);
+        }
+
+        /**
+         * Ends the scope and logs its summary. Closing restores the enclosing scope, if any.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (currentScope.get() == this) {
+                if (parent == null) {
+                    currentScope.remove();
+                } else {
+                    currentScope.set(parent);
+                }
+            }
+            if (logger.isInfoEnabled()) {
+                logger.info("DynamoDB usage for {}", summary());
+            }
+        }
+    }
+}
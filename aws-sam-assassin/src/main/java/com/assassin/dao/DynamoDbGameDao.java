@@ -13,13 +13,13 @@ import com.assassin.exception.GamePersistenceException;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
@@ -46,9 +46,8 @@ public class DynamoDbGameDao implements GameDao {
         if (this.tableName == null || this.tableName.isEmpty()) {
             throw new IllegalStateException("Could not determine Games table name from System Property or Environment Variable '" + GAMES_TABLE_NAME_ENV_VAR + "'");
         }
-        this.gameTable = enhancedClient.table(this.tableName, TableSchema.fromBean(Game.class));
-        this.statusIndex = enhancedClient.table(this.tableName, TableSchema.fromBean(Game.class))
-                                         .index(STATUS_CREATED_AT_INDEX);
+        this.gameTable = enhancedClient.table(this.tableName, ServiceRegistry.tableSchema(Game.class));
+        this.statusIndex = gameTable.index(STATUS_CREATED_AT_INDEX);
         logger.info("Initialized GameDao for table: {}", this.tableName);
     }
 
@@ -153,6 +152,23 @@ public class DynamoDbGameDao implements GameDao {
         }
     }
 
+    @Override
+    public PagedResult<Game> listGamesByStatus(String status, int limit, String pageToken) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                .scanIndexForward(false) // Sort by CreatedAt descending
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        logger.debug("Listing a page of up to {} games with status: {} using index: {}", limit, status, STATUS_CREATED_AT_INDEX);
+        try {
+            return PagedResult.firstPage(statusIndex.query(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDbException listing a page of games by status {}: {}", status, e.getMessage(), e);
+            throw new GamePersistenceException("Error listing games by status", e);
+        }
+    }
+
     @Override
     public int countGamesPlayedByPlayer(String playerId) throws GamePersistenceException {
         logger.warn("Counting games played by player {} using scan - inefficient!", playerId);
@@ -0,0 +1,187 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.GameEvent;
+import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+/**
+ * {@link GameEventDao} over the GameEvents table, partitioned by game and sorted by sequence number.
+ * <p>
+ * Each game's counter is an extra item at sequence 0; queries for events after a sequence number never
+ * reach it. An event is added by reading the counter and writing the bumped counter and the event in one
+ * TransactWriteItems on condition that the counter is unchanged, retrying from a fresh read when another
+ * event got there first. A sequence number therefore becomes visible together with its event, never before
+ * it, so a reader that has seen event n has also seen every event below n.
+ */
+public class DynamoDbGameEventDao implements GameEventDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbGameEventDao.class);
+    private static final String TABLE_NAME_ENV_VAR = "GAME_EVENTS_TABLE_NAME";
+    private static final String DEFAULT_TABLE_NAME = "dev-GameEvents";
+    private static final String GAME_ID_ATTRIBUTE = "GameID";
+    private static final String SEQ_ATTRIBUTE = "Seq";
+    private static final String LAST_SEQ_ATTRIBUTE = "LastSeq";
+    // Sequence number of the counter item
+    private static final String COUNTER_SEQ = "0";
+    // Cancellation reasons worth a fresh read: the counter moved, or another transaction held it
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final String TRANSACTION_CONFLICT = "TransactionConflict";
+    // Events of one game come in bursts of a few at once (a kill, its elimination, a zone change)
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final String tableName;
+    private final DynamoDbTable<GameEvent> eventTable;
+
+    public DynamoDbGameEventDao() {
+        this(DynamoDbClientProvider.getDynamoDbEnhancedClient());
+    }
+
+    public DynamoDbGameEventDao(DynamoDbEnhancedClient enhancedClient) {
+        this.tableName = getTableName();
+        logger.info("Initializing DynamoDbGameEventDao with table: {}", tableName);
+        this.eventTable = enhancedClient.table(tableName, ServiceRegistry.tableSchema(GameEvent.class));
+    }
+
+    @Override
+    public GameEvent addEvent(String gameId, GameEvent.Type type, String time, Map<String, String> data)
+            throws GamePersistenceException {
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                long lastSeq = readLastSeq(gameId, true);
+                GameEvent event = new GameEvent(gameId, lastSeq + 1, type, time, data);
+                try {
+                    DynamoDbClientProvider.getClient().transactWriteItems(TransactWriteItemsRequest.builder()
+                            .transactItems(
+                                    TransactWriteItem.builder().update(counterUpdate(gameId, lastSeq)).build(),
+                                    TransactWriteItem.builder().put(Put.builder()
+                                            .tableName(tableName)
+                                            .item(eventTable.tableSchema().itemToMap(event, true))
+                                            .conditionExpression("attribute_not_exists(" + SEQ_ATTRIBUTE + ")")
+                                            .build()).build())
+                            .build());
+                    logger.debug("Added {} event {} to game {}", type, event.getSeq(), gameId);
+                    return event;
+                } catch (TransactionCanceledException e) {
+                    if (!isLostRace(e)) {
+                        throw e;
+                    }
+                    logger.debug("Event counter of game {} changed concurrently (attempt {})", gameId, attempt);
+                }
+            }
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error adding {} event to game {}: {}", type, gameId, e.getMessage(), e);
+            throw new GamePersistenceException("Error adding event to game " + gameId, e);
+        }
+        throw new GamePersistenceException("Event counter of game " + gameId + " kept changing; gave up after "
+                + MAX_ATTEMPTS + " attempts");
+    }
+
+    // Moves the counter from lastSeq to lastSeq + 1, only if no other event moved it first
+    private Update counterUpdate(String gameId, long lastSeq) {
+        Update.Builder update = Update.builder()
+                .tableName(tableName)
+                .key(counterKey(gameId))
+                .updateExpression("SET " + LAST_SEQ_ATTRIBUTE + " = :next");
+        if (lastSeq == 0) {
+            return update.conditionExpression("attribute_not_exists(" + LAST_SEQ_ATTRIBUTE + ")")
+                    .expressionAttributeValues(Map.of(":next", AttributeValue.builder().n("1").build()))
+                    .build();
+        }
+        return update.conditionExpression(LAST_SEQ_ATTRIBUTE + " = :last")
+                .expressionAttributeValues(Map.of(
+                        ":last", AttributeValue.builder().n(Long.toString(lastSeq)).build(),
+                        ":next", AttributeValue.builder().n(Long.toString(lastSeq + 1)).build()))
+                .build();
+    }
+
+    private static boolean isLostRace(TransactionCanceledException e) {
+        for (CancellationReason reason : e.cancellationReasons()) {
+            if (CONDITIONAL_CHECK_FAILED.equals(reason.code()) || TRANSACTION_CONFLICT.equals(reason.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<GameEvent> readSince(String gameId, long afterSeq, int limit) throws GamePersistenceException {
+        try {
+            // Never below the counter item, which is not an event
+            QueryConditional queryConditional = QueryConditional.sortGreaterThan(Key.builder()
+                    .partitionValue(gameId)
+                    .sortValue(Math.max(0, afterSeq))
+                    .build());
+            QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                    .queryConditional(queryConditional)
+                    .scanIndexForward(true)
+                    // A lagging replica could hold event n + 1 without event n; callers move their cursor past both
+                    .consistentRead(true)
+                    .limit(limit)
+                    .build();
+            return eventTable.query(request).items().stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error reading events of game {} after {}: {}", gameId, afterSeq, e.getMessage(), e);
+            throw new GamePersistenceException("Error reading events of game " + gameId, e);
+        }
+    }
+
+    @Override
+    public long getLatestSeq(String gameId) throws GamePersistenceException {
+        try {
+            return readLastSeq(gameId, false);
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error reading the event counter of game {}: {}", gameId, e.getMessage(), e);
+            throw new GamePersistenceException("Error reading the event counter of game " + gameId, e);
+        }
+    }
+
+    private long readLastSeq(String gameId, boolean consistentRead) {
+        Map<String, AttributeValue> counter = DynamoDbClientProvider.getClient().getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(counterKey(gameId))
+                .projectionExpression(LAST_SEQ_ATTRIBUTE)
+                .consistentRead(consistentRead)
+                .build())
+                .item();
+        AttributeValue lastSeq = counter == null ? null : counter.get(LAST_SEQ_ATTRIBUTE);
+        return lastSeq == null ? 0 : Long.parseLong(lastSeq.n());
+    }
+
+    private static Map<String, AttributeValue> counterKey(String gameId) {
+        return Map.of(GAME_ID_ATTRIBUTE, AttributeValue.builder().s(gameId).build(),
+                SEQ_ATTRIBUTE, AttributeValue.builder().n(COUNTER_SEQ).build());
+    }
+
+    private static String getTableName() {
+        String tableName = System.getProperty(TABLE_NAME_ENV_VAR);
+        if (tableName == null || tableName.isEmpty()) {
+            tableName = System.getenv(TABLE_NAME_ENV_VAR);
+        }
+        return tableName == null || tableName.isEmpty() ? DEFAULT_TABLE_NAME : tableName;
+    }
+}
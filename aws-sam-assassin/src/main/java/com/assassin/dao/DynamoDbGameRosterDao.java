@@ -0,0 +1,176 @@
+package com.assassin.dao;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.GameRoster;
+import com.assassin.model.Player;
+import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * {@link GameRosterDao} over the GameRosters table, one item per game.
+ * <p>
+ * A status change reads the roster, applies the change and writes the player and the roster in one
+ * TransactWriteItems on condition that the roster's version is unchanged, retrying from a fresh read when
+ * another elimination got there first.
+ */
+public class DynamoDbGameRosterDao implements GameRosterDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbGameRosterDao.class);
+    private static final String TABLE_NAME_ENV_VAR = "GAME_ROSTERS_TABLE_NAME";
+    private static final String DEFAULT_TABLE_NAME = "dev-GameRosters";
+    private static final String PLAYERS_TABLE_ENV_VAR = "PLAYERS_TABLE_NAME";
+    private static final String DEFAULT_PLAYERS_TABLE_NAME = "dev-Players";
+    // Cancellation reasons worth a fresh read: the version moved, or another transaction held the item
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final String TRANSACTION_CONFLICT = "TransactionConflict";
+    // Eliminations in one game come a few per second at most, so a handful of attempts only fails under real trouble
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<GameRoster> rosterTable;
+    private final DynamoDbTable<Player> playerTable;
+    private final PlayerDao playerDao;
+
+    public DynamoDbGameRosterDao() {
+        this(ServiceRegistry.playerDao());
+    }
+
+    /**
+     * Constructor that shares an existing PlayerDao for saves that leave the roster alone.
+     *
+     * @param playerDao The PlayerDao used to save players outside a transaction
+     */
+    public DynamoDbGameRosterDao(PlayerDao playerDao) {
+        this(DynamoDbClientProvider.getDynamoDbEnhancedClient(), playerDao);
+    }
+
+    /**
+     * Constructor for dependency injection with an existing enhanced client.
+     *
+     * @param enhancedClient The DynamoDbEnhancedClient the rosters and players are written with
+     * @param playerDao The PlayerDao used to save players outside a transaction
+     */
+    public DynamoDbGameRosterDao(DynamoDbEnhancedClient enhancedClient, PlayerDao playerDao) {
+        this.enhancedClient = enhancedClient;
+        this.playerDao = playerDao;
+        String tableName = getTableName(TABLE_NAME_ENV_VAR, DEFAULT_TABLE_NAME);
+        logger.info("Initializing DynamoDbGameRosterDao with table: {}", tableName);
+        this.rosterTable = enhancedClient.table(tableName, ServiceRegistry.tableSchema(GameRoster.class));
+        this.playerTable = enhancedClient.table(getTableName(PLAYERS_TABLE_ENV_VAR, DEFAULT_PLAYERS_TABLE_NAME),
+                ServiceRegistry.tableSchema(Player.class));
+    }
+
+    @Override
+    public Optional<GameRoster> getRoster(String gameId) {
+        try {
+            return Optional.ofNullable(rosterTable.getItem(Key.builder().partitionValue(gameId).build()));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error getting roster of game {}: {}", gameId, e.getMessage(), e);
+            throw new GamePersistenceException("Error retrieving roster of game " + gameId, e);
+        }
+    }
+
+    @Override
+    public void saveRoster(GameRoster roster) {
+        try {
+            roster.setVersion(1L);
+            rosterTable.putItem(roster);
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error saving roster of game {}: {}", roster.getGameId(), e.getMessage(), e);
+            throw new GamePersistenceException("Error saving roster of game " + roster.getGameId(), e);
+        }
+    }
+
+    @Override
+    public Optional<GameRoster> updatePlayerStatus(Player player, String previousStatus, String updatedAt) {
+        String gameId = player.getGameID();
+        if (gameId == null || gameId.isEmpty()) {
+            playerDao.savePlayer(player);
+            return Optional.empty();
+        }
+        // Same geo-cell key as PlayerDao#savePlayer, so the full-item write keeps the player in the index
+        Player storedPlayer = DynamoDbPlayerDao.withCurrentGameCellKey(player, playerTable.tableSchema());
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                // Read our own writes, so a retry starts from the version that beat it
+                GameRoster roster = rosterTable.getItem(GetItemEnhancedRequest.builder()
+                        .key(Key.builder().partitionValue(gameId).build())
+                        .consistentRead(true)
+                        .build());
+                if (roster == null || !roster.applyStatusChange(player.getPlayerID(), previousStatus, player.getStatus())) {
+                    playerDao.savePlayer(player);
+                    return Optional.empty();
+                }
+                Long expectedVersion = roster.getVersion();
+                roster.setVersion(expectedVersion == null ? 1L : expectedVersion + 1);
+                roster.setLastUpdated(updatedAt);
+                try {
+                    enhancedClient.transactWriteItems(TransactWriteItemsEnhancedRequest.builder()
+                            .addPutItem(playerTable, storedPlayer)
+                            .addPutItem(rosterTable, TransactPutItemEnhancedRequest.builder(GameRoster.class)
+                                    .item(roster)
+                                    .conditionExpression(versionCondition(expectedVersion))
+                                    .build())
+                            .build());
+                    return Optional.of(roster);
+                } catch (TransactionCanceledException e) {
+                    if (!isLostRace(e)) {
+                        throw e;
+                    }
+                    logger.debug("Roster of game {} changed concurrently (attempt {})", gameId, attempt);
+                }
+            }
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error updating status of player {} in roster of game {}: {}",
+                    player.getPlayerID(), gameId, e.getMessage(), e);
+            throw new GamePersistenceException("Error updating roster of game " + gameId, e);
+        }
+        throw new GamePersistenceException("Roster of game " + gameId + " kept changing; gave up after "
+                + MAX_ATTEMPTS + " attempts");
+    }
+
+    private static boolean isLostRace(TransactionCanceledException e) {
+        for (CancellationReason reason : e.cancellationReasons()) {
+            if (CONDITIONAL_CHECK_FAILED.equals(reason.code()) || TRANSACTION_CONFLICT.equals(reason.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Expression versionCondition(Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Expression.builder().expression("attribute_not_exists(Version)").build();
+        }
+        return Expression.builder()
+                .expression("Version = :expectedVersion")
+                .expressionValues(Map.of(":expectedVersion", AttributeValue.builder().n(expectedVersion.toString()).build()))
+                .build();
+    }
+
+    private static String getTableName(String envVar, String defaultTableName) {
+        String tableName = System.getProperty(envVar);
+        if (tableName == null || tableName.isEmpty()) {
+            tableName = System.getenv(envVar);
+        }
+        return tableName == null || tableName.isEmpty() ? defaultTableName : tableName;
+    }
+}
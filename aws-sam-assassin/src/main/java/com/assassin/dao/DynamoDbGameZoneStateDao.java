@@ -3,12 +3,12 @@ package com.assassin.dao;
 import com.assassin.exception.PersistenceException;
 import com.assassin.model.GameZoneState;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
 import java.util.Optional;
@@ -25,7 +25,7 @@ public class DynamoDbGameZoneStateDao implements GameZoneStateDao {
     public DynamoDbGameZoneStateDao() {
         DynamoDbEnhancedClient enhancedClient = DynamoDbClientProvider.getEnhancedClient();
         String tableName = Optional.ofNullable(System.getenv(TABLE_NAME_ENV_VAR)).orElse(DEFAULT_TABLE_NAME);
-        this.gameZoneStateTable = enhancedClient.table(tableName, TableSchema.fromBean(GameZoneState.class));
+        this.gameZoneStateTable = enhancedClient.table(tableName, ServiceRegistry.tableSchema(GameZoneState.class));
     }
 
     @Override
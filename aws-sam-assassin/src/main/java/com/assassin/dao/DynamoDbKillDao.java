@@ -1,6 +1,5 @@
 package com.assassin.dao;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,12 +14,12 @@ import com.assassin.model.Kill;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
@@ -57,12 +56,21 @@ public class DynamoDbKillDao implements KillDao {
      * Constructor that initializes the DynamoDB Enhanced Client and Kill table/index.
      */
     public DynamoDbKillDao() {
+        this(ServiceRegistry.playerDao());
+    }
+
+    /**
+     * Constructor that shares an existing PlayerDao instead of building another.
+     *
+     * @param playerDao The PlayerDao used for player lookups
+     */
+    public DynamoDbKillDao(PlayerDao playerDao) {
         // Use the client provider
         enhancedClient = DynamoDbClientProvider.getDynamoDbEnhancedClient();
-        this.playerDao = new DynamoDbPlayerDao();
+        this.playerDao = playerDao;
 
         this.tableName = getTableName();
-        this.killTable = enhancedClient.table(this.tableName, TableSchema.fromBean(Kill.class));
+        this.killTable = enhancedClient.table(this.tableName, ServiceRegistry.tableSchema(Kill.class));
         this.victimIndex = this.killTable.index(VICTIM_ID_TIME_INDEX);
         this.gameIndex = this.killTable.index(GAME_ID_TIME_INDEX_NAME);
         this.statusTimeIndex = this.killTable.index(STATUS_TIME_INDEX_NAME);
@@ -140,6 +148,32 @@ public class DynamoDbKillDao implements KillDao {
         }
     }
 
+    /**
+     * Finds one page of the kills performed by a killer, ordered by time descending.
+     *
+     * @param killerID The ID of the killer.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the query operation fails.
+     */
+    @Override
+    public PagedResult<Kill> findKillsByKiller(String killerID, int limit, String pageToken) throws KillPersistenceException {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(killerID).build()))
+                .scanIndexForward(false)
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        try {
+            logger.debug("Finding a page of up to {} kills by killer ID: {}", limit, killerID);
+            return PagedResult.firstPage(killTable.query(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDbException finding a page of kills by killer {}: {}", killerID, e.getMessage(), e);
+            throw new KillPersistenceException("Database error finding kills by killer: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Finds all kills where a specific player was the victim, ordered by time descending.
      * Requires the VictimID-Time-index GSI.
@@ -182,6 +216,33 @@ public class DynamoDbKillDao implements KillDao {
             throw new KillPersistenceException("Unexpected error finding kills by victim: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Finds one page of the kills where a player was the victim, ordered by time descending.
+     * Requires the VictimID-Time-index GSI.
+     *
+     * @param victimID The ID of the victim.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the query operation fails.
+     */
+    @Override
+    public PagedResult<Kill> findKillsByVictim(String victimID, int limit, String pageToken) throws KillPersistenceException {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(victimID).build()))
+                .scanIndexForward(false)
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        try {
+            logger.debug("Finding a page of up to {} kills by victim ID: {} using index: {}", limit, victimID, VICTIM_ID_TIME_INDEX);
+            return PagedResult.firstPage(victimIndex.query(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDbException finding a page of kills by victim {}: {}", victimID, e.getMessage(), e);
+            throw new KillPersistenceException("Database error finding kills by victim: " + e.getMessage(), e);
+        }
+    }
     
     /**
      * Finds the most recent N kills, ordered by time descending.
@@ -289,6 +350,28 @@ public class DynamoDbKillDao implements KillDao {
         }
     }
 
+    /**
+     * Retrieves one page of all kills, resuming where the previous page ended.
+     *
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the scan operation fails.
+     */
+    @Override
+    public PagedResult<Kill> getAllKills(int limit, String pageToken) throws KillPersistenceException {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        try {
+            return PagedResult.firstPage(killTable.scan(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error scanning a page of kills: {}", e.getMessage(), e);
+            throw new KillPersistenceException("Error retrieving kills from DynamoDB", e);
+        }
+    }
+
     /**
      * Retrieves a specific kill by its composite key (killer ID and time).
      *
@@ -410,36 +493,6 @@ public class DynamoDbKillDao implements KillDao {
         }
     }
 
-    /**
-     * Retrieves a list of recent kills across all players.
-     *
-     * @param limit The maximum number of recent kills to retrieve.
-     * @return A list of the most recent Kill objects.
-     * @throws KillPersistenceException If there's an error retrieving recent kills.
-     */
-    @Override
-    public List<Kill> getRecentKills(int limit) throws KillPersistenceException {
-        try {
-            logger.debug("Getting {} most recent kills", limit);
-            ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .limit(limit)
-                .build();
-                
-            List<Kill> kills = killTable.scan(request)
-                .items()
-                .stream()
-                .sorted(Comparator.comparing(Kill::getTime).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
-                
-            logger.debug("Found {} recent kills", kills.size());
-            return kills;
-        } catch (DynamoDbException e) {
-            logger.error("DynamoDB error retrieving recent kills: {}", e.getMessage(), e);
-            throw new KillPersistenceException("Error retrieving recent kills from DynamoDB", e);
-        }
-    }
-
     /**
      * Finds all kill records associated with a specific game ID using the GSI.
      *
@@ -450,9 +503,6 @@ public class DynamoDbKillDao implements KillDao {
     public List<Kill> findKillsByGameId(String gameId) {
         logger.debug("Finding kills for gameID: {}", gameId);
         try {
-            DynamoDbIndex<Kill> gameIndex = enhancedClient.table(getTableName(), TableSchema.fromBean(Kill.class))
-                                                    .index(GAME_ID_TIME_INDEX_NAME);
-                                                    
             QueryConditional queryConditional = QueryConditional.keyEqualTo(Key.builder()
                 .partitionValue(gameId)
                 .build());
@@ -477,6 +527,31 @@ public class DynamoDbKillDao implements KillDao {
         }
     }
 
+    /**
+     * Finds one page of the kill records of a game, ordered by time ascending.
+     *
+     * @param gameId The ID of the game.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     */
+    @Override
+    public PagedResult<Kill> findKillsByGameId(String gameId, int limit, String pageToken) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(gameId).build()))
+                .scanIndexForward(true)
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        try {
+            logger.debug("Finding a page of up to {} kills for gameID: {}", limit, gameId);
+            return PagedResult.firstPage(gameIndex.query(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error querying a page of GameID-Time-index for game {}: {}", gameId, e.getMessage(), e);
+            throw new KillPersistenceException("Error finding kills by game ID", e);
+        }
+    }
+
     /**
      * Finds the kill record for a given victim within a specific game context.
      * Queries the VictimID-Time-index GSI for the most recent kill of the victim,
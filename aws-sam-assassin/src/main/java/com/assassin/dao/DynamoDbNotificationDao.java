@@ -9,15 +9,14 @@ import org.slf4j.LoggerFactory;
 
 import com.assassin.model.Notification;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
 /**
@@ -37,12 +36,10 @@ public class DynamoDbNotificationDao implements NotificationDao {
             throw new IllegalStateException("Could not determine Notifications table name from System Property or Environment Variable '" + NOTIFICATIONS_TABLE_ENV_VAR + "'");
         }
         
-        DynamoDbClient ddbClient = DynamoDbClientProvider.getClient(); 
-        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
-                                                                      .dynamoDbClient(ddbClient)
-                                                                      .build(); 
+        // Share the container-wide enhanced client rather than building another
+        DynamoDbEnhancedClient enhancedClient = DynamoDbClientProvider.getDynamoDbEnhancedClient();
         // Use the resolved tableName                                                                    
-        this.notificationTable = enhancedClient.table(this.tableName, TableSchema.fromBean(Notification.class));
+        this.notificationTable = enhancedClient.table(this.tableName, ServiceRegistry.tableSchema(Notification.class));
         logger.info("Initialized DynamoDbNotificationDao with table: {}", this.tableName);
     }
     
@@ -148,31 +145,9 @@ public class DynamoDbNotificationDao implements NotificationDao {
         }
         
         try {
-            QueryConditional queryConditional;
-            
-            // Create base query on partition key (recipientPlayerId)
-            if (sinceTimestamp != null && !sinceTimestamp.isEmpty()) {
-                // Query for notifications after the specified timestamp
-                Key key = Key.builder()
-                          .partitionValue(recipientPlayerId)
-                          .sortValue(sinceTimestamp)
-                          .build();
-                queryConditional = QueryConditional.sortGreaterThan(key);
-                
-                logger.debug("Querying notifications for player: {} since timestamp: {}", 
-                           recipientPlayerId, sinceTimestamp);
-            } else {
-                // Query for all notifications for this player
-                queryConditional = QueryConditional
-                    .keyEqualTo(Key.builder()
-                                   .partitionValue(recipientPlayerId)
-                                   .build());
-                logger.debug("Querying all notifications for player: {}", recipientPlayerId);
-            }
-            
             // Build the query request with a limit
             QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
-                                                                   .queryConditional(queryConditional)
+                                                                   .queryConditional(recipientConditional(recipientPlayerId, sinceTimestamp))
                                                                    .limit(limit)
                                                                    .scanIndexForward(false) // Descending order (newest first)
                                                                    .build();
@@ -191,6 +166,49 @@ public class DynamoDbNotificationDao implements NotificationDao {
         }
     }
 
+    /**
+     * Finds one page of a player's notifications, newest first, resuming where the previous page ended.
+     *
+     * @param recipientPlayerId The ID of the player whose notifications to retrieve.
+     * @param sinceTimestamp Optional ISO 8601 timestamp to filter notifications after this time.
+     * @param limit The maximum number of notifications on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of notifications and the token for the next one.
+     */
+    @Override
+    public PagedResult<Notification> findNotificationsByPlayer(String recipientPlayerId, String sinceTimestamp, int limit,
+                                                               String pageToken) {
+        if (recipientPlayerId == null || recipientPlayerId.isEmpty()) {
+            logger.error("Cannot find notifications with null or empty recipientPlayerId");
+            throw new IllegalArgumentException("recipientPlayerId cannot be null or empty");
+        }
+        QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+                .queryConditional(recipientConditional(recipientPlayerId, sinceTimestamp))
+                .limit(limit > 0 ? limit : 50)
+                .scanIndexForward(false) // Descending order (newest first)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        try {
+            return PagedResult.firstPage(notificationTable.query(queryRequest));
+        } catch (DynamoDbException e) {
+            logger.error("Error finding a page of notifications: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to find notifications: " + e.getMessage(), e);
+        }
+    }
+
+    // Key condition for a recipient's notifications, optionally only those after a timestamp
+    private QueryConditional recipientConditional(String recipientPlayerId, String sinceTimestamp) {
+        if (sinceTimestamp != null && !sinceTimestamp.isEmpty()) {
+            logger.debug("Querying notifications for player: {} since timestamp: {}", recipientPlayerId, sinceTimestamp);
+            return QueryConditional.sortGreaterThan(Key.builder()
+                    .partitionValue(recipientPlayerId)
+                    .sortValue(sinceTimestamp)
+                    .build());
+        }
+        logger.debug("Querying all notifications for player: {}", recipientPlayerId);
+        return QueryConditional.keyEqualTo(Key.builder().partitionValue(recipientPlayerId).build());
+    }
+
     /**
      * Marks a specific notification as read.
      *
@@ -1,7 +1,13 @@
 package com.assassin.dao;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -11,6 +17,9 @@ import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.PlayerPersistenceException;
 import com.assassin.model.Player;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.GeoHash;
+import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
@@ -24,9 +33,12 @@ import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue; // Needed for DescribeTable
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException; // Import AttributeValue
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 public class DynamoDbPlayerDao implements PlayerDao {
 
@@ -36,12 +48,22 @@ public class DynamoDbPlayerDao implements PlayerDao {
     private static final String KILL_COUNT_INDEX_NAME = "KillCountIndex";
     private static final String GAME_ID_INDEX_NAME = "GameIdIndex"; // Name of the new index
     private static final String TARGET_ID_INDEX_NAME = "TargetIdIndex"; // Name for the TargetID index
+    private static final String GAME_CELL_INDEX_NAME = "GameCellIndex"; // GSI keyed by "gameId#geohash"
+    // Geohash precision 6 gives cells of roughly 1.2km x 0.6km, so typical proximity radii need a few cells
+    static final int GEO_CELL_PRECISION = 6;
+    // Beyond this many cells a single GameIdIndex query is cheaper than one query per cell
+    static final int MAX_CELL_QUERIES = 16;
+    // Keys plus the INCLUDE list of GameCellIndex; findPlayersNear returns only these on every path
+    static final List<String> NEARBY_PLAYER_ATTRIBUTES = List.of(
+            "PlayerID", "GameCellKey", "GameID", "PlayerName", "Status", "TargetID",
+            "LastKnownLatitude", "LastKnownLongitude", "LocationTimestamp");
 
     private final DynamoDbTable<Player> playerTable;
     private final DynamoDbIndex<Player> emailIndex;
     private final DynamoDbIndex<Player> killCountIndex;
     private final DynamoDbIndex<Player> gameIdIndex; // Add index reference
     private final DynamoDbIndex<Player> targetIdIndex; // Add index reference for TargetID
+    private final DynamoDbIndex<Player> gameCellIndex;
     private final DynamoDbEnhancedClient enhancedClient;
     private final String tableName; // Store table name for DescribeTable
 
@@ -53,11 +75,12 @@ public class DynamoDbPlayerDao implements PlayerDao {
             throw new IllegalStateException("Could not determine Players table name from System Property or Environment Variable '" + PLAYER_TABLE_ENV_VAR + "'");
         }
         logger.info("Initializing DynamoDbPlayerDao with table: {}", this.tableName);
-        this.playerTable = enhancedClient.table(this.tableName, TableSchema.fromBean(Player.class));
+        this.playerTable = enhancedClient.table(this.tableName, ServiceRegistry.tableSchema(Player.class));
         this.emailIndex = playerTable.index(EMAIL_INDEX_NAME);
         this.killCountIndex = playerTable.index(KILL_COUNT_INDEX_NAME);
         this.gameIdIndex = playerTable.index(GAME_ID_INDEX_NAME); // Initialize the index
         this.targetIdIndex = playerTable.index(TARGET_ID_INDEX_NAME); // Initialize the TargetID index
+        this.gameCellIndex = playerTable.index(GAME_CELL_INDEX_NAME);
     }
 
     @Override
@@ -104,7 +127,8 @@ public class DynamoDbPlayerDao implements PlayerDao {
     public void savePlayer(Player player) {
         logger.debug("Saving player with ID: {}", player.getPlayerID());
         try {
-            playerTable.putItem(player);
+            // Keep the geo-cell key in step with the location so full-item writes don't drop players from the index
+            playerTable.putItem(withCurrentGameCellKey(player, playerTable.tableSchema()));
         } catch (DynamoDbException e) {
             logger.error("DynamoDB error saving player {}: {}", player.getPlayerID(), e.getMessage(), e);
             throw new PlayerPersistenceException("Error saving player to DynamoDB", e);
@@ -123,6 +147,31 @@ public class DynamoDbPlayerDao implements PlayerDao {
         }
     }
 
+    @Override
+    public PagedResult<Player> getAllPlayers(int limit, String pageToken) {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        logger.debug("Getting a page of up to {} players from table: {}", limit, tableName);
+        try {
+            return PagedResult.firstPage(playerTable.scan(request));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error scanning a page of players: {}", e.getMessage(), e);
+            throw new PlayerPersistenceException("Error retrieving players from DynamoDB", e);
+        }
+    }
+
+    @Override
+    public ParallelScan.Result scanAllPlayers(ScanOptions options, Consumer<? super Player> consumer) {
+        try {
+            return ParallelScan.run(playerTable, options, consumer);
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error in parallel scan of players: {}", e.getMessage(), e);
+            throw new PlayerPersistenceException("Error scanning players in DynamoDB", e);
+        }
+    }
+
     @Override
     public void deletePlayer(String playerId) {
         logger.info("Deleting player with ID: {}", playerId);
@@ -252,8 +301,14 @@ public class DynamoDbPlayerDao implements PlayerDao {
     @Override
     public void updatePlayerLocation(String playerId, Double latitude, Double longitude, String timestamp, Double accuracy)
             throws PlayerPersistenceException, PlayerNotFoundException {
-        logger.debug("Updating location for player ID: {} - Lat={}, Lon={}, Timestamp={}, Accuracy={}", 
-                   playerId, latitude, longitude, timestamp, accuracy);
+        updatePlayerLocation(playerId, null, latitude, longitude, timestamp, accuracy);
+    }
+
+    @Override
+    public void updatePlayerLocation(String playerId, String gameId, Double latitude, Double longitude, String timestamp, Double accuracy)
+            throws PlayerPersistenceException, PlayerNotFoundException {
+        logger.debug("Updating location for player ID: {} in game {} - Lat={}, Lon={}, Timestamp={}, Accuracy={}", 
+                   playerId, gameId, latitude, longitude, timestamp, accuracy);
         
         if (playerId == null || playerId.isEmpty()) {
             throw new IllegalArgumentException("Player ID cannot be null or empty");
@@ -276,6 +331,8 @@ public class DynamoDbPlayerDao implements PlayerDao {
             if (accuracy != null) {
                 playerUpdate.setLocationAccuracy(accuracy);
             }
+            // Only set when known; ignoreNulls leaves any existing key in place otherwise
+            playerUpdate.setGameCellKey(gameCellKeyFor(gameId, latitude, longitude));
             
             // Use updateItem with ignoreNulls(true) to only update provided fields.
             // This also avoids overwriting other player attributes.
@@ -302,6 +359,48 @@ public class DynamoDbPlayerDao implements PlayerDao {
         }
     }
 
+    @Override
+    public boolean updateGameCellKey(Player scanned, String gameCellKey)
+            throws PlayerPersistenceException, PlayerNotFoundException {
+        String playerId = scanned.getPlayerID();
+        if (scanned.getGameID() == null || scanned.getLatitude() == null || scanned.getLongitude() == null) {
+            throw new IllegalArgumentException("Scanned player needs a game and a location to be reindexed");
+        }
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":key", AttributeValue.builder().s(gameCellKey).build());
+        values.put(":gameId", AttributeValue.builder().s(scanned.getGameID()).build());
+        values.put(":lat", AttributeValue.builder().n(scanned.getLatitude().toString()).build());
+        values.put(":lon", AttributeValue.builder().n(scanned.getLongitude().toString()).build());
+        String keyCondition = "attribute_not_exists(GameCellKey)";
+        if (scanned.getGameCellKey() != null) {
+            values.put(":oldKey", AttributeValue.builder().s(scanned.getGameCellKey()).build());
+            keyCondition = "GameCellKey = :oldKey";
+        }
+        try {
+            // SET only the key; an item-level update would also write the bean's defaults, such as KillCount 0
+            DynamoDbClientProvider.getClient().updateItem(UpdateItemRequest.builder()
+                    .tableName(this.tableName)
+                    .key(Map.of("PlayerID", AttributeValue.builder().s(playerId).build()))
+                    .updateExpression("SET GameCellKey = :key")
+                    .conditionExpression("attribute_exists(PlayerID) AND GameID = :gameId"
+                            + " AND LastKnownLatitude = :lat AND LastKnownLongitude = :lon AND " + keyCondition)
+                    .expressionAttributeValues(values)
+                    .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            if (!e.hasItem()) {
+                throw new PlayerNotFoundException("Player not found with ID: " + playerId + " during cell key update.", e);
+            }
+            // Moved or re-keyed since the scan; that write stored the key for the newer state
+            logger.debug("Player {} changed since it was scanned; leaving its cell key", playerId);
+            return false;
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error updating cell key for player {}: {}", playerId, e.getMessage(), e);
+            throw new PlayerPersistenceException("Error updating player cell key", e);
+        }
+    }
+
     @Override
     public List<Player> getPlayersByGameId(String gameId) throws PlayerPersistenceException {
         logger.debug("Getting players by game ID: {} using index: {}", gameId, GAME_ID_INDEX_NAME);
@@ -328,6 +427,23 @@ public class DynamoDbPlayerDao implements PlayerDao {
         }
     }
 
+    @Override
+    public PagedResult<Player> getPlayersByGameId(String gameId, int limit, String pageToken) throws PlayerPersistenceException {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(gameId).build()))
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        logger.debug("Getting a page of up to {} players by game ID: {} using index: {}", limit, gameId, GAME_ID_INDEX_NAME);
+        try {
+            return PagedResult.firstPage(gameIdIndex.query(request));
+        } catch (DynamoDbException e) {
+            String errorMessage = e.awsErrorDetails() != null ? e.awsErrorDetails().errorMessage() : e.getMessage();
+            logger.error("Error querying a page of GameIdIndex for game {}: {}", gameId, errorMessage, e);
+            throw new PlayerPersistenceException("Error finding players by game ID", e);
+        }
+    }
+
     /**
      * Retrieves all players targeting a specific player within a game.
      * Uses the TargetIdIndex GSI.
@@ -383,6 +499,104 @@ public class DynamoDbPlayerDao implements PlayerDao {
         }
     }
 
+    /**
+     * Retrieves players in a game near a point by querying only the geohash cells covering the search circle.
+     * Uses the GameCellIndex GSI, which projects just the location and game fields, so the returned
+     * players are partial items holding only {@link #NEARBY_PLAYER_ATTRIBUTES}. If the circle needs more
+     * than {@value #MAX_CELL_QUERIES} cells, falls back to a single GameIdIndex query projected to the
+     * same attributes. Results are filtered by exact distance.
+     *
+     * @param gameId The ID of the game.
+     * @param latitude Center latitude.
+     * @param longitude Center longitude.
+     * @param radiusMeters Search radius in meters.
+     * @return Players within the radius.
+     * @throws PlayerPersistenceException if there is an error querying the index.
+     */
+    @Override
+    public List<Player> findPlayersNear(String gameId, double latitude, double longitude, double radiusMeters)
+            throws PlayerPersistenceException {
+        if (gameId == null || gameId.isEmpty() || radiusMeters < 0) {
+            logger.warn("findPlayersNear requires a gameId and a non-negative radius");
+            return List.of();
+        }
+
+        long cellCount = GeoHash.estimateCoveringCellCount(latitude, longitude, radiusMeters, GEO_CELL_PRECISION);
+        if (cellCount > MAX_CELL_QUERIES) {
+            logger.debug("Radius {}m needs ~{} cells; falling back to GameIdIndex for game {}",
+                       radiusMeters, cellCount, gameId);
+            try {
+                List<Player> players = gameIdIndex.query(QueryEnhancedRequest.builder()
+                                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(gameId).build()))
+                                .attributesToProject(NEARBY_PLAYER_ATTRIBUTES)
+                                .build())
+                        .stream()
+                        .flatMap(page -> page.items().stream())
+                        .collect(Collectors.toList());
+                return filterWithinRadius(players, latitude, longitude, radiusMeters);
+            } catch (DynamoDbException e) {
+                String errorMessage = e.awsErrorDetails() != null ? e.awsErrorDetails().errorMessage() : e.getMessage();
+                logger.error("Error querying GameIdIndex for nearby players in game {}: {}", gameId, errorMessage, e);
+                throw new PlayerPersistenceException("Error finding nearby players", e);
+            }
+        }
+
+        Set<String> cells = GeoHash.coveringCells(latitude, longitude, radiusMeters, GEO_CELL_PRECISION);
+        logger.debug("Querying {} geo cells in game {} using index: {}", cells.size(), gameId, GAME_CELL_INDEX_NAME);
+        try {
+            List<Player> candidates = new ArrayList<>();
+            for (String cell : cells) {
+                QueryConditional queryConditional = QueryConditional.keyEqualTo(
+                        Key.builder().partitionValue(GeoHash.gameCellKey(gameId, cell)).build());
+                gameCellIndex.query(QueryEnhancedRequest.builder()
+                                     .queryConditional(queryConditional)
+                                     .attributesToProject(NEARBY_PLAYER_ATTRIBUTES)
+                                     .build())
+                             .stream()
+                             .forEach(page -> candidates.addAll(page.items()));
+            }
+            List<Player> nearby = filterWithinRadius(candidates, latitude, longitude, radiusMeters);
+            logger.debug("Found {} of {} cell candidates within {}m in game {}",
+                       nearby.size(), candidates.size(), radiusMeters, gameId);
+            return nearby;
+        } catch (DynamoDbException e) {
+            String errorMessage = e.awsErrorDetails() != null ? e.awsErrorDetails().errorMessage() : e.getMessage();
+            logger.error("Error querying GameCellIndex for game {}: {}", gameId, errorMessage, e);
+            throw new PlayerPersistenceException("Error finding nearby players", e);
+        }
+    }
+
+    static List<Player> filterWithinRadius(List<Player> players, double latitude, double longitude, double radiusMeters) {
+        return players.stream()
+                .filter(p -> p.getLatitude() != null && p.getLongitude() != null)
+                .filter(p -> GeoUtils.calculateDistance(latitude, longitude, p.getLatitude(), p.getLongitude()) <= radiusMeters)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The GameCellIndex key for a player's location, or null if the player has no game or location
+     */
+    public static String gameCellKeyFor(String gameId, Double latitude, Double longitude) {
+        if (gameId == null || gameId.isEmpty() || latitude == null || longitude == null) {
+            return null;
+        }
+        return GeoHash.gameCellKey(gameId, GeoHash.encode(latitude, longitude, GEO_CELL_PRECISION));
+    }
+
+    /**
+     * @return The player as it should be stored: the player itself if its geo-cell key matches its location,
+     *         otherwise a copy carrying the matching key. The given player is not changed.
+     */
+    static Player withCurrentGameCellKey(Player player, TableSchema<Player> schema) {
+        String gameCellKey = gameCellKeyFor(player.getGameID(), player.getLatitude(), player.getLongitude());
+        if (Objects.equals(gameCellKey, player.getGameCellKey())) {
+            return player;
+        }
+        Player stored = schema.mapToItem(schema.itemToMap(player, false));
+        stored.setGameCellKey(gameCellKey);
+        return stored;
+    }
+
     // Helper method to get table name from system property or environment or default
     private String getTableName() {
         String systemPropTableName = System.getProperty(PLAYER_TABLE_ENV_VAR);
@@ -0,0 +1,114 @@
+package com.assassin.dao;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.exception.KillPersistenceException;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+/**
+ * {@link RecentKillFeedDao} over the RecentKillFeed table, one item per feed.
+ * <p>
+ * Adding a kill reads the feed, adds the entry to the ring buffer and writes it back on condition that the
+ * version is unchanged, retrying from a fresh read when another writer got there first.
+ */
+public class DynamoDbRecentKillFeedDao implements RecentKillFeedDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbRecentKillFeedDao.class);
+    private static final String TABLE_NAME_ENV_VAR = "RECENT_KILL_FEED_TABLE_NAME";
+    private static final String DEFAULT_TABLE_NAME = "dev-RecentKillFeed";
+    // Kills are verified a few per second at most, so a handful of attempts only fails under real trouble
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final DynamoDbTable<RecentKillFeed> feedTable;
+
+    public DynamoDbRecentKillFeedDao() {
+        this(DynamoDbClientProvider.getDynamoDbEnhancedClient());
+    }
+
+    public DynamoDbRecentKillFeedDao(DynamoDbEnhancedClient enhancedClient) {
+        String tableName = getTableName();
+        logger.info("Initializing DynamoDbRecentKillFeedDao with table: {}", tableName);
+        this.feedTable = enhancedClient.table(tableName, ServiceRegistry.tableSchema(RecentKillFeed.class));
+    }
+
+    @Override
+    public Optional<RecentKillFeed> getFeed(String feedId) {
+        try {
+            return Optional.ofNullable(feedTable.getItem(Key.builder().partitionValue(feedId).build()));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error getting recent kill feed {}: {}", feedId, e.getMessage(), e);
+            throw new KillPersistenceException("Error retrieving recent kill feed " + feedId, e);
+        }
+    }
+
+    @Override
+    public RecentKillFeed addKill(String feedId, KillFeedEntry entry, String updatedAt) {
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                // Read our own writes, so a retry starts from the version that beat it
+                RecentKillFeed feed = feedTable.getItem(GetItemEnhancedRequest.builder()
+                        .key(Key.builder().partitionValue(feedId).build())
+                        .consistentRead(true)
+                        .build());
+                if (feed == null) {
+                    feed = new RecentKillFeed(feedId);
+                }
+                Long expectedVersion = feed.getVersion();
+                if (!feed.add(entry)) {
+                    return feed;
+                }
+                feed.setVersion(expectedVersion == null ? 1L : expectedVersion + 1);
+                feed.setLastUpdated(updatedAt);
+                try {
+                    feedTable.putItem(PutItemEnhancedRequest.builder(RecentKillFeed.class)
+                            .item(feed)
+                            .conditionExpression(versionCondition(expectedVersion))
+                            .build());
+                    return feed;
+                } catch (ConditionalCheckFailedException e) {
+                    logger.debug("Recent kill feed {} changed concurrently (attempt {})", feedId, attempt);
+                }
+            }
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error adding kill to recent kill feed {}: {}", feedId, e.getMessage(), e);
+            throw new KillPersistenceException("Error updating recent kill feed " + feedId, e);
+        }
+        throw new KillPersistenceException("Recent kill feed " + feedId + " kept changing; gave up after "
+                + MAX_ATTEMPTS + " attempts");
+    }
+
+    private static Expression versionCondition(Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Expression.builder().expression("attribute_not_exists(FeedID)").build();
+        }
+        return Expression.builder()
+                .expression("Version = :expectedVersion")
+                .expressionValues(Map.of(":expectedVersion", AttributeValue.builder().n(expectedVersion.toString()).build()))
+                .build();
+    }
+
+    private static String getTableName() {
+        String tableName = System.getProperty(TABLE_NAME_ENV_VAR);
+        if (tableName == null || tableName.isEmpty()) {
+            tableName = System.getenv(TABLE_NAME_ENV_VAR);
+        }
+        return tableName == null || tableName.isEmpty() ? DEFAULT_TABLE_NAME : tableName;
+    }
+}
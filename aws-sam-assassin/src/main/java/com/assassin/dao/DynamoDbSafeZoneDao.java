@@ -10,12 +10,12 @@ import org.slf4j.LoggerFactory;
 import com.assassin.exception.PersistenceException;
 import com.assassin.model.SafeZone;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
@@ -40,7 +40,7 @@ public class DynamoDbSafeZoneDao implements SafeZoneDao {
             throw new IllegalStateException("Could not determine SafeZones table name from System Property or Environment Variable '" + SAFE_ZONES_TABLE_ENV_VAR + "'");
         }
         logger.info("Initializing DynamoDbSafeZoneDao with table: {} using provided client", this.tableName);
-        this.safeZoneTable = this.enhancedClient.table(this.tableName, TableSchema.fromBean(SafeZone.class));
+        this.safeZoneTable = this.enhancedClient.table(this.tableName, ServiceRegistry.tableSchema(SafeZone.class));
         try {
             // Initialize GSI using the provided client's table reference
             this.gameIdIndex = this.safeZoneTable.index(GAME_ID_INDEX_NAME);
@@ -89,6 +89,22 @@ public class DynamoDbSafeZoneDao implements SafeZoneDao {
         }
     }
 
+    @Override
+    public PagedResult<SafeZone> getSafeZonesByGameId(String gameId, int limit, String pageToken) {
+        QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(gameId).build()))
+                .limit(limit)
+                .exclusiveStartKey(PageTokens.decode(pageToken))
+                .build();
+        logger.debug("Getting a page of up to {} safe zones by game ID: {}", limit, gameId);
+        try {
+            return PagedResult.firstPage(gameIdIndex.query(queryRequest));
+        } catch (DynamoDbException e) {
+            logger.error("DynamoDB error querying a page of safe zones by game ID {}: {}", gameId, e.getMessage(), e);
+            throw new PersistenceException("Error retrieving safe zones by game ID from DynamoDB", e);
+        }
+    }
+
     @Override
     public void saveSafeZone(SafeZone safeZone) {
         logger.debug("Saving safe zone with ID: {}", safeZone.getSafeZoneId());
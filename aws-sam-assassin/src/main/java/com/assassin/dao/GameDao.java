@@ -37,6 +37,16 @@ public interface GameDao {
      */
     List<Game> listGamesByStatus(String status);
 
+    /**
+     * Lists one page of the games with a status, newest first, resuming where the previous page ended.
+     *
+     * @param status The status to filter games by (e.g., "PENDING", "ACTIVE", "COMPLETED").
+     * @param limit The maximum number of games on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of games and the token for the next one.
+     */
+    PagedResult<Game> listGamesByStatus(String status, int limit, String pageToken);
+
     /**
      * Counts the total number of games a player has participated in.
      * Requires knowing how participation is tracked (e.g., a player list in Game model).
@@ -0,0 +1,46 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Map;
+
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.GameEvent;
+
+/**
+ * Data Access Object interface for the per-game event log.
+ */
+public interface GameEventDao {
+
+    /**
+     * Allocates the game's next sequence number and stores an event under it. Sequence numbers of a game
+     * only grow and have no gaps, and a sequence number is never visible to readers before its event, so
+     * a reader that moves its cursor to the last event it was given never skips one.
+     *
+     * @param gameId The ID of the game.
+     * @param type What changed.
+     * @param time ISO 8601 time of the change.
+     * @param data Details of the change, may be empty.
+     * @return The stored event, with its sequence number.
+     * @throws GamePersistenceException if allocating or storing fails.
+     */
+    GameEvent addEvent(String gameId, GameEvent.Type type, String time, Map<String, String> data)
+            throws GamePersistenceException;
+
+    /**
+     * Reads the events of a game that follow a sequence number, oldest first.
+     *
+     * @param gameId The ID of the game.
+     * @param afterSeq The last sequence number the caller has seen, or 0 for the start of the game.
+     * @param limit The maximum number of events to return.
+     * @return Up to {@code limit} events with a sequence number greater than {@code afterSeq}.
+     * @throws GamePersistenceException if the query fails.
+     */
+    List<GameEvent> readSince(String gameId, long afterSeq, int limit) throws GamePersistenceException;
+
+    /**
+     * @param gameId The ID of the game.
+     * @return The last sequence number allocated in the game, or 0 if it has no events yet.
+     * @throws GamePersistenceException if the read fails.
+     */
+    long getLatestSeq(String gameId) throws GamePersistenceException;
+}
@@ -0,0 +1,44 @@
+package com.assassin.dao;
+
+import java.util.Optional;
+
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.GameRoster;
+import com.assassin.model.Player;
+
+/**
+ * Data Access Object interface for the per-game roster aggregates.
+ */
+public interface GameRosterDao {
+
+    /**
+     * Retrieves the roster of a game.
+     *
+     * @param gameId The ID of the game.
+     * @return The roster, or empty if the game has none (it has not started, or started before rosters were kept).
+     * @throws GamePersistenceException if the read fails.
+     */
+    Optional<GameRoster> getRoster(String gameId) throws GamePersistenceException;
+
+    /**
+     * Stores a game's roster, replacing any previous one and restarting its version.
+     *
+     * @param roster The roster to store.
+     * @throws GamePersistenceException if the write fails.
+     */
+    void saveRoster(GameRoster roster) throws GamePersistenceException;
+
+    /**
+     * Saves a player whose status changed and records the change in the roster of the player's game, both in
+     * one transaction. Concurrent changes to the same roster are all kept.
+     *
+     * @param player The player, already carrying the new status.
+     * @param previousStatus The player's status before the change.
+     * @param updatedAt ISO 8601 time of the update.
+     * @return The roster as written by this change, or empty if the change did not alter it: the game has no
+     *         roster, or the change was already recorded. The player is saved either way.
+     * @throws GamePersistenceException if the write fails or keeps losing to concurrent writers.
+     */
+    Optional<GameRoster> updatePlayerStatus(Player player, String previousStatus, String updatedAt)
+            throws GamePersistenceException;
+}
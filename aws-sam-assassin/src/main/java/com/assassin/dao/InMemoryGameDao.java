@@ -0,0 +1,73 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.assassin.exception.GameNotFoundException;
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link GameDao} backed by an {@link InMemoryTable}, with the same keys and indexes as the Games table.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryGameDao implements GameDao {
+
+    private static final String STATUS_CREATED_AT_INDEX = "StatusCreatedAtIndex";
+    private static final String PLAYER_IDS_ATTRIBUTE = "playerIDs";
+    private static final String WINNER_ID_ATTRIBUTE = "winnerId";
+
+    private final InMemoryTable<Game> gameTable = new InMemoryTable<>(ServiceRegistry.tableSchema(Game.class),
+            STATUS_CREATED_AT_INDEX);
+
+    @Override
+    public void saveGame(Game game) {
+        gameTable.put(game);
+    }
+
+    @Override
+    public Optional<Game> getGameById(String gameId) {
+        return gameTable.get(gameId, null);
+    }
+
+    @Override
+    public List<Game> listGamesByStatus(String status) {
+        return gameTable.queryIndex(STATUS_CREATED_AT_INDEX, status, false, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public PagedResult<Game> listGamesByStatus(String status, int limit, String pageToken) {
+        return gameTable.queryIndexPage(STATUS_CREATED_AT_INDEX, status, false, limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public int countGamesPlayedByPlayer(String playerId) throws GamePersistenceException {
+        return gameTable.countWhere(PLAYER_IDS_ATTRIBUTE, playerId);
+    }
+
+    @Override
+    public int countWinsByPlayer(String playerId) throws GamePersistenceException {
+        return gameTable.countWhere(WINNER_ID_ATTRIBUTE, playerId);
+    }
+
+    @Override
+    public void updateGameBoundary(String gameId, List<Coordinate> boundary)
+            throws GameNotFoundException, GamePersistenceException {
+        gameTable.update(gameId, null, game -> {
+                    if (boundary != null) {
+                        game.setBoundary(boundary);
+                    }
+                    return game;
+                })
+                .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameId));
+    }
+
+    @Override
+    public void deleteGame(String gameId) throws GameNotFoundException, GamePersistenceException {
+        if (gameTable.delete(gameId, null).isEmpty()) {
+            throw new GameNotFoundException("Game not found: " + gameId);
+        }
+    }
+}
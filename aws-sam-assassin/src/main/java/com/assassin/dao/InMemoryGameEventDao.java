@@ -0,0 +1,43 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.assassin.model.GameEvent;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link GameEventDao} backed by an {@link InMemoryTable}, keyed like the GameEvents table by game and
+ * sequence number. Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryGameEventDao implements GameEventDao {
+
+    private final InMemoryTable<GameEvent> eventTable = new InMemoryTable<>(ServiceRegistry.tableSchema(GameEvent.class));
+    // gameId -> last allocated sequence number, standing in for the counter item
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public GameEvent addEvent(String gameId, GameEvent.Type type, String time, Map<String, String> data) {
+        AtomicLong counter = counters.computeIfAbsent(gameId, g -> new AtomicLong());
+        // Store the event before moving the counter, and one event per game at a time, like the transaction
+        synchronized (counter) {
+            GameEvent event = new GameEvent(gameId, counter.get() + 1, type, time, data);
+            eventTable.put(event);
+            counter.set(event.getSeq());
+            return event;
+        }
+    }
+
+    @Override
+    public List<GameEvent> readSince(String gameId, long afterSeq, int limit) {
+        return eventTable.query(gameId, Math.max(0, afterSeq), true, limit);
+    }
+
+    @Override
+    public long getLatestSeq(String gameId) {
+        AtomicLong counter = counters.get(gameId);
+        return counter == null ? 0 : counter.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.assassin.dao;
+
+import java.util.Optional;
+
+import com.assassin.model.GameRoster;
+import com.assassin.model.Player;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link GameRosterDao} backed by an {@link InMemoryTable}, keyed like the GameRosters table by game.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryGameRosterDao implements GameRosterDao {
+
+    private final InMemoryTable<GameRoster> rosterTable = new InMemoryTable<>(ServiceRegistry.tableSchema(GameRoster.class));
+    private final PlayerDao playerDao;
+
+    /**
+     * @param playerDao The PlayerDao the players are saved through
+     */
+    public InMemoryGameRosterDao(PlayerDao playerDao) {
+        this.playerDao = playerDao;
+    }
+
+    @Override
+    public Optional<GameRoster> getRoster(String gameId) {
+        return rosterTable.get(gameId, null);
+    }
+
+    @Override
+    public void saveRoster(GameRoster roster) {
+        roster.setVersion(1L);
+        rosterTable.put(roster);
+    }
+
+    @Override
+    public synchronized Optional<GameRoster> updatePlayerStatus(Player player, String previousStatus, String updatedAt) {
+        // Status changes are rare enough that one lock for all games stands in for the transaction
+        Optional<GameRoster> stored = player.getGameID() == null ? Optional.empty() : rosterTable.get(player.getGameID(), null);
+        playerDao.savePlayer(player);
+        if (stored.isEmpty() || !stored.get().applyStatusChange(player.getPlayerID(), previousStatus, player.getStatus())) {
+            return Optional.empty();
+        }
+        GameRoster roster = stored.get();
+        roster.setVersion(roster.getVersion() == null ? 1L : roster.getVersion() + 1);
+        roster.setLastUpdated(updatedAt);
+        rosterTable.put(roster);
+        return Optional.of(roster);
+    }
+}
@@ -0,0 +1,40 @@
+package com.assassin.dao;
+
+import java.util.Optional;
+
+import com.assassin.model.GameZoneState;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link GameZoneStateDao} backed by an {@link InMemoryTable}, keyed like the GameZoneState table by game.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryGameZoneStateDao implements GameZoneStateDao {
+
+    private final InMemoryTable<GameZoneState> gameZoneStateTable =
+            new InMemoryTable<>(ServiceRegistry.tableSchema(GameZoneState.class));
+
+    @Override
+    public void saveGameZoneState(GameZoneState gameZoneState) {
+        if (gameZoneState == null || gameZoneState.getGameId() == null) {
+            throw new IllegalArgumentException("GameZoneState and its gameId cannot be null");
+        }
+        gameZoneStateTable.put(gameZoneState);
+    }
+
+    @Override
+    public Optional<GameZoneState> getGameZoneState(String gameId) {
+        if (gameId == null || gameId.isEmpty()) {
+            return Optional.empty();
+        }
+        return gameZoneStateTable.get(gameId, null);
+    }
+
+    @Override
+    public void deleteGameZoneState(String gameId) {
+        if (gameId == null || gameId.isEmpty()) {
+            return;
+        }
+        gameZoneStateTable.delete(gameId, null);
+    }
+}
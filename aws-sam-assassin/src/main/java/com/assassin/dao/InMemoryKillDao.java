@@ -0,0 +1,138 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.assassin.exception.KillNotFoundException;
+import com.assassin.exception.KillPersistenceException;
+import com.assassin.model.Kill;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link KillDao} backed by an {@link InMemoryTable}, with the same keys and indexes as the Kills table.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryKillDao implements KillDao {
+
+    private static final String VICTIM_ID_TIME_INDEX = "VictimID-Time-index";
+    private static final String GAME_ID_TIME_INDEX_NAME = "GameID-Time-index";
+    private static final String STATUS_TIME_INDEX_NAME = "StatusTimeIndex";
+    private static final String VERIFIED_PARTITION = "VERIFIED";
+    private static final String UNKNOWN_PARTITION = "UNKNOWN";
+
+    private final InMemoryTable<Kill> killTable = new InMemoryTable<>(ServiceRegistry.tableSchema(Kill.class),
+            VICTIM_ID_TIME_INDEX, GAME_ID_TIME_INDEX_NAME, STATUS_TIME_INDEX_NAME);
+    private final PlayerDao playerDao;
+
+    /**
+     * @param playerDao The PlayerDao used for player lookups
+     */
+    public InMemoryKillDao(PlayerDao playerDao) {
+        this.playerDao = playerDao;
+    }
+
+    @Override
+    public void saveKill(Kill kill) throws KillPersistenceException {
+        kill.setKillStatusPartition(kill.getVerificationStatus() != null ? kill.getVerificationStatus() : UNKNOWN_PARTITION);
+        killTable.put(kill);
+    }
+
+    @Override
+    public List<Kill> findKillsByKiller(String killerID) throws KillNotFoundException, KillPersistenceException {
+        List<Kill> kills = killTable.query(killerID, null, false, Integer.MAX_VALUE);
+        if (kills.isEmpty()) {
+            throw new KillNotFoundException("No kills found for killer: " + killerID);
+        }
+        return kills;
+    }
+
+    @Override
+    public PagedResult<Kill> findKillsByKiller(String killerID, int limit, String pageToken) throws KillPersistenceException {
+        return killTable.queryPage(killerID, null, false, limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public List<Kill> findKillsByVictim(String victimID) throws KillNotFoundException, KillPersistenceException {
+        List<Kill> kills = killTable.queryIndex(VICTIM_ID_TIME_INDEX, victimID, false, Integer.MAX_VALUE);
+        if (kills.isEmpty()) {
+            throw new KillNotFoundException("No kills found for victim: " + victimID);
+        }
+        return kills;
+    }
+
+    @Override
+    public PagedResult<Kill> findKillsByVictim(String victimID, int limit, String pageToken) throws KillPersistenceException {
+        return killTable.queryIndexPage(VICTIM_ID_TIME_INDEX, victimID, false, limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public List<Kill> findRecentKills(int limit) throws KillNotFoundException, KillPersistenceException {
+        List<Kill> kills = killTable.queryIndex(STATUS_TIME_INDEX_NAME, VERIFIED_PARTITION, false, limit);
+        if (kills.isEmpty()) {
+            throw new KillNotFoundException("No recent verified kills found");
+        }
+        return kills;
+    }
+
+    @Override
+    public int getPlayerDeathCount(String victimId) throws KillPersistenceException {
+        return killTable.countIndex(VICTIM_ID_TIME_INDEX, victimId);
+    }
+
+    @Override
+    public long getKillCount() throws KillPersistenceException {
+        return killTable.size();
+    }
+
+    @Override
+    public int countDeathsByVictim(String victimId) throws KillPersistenceException {
+        return killTable.countIndex(VICTIM_ID_TIME_INDEX, victimId);
+    }
+
+    @Override
+    public boolean isPlayerAlive(String playerId, String gameId) throws KillPersistenceException {
+        try {
+            Optional<Player> player = playerDao.getPlayerById(playerId);
+            return player.isPresent()
+                    && gameId.equals(player.get().getGameID())
+                    && PlayerStatus.ACTIVE.name().equals(player.get().getStatus());
+        } catch (Exception e) {
+            throw new KillPersistenceException("Failed to check player status: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Kill> findKillRecordByVictimAndGame(String victimId, String gameId) throws KillPersistenceException {
+        // The latest kill of the victim, if it was in this game
+        return killTable.queryIndex(VICTIM_ID_TIME_INDEX, victimId, false, 1).stream()
+                .filter(kill -> gameId.equals(kill.getGameId()))
+                .findFirst();
+    }
+
+    @Override
+    public List<Kill> getAllKills() throws KillPersistenceException {
+        return killTable.scan();
+    }
+
+    @Override
+    public PagedResult<Kill> getAllKills(int limit, String pageToken) throws KillPersistenceException {
+        return killTable.scanPage(limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public Optional<Kill> getKill(String killerId, String time) throws KillPersistenceException {
+        return killTable.get(killerId, time);
+    }
+
+    @Override
+    public List<Kill> findKillsByGameId(String gameId) {
+        return killTable.queryIndex(GAME_ID_TIME_INDEX_NAME, gameId, true, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public PagedResult<Kill> findKillsByGameId(String gameId, int limit, String pageToken) {
+        return killTable.queryIndexPage(GAME_ID_TIME_INDEX_NAME, gameId, true, limit, PageTokens.decode(pageToken));
+    }
+}
@@ -0,0 +1,79 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.assassin.model.Notification;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link NotificationDao} backed by an {@link InMemoryTable}, keyed like the Notifications table by
+ * recipient and timestamp. Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryNotificationDao implements NotificationDao {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final String READ_STATUS = "READ";
+
+    private final InMemoryTable<Notification> notificationTable =
+            new InMemoryTable<>(ServiceRegistry.tableSchema(Notification.class));
+
+    @Override
+    public void saveNotification(Notification notification) {
+        if (notification == null) {
+            throw new IllegalArgumentException("Notification cannot be null");
+        }
+        notificationTable.put(notification);
+    }
+
+    @Override
+    public Optional<Notification> getNotification(String recipientPlayerId, String timestamp) {
+        if (recipientPlayerId == null || recipientPlayerId.isEmpty()) {
+            throw new IllegalArgumentException("recipientPlayerId cannot be null or empty");
+        }
+        if (timestamp == null || timestamp.isEmpty()) {
+            throw new IllegalArgumentException("timestamp cannot be null or empty");
+        }
+        return notificationTable.get(recipientPlayerId, timestamp);
+    }
+
+    @Override
+    public List<Notification> findNotificationsByPlayer(String recipientPlayerId, String sinceTimestamp, int limit) {
+        if (recipientPlayerId == null || recipientPlayerId.isEmpty()) {
+            throw new IllegalArgumentException("recipientPlayerId cannot be null or empty");
+        }
+        String after = sinceTimestamp == null || sinceTimestamp.isEmpty() ? null : sinceTimestamp;
+        return notificationTable.query(recipientPlayerId, after, false, limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+
+    @Override
+    public PagedResult<Notification> findNotificationsByPlayer(String recipientPlayerId, String sinceTimestamp, int limit,
+                                                               String pageToken) {
+        if (recipientPlayerId == null || recipientPlayerId.isEmpty()) {
+            throw new IllegalArgumentException("recipientPlayerId cannot be null or empty");
+        }
+        String after = sinceTimestamp == null || sinceTimestamp.isEmpty() ? null : sinceTimestamp;
+        return notificationTable.queryPage(recipientPlayerId, after, false, limit <= 0 ? DEFAULT_LIMIT : limit,
+                PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public Optional<Notification> markNotificationAsRead(String recipientPlayerId, String notificationId) {
+        if (recipientPlayerId == null || recipientPlayerId.isEmpty()) {
+            throw new IllegalArgumentException("recipientPlayerId cannot be null or empty");
+        }
+        if (notificationId == null || notificationId.isEmpty()) {
+            throw new IllegalArgumentException("notificationId cannot be null or empty");
+        }
+        // The table is keyed by timestamp, so find the notification's sort key within the recipient's partition
+        for (Notification notification : notificationTable.query(recipientPlayerId, null, true, Integer.MAX_VALUE)) {
+            if (notificationId.equals(notification.getNotificationId())) {
+                return notificationTable.update(recipientPlayerId, notification.getTimestamp(), stored -> {
+                    stored.setStatus(READ_STATUS);
+                    return stored;
+                });
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,198 @@
+package com.assassin.dao;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.exception.PlayerPersistenceException;
+import com.assassin.model.Player;
+import com.assassin.util.GeoHash;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link PlayerDao} backed by an {@link InMemoryTable}, with the same keys and indexes as the Players table.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryPlayerDao implements PlayerDao {
+
+    private static final String EMAIL_INDEX_NAME = "EmailIndex";
+    private static final String KILL_COUNT_INDEX_NAME = "KillCountIndex";
+    private static final String GAME_ID_INDEX_NAME = "GameIdIndex";
+    private static final String TARGET_ID_INDEX_NAME = "TargetIdIndex";
+    private static final String GAME_CELL_INDEX_NAME = "GameCellIndex";
+
+    private final InMemoryTable<Player> playerTable = new InMemoryTable<>(ServiceRegistry.tableSchema(Player.class),
+            EMAIL_INDEX_NAME, KILL_COUNT_INDEX_NAME, GAME_ID_INDEX_NAME, TARGET_ID_INDEX_NAME, GAME_CELL_INDEX_NAME);
+
+    @Override
+    public Optional<Player> getPlayerById(String playerID) {
+        return playerTable.get(playerID, null);
+    }
+
+    @Override
+    public Player findPlayerById(String playerID) {
+        return getPlayerById(playerID).orElse(null);
+    }
+
+    @Override
+    public Player findPlayerByEmail(String email) {
+        List<Player> players = playerTable.queryIndex(EMAIL_INDEX_NAME, email, true, 1);
+        return players.isEmpty() ? null : players.get(0);
+    }
+
+    @Override
+    public void savePlayer(Player player) {
+        playerTable.put(DynamoDbPlayerDao.withCurrentGameCellKey(player, ServiceRegistry.tableSchema(Player.class)));
+    }
+
+    @Override
+    public List<Player> getAllPlayers() {
+        return playerTable.scan();
+    }
+
+    @Override
+    public PagedResult<Player> getAllPlayers(int limit, String pageToken) {
+        return playerTable.scanPage(limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public ParallelScan.Result scanAllPlayers(ScanOptions options, Consumer<? super Player> consumer) {
+        // One pass on the calling thread; segments and the capacity budget only matter for DynamoDB
+        long start = System.nanoTime();
+        long count = playerTable.forEach(options.getAttributes(), consumer);
+        return new ParallelScan.Result(count, 0, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public List<Player> getLeaderboardByKillCount(String statusPartitionKey, int limit) {
+        return playerTable.queryIndex(KILL_COUNT_INDEX_NAME, statusPartitionKey, false, limit);
+    }
+
+    @Override
+    public long getPlayerCount() throws PlayerPersistenceException {
+        return playerTable.size();
+    }
+
+    @Override
+    public void deletePlayer(String playerId) {
+        if (playerTable.delete(playerId, null).isEmpty()) {
+            throw new PlayerNotFoundException("Player not found with ID: " + playerId);
+        }
+    }
+
+    @Override
+    public int incrementPlayerKillCount(String playerId) throws PlayerPersistenceException, PlayerNotFoundException {
+        return playerTable.update(playerId, null, player -> {
+                    player.setKillCount(player.getKillCount() + 1);
+                    return player;
+                })
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + playerId))
+                .getKillCount();
+    }
+
+    @Override
+    public void updatePlayerLocation(String playerId, Double latitude, Double longitude, String timestamp, Double accuracy)
+            throws PlayerPersistenceException, PlayerNotFoundException {
+        updatePlayerLocation(playerId, null, latitude, longitude, timestamp, accuracy);
+    }
+
+    @Override
+    public void updatePlayerLocation(String playerId, String gameId, Double latitude, Double longitude, String timestamp, Double accuracy)
+            throws PlayerPersistenceException, PlayerNotFoundException {
+        if (playerId == null || playerId.isEmpty()) {
+            throw new IllegalArgumentException("Player ID cannot be null or empty");
+        }
+        String gameCellKey = DynamoDbPlayerDao.gameCellKeyFor(gameId, latitude, longitude);
+        // Only the location attributes change, as with the ignoreNulls update the DynamoDB DAO sends
+        playerTable.update(playerId, null, player -> {
+                    if (latitude != null) {
+                        player.setLatitude(latitude);
+                    }
+                    if (longitude != null) {
+                        player.setLongitude(longitude);
+                    }
+                    if (timestamp != null) {
+                        player.setLocationTimestamp(timestamp);
+                    }
+                    if (accuracy != null) {
+                        player.setLocationAccuracy(accuracy);
+                    }
+                    if (gameCellKey != null) {
+                        player.setGameCellKey(gameCellKey);
+                    }
+                    return player;
+                })
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + playerId + " during location update."));
+    }
+
+    @Override
+    public boolean updateGameCellKey(Player scanned, String gameCellKey) {
+        String playerId = scanned.getPlayerID();
+        if (scanned.getGameID() == null || scanned.getLatitude() == null || scanned.getLongitude() == null) {
+            throw new IllegalArgumentException("Scanned player needs a game and a location to be reindexed");
+        }
+        boolean[] updated = {false};
+        playerTable.update(playerId, null, player -> {
+                    if (Objects.equals(player.getGameID(), scanned.getGameID())
+                            && Objects.equals(player.getLatitude(), scanned.getLatitude())
+                            && Objects.equals(player.getLongitude(), scanned.getLongitude())
+                            && Objects.equals(player.getGameCellKey(), scanned.getGameCellKey())) {
+                        player.setGameCellKey(gameCellKey);
+                        updated[0] = true;
+                    }
+                    return player;
+                })
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + playerId + " during cell key update."));
+        return updated[0];
+    }
+
+    @Override
+    public List<Player> getPlayersByGameId(String gameId) throws PlayerPersistenceException {
+        return playerTable.queryIndex(GAME_ID_INDEX_NAME, gameId, true, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public PagedResult<Player> getPlayersByGameId(String gameId, int limit, String pageToken) throws PlayerPersistenceException {
+        return playerTable.queryIndexPage(GAME_ID_INDEX_NAME, gameId, true, limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public List<Player> getPlayersTargeting(String targetId, String gameId) {
+        if (targetId == null || targetId.isEmpty() || gameId == null || gameId.isEmpty()) {
+            return List.of();
+        }
+        List<Player> hunters = new ArrayList<>();
+        for (Player player : playerTable.queryIndex(TARGET_ID_INDEX_NAME, targetId, true, Integer.MAX_VALUE)) {
+            if (gameId.equals(player.getGameID())) {
+                hunters.add(player);
+            }
+        }
+        return hunters;
+    }
+
+    @Override
+    public List<Player> findPlayersNear(String gameId, double latitude, double longitude, double radiusMeters)
+            throws PlayerPersistenceException {
+        if (gameId == null || gameId.isEmpty() || radiusMeters < 0) {
+            return List.of();
+        }
+        long cellCount = GeoHash.estimateCoveringCellCount(latitude, longitude, radiusMeters, DynamoDbPlayerDao.GEO_CELL_PRECISION);
+        if (cellCount > DynamoDbPlayerDao.MAX_CELL_QUERIES) {
+            List<Player> players = playerTable.queryIndex(GAME_ID_INDEX_NAME, gameId, true, Integer.MAX_VALUE,
+                    DynamoDbPlayerDao.NEARBY_PLAYER_ATTRIBUTES);
+            return DynamoDbPlayerDao.filterWithinRadius(players, latitude, longitude, radiusMeters);
+        }
+        Set<String> cells = GeoHash.coveringCells(latitude, longitude, radiusMeters, DynamoDbPlayerDao.GEO_CELL_PRECISION);
+        List<Player> candidates = new ArrayList<>();
+        for (String cell : cells) {
+            candidates.addAll(playerTable.queryIndex(GAME_CELL_INDEX_NAME, GeoHash.gameCellKey(gameId, cell), true,
+                    Integer.MAX_VALUE, DynamoDbPlayerDao.NEARBY_PLAYER_ATTRIBUTES));
+        }
+        return DynamoDbPlayerDao.filterWithinRadius(candidates, latitude, longitude, radiusMeters);
+    }
+}
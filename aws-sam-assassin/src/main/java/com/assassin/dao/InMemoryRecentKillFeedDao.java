@@ -0,0 +1,34 @@
+package com.assassin.dao;
+
+import java.util.Optional;
+
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link RecentKillFeedDao} backed by an {@link InMemoryTable}, keyed like the RecentKillFeed table by feed.
+ * Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemoryRecentKillFeedDao implements RecentKillFeedDao {
+
+    private final InMemoryTable<RecentKillFeed> feedTable =
+            new InMemoryTable<>(ServiceRegistry.tableSchema(RecentKillFeed.class));
+
+    @Override
+    public Optional<RecentKillFeed> getFeed(String feedId) {
+        return feedTable.get(feedId, null);
+    }
+
+    @Override
+    public synchronized RecentKillFeed addKill(String feedId, KillFeedEntry entry, String updatedAt) {
+        // Additions are rare enough that one lock for all feeds stands in for the conditional write
+        RecentKillFeed feed = feedTable.get(feedId, null).orElseGet(() -> new RecentKillFeed(feedId));
+        if (feed.add(entry)) {
+            feed.setVersion(feed.getVersion() == null ? 1L : feed.getVersion() + 1);
+            feed.setLastUpdated(updatedAt);
+            feedTable.put(feed);
+        }
+        return feed;
+    }
+}
@@ -0,0 +1,44 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.assassin.model.SafeZone;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * {@link SafeZoneDao} backed by an {@link InMemoryTable}, with the same keys and indexes as the SafeZones
+ * table. Used by the embedded server when {@code DAO_BACKEND=memory}.
+ */
+public class InMemorySafeZoneDao implements SafeZoneDao {
+
+    private static final String GAME_ID_INDEX_NAME = "GameIdIndex";
+
+    private final InMemoryTable<SafeZone> safeZoneTable = new InMemoryTable<>(ServiceRegistry.tableSchema(SafeZone.class),
+            GAME_ID_INDEX_NAME);
+
+    @Override
+    public Optional<SafeZone> getSafeZoneById(String safeZoneId) {
+        return safeZoneTable.get(safeZoneId, null);
+    }
+
+    @Override
+    public List<SafeZone> getSafeZonesByGameId(String gameId) {
+        return safeZoneTable.queryIndex(GAME_ID_INDEX_NAME, gameId, true, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public PagedResult<SafeZone> getSafeZonesByGameId(String gameId, int limit, String pageToken) {
+        return safeZoneTable.queryIndexPage(GAME_ID_INDEX_NAME, gameId, true, limit, PageTokens.decode(pageToken));
+    }
+
+    @Override
+    public void saveSafeZone(SafeZone safeZone) {
+        safeZoneTable.put(safeZone);
+    }
+
+    @Override
+    public void deleteSafeZone(String safeZoneId) {
+        safeZoneTable.delete(safeZoneId, null);
+    }
+}
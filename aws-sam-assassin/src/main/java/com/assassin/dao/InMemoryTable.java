@@ -0,0 +1,658 @@
+package com.assassin.dao;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import com.assassin.exception.ValidationException;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A DynamoDB table held in memory, for the in-memory DAOs.
+ * <p>
+ * Items are stored as the attribute maps the table schema writes and converted back on every read, so
+ * callers always get their own copy and see exactly what a DynamoDB round trip would give them, including
+ * attributes a converter drops. Keys and global secondary indexes come from the schema: an item is in an
+ * index only if it has the index's partition key (sparse indexes), and index entries are kept sorted by
+ * the index sort key, then the primary key.
+ * <p>
+ * Writes to one primary partition are serialized by one of {@value #LOCK_STRIPES} striped locks, which
+ * keeps an item and its index entries in step. Reads take no locks; a query running next to a write sees
+ * the item either before or after it, never half-written.
+ *
+ * @param <T> The item class
+ */
+final class InMemoryTable<T> {
+
+    private static final int LOCK_STRIPES = 64;
+    // Sort value of every item in a table without a sort key
+    private static final String NO_SORT_KEY = "";
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> KEY_ORDER = (a, b) -> ((Comparable) a).compareTo(b);
+
+    private final TableSchema<T> schema;
+    private final String partitionKey;
+    private final String sortKey; // null if the table has none
+    // Partition value -> items in sort key order
+    private final Map<Object, NavigableMap<Object, Map<String, AttributeValue>>> partitions = new ConcurrentHashMap<>();
+    private final Map<String, Index> indexes = new LinkedHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final AtomicLong itemCount = new AtomicLong();
+
+    /**
+     * @param schema The table schema the DynamoDB DAO uses
+     * @param indexNames Global secondary indexes to maintain; their keys are read from the schema
+     */
+    InMemoryTable(TableSchema<T> schema, String... indexNames) {
+        this.schema = schema;
+        TableMetadata metadata = schema.tableMetadata();
+        this.partitionKey = metadata.primaryPartitionKey();
+        this.sortKey = metadata.primarySortKey().orElse(null);
+        for (String indexName : indexNames) {
+            indexes.put(indexName, new Index(metadata.indexPartitionKey(indexName), metadata.indexSortKey(indexName).orElse(null)));
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Writes an item, replacing any item with the same key (PutItem).
+     *
+     * @param item The item; null attributes are not stored
+     * @throws IllegalArgumentException If the item has no value for a primary key attribute
+     */
+    void put(T item) {
+        Map<String, AttributeValue> attributes = Map.copyOf(schema.itemToMap(item, true));
+        Object partition = keyValue(attributes, partitionKey);
+        if (partition == null) {
+            throw new IllegalArgumentException("Item is missing its partition key " + partitionKey);
+        }
+        Object sort = sortKeyValue(attributes);
+        synchronized (lockFor(partition)) {
+            store(partition, sort, attributes);
+        }
+    }
+
+    /**
+     * Applies the non-null attributes of a partial item to the stored item with the same key
+     * (UpdateItem with ignoreNulls and an attribute_exists condition).
+     *
+     * @param partial Item holding the key and the attributes to change
+     * @return The updated item, or empty if no item has that key
+     */
+    Optional<T> merge(T partial) {
+        Map<String, AttributeValue> changes = schema.itemToMap(partial, true);
+        Object partition = keyValue(changes, partitionKey);
+        Object sort = sortKeyValue(changes);
+        synchronized (lockFor(partition)) {
+            Map<String, AttributeValue> existing = find(partition, sort);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            Map<String, AttributeValue> merged = new HashMap<>(existing);
+            merged.putAll(changes);
+            Map<String, AttributeValue> stored = Map.copyOf(merged);
+            store(partition, sort, stored);
+            return Optional.of(schema.mapToItem(stored));
+        }
+    }
+
+    /**
+     * Reads, changes and writes back one item atomically with respect to other writes to its partition.
+     *
+     * @param partitionValue Partition key value
+     * @param sortValue Sort key value, or null if the table has no sort key
+     * @param change Receives a copy of the stored item and returns the item to store; must keep the key
+     * @return The stored item, or empty if no item has that key
+     */
+    Optional<T> update(Object partitionValue, Object sortValue, UnaryOperator<T> change) {
+        Object partition = normalize(partitionValue);
+        Object sort = sortKey == null ? NO_SORT_KEY : normalize(sortValue);
+        synchronized (lockFor(partition)) {
+            Map<String, AttributeValue> existing = find(partition, sort);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            T changed = change.apply(schema.mapToItem(existing));
+            Map<String, AttributeValue> stored = Map.copyOf(schema.itemToMap(changed, true));
+            if (!Objects.equals(partition, keyValue(stored, partitionKey)) || !Objects.equals(sort, sortKeyValue(stored))) {
+                throw new IllegalArgumentException("An update cannot change the primary key");
+            }
+            store(partition, sort, stored);
+            return Optional.of(schema.mapToItem(stored));
+        }
+    }
+
+    /**
+     * @param partitionValue Partition key value
+     * @param sortValue Sort key value, or null if the table has no sort key
+     * @return A copy of the item, or empty if there is none
+     */
+    Optional<T> get(Object partitionValue, Object sortValue) {
+        Map<String, AttributeValue> attributes = find(normalize(partitionValue),
+                sortKey == null ? NO_SORT_KEY : normalize(sortValue));
+        return attributes == null ? Optional.empty() : Optional.of(schema.mapToItem(attributes));
+    }
+
+    /**
+     * @param partitionValue Partition key value
+     * @param sortValue Sort key value, or null if the table has no sort key
+     * @return The deleted item, or empty if there was none
+     */
+    Optional<T> delete(Object partitionValue, Object sortValue) {
+        Object partition = normalize(partitionValue);
+        Object sort = sortKey == null ? NO_SORT_KEY : normalize(sortValue);
+        synchronized (lockFor(partition)) {
+            NavigableMap<Object, Map<String, AttributeValue>> items = partitions.get(partition);
+            Map<String, AttributeValue> removed = items == null ? null : items.remove(sort);
+            if (removed == null) {
+                return Optional.empty();
+            }
+            if (items.isEmpty()) {
+                partitions.remove(partition);
+            }
+            itemCount.decrementAndGet();
+            for (Index index : indexes.values()) {
+                index.remove(removed, partition, sort);
+            }
+            return Optional.of(schema.mapToItem(removed));
+        }
+    }
+
+    /**
+     * Queries one primary partition in sort key order.
+     *
+     * @param partitionValue Partition key value
+     * @param afterSortValue Only items whose sort key is greater than this; null for the whole partition
+     * @param ascending Sort key order (scanIndexForward)
+     * @param limit Maximum number of items
+     * @return Copies of the matching items
+     */
+    List<T> query(Object partitionValue, Object afterSortValue, boolean ascending, int limit) {
+        NavigableMap<Object, Map<String, AttributeValue>> items = partitionValue == null ? null
+                : partitions.get(normalize(partitionValue));
+        if (items == null) {
+            return new ArrayList<>();
+        }
+        if (afterSortValue != null) {
+            items = items.tailMap(normalize(afterSortValue), false);
+        }
+        List<T> results = new ArrayList<>(Math.min(limit, items.size()));
+        for (Map<String, AttributeValue> attributes : (ascending ? items : items.descendingMap()).values()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            results.add(schema.mapToItem(attributes));
+        }
+        return results;
+    }
+
+    /**
+     * Queries one partition of a global secondary index in index sort key order.
+     *
+     * @param indexName The index
+     * @param partitionValue Index partition key value
+     * @param ascending Index sort key order (scanIndexForward)
+     * @param limit Maximum number of items
+     * @return Copies of the matching items, with all attributes
+     */
+    List<T> queryIndex(String indexName, Object partitionValue, boolean ascending, int limit) {
+        return queryIndex(indexName, partitionValue, ascending, limit, List.of());
+    }
+
+    /**
+     * Queries one partition of a global secondary index in index sort key order, keeping only some
+     * attributes of each item (ProjectionExpression).
+     *
+     * @param indexName The index
+     * @param partitionValue Index partition key value
+     * @param ascending Index sort key order (scanIndexForward)
+     * @param limit Maximum number of items
+     * @param attributes Attributes to keep, or empty for whole items
+     * @return Copies of the matching items
+     */
+    List<T> queryIndex(String indexName, Object partitionValue, boolean ascending, int limit,
+                       Collection<String> attributes) {
+        Index index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown index " + indexName);
+        }
+        NavigableSet<IndexEntry> entries = partitionValue == null ? null : index.entries.get(normalize(partitionValue));
+        List<T> results = new ArrayList<>();
+        if (entries == null) {
+            return results;
+        }
+        for (IndexEntry entry : ascending ? entries : entries.descendingSet()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            Map<String, AttributeValue> item = find(entry.partition, entry.sort);
+            // Skip entries an update is replacing right now
+            if (item != null && entry.matches(index, item)) {
+                Map<String, AttributeValue> projected = item;
+                if (!attributes.isEmpty()) {
+                    projected = new HashMap<>(item);
+                    projected.keySet().retainAll(attributes);
+                }
+                results.add(schema.mapToItem(projected));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reads one page of a primary partition in sort key order, resuming after an exclusive start key.
+     *
+     * @param partitionValue Partition key value
+     * @param afterSortValue Only items whose sort key is greater than this; null for the whole partition
+     * @param ascending Sort key order (scanIndexForward)
+     * @param limit Maximum number of items
+     * @param exclusiveStartKey Primary key of the last item of the previous page, or null for the first page
+     * @return Copies of the items on the page, and a token if more items follow
+     */
+    PagedResult<T> queryPage(Object partitionValue, Object afterSortValue, boolean ascending, int limit,
+                             Map<String, AttributeValue> exclusiveStartKey) {
+        NavigableMap<Object, Map<String, AttributeValue>> items = partitionValue == null ? null
+                : partitions.get(normalize(partitionValue));
+        if (items == null) {
+            return new PagedResult<>(new ArrayList<>(), null);
+        }
+        if (afterSortValue != null) {
+            items = items.tailMap(normalize(afterSortValue), false);
+        }
+        NavigableMap<Object, Map<String, AttributeValue>> ordered = ascending ? items : items.descendingMap();
+        if (exclusiveStartKey != null) {
+            ordered = ordered.tailMap(startKeyValue(exclusiveStartKey, sortKey), false);
+        }
+        List<T> results = new ArrayList<>(Math.min(limit, ordered.size()));
+        Map<String, AttributeValue> last = null;
+        for (Map<String, AttributeValue> attributes : ordered.values()) {
+            if (results.size() >= limit) {
+                return new PagedResult<>(results, PageTokens.encode(primaryKey(last)));
+            }
+            results.add(schema.mapToItem(attributes));
+            last = attributes;
+        }
+        return new PagedResult<>(results, null);
+    }
+
+    /**
+     * Reads one page of a global secondary index partition in index sort key order, resuming after an
+     * exclusive start key.
+     *
+     * @param indexName The index
+     * @param partitionValue Index partition key value
+     * @param ascending Index sort key order (scanIndexForward)
+     * @param limit Maximum number of items
+     * @param exclusiveStartKey Primary and index key of the last item of the previous page, or null for the first page
+     * @return Copies of the items on the page, with all attributes, and a token if more items follow
+     */
+    PagedResult<T> queryIndexPage(String indexName, Object partitionValue, boolean ascending, int limit,
+                                  Map<String, AttributeValue> exclusiveStartKey) {
+        Index index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown index " + indexName);
+        }
+        NavigableSet<IndexEntry> entries = partitionValue == null ? null : index.entries.get(normalize(partitionValue));
+        List<T> results = new ArrayList<>();
+        if (entries == null) {
+            return new PagedResult<>(results, null);
+        }
+        NavigableSet<IndexEntry> ordered = ascending ? entries : entries.descendingSet();
+        if (exclusiveStartKey != null) {
+            ordered = ordered.tailSet(new IndexEntry(index.indexSort(exclusiveStartKey),
+                    startKeyValue(exclusiveStartKey, partitionKey), startKeyValue(exclusiveStartKey, sortKey)), false);
+        }
+        Map<String, AttributeValue> last = null;
+        for (IndexEntry entry : ordered) {
+            Map<String, AttributeValue> attributes = find(entry.partition, entry.sort);
+            // Skip entries an update is replacing right now
+            if (attributes == null || !entry.matches(index, attributes)) {
+                continue;
+            }
+            if (results.size() >= limit) {
+                return new PagedResult<>(results, PageTokens.encode(index.key(last, primaryKey(last))));
+            }
+            results.add(schema.mapToItem(attributes));
+            last = attributes;
+        }
+        return new PagedResult<>(results, null);
+    }
+
+    /**
+     * Reads one page of the whole table, in primary key order, resuming after an exclusive start key.
+     *
+     * @param limit Maximum number of items
+     * @param exclusiveStartKey Primary key of the last item of the previous page, or null for the first page
+     * @return Copies of the items on the page, and a token if more items follow
+     */
+    PagedResult<T> scanPage(int limit, Map<String, AttributeValue> exclusiveStartKey) {
+        Object startPartition = exclusiveStartKey == null ? null : startKeyValue(exclusiveStartKey, partitionKey);
+        List<Object> partitionValues = new ArrayList<>();
+        for (Object partition : partitions.keySet()) {
+            if (startPartition == null || IndexEntry.compareKeys(partition, startPartition) >= 0) {
+                partitionValues.add(partition);
+            }
+        }
+        partitionValues.sort(IndexEntry::compareKeys);
+        List<T> results = new ArrayList<>();
+        Map<String, AttributeValue> last = null;
+        for (Object partition : partitionValues) {
+            NavigableMap<Object, Map<String, AttributeValue>> items = partitions.get(partition);
+            if (items == null) {
+                continue;
+            }
+            if (partition.equals(startPartition)) {
+                items = items.tailMap(startKeyValue(exclusiveStartKey, sortKey), false);
+            }
+            for (Map<String, AttributeValue> attributes : items.values()) {
+                if (results.size() >= limit) {
+                    return new PagedResult<>(results, PageTokens.encode(primaryKey(last)));
+                }
+                results.add(schema.mapToItem(attributes));
+                last = attributes;
+            }
+        }
+        return new PagedResult<>(results, null);
+    }
+
+    /**
+     * @param indexName The index
+     * @param partitionValue Index partition key value
+     * @return Number of items in the index partition
+     */
+    int countIndex(String indexName, Object partitionValue) {
+        NavigableSet<IndexEntry> entries = partitionValue == null ? null
+                : indexes.get(indexName).entries.get(normalize(partitionValue));
+        return entries == null ? 0 : entries.size();
+    }
+
+    /**
+     * @return Copies of all items, in no particular order
+     */
+    List<T> scan() {
+        List<T> results = new ArrayList<>();
+        for (NavigableMap<Object, Map<String, AttributeValue>> items : partitions.values()) {
+            for (Map<String, AttributeValue> attributes : items.values()) {
+                results.add(schema.mapToItem(attributes));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Hands every item to a consumer as it is read, without collecting them first (a projected Scan).
+     *
+     * @param attributes Attributes to keep, or empty for whole items
+     * @param consumer Called once per item, in no particular order
+     * @return Number of items read
+     */
+    long forEach(Collection<String> attributes, Consumer<? super T> consumer) {
+        long count = 0;
+        for (NavigableMap<Object, Map<String, AttributeValue>> items : partitions.values()) {
+            for (Map<String, AttributeValue> item : items.values()) {
+                Map<String, AttributeValue> projected = item;
+                if (!attributes.isEmpty()) {
+                    projected = new HashMap<>(item);
+                    projected.keySet().retainAll(attributes);
+                }
+                consumer.accept(schema.mapToItem(projected));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param attributeName An attribute name as the schema writes it
+     * @param value The value to match
+     * @return Number of items whose attribute equals the value, or whose list attribute contains it
+     */
+    int countWhere(String attributeName, String value) {
+        int count = 0;
+        for (NavigableMap<Object, Map<String, AttributeValue>> items : partitions.values()) {
+            for (Map<String, AttributeValue> attributes : items.values()) {
+                AttributeValue attribute = attributes.get(attributeName);
+                if (attribute == null) {
+                    continue;
+                }
+                if (value.equals(attribute.s())) {
+                    count++;
+                } else if (attribute.hasL()) {
+                    for (AttributeValue element : attribute.l()) {
+                        if (value.equals(element.s())) {
+                            count++;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of items in the table
+     */
+    long size() {
+        return itemCount.get();
+    }
+
+    // Callers hold the partition's lock
+    private void store(Object partition, Object sort, Map<String, AttributeValue> attributes) {
+        Map<String, AttributeValue> previous = partitions
+                .computeIfAbsent(partition, p -> new ConcurrentSkipListMap<>(KEY_ORDER))
+                .put(sort, attributes);
+        if (previous == null) {
+            itemCount.incrementAndGet();
+        }
+        for (Index index : indexes.values()) {
+            if (previous != null) {
+                index.remove(previous, partition, sort);
+            }
+            index.add(attributes, partition, sort);
+        }
+    }
+
+    private Map<String, AttributeValue> find(Object partition, Object sort) {
+        if (partition == null || sort == null) {
+            return null;
+        }
+        NavigableMap<Object, Map<String, AttributeValue>> items = partitions.get(partition);
+        return items == null ? null : items.get(sort);
+    }
+
+    private Object sortKeyValue(Map<String, AttributeValue> attributes) {
+        if (sortKey == null) {
+            return NO_SORT_KEY;
+        }
+        Object sort = keyValue(attributes, sortKey);
+        if (sort == null) {
+            throw new IllegalArgumentException("Item is missing its sort key " + sortKey);
+        }
+        return sort;
+    }
+
+    // The LastEvaluatedKey DynamoDB would return for an item read from the table
+    private Map<String, AttributeValue> primaryKey(Map<String, AttributeValue> attributes) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(partitionKey, attributes.get(partitionKey));
+        if (sortKey != null) {
+            key.put(sortKey, attributes.get(sortKey));
+        }
+        return key;
+    }
+
+    // A key attribute of an exclusive start key; a key without it did not come from this table
+    private static Object startKeyValue(Map<String, AttributeValue> exclusiveStartKey, String attributeName) {
+        if (attributeName == null) {
+            return NO_SORT_KEY;
+        }
+        Object value;
+        try {
+            value = keyValue(exclusiveStartKey, attributeName);
+        } catch (IllegalArgumentException e) {
+            value = null;
+        }
+        if (value == null) {
+            throw new ValidationException("Invalid page token");
+        }
+        return value;
+    }
+
+    private Object lockFor(Object partition) {
+        return locks[(partition.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    /**
+     * Key attribute value as a comparable Java value: strings compare as strings, numbers numerically.
+     */
+    private static Object keyValue(Map<String, AttributeValue> attributes, String attributeName) {
+        AttributeValue value = attributes.get(attributeName);
+        if (value == null) {
+            return null;
+        }
+        if (value.s() != null) {
+            return value.s();
+        }
+        if (value.n() != null) {
+            return new BigDecimal(value.n()).stripTrailingZeros();
+        }
+        throw new IllegalArgumentException("Unsupported key type for attribute " + attributeName);
+    }
+
+    private static Object normalize(Object keyValue) {
+        if (keyValue instanceof Number) {
+            return new BigDecimal(keyValue.toString()).stripTrailingZeros();
+        }
+        return keyValue;
+    }
+
+    /**
+     * A global secondary index: index partition value -> entries in index sort key order.
+     */
+    private static final class Index {
+        private final String partitionKey;
+        private final String sortKey; // null if the index has none
+        private final Map<Object, NavigableSet<IndexEntry>> entries = new ConcurrentHashMap<>();
+
+        Index(String partitionKey, String sortKey) {
+            this.partitionKey = partitionKey;
+            this.sortKey = sortKey;
+        }
+
+        void add(Map<String, AttributeValue> attributes, Object partition, Object sort) {
+            Object indexPartition = keyValue(attributes, partitionKey);
+            if (indexPartition == null) {
+                return; // Sparse: items without the index key are not indexed
+            }
+            IndexEntry entry = new IndexEntry(indexSort(attributes), partition, sort);
+            // Atomic per index partition, so an add never lands in a set another thread is dropping
+            entries.compute(indexPartition, (key, set) -> {
+                NavigableSet<IndexEntry> target = set != null ? set : new ConcurrentSkipListSet<>();
+                target.add(entry);
+                return target;
+            });
+        }
+
+        void remove(Map<String, AttributeValue> attributes, Object partition, Object sort) {
+            Object indexPartition = keyValue(attributes, partitionKey);
+            if (indexPartition == null) {
+                return;
+            }
+            IndexEntry entry = new IndexEntry(indexSort(attributes), partition, sort);
+            entries.computeIfPresent(indexPartition, (key, set) -> {
+                set.remove(entry);
+                return set.isEmpty() ? null : set;
+            });
+        }
+
+        // The LastEvaluatedKey DynamoDB would return for an item read from this index
+        Map<String, AttributeValue> key(Map<String, AttributeValue> attributes, Map<String, AttributeValue> primaryKey) {
+            Map<String, AttributeValue> key = new LinkedHashMap<>(primaryKey);
+            key.put(partitionKey, attributes.get(partitionKey));
+            if (sortKey != null && attributes.containsKey(sortKey)) {
+                key.put(sortKey, attributes.get(sortKey));
+            }
+            return key;
+        }
+
+        Object indexSort(Map<String, AttributeValue> attributes) {
+            if (sortKey == null) {
+                return NO_SORT_KEY;
+            }
+            Object value = keyValue(attributes, sortKey);
+            // DynamoDB leaves items without the index sort key out of the index; sort them first instead
+            // of dropping them, since the DAOs never write such items
+            return value != null ? value : NO_SORT_KEY;
+        }
+    }
+
+    /**
+     * One item's place in an index: its index sort value, then its primary key to break ties.
+     */
+    private static final class IndexEntry implements Comparable<IndexEntry> {
+        private final Object indexSort;
+        private final Object partition;
+        private final Object sort;
+
+        IndexEntry(Object indexSort, Object partition, Object sort) {
+            this.indexSort = indexSort;
+            this.partition = partition;
+            this.sort = sort;
+        }
+
+        boolean matches(Index index, Map<String, AttributeValue> attributes) {
+            return compareKeys(indexSort, index.indexSort(attributes)) == 0;
+        }
+
+        @Override
+        public int compareTo(IndexEntry other) {
+            int result = compareKeys(indexSort, other.indexSort);
+            if (result == 0) {
+                result = compareKeys(partition, other.partition);
+            }
+            if (result == 0) {
+                result = compareKeys(sort, other.sort);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IndexEntry && compareTo((IndexEntry) other) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indexSort, partition, sort);
+        }
+
+        // Mixed types only meet when an attribute changes type between items; order strings after numbers
+        private static int compareKeys(Object a, Object b) {
+            if (a.getClass() != b.getClass()) {
+                return a instanceof String ? 1 : -1;
+            }
+            return KEY_ORDER.compare(a, b);
+        }
+    }
+}
@@ -31,6 +31,18 @@ public interface KillDao {
      */
     List<Kill> findKillsByKiller(String killerID) throws KillNotFoundException, KillPersistenceException;
 
+    /**
+     * Finds one page of the kills performed by a killer, ordered by time descending.
+     * Unlike {@link #findKillsByKiller(String)}, an empty result is an empty page rather than an exception.
+     *
+     * @param killerID The ID of the killer.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the query operation fails.
+     */
+    PagedResult<Kill> findKillsByKiller(String killerID, int limit, String pageToken) throws KillPersistenceException;
+
     /**
      * Finds all kills where a specific player was the victim, ordered by time descending.
      * Requires the VictimID-Time-index GSI.
@@ -42,6 +54,18 @@ public interface KillDao {
      */
     List<Kill> findKillsByVictim(String victimID) throws KillNotFoundException, KillPersistenceException;
 
+    /**
+     * Finds one page of the kills where a player was the victim, ordered by time descending.
+     * Requires the VictimID-Time-index GSI.
+     *
+     * @param victimID The ID of the victim.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the query operation fails.
+     */
+    PagedResult<Kill> findKillsByVictim(String victimID, int limit, String pageToken) throws KillPersistenceException;
+
      /**
      * Finds the most recent N kills, ordered by time descending.
      * Uses a Scan operation with a limit.
@@ -80,15 +104,6 @@ public interface KillDao {
      */
     int countDeathsByVictim(String victimId) throws KillPersistenceException;
 
-    /**
-     * Retrieves a list of recent kills across all players.
-     *
-     * @param limit The maximum number of recent kills to retrieve.
-     * @return A list of the most recent Kill objects.
-     * @throws KillPersistenceException If there's an error retrieving recent kills.
-     */
-    List<Kill> getRecentKills(int limit) throws KillPersistenceException;
-
     /**
      * Checks if a player is still alive in a given game context 
      * (i.e., they have not been recorded as a victim).
@@ -120,6 +135,16 @@ public interface KillDao {
      */
     List<Kill> getAllKills() throws KillPersistenceException;
 
+    /**
+     * Retrieves one page of all kills, resuming where the previous page ended.
+     *
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     * @throws KillPersistenceException if the scan operation fails.
+     */
+    PagedResult<Kill> getAllKills(int limit, String pageToken) throws KillPersistenceException;
+
     /**
      * Retrieves a specific kill by its composite key (killer ID and time).
      *
@@ -138,4 +163,14 @@ public interface KillDao {
      */
     List<Kill> findKillsByGameId(String gameId);
 
+    /**
+     * Finds one page of the kill records of a game, ordered by time ascending.
+     *
+     * @param gameId The ID of the game.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     */
+    PagedResult<Kill> findKillsByGameId(String gameId, int limit, String pageToken);
+
 } 
\ No newline at end of file
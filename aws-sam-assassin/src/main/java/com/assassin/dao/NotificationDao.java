@@ -36,6 +36,18 @@ public interface NotificationDao {
      */
     List<Notification> findNotificationsByPlayer(String recipientPlayerId, String sinceTimestamp, int limit);
 
+    /**
+     * Finds one page of a player's notifications, newest first, resuming where the previous page ended.
+     *
+     * @param recipientPlayerId The ID of the player whose notifications to retrieve.
+     * @param sinceTimestamp Optional ISO 8601 timestamp to filter notifications after this time.
+     * @param limit The maximum number of notifications on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of notifications and the token for the next one.
+     */
+    PagedResult<Notification> findNotificationsByPlayer(String recipientPlayerId, String sinceTimestamp, int limit,
+                                                        String pageToken);
+
     /**
      * Marks a specific notification as read.
      *
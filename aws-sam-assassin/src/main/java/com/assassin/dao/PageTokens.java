@@ -0,0 +1,98 @@
+package com.assassin.dao;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.assassin.exception.ValidationException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Converts between DynamoDB's LastEvaluatedKey/ExclusiveStartKey and the opaque page tokens handed to
+ * API clients: the key attributes as compact JSON, e.g. {@code {"KillerID":{"S":"p1"},"Time":{"S":"..."}}},
+ * in URL-safe Base64. Only string and number key attributes are supported, which covers every table.
+ * <p>
+ * Tokens are not signed; a client that edits one only changes where its own listing resumes.
+ */
+public final class PageTokens {
+
+    private static final Gson GSON = new Gson();
+    private static final Type KEY_TYPE = new TypeToken<LinkedHashMap<String, Map<String, String>>>() {}.getType();
+    private static final String STRING_TYPE = "S";
+    private static final String NUMBER_TYPE = "N";
+
+    // Private constructor to prevent instantiation
+    private PageTokens() {}
+
+    /**
+     * @param lastEvaluatedKey Key of the last item read, as DynamoDB returns it
+     * @return The page token, or null if there is no key (the last page)
+     */
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, String>> key = new LinkedHashMap<>();
+        for (Map.Entry<String, AttributeValue> attribute : lastEvaluatedKey.entrySet()) {
+            AttributeValue value = attribute.getValue();
+            if (value.s() != null) {
+                key.put(attribute.getKey(), Map.of(STRING_TYPE, value.s()));
+            } else if (value.n() != null) {
+                key.put(attribute.getKey(), Map.of(NUMBER_TYPE, value.n()));
+            } else {
+                throw new IllegalArgumentException("Unsupported key type for attribute " + attribute.getKey());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(GSON.toJson(key, KEY_TYPE).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param pageToken A token from {@link #encode(Map)}, or null/empty for the first page
+     * @return The ExclusiveStartKey to resume from, or null for the first page
+     * @throws ValidationException If the token is not one this class produced
+     */
+    public static Map<String, AttributeValue> decode(String pageToken) {
+        if (pageToken == null || pageToken.isEmpty()) {
+            return null;
+        }
+        Map<String, Map<String, String>> key;
+        try {
+            key = GSON.fromJson(new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8), KEY_TYPE);
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new ValidationException("Invalid page token", e);
+        }
+        if (key == null || key.isEmpty()) {
+            throw new ValidationException("Invalid page token");
+        }
+        Map<String, AttributeValue> exclusiveStartKey = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> attribute : key.entrySet()) {
+            Map<String, String> typed = attribute.getValue();
+            if (typed == null || typed.size() != 1) {
+                throw new ValidationException("Invalid page token");
+            }
+            String string = typed.get(STRING_TYPE);
+            String number = typed.get(NUMBER_TYPE);
+            if (string != null) {
+                exclusiveStartKey.put(attribute.getKey(), AttributeValue.builder().s(string).build());
+            } else if (number != null) {
+                try {
+                    new BigDecimal(number);
+                } catch (NumberFormatException e) {
+                    throw new ValidationException("Invalid page token", e);
+                }
+                exclusiveStartKey.put(attribute.getKey(), AttributeValue.builder().n(number).build());
+            } else {
+                throw new ValidationException("Invalid page token");
+            }
+        }
+        return exclusiveStartKey;
+    }
+}
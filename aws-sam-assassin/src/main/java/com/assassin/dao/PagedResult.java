@@ -0,0 +1,63 @@
+package com.assassin.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+/**
+ * One page of a list query: at most the requested number of items, plus an opaque token that resumes
+ * the query after the last of them. Pass the token back to the same DAO method to read the next page.
+ *
+ * @param <T> The item class
+ */
+public final class PagedResult<T> {
+
+    private final List<T> items;
+    private final String nextPageToken;
+
+    /**
+     * @param items The items on this page
+     * @param nextPageToken Token for the next page, or null if this is the last page
+     */
+    public PagedResult(List<T> items, String nextPageToken) {
+        this.items = items != null ? Collections.unmodifiableList(items) : List.of();
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * @return The items on this page, in query order
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Token for the next page, or null if this is the last page
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * @return Whether another page may follow; the next page of a query that ended exactly on the
+     *         page size is empty
+     */
+    public boolean hasMore() {
+        return nextPageToken != null;
+    }
+
+    /**
+     * Reads only the first page of a paginated DynamoDB query or scan, which holds at most the request's limit.
+     *
+     * @param pages The query or scan result
+     * @return The first page, with its LastEvaluatedKey as the next page token
+     */
+    static <T> PagedResult<T> firstPage(SdkIterable<Page<T>> pages) {
+        for (Page<T> page : pages) {
+            return new PagedResult<>(page.items(), PageTokens.encode(page.lastEvaluatedKey()));
+        }
+        return new PagedResult<>(List.of(), null);
+    }
+}
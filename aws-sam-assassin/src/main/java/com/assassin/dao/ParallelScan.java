@@ -0,0 +1,185 @@
+package com.assassin.dao;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.exception.PersistenceException;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+/**
+ * Reads a whole table with a segmented parallel scan, for exports and backfills.
+ * <p>
+ * The table is split into {@link ScanOptions#getSegments()} segments, scanned page by page on a fixed pool
+ * of {@link ScanOptions#getParallelism()} threads, and every item is handed to a consumer as its page
+ * arrives, so the table is never held in memory. The consumer is called from several threads at once and
+ * must be thread-safe. Each page asks DynamoDB for its consumed capacity, which a shared
+ * {@link ReadCapacityLimiter} charges against the read budget before the next page is requested.
+ * <p>
+ * The first failing segment stops the others and its exception is rethrown; DynamoDB errors come through
+ * unchanged so DAOs can wrap them like any other request.
+ */
+public final class ParallelScan {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelScan.class);
+    // Scans of items up to 4 KB cost half a unit each with eventual consistency; used if no capacity is reported
+    private static final double ESTIMATED_UNITS_PER_ITEM = 0.5;
+
+    // Private constructor to prevent instantiation
+    private ParallelScan() {}
+
+    /**
+     * Scans every item of a table.
+     *
+     * @param table The table to scan
+     * @param options Segments, parallelism, projection and read budget
+     * @param consumer Called once per item, concurrently from the segment threads
+     * @return How many items were read, at what capacity and in how long
+     * @throws PersistenceException If the scan is interrupted
+     */
+    public static <T> Result run(DynamoDbTable<T> table, ScanOptions options, Consumer<? super T> consumer) {
+        String tableName = table.tableName();
+        ReadCapacityLimiter limiter = new ReadCapacityLimiter(options.getReadCapacityPerSecond());
+        LongAdder itemCount = new LongAdder();
+        DoubleAdder consumedCapacity = new DoubleAdder();
+        long start = System.nanoTime();
+        logger.info("Starting parallel scan of {} with {}", tableName, options);
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.getParallelism(), segmentThreads(tableName));
+        try {
+            // Segments are collected as they finish, so the first failure is seen at once
+            CompletionService<Void> segments = new ExecutorCompletionService<>(executor);
+            for (int segment = 0; segment < options.getSegments(); segment++) {
+                int current = segment;
+                segments.submit(() -> {
+                    scanSegment(table, options, current, limiter, consumer, itemCount, consumedCapacity);
+                    return null;
+                });
+            }
+            for (int finished = 0; finished < options.getSegments(); finished++) {
+                segments.take().get();
+            }
+        } catch (ExecutionException e) {
+            throw rethrow(tableName, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Parallel scan of " + tableName + " was interrupted", e);
+        } finally {
+            // Stops the remaining segments if one failed
+            executor.shutdownNow();
+        }
+
+        Result result = new Result(itemCount.sum(), consumedCapacity.sum(), Duration.ofNanos(System.nanoTime() - start));
+        logger.info("Parallel scan of {} finished: {}", tableName, result);
+        return result;
+    }
+
+    private static <T> void scanSegment(DynamoDbTable<T> table, ScanOptions options, int segment,
+                                        ReadCapacityLimiter limiter, Consumer<? super T> consumer,
+                                        LongAdder itemCount, DoubleAdder consumedCapacity) throws InterruptedException {
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Segment " + segment + " stopped");
+            }
+            limiter.acquire();
+            ScanEnhancedRequest.Builder request = ScanEnhancedRequest.builder()
+                    .segment(segment)
+                    .totalSegments(options.getSegments())
+                    .limit(options.getPageSize())
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            if (!options.getAttributes().isEmpty()) {
+                request.attributesToProject(options.getAttributes());
+            }
+            // One request per page, so the limiter is consulted before each of them
+            Page<T> page = table.scan(request.build()).iterator().next();
+            double units = capacityUnits(page);
+            limiter.consume(units);
+            consumedCapacity.add(units);
+            for (T item : page.items()) {
+                consumer.accept(item);
+            }
+            itemCount.add(page.items().size());
+            exclusiveStartKey = page.lastEvaluatedKey();
+        } while (exclusiveStartKey != null && !exclusiveStartKey.isEmpty());
+    }
+
+    private static double capacityUnits(Page<?> page) {
+        if (page.consumedCapacity() != null && page.consumedCapacity().capacityUnits() != null) {
+            return page.consumedCapacity().capacityUnits();
+        }
+        return page.items().size() * ESTIMATED_UNITS_PER_ITEM;
+    }
+
+    private static RuntimeException rethrow(String tableName, Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new PersistenceException("Parallel scan of " + tableName + " failed", cause);
+    }
+
+    private static ThreadFactory segmentThreads(String tableName) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "scan-" + tableName + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Totals of a finished scan.
+     */
+    public static final class Result {
+        private final long itemCount;
+        private final double consumedCapacity;
+        private final Duration elapsed;
+
+        public Result(long itemCount, double consumedCapacity, Duration elapsed) {
+            this.itemCount = itemCount;
+            this.consumedCapacity = consumedCapacity;
+            this.elapsed = elapsed;
+        }
+
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        /**
+         * @return Read capacity units consumed, as reported by DynamoDB or estimated where it reported none
+         */
+        public double getConsumedCapacity() {
+            return consumedCapacity;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d items, %.1f RCU in %d ms", itemCount, consumedCapacity, elapsed.toMillis());
+        }
+    }
+}
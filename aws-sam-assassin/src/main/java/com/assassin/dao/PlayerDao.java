@@ -2,6 +2,7 @@ package com.assassin.dao;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.PlayerPersistenceException;
@@ -38,6 +39,7 @@ public interface PlayerDao {
 
     /**
      * Saves or updates a player item in the database.
+     * The stored item carries the geo-cell key of the player's location; the given player is not changed.
      *
      * @param player The Player object to save.
      */
@@ -52,6 +54,27 @@ public interface PlayerDao {
      */
     List<Player> getAllPlayers();
 
+    /**
+     * Retrieves one page of all players, resuming where the previous page ended.
+     *
+     * @param limit The maximum number of players on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of players and the token for the next one.
+     * @throws com.assassin.exception.ValidationException if the page token is invalid.
+     */
+    PagedResult<Player> getAllPlayers(int limit, String pageToken);
+
+    /**
+     * Reads every player with a parallel scan, handing each one to the consumer without holding the table
+     * in memory. For admin exports and backfills, not request handling.
+     *
+     * @param options Segments, parallelism, attributes to fetch and read capacity budget.
+     * @param consumer Called once per player, possibly from several threads at once.
+     * @return Totals of the scan.
+     * @throws PlayerPersistenceException if the scan fails.
+     */
+    ParallelScan.Result scanAllPlayers(ScanOptions options, Consumer<? super Player> consumer) throws PlayerPersistenceException;
+
     /**
      * @return A list of top players sorted by kill count descending.
      */
@@ -96,6 +119,36 @@ public interface PlayerDao {
     void updatePlayerLocation(String playerId, Double latitude, Double longitude, String timestamp, Double accuracy)
             throws PlayerPersistenceException, PlayerNotFoundException;
 
+    /**
+     * Updates the location details for a player in a game and refreshes the player's geo-cell index key,
+     * so the player can be found by {@link #findPlayersNear}.
+     *
+     * @param playerId The ID of the player to update.
+     * @param gameId The ID of the game the player is in, or null to leave the geo-cell key unchanged.
+     * @param latitude The new latitude.
+     * @param longitude The new longitude.
+     * @param timestamp The timestamp of the location update (ISO 8601 format).
+     * @param accuracy The accuracy of the location in meters.
+     * @throws PlayerPersistenceException If the update fails.
+     * @throws PlayerNotFoundException If the player does not exist (optional, depending on implementation).
+     */
+    void updatePlayerLocation(String playerId, String gameId, Double latitude, Double longitude, String timestamp, Double accuracy)
+            throws PlayerPersistenceException, PlayerNotFoundException;
+
+    /**
+     * Sets the geo-cell index key of an existing player, leaving every other attribute as it is, provided the
+     * stored player still has the game, location and key it had when it was scanned. Used to backfill the
+     * GameCellIndex without rewriting the rest of the item or overwriting a key written since the scan.
+     *
+     * @param scanned The player as scanned: its ID, game, location and current key (null if it had none).
+     * @param gameCellKey The new key, as built by {@link DynamoDbPlayerDao#gameCellKeyFor}.
+     * @return True if the key was written, false if the player changed since the scan and was left as it is.
+     * @throws PlayerPersistenceException If the update fails.
+     * @throws PlayerNotFoundException If the player does not exist.
+     * @throws IllegalArgumentException If the scanned player has no game or location.
+     */
+    boolean updateGameCellKey(Player scanned, String gameCellKey) throws PlayerPersistenceException, PlayerNotFoundException;
+
     /**
      * Retrieves all players associated with a specific game ID.
      * Requires a GSI on the GameID attribute.
@@ -106,6 +159,17 @@ public interface PlayerDao {
      */
     List<Player> getPlayersByGameId(String gameId) throws PlayerPersistenceException;
 
+    /**
+     * Retrieves one page of the players in a game, resuming where the previous page ended.
+     *
+     * @param gameId The ID of the game.
+     * @param limit The maximum number of players on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of players and the token for the next one.
+     * @throws PlayerPersistenceException if there is an error querying the index.
+     */
+    PagedResult<Player> getPlayersByGameId(String gameId, int limit, String pageToken) throws PlayerPersistenceException;
+
     /**
      * Retrieves all players targeting a specific player within a game.
      *
@@ -115,6 +179,23 @@ public interface PlayerDao {
      */
     List<Player> getPlayersTargeting(String targetId, String gameId);
 
+    /**
+     * Retrieves players in a game whose last known location is within a radius of a point.
+     * Requires a GSI on the GameCellKey attribute; results may lag recent location updates
+     * because the index is eventually consistent.
+     *
+     * @param gameId The ID of the game.
+     * @param latitude Center latitude.
+     * @param longitude Center longitude.
+     * @param radiusMeters Search radius in meters.
+     * @return Players within the radius, in no particular order. These are partial items carrying only
+     *         the ID, name, game, status, target, cell key and location fields, whatever the radius;
+     *         load a player by ID for anything else.
+     * @throws PlayerPersistenceException if there is an error querying the index.
+     */
+    List<Player> findPlayersNear(String gameId, double latitude, double longitude, double radiusMeters)
+            throws PlayerPersistenceException;
+
     // Potentially add methods for finding player by targetID, listing alive players, etc.
     // Player findByTargetId(String targetId); // Requires GSI
     // List<Player> findAllAlivePlayers(); // Requires Scan or GSI
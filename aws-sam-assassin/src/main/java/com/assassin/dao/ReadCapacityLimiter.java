@@ -0,0 +1,82 @@
+package com.assassin.dao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket in read capacity units, shared by the segments of a {@link ParallelScan}.
+ * <p>
+ * What a scan page costs is only known once DynamoDB answers, so callers wait in {@link #acquire()} until
+ * the bucket is out of debt, make the request, and then {@link #consume(double)} what it reported. The
+ * bucket refills at the budget rate and holds at most one second of capacity, so consumption averages to
+ * the budget with bursts of about one page per segment.
+ */
+final class ReadCapacityLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double unitsPerSecond;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    private double available;
+    private long lastRefillNanos;
+
+    /**
+     * @param unitsPerSecond Read capacity units per second, or 0 for no limit
+     */
+    ReadCapacityLimiter(double unitsPerSecond) {
+        this(unitsPerSecond, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    ReadCapacityLimiter(double unitsPerSecond, LongSupplier nanoClock, Sleeper sleeper) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Waits until the capacity consumed so far has been paid back.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        if (unitsPerSecond <= 0) {
+            return;
+        }
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (available >= 0) {
+                    return;
+                }
+                waitNanos = (long) Math.ceil(-available / unitsPerSecond * NANOS_PER_SECOND);
+            }
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * @param units Capacity units a request consumed
+     */
+    synchronized void consume(double units) {
+        if (unitsPerSecond <= 0) {
+            return;
+        }
+        refill();
+        available -= units;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        available = Math.min(unitsPerSecond, available + (now - lastRefillNanos) / NANOS_PER_SECOND * unitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
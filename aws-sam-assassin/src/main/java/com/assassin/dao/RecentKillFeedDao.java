@@ -0,0 +1,33 @@
+package com.assassin.dao;
+
+import java.util.Optional;
+
+import com.assassin.exception.KillPersistenceException;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.RecentKillFeed;
+
+/**
+ * Data Access Object interface for the materialized recent-kill feeds.
+ */
+public interface RecentKillFeedDao {
+
+    /**
+     * Retrieves a feed.
+     *
+     * @param feedId A game ID, or {@link RecentKillFeed#GLOBAL_FEED_ID}.
+     * @return The feed, or empty if no kill has been added to it yet.
+     * @throws KillPersistenceException if the read fails.
+     */
+    Optional<RecentKillFeed> getFeed(String feedId) throws KillPersistenceException;
+
+    /**
+     * Adds a kill to a feed, creating the feed if needed. Concurrent additions to the same feed are all kept.
+     *
+     * @param feedId A game ID, or {@link RecentKillFeed#GLOBAL_FEED_ID}.
+     * @param entry The kill to add.
+     * @param updatedAt ISO 8601 time of the update.
+     * @return The feed as written.
+     * @throws KillPersistenceException if the write fails or keeps losing to concurrent writers.
+     */
+    RecentKillFeed addKill(String feedId, KillFeedEntry entry, String updatedAt) throws KillPersistenceException;
+}
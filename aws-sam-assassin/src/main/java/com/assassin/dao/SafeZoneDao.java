@@ -26,6 +26,16 @@ public interface SafeZoneDao {
      */
     List<SafeZone> getSafeZonesByGameId(String gameId);
 
+    /**
+     * Retrieves one page of the safe zones of a game, resuming where the previous page ended.
+     *
+     * @param gameId The ID of the game.
+     * @param limit The maximum number of safe zones on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of safe zones and the token for the next one.
+     */
+    PagedResult<SafeZone> getSafeZonesByGameId(String gameId, int limit, String pageToken);
+
     /**
      * Saves a new safe zone or updates an existing one.
      *
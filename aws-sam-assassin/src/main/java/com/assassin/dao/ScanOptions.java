@@ -0,0 +1,139 @@
+package com.assassin.dao;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How a {@link ParallelScan} reads a table: how many segments it is split into, how many segments run at
+ * once, the page size, which attributes to fetch and the read capacity to stay within.
+ */
+public final class ScanOptions {
+
+    public static final int DEFAULT_SEGMENTS = 4;
+    public static final int DEFAULT_PAGE_SIZE = 500;
+    // DynamoDB allows up to 1,000,000 segments; beyond a few hundred each one is nearly empty
+    public static final int MAX_SEGMENTS = 1000;
+    // Segments beyond this many threads queue for a free thread
+    public static final int MAX_PARALLELISM = 16;
+
+    private final int segments;
+    private final int parallelism;
+    private final int pageSize;
+    private final List<String> attributes;
+    private final double readCapacityPerSecond;
+
+    private ScanOptions(Builder builder) {
+        this.segments = builder.segments;
+        this.parallelism = builder.parallelism > 0 ? builder.parallelism : Math.min(builder.segments, MAX_PARALLELISM);
+        this.pageSize = builder.pageSize;
+        this.attributes = builder.attributes;
+        this.readCapacityPerSecond = builder.readCapacityPerSecond;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return {@value #DEFAULT_SEGMENTS} segments, all attributes, no capacity limit
+     */
+    public static ScanOptions defaults() {
+        return builder().build();
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return The attributes to fetch, or an empty list for whole items
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * @return The read capacity units per second the scan may consume, or 0 for no limit
+     */
+    public double getReadCapacityPerSecond() {
+        return readCapacityPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanOptions{segments=" + segments + ", parallelism=" + parallelism + ", pageSize=" + pageSize
+                + ", attributes=" + attributes + ", readCapacityPerSecond=" + readCapacityPerSecond + "}";
+    }
+
+    public static final class Builder {
+        private int segments = DEFAULT_SEGMENTS;
+        private int parallelism;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private List<String> attributes = Collections.emptyList();
+        private double readCapacityPerSecond;
+
+        private Builder() {}
+
+        public Builder segments(int segments) {
+            if (segments < 1 || segments > MAX_SEGMENTS) {
+                throw new IllegalArgumentException("Segments must be between 1 and " + MAX_SEGMENTS + ": " + segments);
+            }
+            this.segments = segments;
+            return this;
+        }
+
+        /**
+         * @param parallelism Segments scanned at once; defaults to the segment count, up to {@value #MAX_PARALLELISM}
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1 || parallelism > MAX_PARALLELISM) {
+                throw new IllegalArgumentException("Parallelism must be between 1 and " + MAX_PARALLELISM + ": " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * @param attributes Attributes to fetch; items come back with every other attribute unset
+         */
+        public Builder attributes(String... attributes) {
+            this.attributes = Collections.unmodifiableList(Arrays.asList(attributes.clone()));
+            return this;
+        }
+
+        /**
+         * @param readCapacityPerSecond Read capacity units per second to average, or 0 for no limit
+         */
+        public Builder readCapacityPerSecond(double readCapacityPerSecond) {
+            if (readCapacityPerSecond < 0 || Double.isNaN(readCapacityPerSecond)) {
+                throw new IllegalArgumentException("Read capacity must not be negative: " + readCapacityPerSecond);
+            }
+            this.readCapacityPerSecond = readCapacityPerSecond;
+            return this;
+        }
+
+        public ScanOptions build() {
+            if (parallelism > segments) {
+                parallelism = segments;
+            }
+            return new ScanOptions(this);
+        }
+    }
+}
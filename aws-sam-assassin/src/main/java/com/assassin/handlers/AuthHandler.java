@@ -11,10 +11,16 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.model.Player;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.AuthService;
 import com.assassin.service.PlayerService;
+import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
@@ -28,7 +34,16 @@ import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIden
 public class AuthHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthHandler.class);
-    private static final Gson gson = new GsonBuilder().create();
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(AuthHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.playerService();
+            Priming.primeTables(Player.class);
+            Priming.primeJson(Player.class);
+        });
+    }
+
     
     private final AuthService authService;
     private final PlayerService playerService;
@@ -38,7 +53,7 @@ public class AuthHandler implements RequestHandler<APIGatewayProxyRequestEvent,
      */
     public AuthHandler() {
         this.authService = new AuthService();
-        this.playerService = new PlayerService();
+        this.playerService = ServiceRegistry.playerService();
     }
 
     /**
@@ -54,25 +69,34 @@ public class AuthHandler implements RequestHandler<APIGatewayProxyRequestEvent,
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("AuthHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         String path = request.getPath();
         String method = request.getHttpMethod();
         logger.info("Processing {} request to {}", method, path);
         
         try {
-            if ("POST".equals(method) && "/auth/signup".equals(path)) {
-                return handleSignUp(request);
-            } else if ("POST".equals(method) && "/auth/signin".equals(path)) {
-                return handleSignIn(request);
-            } else if ("GET".equals(method) && "/auth/oauth/callback".equals(path)) {
-                return handleOAuthCallback(request);
-            } else if ("POST".equals(method) && "/auth/oauth/token".equals(path)) {
-                return handleOAuthToken(request);
-            } else if ("GET".equals(method) && "/auth/oauth/url".equals(path)) {
-                return getOAuthUrl(request);
-            } else {
-                logger.warn("Unhandled auth route: {} {}", method, path);
-                return createErrorResponse(404, "Not found");
+            Router.Match<ApiRoute> route = ApiRoute.match(method, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case SIGN_UP:
+                        return handleSignUp(request);
+                    case SIGN_IN:
+                        return handleSignIn(request);
+                    case OAUTH_CALLBACK:
+                        return handleOAuthCallback(request);
+                    case OAUTH_TOKEN:
+                        return handleOAuthToken(request);
+                    case OAUTH_URL:
+                        return getOAuthUrl(request);
+                    default:
+                        break;
+                }
             }
+            logger.warn("Unhandled auth route: {} {}", method, path);
+            return createErrorResponse(404, "Not found");
         } catch (Exception e) {
             logger.error("Error processing authentication request", e);
             return createErrorResponse(500, "Internal server error: " + e.getMessage());
@@ -3,8 +3,6 @@ package com.assassin.handlers;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +11,7 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler; // Assuming Game model exists
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent; // Assuming GameService exists
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.PagedResult;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
 import com.assassin.exception.PlayerNotFoundException;
@@ -20,11 +19,17 @@ import com.assassin.exception.PlayerPersistenceException;
 import com.assassin.exception.UnauthorizedException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Game;
+import com.assassin.model.GameRoster;
 import com.assassin.model.Coordinate; // Import Coordinate
+import com.assassin.model.Player;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.GameService;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken; // Import TypeToken
@@ -36,18 +41,22 @@ import java.lang.reflect.Type; // Import Type
 public class GameHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(GameHandler.class);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-    private final GameService gameService;
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(GameHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.gameService();
+            Priming.primeTables(Game.class, Player.class, GameRoster.class);
+            Priming.primeJson(Game.class, Player.class);
+            Priming.primeGeo();
+        });
+    }
 
-    // Regex patterns for path matching
-    private static final Pattern PLAYER_IN_GAME_PATTERN = Pattern.compile("/games/([^/]+)/players/([^/]+)$");
-    private static final Pattern GAME_ACTION_PATTERN = Pattern.compile("/games/([^/]+)/(\\w+)$"); // Fix: Use \\w for Java regex escape
-    private static final Pattern GAME_BOUNDARY_PATTERN = Pattern.compile("/games/([^/]+)/boundary$"); // New pattern for boundary
-    private static final Pattern GAME_ID_PATTERN = Pattern.compile("/games/([^/]+)$");
+    private final GameService gameService;
 
     // Default constructor initializes the service
     public GameHandler() {
-        this.gameService = new GameService();
+        this.gameService = ServiceRegistry.gameService();
     }
 
     // Constructor for dependency injection (testing)
@@ -57,6 +66,10 @@ public class GameHandler implements RequestHandler<APIGatewayProxyRequestEvent,
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("GameHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         logger.info("Received game request: Method={}, Path={}", request.getHttpMethod(), request.getPath());
         
         String httpMethod = request.getHttpMethod();
@@ -66,37 +79,29 @@ public class GameHandler implements RequestHandler<APIGatewayProxyRequestEvent,
 
         try {
             // Routing based on HTTP method and path
-            Matcher playerInGameMatcher = PLAYER_IN_GAME_PATTERN.matcher(path);
-            Matcher gameActionMatcher = GAME_ACTION_PATTERN.matcher(path);
-            Matcher gameIdMatcher = GAME_ID_PATTERN.matcher(path);
-            Matcher gameBoundaryMatcher = GAME_BOUNDARY_PATTERN.matcher(path); // Matcher for boundary path
-
-            if ("POST".equals(httpMethod) && "/games".equals(path)) {
-                return createGame(request, response);
-            } else if ("GET".equals(httpMethod) && "/games".equals(path)) {
-                return listGames(request, response);
-            } else if ("GET".equals(httpMethod) && gameIdMatcher.matches()) {
-                String gameId = gameIdMatcher.group(1);
-                return getGame(gameId, response);
-            } else if ("PUT".equals(httpMethod) && gameBoundaryMatcher.matches()) { // Handle PUT /games/{gameId}/boundary
-                String gameId = gameBoundaryMatcher.group(1);
-                return updateGameBoundary(gameId, request, response);
-            } else if ("POST".equals(httpMethod) && gameActionMatcher.matches()) {
-                String gameId = gameActionMatcher.group(1);
-                String action = gameActionMatcher.group(2);
-                if ("join".equals(action)) {
-                    return joinGame(gameId, request, response);
-                } else if ("start".equals(action)) {
-                    return startGame(gameId, request, response);
-                } else if ("end".equals(action)) { // New Admin Action: Force End Game
-                    return forceEndGame(gameId, request, response);
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case CREATE_GAME:
+                        return createGame(request, response);
+                    case LIST_GAMES:
+                        return listGames(request, response);
+                    case GET_GAME:
+                        return getGame(route.get("gameId"), response);
+                    case UPDATE_GAME_BOUNDARY:
+                        return updateGameBoundary(route.get("gameId"), request, response);
+                    case JOIN_GAME:
+                        return joinGame(route.get("gameId"), request, response);
+                    case START_GAME:
+                        return startGame(route.get("gameId"), request, response);
+                    case END_GAME: // Admin Action: Force End Game
+                        return forceEndGame(route.get("gameId"), request, response);
+                    case REMOVE_GAME_PLAYER: // Admin Action: Remove Player from Pending Game
+                        return removePlayerFromGame(route.get("gameId"), route.get("playerId"), request, response);
+                    default:
+                        break;
                 }
-            } else if ("DELETE".equals(httpMethod) && playerInGameMatcher.matches()) {
-                // New Admin Action: Remove Player from Pending Game
-                String gameId = playerInGameMatcher.group(1);
-                String playerIdToRemove = playerInGameMatcher.group(2);
-                return removePlayerFromGame(gameId, playerIdToRemove, request, response);
-            } 
+            }
 
             // If no routes match
             return response.withStatusCode(404).withBody(gson.toJson(Map.of("error", "Route not found")));
@@ -138,8 +143,9 @@ public class GameHandler implements RequestHandler<APIGatewayProxyRequestEvent,
                                 .map(params -> params.get("status"))
                                 .orElse("PENDING"); // Default or list all?
         
-        List<Game> games = gameService.listGames(status.toUpperCase());
-        return response.withStatusCode(200).withBody(gson.toJson(games));
+        PagedResult<Game> games = gameService.listGames(status.toUpperCase(),
+                HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE), HandlerUtils.getPageToken(request));
+        return HandlerUtils.createPageResponse(response, games, Game.class);
     }
 
     private APIGatewayProxyResponseEvent getGame(String gameId, APIGatewayProxyResponseEvent response) throws GameNotFoundException {
@@ -21,9 +21,16 @@ import com.assassin.exception.UnauthorizedException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Player;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.GameService;
 import com.assassin.util.AuthorizationUtils;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.auth0.jwk.JwkException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -39,8 +46,19 @@ import com.google.gson.reflect.TypeToken;
 public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(GameManagementHandler.class);
+
+    static {
+        Priming.register(GameManagementHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.gameService();
+            Priming.primeTables(Game.class, Player.class, GameZoneState.class);
+            Priming.primeJson(Game.class);
+            Priming.primeGeo();
+            AuthorizationUtils.primeVerification();
+        });
+    }
+
     private final GameService gameService;
-    private final Gson gson = new Gson();
+    private final Gson gson = JsonCodecs.gson();
     private static final Type COORDINATE_LIST_TYPE = new TypeToken<List<Coordinate>>() {}.getType();
     private final AuthorizationUtils authorizationUtils;
     
@@ -52,8 +70,8 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
      */
     public GameManagementHandler() {
         // Ideally use dependency injection
-        this.gameService = new GameService();
-        this.authorizationUtils = new AuthorizationUtils();
+        this.gameService = ServiceRegistry.gameService();
+        this.authorizationUtils = ServiceRegistry.authorizationUtils();
     }
 
     /**
@@ -61,7 +79,7 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
      */
     public GameManagementHandler(GameService gameService) {
         this.gameService = gameService;
-        this.authorizationUtils = new AuthorizationUtils();
+        this.authorizationUtils = ServiceRegistry.authorizationUtils();
     }
     
     /**
@@ -74,6 +92,10 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        return HandlerUtils.invoke("GameManagementHandler", input, () -> dispatch(input, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent input, Context context) {
         String httpMethod = input.getHttpMethod();
         String path = input.getPath();
         logger.info("Received Game Management request: Method={}, Path={}", httpMethod, path);
@@ -111,8 +133,9 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
             
             // Process the request now that authorization is confirmed
             try {
-                // Replace Java 21+ switch patterns with if-else if for Java 17
-                if ("POST".equals(httpMethod) && "/admin/games".equals(path)) {
+                Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+                ApiRoute endpoint = route != null ? route.getTarget() : null;
+                if (endpoint == ApiRoute.ADMIN_CREATE_GAME) {
                     // Admin creates a new game
                     Game gameInput = gson.fromJson(input.getBody(), Game.class);
                     if (gameInput == null || gameInput.getGameName() == null || gameInput.getGameName().trim().isEmpty()) {
@@ -121,18 +144,18 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
                     // Use userId (from token) as the admin
                     Game createdGame = gameService.createGame(gameInput.getGameName(), userId);
                     return HandlerUtils.createApiResponse(201, gson.toJson(createdGame));
-                } else if ("POST".equals(httpMethod) && path.matches("/admin/games/[^/]+/start")) {
-                     String gameId = extractGameIdFromPath(path, "/start");
+                } else if (endpoint == ApiRoute.ADMIN_START_GAME) {
+                     String gameId = route.get("gameId");
                      // Admin starts a game - now with validated admin rights
                      gameService.startGameAndAssignTargets(gameId);
                      return HandlerUtils.createApiResponse(200, "{\"message\": \"Game " + gameId + " started successfully\"}");
-                } else if ("POST".equals(httpMethod) && path.matches("/admin/games/[^/]+/end")) {
-                     String gameId = extractGameIdFromPath(path, "/end");
+                } else if (endpoint == ApiRoute.ADMIN_END_GAME) {
+                     String gameId = route.get("gameId");
                      // Admin ends a game
                      gameService.forceEndGame(gameId, userId);
                      return HandlerUtils.createApiResponse(200, "{\"message\": \"Game " + gameId + " ended successfully\"}");
-                } else if ("POST".equals(httpMethod) && path.matches("/admin/games/[^/]+/players")) {
-                     String gameId = extractGameIdFromPath(path, "/players");
+                } else if (endpoint == ApiRoute.ADMIN_ADD_PLAYER) {
+                     String gameId = route.get("gameId");
                      // Admin adds a player to a game
                      AddPlayerRequest addPlayerReq = gson.fromJson(input.getBody(), AddPlayerRequest.class);
                      if (addPlayerReq == null || addPlayerReq.getPlayerId() == null || addPlayerReq.getPlayerId().trim().isEmpty()) {
@@ -142,14 +165,13 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
                      // gameService.adminAddPlayerToGame(gameId, addPlayerReq.getPlayerId(), userId);
                      logger.warn("Admin add player functionality (POST /admin/games/{}/players) not implemented yet.", gameId);
                      return HandlerUtils.createErrorResponse(501, "Admin add player functionality not implemented.");
-                } else if ("DELETE".equals(httpMethod) && path.matches("/admin/games/[^/]+/players/[^/]+$")) {
-                     String[] parts = path.split("/");
-                     String gameId = parts[3];
-                     String playerIdToRemove = parts[5];
+                } else if (endpoint == ApiRoute.ADMIN_REMOVE_PLAYER) {
+                     String gameId = route.get("gameId");
+                     String playerIdToRemove = route.get("playerId");
                      // Admin removes a player from a game
                      gameService.removePlayerFromGame(gameId, playerIdToRemove, userId);
                      return HandlerUtils.createApiResponse(200, "{\"message\": \"Player " + playerIdToRemove + " removed from game " + gameId + "\"}");
-                } else if ("PUT".equals(httpMethod) && path.matches("/games/[^/]+/boundary")) {
+                } else if (endpoint == ApiRoute.UPDATE_GAME_BOUNDARY) {
                     // Added handler for the boundary update endpoint
                     return updateBoundary(input, userId);
                 } else {
@@ -230,24 +252,6 @@ public class GameManagementHandler implements RequestHandler<APIGatewayProxyRequ
         }
     }
 
-    private String getGameIdFromPath(String path) {
-        // Extracts gameId from paths like /games/{gameId}/boundary
-        String[] parts = path.split("/");
-        if (parts.length >= 3 && "games".equals(parts[1])) {
-            return parts[2];
-        }
-        return null;
-    }
-
-    private String extractGameIdFromPath(String path, String suffix) {
-        // Extracts gameId from paths like /admin/games/{gameId}/start
-        String[] parts = path.split("/");
-        if (parts.length >= 3 && "admin".equals(parts[1]) && "games".equals(parts[2])) {
-            return parts[3];
-        }
-        return null;
-    }
-    
     // Inner class for parsing player addition requests
     private static class AddPlayerRequest {
         private String playerId;
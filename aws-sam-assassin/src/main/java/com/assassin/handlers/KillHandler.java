@@ -12,6 +12,7 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.PagedResult;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.KillNotFoundException;
 import com.assassin.exception.PersistenceException;
@@ -19,11 +20,22 @@ import com.assassin.exception.PlayerActionNotAllowedException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.SafeZoneException;
 import com.assassin.exception.ValidationException;
+import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
+import com.assassin.model.GameRoster;
 import com.assassin.model.Kill;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
+import com.assassin.service.GameEventService;
 import com.assassin.service.KillService;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 
@@ -33,21 +45,42 @@ import com.google.gson.reflect.TypeToken;
 public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(KillHandler.class);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(KillHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.killService();
+            Priming.primeTables(Kill.class, Player.class, Game.class, Notification.class, RecentKillFeed.class, GameEvent.class,
+                    GameRoster.class);
+            Priming.primeJson(Kill.class, Notification.class, GameEvent.class);
+            Priming.primeGeo();
+            Priming.primeProximityCache();
+        });
+    }
+
+    private static final String SINCE_PARAM = "since";
+
     private final KillService killService;
+    private final GameEventService gameEventService;
 
-    // Default constructor initializes the service
+    // Default constructor initializes the services
     public KillHandler() {
-        this.killService = new KillService();
+        this.killService = ServiceRegistry.killService();
+        this.gameEventService = ServiceRegistry.gameEventService();
     }
 
     // Constructor for dependency injection (testing)
-    public KillHandler(KillService killService) {
+    public KillHandler(KillService killService, GameEventService gameEventService) {
         this.killService = killService;
+        this.gameEventService = gameEventService;
     }
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("KillHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         logger.info("Received kill request: Method={}, Path={}", request.getHttpMethod(), request.getPath());
         
         String httpMethod = request.getHttpMethod();
@@ -64,22 +97,30 @@ public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent,
             }
             
             // Route to appropriate handler method
-            if ("POST".equals(httpMethod) && ("/die".equals(path) || "/kills".equals(path))) {
-                return reportKill(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/kills/killer/.*")) {
-                return getKillsByKiller(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/kills/victim/.*")) {
-                return getKillsByVictim(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/kills/recent.*?")) {
-                return getRecentKills(request, response);
-            } else if ("POST".equals(httpMethod) && path.matches("/kills/.+/.+/verify")) {
-                return verifyKill(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/games/.+/timeline")) {
-                return getGameTimeline(request, response);
-            } else {
-                return response.withStatusCode(404)
-                        .withBody(gson.toJson(Map.of("message", "Route not found: " + path)));
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case REPORT_KILL:
+                    case REPORT_DEATH:
+                        return reportKill(request, response);
+                    case KILLS_BY_KILLER:
+                        return getKillsByKiller(request, response);
+                    case KILLS_BY_VICTIM:
+                        return getKillsByVictim(request, response);
+                    case RECENT_KILLS:
+                        return getRecentKills(request, response);
+                    case VERIFY_KILL:
+                        return verifyKill(request, response);
+                    case GAME_TIMELINE:
+                        return getGameTimeline(request, response);
+                    case GAME_EVENTS:
+                        return getGameEvents(request, response, route.get("gameID"));
+                    default:
+                        break;
+                }
             }
+            return response.withStatusCode(404)
+                    .withBody(gson.toJson(Map.of("message", "Route not found: " + path)));
         } catch (ValidationException e) {
             logger.warn("Validation error: {}", e.getMessage());
             return response.withStatusCode(400).withBody(gson.toJson(Map.of("message", "Validation error: " + e.getMessage())));
@@ -163,11 +204,12 @@ public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent,
                     .withBody(gson.toJson(Map.of("message", "Missing killerID parameter")));
         }
         
-        // Get kills by killer
-        List<Kill> kills = killService.getKillsByKiller(killerId);
+        // Get one page of kills by killer
+        PagedResult<Kill> kills = killService.getKillsByKiller(killerId,
+                HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE), HandlerUtils.getPageToken(request));
         
-        // Return the list of kills
-        return response.withStatusCode(200).withBody(gson.toJson(kills));
+        // Return the page of kills
+        return HandlerUtils.createPageResponse(response, kills, Kill.class);
     }
     
     private APIGatewayProxyResponseEvent getKillsByVictim(APIGatewayProxyRequestEvent request, APIGatewayProxyResponseEvent response) {
@@ -180,11 +222,12 @@ public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent,
                     .withBody(gson.toJson(Map.of("message", "Missing victimID parameter")));
         }
         
-        // Get kills by victim
-        List<Kill> kills = killService.getKillsByVictim(victimId);
+        // Get one page of kills by victim
+        PagedResult<Kill> kills = killService.getKillsByVictim(victimId,
+                HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE), HandlerUtils.getPageToken(request));
         
-        // Return the list of kills
-        return response.withStatusCode(200).withBody(gson.toJson(kills));
+        // Return the page of kills
+        return HandlerUtils.createPageResponse(response, kills, Kill.class);
     }
     
     private APIGatewayProxyResponseEvent getRecentKills(APIGatewayProxyRequestEvent request, APIGatewayProxyResponseEvent response) {
@@ -203,11 +246,17 @@ public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent,
             }
         }
         
-        logger.info("Getting recent kills with limit: {}", limit);
+        // Optional gameId narrows the feed to one game
+        String gameId = queryParams != null ? queryParams.get("gameId") : null;
+        if (gameId != null && gameId.trim().isEmpty()) {
+            gameId = null;
+        }
+        
+        logger.info("Getting recent kills for game {} with limit: {}", gameId, limit);
         
         try {
             // Get recent kills
-            List<Kill> kills = killService.findRecentKills(limit);
+            List<Kill> kills = killService.findRecentKills(gameId, limit);
             
             // Return the list of kills
             return response.withStatusCode(200).withBody(gson.toJson(kills));
@@ -250,6 +299,35 @@ public class KillHandler implements RequestHandler<APIGatewayProxyRequestEvent,
         return response.withStatusCode(200).withBody(gson.toJson(updatedKill));
     }
 
+    /**
+     * Returns the events of a game after the {@code since} sequence number, so a reconnecting client can catch
+     * up without reloading the game. The body holds the events, the sequence number to pass as {@code since}
+     * next time, and the game's latest sequence number.
+     */
+    private APIGatewayProxyResponseEvent getGameEvents(APIGatewayProxyRequestEvent request, APIGatewayProxyResponseEvent response,
+                                                       String gameId) throws ValidationException {
+        Map<String, String> queryParams = request.getQueryStringParameters();
+        String sinceParam = queryParams != null ? queryParams.get(SINCE_PARAM) : null;
+        long since = 0;
+        if (sinceParam != null && !sinceParam.isEmpty()) {
+            try {
+                since = Long.parseLong(sinceParam.trim());
+            } catch (NumberFormatException e) {
+                throw new ValidationException("since must be a number: " + sinceParam);
+            }
+        }
+        int limit = HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE);
+
+        List<GameEvent> events = gameEventService.readSince(gameId, since, limit);
+        long nextSince = events.isEmpty() ? since : events.get(events.size() - 1).getSeq();
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("events", events);
+        body.put("nextSince", nextSince);
+        body.put("latestSeq", gameEventService.getLatestSeq(gameId));
+        return response.withStatusCode(200).withBody(gson.toJson(body));
+    }
+
     private APIGatewayProxyResponseEvent getGameTimeline(APIGatewayProxyRequestEvent request, APIGatewayProxyResponseEvent response) {
         Map<String, String> pathParams = request.getPathParameters();
         String gameId = pathParams.get("gameID");
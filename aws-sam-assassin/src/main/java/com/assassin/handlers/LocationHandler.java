@@ -14,11 +14,19 @@ import com.assassin.exception.InvalidLocationException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.PlayerPersistenceException;
 import com.assassin.exception.ValidationException;
+import com.assassin.model.Game;
 import com.assassin.model.LocationUpdateInput;
+import com.assassin.model.LocationUpdateResponse;
+import com.assassin.model.Player;
+import com.assassin.model.SafeZone;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.LocationService;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * Handles incoming requests related to player location updates.
@@ -26,11 +34,22 @@ import com.google.gson.GsonBuilder;
 public class LocationHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(LocationHandler.class);
-    private static final Gson gson = new GsonBuilder().create(); // No pretty printing for efficiency
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(LocationHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.locationService();
+            Priming.primeTables(Player.class, Game.class, SafeZone.class);
+            Priming.primeJson(LocationUpdateInput.class, Player.class);
+            Priming.primeGeo();
+            Priming.primeProximityCache();
+        });
+    }
+
     private final LocationService locationService;
 
     public LocationHandler() {
-        this(new LocationService());
+        this(ServiceRegistry.locationService());
     }
 
     // Constructor for dependency injection
@@ -40,6 +59,10 @@ public class LocationHandler implements RequestHandler<APIGatewayProxyRequestEve
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("LocationHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         String httpMethod = request.getHttpMethod();
         String path = request.getPath();
         APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent()
@@ -49,14 +72,14 @@ public class LocationHandler implements RequestHandler<APIGatewayProxyRequestEve
 
         try {
             // Currently only handles POST /location
-            if ("POST".equals(httpMethod) && "/location".equals(path)) {
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null && route.getTarget() == ApiRoute.UPDATE_LOCATION) {
                 return updateLocation(request, response);
-            } else {
-                logger.warn("Route not found in LocationHandler: {} {}", httpMethod, path);
-                return response
-                        .withStatusCode(404)
-                        .withBody(gson.toJson(Map.of("message", "Route not found")));
             }
+            logger.warn("Route not found in LocationHandler: {} {}", httpMethod, path);
+            return response
+                    .withStatusCode(404)
+                    .withBody(gson.toJson(Map.of("message", "Route not found")));
         } catch (ValidationException | IllegalArgumentException | com.google.gson.JsonSyntaxException e) {
             logger.warn("Invalid input processing location request: {}", e.getMessage());
             return response
@@ -111,7 +134,7 @@ public class LocationHandler implements RequestHandler<APIGatewayProxyRequestEve
 
             // 3. Delegate to LocationService
             // LocationService handles fetching player/game, validation, boundary checks, and persistence.
-            locationService.updatePlayerLocation(
+            LocationUpdateResponse updateResponse = locationService.reportLocation(
                 playerId,
                 locationInput.getLatitude(),
                 locationInput.getLongitude(),
@@ -120,9 +143,10 @@ public class LocationHandler implements RequestHandler<APIGatewayProxyRequestEve
 
             logger.info("Successfully processed location update for player ID: {}", playerId);
 
-            // 4. Return Success Response (No Content or minimal confirmation)
+            // 4. Return the recommended interval so clients adapt their reporting cadence
             return response
-                    .withStatusCode(204); // 204 No Content is appropriate for updates with no body needed
+                    .withStatusCode(200)
+                    .withBody(gson.toJson(updateResponse));
 
         } catch (com.google.gson.JsonSyntaxException e) {
             logger.warn("Failed to parse location update JSON for player {}: {}", playerId, e.getMessage());
@@ -1,6 +1,5 @@
 package com.assassin.handlers;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -11,12 +10,17 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.PagedResult;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Notification;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.NotificationService;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * Handles API Gateway requests related to notifications.
@@ -24,14 +28,25 @@ import com.google.gson.GsonBuilder;
 public class NotificationHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationHandler.class);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson gson = JsonCodecs.gson();
+    // Page size of a player's notifications when the request gives no limit
+    private static final int DEFAULT_NOTIFICATION_PAGE_SIZE = 50;
+
+    static {
+        Priming.register(NotificationHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.notificationService();
+            Priming.primeTables(Notification.class);
+            Priming.primeJson(Notification.class);
+        });
+    }
+
     private final NotificationService notificationService;
 
     /**
      * Default constructor, initializes service.
      */
     public NotificationHandler() {
-        this.notificationService = new NotificationService();
+        this.notificationService = ServiceRegistry.notificationService();
     }
 
     /**
@@ -51,35 +66,44 @@ public class NotificationHandler implements RequestHandler<APIGatewayProxyReques
      * @return API Gateway response with appropriate status code and body
      */
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("NotificationHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         logger.info("Processing notification request: Method={}, Path={}", request.getHttpMethod(), request.getPath());
         String path = request.getPath();
         String httpMethod = request.getHttpMethod();
         
         try {
             // Route based on path and HTTP method
-            if (path.matches("/notifications") && "POST".equals(httpMethod)) {
-                return createNotification(request);
-            } else if (path.matches("/notifications/player/[^/]+") && "GET".equals(httpMethod)) {
-                String playerId = path.substring("/notifications/player/".length());
-                Map<String, String> queryParams = request.getQueryStringParameters();
-                String sinceTimestamp = queryParams != null ? queryParams.get("since") : null;
-                int limit = queryParams != null && queryParams.containsKey("limit") ? 
-                            Integer.parseInt(queryParams.get("limit")) : 50;
-                
-                return getPlayerNotifications(playerId, sinceTimestamp, limit);
-            } else if (path.matches("/notifications/[^/]+") && "GET".equals(httpMethod)) {
-                String notificationId = getNotificationIdFromPath(path);
-                String recipientId = request.getQueryStringParameters() != null ? 
-                                    request.getQueryStringParameters().get("recipientId") : null;
-                
-                if (recipientId == null || recipientId.isEmpty()) {
-                    return HandlerUtils.createErrorResponse(400, "Required query parameter 'recipientId' is missing");
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case SEND_NOTIFICATION:
+                        return createNotification(request);
+                    case PLAYER_NOTIFICATIONS: {
+                        Map<String, String> queryParams = request.getQueryStringParameters();
+                        String sinceTimestamp = queryParams != null ? queryParams.get("since") : null;
+                        int limit = HandlerUtils.getPageSize(request, DEFAULT_NOTIFICATION_PAGE_SIZE);
+                        
+                        return getPlayerNotifications(route.get("playerId"), sinceTimestamp, limit,
+                                                      HandlerUtils.getPageToken(request));
+                    }
+                    case GET_NOTIFICATION: {
+                        String recipientId = request.getQueryStringParameters() != null ? 
+                                            request.getQueryStringParameters().get("recipientId") : null;
+                        
+                        if (recipientId == null || recipientId.isEmpty()) {
+                            return HandlerUtils.createErrorResponse(400, "Required query parameter 'recipientId' is missing");
+                        }
+                        
+                        return getNotification(recipientId, route.get("notificationId"));
+                    }
+                    default:
+                        break;
                 }
-                
-                return getNotification(recipientId, notificationId);
-            } else {
-                return HandlerUtils.createErrorResponse(404, "Route not found");
             }
+            return HandlerUtils.createErrorResponse(404, "Route not found");
         } catch (ValidationException e) {
             logger.warn("Validation error: {}", e.getMessage());
             return HandlerUtils.createErrorResponse(400, e.getMessage());
@@ -133,14 +157,16 @@ public class NotificationHandler implements RequestHandler<APIGatewayProxyReques
     }
     
     /**
-     * Gets notifications for a specific player.
+     * Gets one page of notifications for a specific player.
      *
      * @param playerId the ID of the player to retrieve notifications for
      * @param sinceTimestamp retrieve notifications after this timestamp (optional)
-     * @param limit maximum number of notifications to retrieve
-     * @return the API Gateway response with a list of notifications
+     * @param limit maximum number of notifications on the page
+     * @param pageToken the previous page's next page token, or null for the first page
+     * @return the API Gateway response with a page of notifications
      */
-    private APIGatewayProxyResponseEvent getPlayerNotifications(String playerId, String sinceTimestamp, int limit) {
+    private APIGatewayProxyResponseEvent getPlayerNotifications(String playerId, String sinceTimestamp, int limit,
+                                                                String pageToken) {
         logger.info("Getting notifications for player: {}, since: {}, limit: {}", 
                    playerId, sinceTimestamp != null ? sinceTimestamp : "beginning", limit);
         
@@ -149,8 +175,11 @@ public class NotificationHandler implements RequestHandler<APIGatewayProxyReques
         }
         
         try {
-            List<Notification> notifications = notificationService.getNotificationsForPlayer(playerId, sinceTimestamp, limit);
-            return HandlerUtils.createApiResponse(200, gson.toJson(notifications));
+            PagedResult<Notification> notifications =
+                    notificationService.getNotificationsForPlayer(playerId, sinceTimestamp, limit, pageToken);
+            return HandlerUtils.createPageResponse(HandlerUtils.createApiResponse(200, null), notifications, Notification.class);
+        } catch (ValidationException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error retrieving notifications for player: {}", e.getMessage(), e);
             return HandlerUtils.createErrorResponse(500, "Error retrieving notifications: " + e.getMessage());
@@ -180,14 +209,4 @@ public class NotificationHandler implements RequestHandler<APIGatewayProxyReques
             return HandlerUtils.createErrorResponse(500, "Error retrieving notification: " + e.getMessage());
         }
     }
-    
-    /**
-     * Extracts the notification ID from the path.
-     *
-     * @param path the API Gateway path
-     * @return the notification ID
-     */
-    private String getNotificationIdFromPath(String path) {
-        return path.substring("/notifications/".length());
-    }
 } 
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.assassin.handlers;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -11,14 +10,18 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import com.assassin.dao.DynamoDbPlayerDao;
+import com.assassin.dao.PagedResult;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Player;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * Handler for player management operations.
@@ -27,14 +30,23 @@ import com.google.gson.GsonBuilder;
 public class PlayerHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerHandler.class);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(PlayerHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.playerDao();
+            Priming.primeTables(Player.class);
+            Priming.primeJson(Player.class);
+        });
+    }
+
     private final PlayerDao playerDao;
     
     /**
      * Default constructor, initializes DAO.
      */
     public PlayerHandler() {
-        this.playerDao = new DynamoDbPlayerDao();
+        this.playerDao = ServiceRegistry.playerDao();
     }
     
     /**
@@ -55,6 +67,10 @@ public class PlayerHandler implements RequestHandler<APIGatewayProxyRequestEvent
      */
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("PlayerHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         logger.info("Received player request: Method={}, Path={}", request.getHttpMethod(), request.getPath());
         String path = request.getPath();
         String httpMethod = request.getHttpMethod();
@@ -64,33 +80,40 @@ public class PlayerHandler implements RequestHandler<APIGatewayProxyRequestEvent
         
         try {
             // Route based on path and HTTP method
-            if ("/players".equals(path) && "GET".equals(httpMethod)) {
-                return getAllPlayers(response);
-            } else if ("/players".equals(path) && "POST".equals(httpMethod)) {
-                return createPlayer(request, response);
-            } else if (path.matches("/players/me/target") && "GET".equals(httpMethod)) {
-                return getMyTarget(request, response);
-            } else if (path.matches("/players/me") && "GET".equals(httpMethod)) {
-                return getMe(request, response);
-            } else if (path.matches("/players/[^/]+") && "GET".equals(httpMethod)) {
-                String playerId = getResourceIdFromPath(path);
-                return getPlayer(playerId, response);
-            } else if (path.matches("/players/[^/]+") && "PUT".equals(httpMethod)) {
-                String playerId = getResourceIdFromPath(path);
-                return updatePlayer(playerId, request, response);
-            } else if (path.matches("/players/[^/]+") && "DELETE".equals(httpMethod)) {
-                String playerId = getResourceIdFromPath(path);
-                return deletePlayer(playerId, response);
-            } else {
-                return response
-                        .withStatusCode(404)
-                        .withBody(gson.toJson(Map.of("message", "Route not found")));
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case LIST_PLAYERS:
+                        return getAllPlayers(request, response);
+                    case CREATE_PLAYER:
+                        return createPlayer(request, response);
+                    case GET_MY_TARGET:
+                        return getMyTarget(request, response);
+                    case GET_ME:
+                        return getMe(request, response);
+                    case GET_PLAYER:
+                        return getPlayer(route.get("playerId"), response);
+                    case UPDATE_PLAYER:
+                        return updatePlayer(route.get("playerId"), request, response);
+                    case DELETE_PLAYER:
+                        return deletePlayer(route.get("playerId"), response);
+                    default:
+                        break;
+                }
             }
+            return response
+                    .withStatusCode(404)
+                    .withBody(gson.toJson(Map.of("message", "Route not found")));
         } catch (PlayerNotFoundException e) {
             logger.warn("Player operation failed: {}", e.getMessage());
             return response
                     .withStatusCode(404)
                     .withBody(gson.toJson(Map.of("message", e.getMessage())));
+        } catch (ValidationException e) {
+            logger.warn("Invalid player request: {}", e.getMessage());
+            return response
+                    .withStatusCode(400)
+                    .withBody(gson.toJson(Map.of("message", e.getMessage())));
         } catch (Exception e) {
             logger.error("Error processing player request: {}", e.getMessage(), e);
             return response
@@ -100,18 +123,19 @@ public class PlayerHandler implements RequestHandler<APIGatewayProxyRequestEvent
     }
     
     /**
-     * Handles GET /players request to retrieve all players.
+     * Handles GET /players request to retrieve one page of all players.
+     * Accepts {@code limit} and {@code pageToken} query parameters.
      *
+     * @param request the API Gateway request
      * @param response the API Gateway response object
      * @return the completed API Gateway response
      */
-    private APIGatewayProxyResponseEvent getAllPlayers(APIGatewayProxyResponseEvent response) {
-        logger.info("Getting all players");
-        List<Player> players = playerDao.getAllPlayers(); // Now calls the implemented DAO method
+    private APIGatewayProxyResponseEvent getAllPlayers(APIGatewayProxyRequestEvent request, APIGatewayProxyResponseEvent response) {
+        logger.info("Getting a page of players");
+        PagedResult<Player> players = playerDao.getAllPlayers(
+                HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE), HandlerUtils.getPageToken(request));
         
-        return response
-                .withStatusCode(200)
-                .withBody(gson.toJson(players));
+        return HandlerUtils.createPageResponse(response, players, Player.class);
     }
     
     /**
@@ -256,14 +280,4 @@ public class PlayerHandler implements RequestHandler<APIGatewayProxyRequestEvent
                     .withBody(gson.toJson(Map.of("message", "Internal Server Error")));
         }
     }
-    
-    // Helper to extract resource ID from path like /resource/{id}
-    private String getResourceIdFromPath(String path) {
-        try {
-            return path.substring(path.lastIndexOf('/') + 1);
-        } catch (Exception e) {
-            logger.error("Could not extract resource ID from path: {}", path, e);
-            throw new IllegalArgumentException("Invalid resource path format");
-        }
-    }
 } 
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.assassin.handlers;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -11,25 +10,41 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.PagedResult;
 import com.assassin.exception.PersistenceException;
 import com.assassin.exception.SafeZoneNotFoundException;
 import com.assassin.exception.UnauthorizedException;
 import com.assassin.exception.ValidationException;
+import com.assassin.model.Coordinate;
 import com.assassin.model.SafeZone;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.service.SafeZoneService;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
 public class SafeZoneHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(SafeZoneHandler.class);
-    private static final Gson gson = new GsonBuilder().create();
+    private static final Gson gson = JsonCodecs.gson();
+
+    static {
+        Priming.register(SafeZoneHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.safeZoneService();
+            Priming.primeTables(SafeZone.class);
+            Priming.primeJson(SafeZone.class, Coordinate.class);
+            Priming.primeGeo();
+        });
+    }
+
     private final SafeZoneService safeZoneService;
 
     public SafeZoneHandler() {
-        this(new SafeZoneService());
+        this(ServiceRegistry.safeZoneService());
     }
 
     // Constructor for dependency injection
@@ -39,6 +54,10 @@ public class SafeZoneHandler implements RequestHandler<APIGatewayProxyRequestEve
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+        return HandlerUtils.invoke("SafeZoneHandler", request, () -> dispatch(request, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent request, Context context) {
         String httpMethod = request.getHttpMethod();
         String path = request.getPath();
         APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent()
@@ -48,20 +67,25 @@ public class SafeZoneHandler implements RequestHandler<APIGatewayProxyRequestEve
 
         try {
             // Routing
-            if ("POST".equals(httpMethod) && path.matches("/games/[^/]+/safezones")) {
-                return createSafeZone(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/games/[^/]+/safezones")) {
-                return getSafeZonesByGame(request, response);
-            } else if ("GET".equals(httpMethod) && path.matches("/safezones/[^/]+")) {
-                return getSafeZoneById(request, response);
-            } else if ("PUT".equals(httpMethod) && path.matches("/safezones/[^/]+")) {
-                return updateSafeZone(request, response);
-            } else if ("DELETE".equals(httpMethod) && path.matches("/safezones/[^/]+")) {
-                 return deleteSafeZone(request, response);
-            } else {
-                logger.warn("Route not found in SafeZoneHandler: {} {}", httpMethod, path);
-                return response.withStatusCode(404).withBody(gson.toJson(Map.of("message", "Route not found")));
+            Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+            if (route != null) {
+                switch (route.getTarget()) {
+                    case CREATE_SAFE_ZONE:
+                        return createSafeZone(request, response);
+                    case LIST_SAFE_ZONES:
+                        return getSafeZonesByGame(request, response);
+                    case GET_SAFE_ZONE:
+                        return getSafeZoneById(request, response);
+                    case UPDATE_SAFE_ZONE:
+                        return updateSafeZone(request, response);
+                    case DELETE_SAFE_ZONE:
+                        return deleteSafeZone(request, response);
+                    default:
+                        break;
+                }
             }
+            logger.warn("Route not found in SafeZoneHandler: {} {}", httpMethod, path);
+            return response.withStatusCode(404).withBody(gson.toJson(Map.of("message", "Route not found")));
         } catch (ValidationException e) {
             logger.warn("Validation error processing safe zone request: {}", e.getMessage());
             return response.withStatusCode(400).withBody(gson.toJson(Map.of("message", e.getMessage())));
@@ -107,8 +131,9 @@ public class SafeZoneHandler implements RequestHandler<APIGatewayProxyRequestEve
         if (gameId == null || gameId.isEmpty()) {
             return response.withStatusCode(400).withBody(gson.toJson(Map.of("message", "Missing gameId path parameter")));
         }
-        List<SafeZone> safeZones = safeZoneService.getSafeZonesForGame(gameId);
-        return response.withStatusCode(200).withBody(gson.toJson(safeZones));
+        PagedResult<SafeZone> safeZones = safeZoneService.getSafeZonesForGame(gameId,
+                HandlerUtils.getPageSize(request, HandlerUtils.DEFAULT_PAGE_SIZE), HandlerUtils.getPageToken(request));
+        return HandlerUtils.createPageResponse(response, safeZones, SafeZone.class);
     }
 
     // GET /safezones/{safeZoneId}
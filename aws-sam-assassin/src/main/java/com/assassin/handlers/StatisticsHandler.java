@@ -11,16 +11,20 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbKillDao;
-import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.KillDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.model.Game;
+import com.assassin.model.Kill;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStats;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
 
 /**
@@ -30,16 +34,27 @@ public class StatisticsHandler implements RequestHandler<APIGatewayProxyRequestE
 
     private static final Logger logger = LoggerFactory.getLogger(StatisticsHandler.class);
     private static final int DEFAULT_LEADERBOARD_LIMIT = 10; // Default number of players to show
+
+    static {
+        Priming.register(StatisticsHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.playerDao();
+            ServiceRegistry.killDao();
+            ServiceRegistry.gameDao();
+            Priming.primeTables(Player.class, Kill.class, Game.class);
+            Priming.primeJson(PlayerStats.class);
+        });
+    }
+
     private final PlayerDao playerDao;
     private final KillDao killDao; // Add KillDao
     private final GameDao gameDao; // Add GameDao
-    private final Gson gson = new Gson();
+    private final Gson gson = JsonCodecs.gson();
 
     public StatisticsHandler() {
         // Use constructor injection if using a framework, otherwise instantiate directly
-        this.playerDao = new DynamoDbPlayerDao();
-        this.killDao = new DynamoDbKillDao(); // Instantiate KillDao
-        this.gameDao = new DynamoDbGameDao(); // Instantiate GameDao
+        this.playerDao = ServiceRegistry.playerDao();
+        this.killDao = ServiceRegistry.killDao();
+        this.gameDao = ServiceRegistry.gameDao();
     }
 
     // Constructor for dependency injection/testing
@@ -51,19 +66,24 @@ public class StatisticsHandler implements RequestHandler<APIGatewayProxyRequestE
 
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        return HandlerUtils.invoke("StatisticsHandler", input, () -> dispatch(input, context));
+    }
+
+    private APIGatewayProxyResponseEvent dispatch(APIGatewayProxyRequestEvent input, Context context) {
         String httpMethod = input.getHttpMethod();
         String path = input.getPath();
         logger.info("Received {} request for path: {}", httpMethod, path);
 
         // Route based on path
-        if ("GET".equalsIgnoreCase(httpMethod)) {
-            if (path.endsWith("/leaderboard/kills")) {
-                return getKillsLeaderboard(input);
-            } else if (path.matches(".*/stats/player/[^/]+$")) { // Match /stats/player/{playerId}
-                 // Extract playerId from path
-                String[] pathParts = path.split("/");
-                String playerId = pathParts[pathParts.length - 1];
-                return getPlayerStatistics(playerId);
+        Router.Match<ApiRoute> route = ApiRoute.match(httpMethod, path);
+        if (route != null) {
+            switch (route.getTarget()) {
+                case KILL_LEADERBOARD:
+                    return getKillsLeaderboard(input);
+                case PLAYER_STATS:
+                    return getPlayerStatistics(route.get("playerId"));
+                default:
+                    break;
             }
         }
         
@@ -3,63 +3,117 @@ package com.assassin.handlers;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.assassin.dao.DaoAccounting;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.GameZoneStateDao;
 import com.assassin.dao.PlayerDao;
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbPlayerDao;
-import com.assassin.dao.DynamoDbGameZoneStateDao;
+import com.assassin.metrics.JfrEvents;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Game;
+import com.assassin.model.GameRoster;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Notification;
 import com.assassin.model.Player;
+import com.assassin.service.GameTickProcessor;
+import com.assassin.service.GameTickProcessor.PlayerSnapshot;
+import com.assassin.service.GameTickProcessor.TickResult;
 import com.assassin.service.PlayerStatusService;
 import com.assassin.service.ShrinkingZoneService;
+import com.assassin.service.TickEventDispatcher;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Lambda handler triggered by a CloudWatch Scheduled Event to update game zone states
  * and apply out-of-zone damage periodically.
+ * Each game is evaluated with a single {@link GameTickProcessor} tick, so the roster and
+ * zone state are loaded once per game rather than once per player. The tick's events are
+ * sent to the players as one batch through the {@link TickEventDispatcher}.
  */
 public class ZoneUpdateHandler implements RequestHandler<ScheduledEvent, String> {
 
     private static final Logger logger = LoggerFactory.getLogger(ZoneUpdateHandler.class);
     private static final String SHRINKING_ZONE_CONFIG_KEY = "shrinkingZoneConfig"; // Key to identify shrinking zone games
 
+    static {
+        Priming.register(ZoneUpdateHandler.class.getSimpleName(), () -> {
+            ServiceRegistry.gameTickProcessor();
+            ServiceRegistry.tickEventDispatcher();
+            Priming.primeTables(Game.class, Player.class, GameZoneState.class, GameRoster.class, Notification.class);
+            Priming.primeGeo();
+        });
+    }
+
     private final GameDao gameDao;
     private final PlayerDao playerDao;
     private final GameZoneStateDao gameZoneStateDao;
     private final ShrinkingZoneService shrinkingZoneService;
     private final PlayerStatusService playerStatusService;
+    private final GameTickProcessor gameTickProcessor;
+    private final TickEventDispatcher tickEventDispatcher;
+    private final TimeSource timeSource;
 
     /**
      * Default constructor initializing dependencies.
      */
     public ZoneUpdateHandler() {
-        // Instantiate DAOs directly
-        this.gameDao = new DynamoDbGameDao();
-        this.playerDao = new DynamoDbPlayerDao();
-        this.gameZoneStateDao = new DynamoDbGameZoneStateDao();
-        this.shrinkingZoneService = new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao);
-        this.playerStatusService = new PlayerStatusService(playerDao, shrinkingZoneService, gameDao);
+        // Share the container-wide DAOs and services
+        this.gameDao = ServiceRegistry.gameDao();
+        this.playerDao = ServiceRegistry.playerDao();
+        this.gameZoneStateDao = ServiceRegistry.gameZoneStateDao();
+        this.shrinkingZoneService = ServiceRegistry.shrinkingZoneService();
+        this.playerStatusService = ServiceRegistry.playerStatusService();
+        this.gameTickProcessor = ServiceRegistry.gameTickProcessor();
+        this.tickEventDispatcher = ServiceRegistry.tickEventDispatcher();
+        this.timeSource = ServiceRegistry.timeSource();
     }
 
     /**
      * Constructor for dependency injection (testing).
      */
     public ZoneUpdateHandler(GameDao gameDao, PlayerDao playerDao, GameZoneStateDao gameZoneStateDao,
-                           ShrinkingZoneService shrinkingZoneService, PlayerStatusService playerStatusService) {
+                           ShrinkingZoneService shrinkingZoneService, PlayerStatusService playerStatusService,
+                           GameTickProcessor gameTickProcessor, TickEventDispatcher tickEventDispatcher) {
+        this(gameDao, playerDao, gameZoneStateDao, shrinkingZoneService, playerStatusService, gameTickProcessor,
+             tickEventDispatcher, TimeSource.system());
+    }
+
+    /**
+     * Constructor for dependency injection with an explicit clock (simulation).
+     */
+    public ZoneUpdateHandler(GameDao gameDao, PlayerDao playerDao, GameZoneStateDao gameZoneStateDao,
+                           ShrinkingZoneService shrinkingZoneService, PlayerStatusService playerStatusService,
+                           GameTickProcessor gameTickProcessor, TickEventDispatcher tickEventDispatcher,
+                           TimeSource timeSource) {
         this.gameDao = Objects.requireNonNull(gameDao);
         this.playerDao = Objects.requireNonNull(playerDao);
         this.gameZoneStateDao = Objects.requireNonNull(gameZoneStateDao);
         this.shrinkingZoneService = Objects.requireNonNull(shrinkingZoneService);
         this.playerStatusService = Objects.requireNonNull(playerStatusService);
+        this.gameTickProcessor = Objects.requireNonNull(gameTickProcessor);
+        this.tickEventDispatcher = Objects.requireNonNull(tickEventDispatcher);
+        this.timeSource = Objects.requireNonNull(timeSource);
     }
 
     @Override
     public String handleRequest(ScheduledEvent event, Context context) {
+        long start = System.nanoTime();
+        try (DaoAccounting.Scope accounting = DaoAccounting.begin("ZoneUpdateHandler")) {
+            return updateZones(event, context);
+        } finally {
+            Metrics.recordLatency("ZoneUpdateHandler.updateZones", System.nanoTime() - start);
+            Metrics.flush();
+        }
+    }
+
+    private String updateZones(ScheduledEvent event, Context context) {
         logger.info("Received scheduled event: {}. Starting zone update process.", event.getId());
         int gamesProcessed = 0;
         int playersChecked = 0;
@@ -82,30 +136,46 @@ public class ZoneUpdateHandler implements RequestHandler<ScheduledEvent, String>
                 String gameId = game.getGameID();
                 logger.info("Processing game: {}", gameId);
                 gamesProcessed++;
+                JfrEvents.ZoneTick tickEvent = JfrEvents.begin(JfrEvents.ZoneTick::new);
+                int playersCheckedBefore = playersChecked;
+                int damageAppliedBefore = damageAppliedCount;
+                int playerCount = 0;
+                boolean zoneActive = false;
 
                 try {
                     // 2. Advance the zone state for the game
-                    shrinkingZoneService.advanceZoneState(gameId);
+                    GameZoneState zoneState = shrinkingZoneService.advanceZoneState(gameId).orElse(null);
                     logger.debug("Advanced zone state for game {}.", gameId);
 
-                    // 3. Find active players in this game
-                    // TODO: Need an efficient way to query players by gameId and status=ACTIVE
-                    // Filtering in memory is inefficient.
-                    List<Player> playersInGame = playerDao.getPlayersByGameId(gameId); // Assuming this exists
-                    logger.debug("Found {} players potentially in game {}. Filtering for ACTIVE.", playersInGame.size(), gameId);
-                    
-                    for (Player player : playersInGame) {
-                        if (!"ACTIVE".equalsIgnoreCase(player.getStatus())) {
+                    // 3. Evaluate the whole roster in a single tick
+                    Instant now = timeSource.now();
+                    TickResult tick = gameTickProcessor.processTick(game, zoneState, now.toEpochMilli());
+                    PlayerSnapshot snapshot = tick.getSnapshot();
+                    playerCount = snapshot.size();
+                    logger.debug("Tick for game {} covered {} players and produced {} events.",
+                                 gameId, snapshot.size(), tick.getEvents().size());
+                    tickEventDispatcher.dispatch(tick);
+                    if (tick.getZoneState() == null) {
+                        continue; // No active zone, nothing to damage
+                    }
+                    zoneActive = true;
+
+                    for (int i = 0; i < snapshot.size(); i++) {
+                        if (!snapshot.isAlive(i)) {
                             continue; // Skip non-active players
                         }
-                        
                         playersChecked++;
-                        String playerId = player.getPlayerID();
-                        logger.debug("Checking player {} in game {}.", playerId, gameId);
+                        // Only players outside, or with an out-of-zone timer to clear, need a write
+                        boolean outside = snapshot.isOutsideZone(i);
+                        if (!outside && snapshot.getPlayer(i).getFirstEnteredOutOfZoneTimestamp() == null) {
+                            continue;
+                        }
+                        String playerId = snapshot.getPlayerId(i);
 
                         try {
                             // 4. Apply out-of-zone damage check
-                            boolean damageCheckPerformed = playerStatusService.applyOutOfZoneDamage(playerId);
+                            boolean damageCheckPerformed = playerStatusService.applyZoneDamage(
+                                    snapshot.getPlayer(i), game, tick.getZoneState(), outside, now);
                             if (damageCheckPerformed) {
                                 damageAppliedCount++;
                             }
@@ -118,6 +188,15 @@ public class ZoneUpdateHandler implements RequestHandler<ScheduledEvent, String>
                 } catch (Exception e) {
                     // Log error for specific game but continue processing others
                     logger.error("Error processing zone update for game {}: {}", gameId, e.getMessage(), e);
+                } finally {
+                    if (JfrEvents.shouldCommit(tickEvent)) {
+                        tickEvent.gameId = gameId;
+                        tickEvent.playerCount = playerCount;
+                        tickEvent.playersChecked = playersChecked - playersCheckedBefore;
+                        tickEvent.damageApplied = damageAppliedCount - damageAppliedBefore;
+                        tickEvent.zoneActive = zoneActive;
+                        tickEvent.commit();
+                    }
                 }
             }
 
@@ -10,24 +10,26 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketResponse;
 import com.assassin.model.WebSocketConnection;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.Priming;
+import com.assassin.util.ServiceRegistry;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 public class ConnectHandler implements RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> {
 
     private static final Logger logger = LoggerFactory.getLogger(ConnectHandler.class);
     private static final String TABLE_NAME = System.getenv("CONNECTIONS_TABLE_NAME");
+
+    static {
+        Priming.register(ConnectHandler.class.getSimpleName(), () -> Priming.primeTables(WebSocketConnection.class));
+    }
+
     private final DynamoDbTable<WebSocketConnection> connectionsTable;
 
     public ConnectHandler() {
-        DynamoDbClient ddbClient = DynamoDbClientProvider.getClient();
-        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
-            .dynamoDbClient(ddbClient)
-            .build();
-        this.connectionsTable = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(WebSocketConnection.class));
+        DynamoDbEnhancedClient enhancedClient = DynamoDbClientProvider.getDynamoDbEnhancedClient();
+        this.connectionsTable = enhancedClient.table(TABLE_NAME, ServiceRegistry.tableSchema(WebSocketConnection.class));
     }
 
     @Override
@@ -0,0 +1,199 @@
+package com.assassin.metrics;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events for the game's hot paths: location updates, proximity sweeps, zone ticks,
+ * kill commits, notification fan-out and DAO calls. Each carries the game and the player or item counts
+ * involved, and JFR records its duration, so one recording of a load test shows where per-game time goes.
+ * <p>
+ * Off by default. Enable with {@code -Dassassin.jfr=true} or {@code JFR_EVENTS_ENABLED=true} and start a
+ * recording, e.g. {@code -XX:StartFlightRecording=filename=assassin.jfr}. When off, {@link #begin} returns
+ * null without allocating, so an instrumented path costs one flag check. Call sites follow this shape:
+ * <pre>
+ * JfrEvents.ZoneTick event = JfrEvents.begin(JfrEvents.ZoneTick::new);
+ * ... work ...
+ * if (JfrEvents.shouldCommit(event)) {
+ *     event.gameId = gameId;
+ *     event.commit();
+ * }
+ * </pre>
+ */
+public final class JfrEvents {
+
+    public static final String ENABLED_PROPERTY = "assassin.jfr";
+
+    private static volatile boolean enabled = Boolean.parseBoolean(
+            System.getProperty(ENABLED_PROPERTY, System.getenv("JFR_EVENTS_ENABLED")));
+
+    // Private constructor to prevent instantiation
+    private JfrEvents() {}
+
+    /**
+     * Creates and begins an event if game events are enabled.
+     *
+     * @param factory Creates the event, e.g. {@code JfrEvents.LocationUpdate::new}
+     * @return The begun event, or null when game events are disabled
+     */
+    public static <E extends Event> E begin(Supplier<E> factory) {
+        if (!enabled) {
+            return null;
+        }
+        E event = factory.get();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event An event from {@link #begin}, possibly null
+     * @return True if the event exists and a running recording wants it; only then fill in and commit it
+     */
+    public static boolean shouldCommit(Event event) {
+        return event != null && event.shouldCommit();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns game events on or off at runtime, e.g. for a profiling session on the embedded server.
+     *
+     * @param on True to emit events
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    @Name("com.assassin.LocationUpdate")
+    @Label("Location Update")
+    @Category({"Assassin", "Game"})
+    @Description("Validating and storing one player location report")
+    @StackTrace(false)
+    public static final class LocationUpdate extends Event {
+        @Label("Game ID")
+        public String gameId;
+
+        @Label("Player ID")
+        public String playerId;
+
+        @Label("Geofence Event")
+        @Description("Boundary event raised by the update, if any")
+        public String geofenceEvent;
+
+        @Label("Succeeded")
+        public boolean succeeded;
+    }
+
+    @Name("com.assassin.ProximitySweep")
+    @Label("Proximity Sweep")
+    @Category({"Assassin", "Game"})
+    @Description("Evaluating zone, boundary, safe zone and target proximity for a game's whole roster")
+    @StackTrace(false)
+    public static final class ProximitySweep extends Event {
+        @Label("Game ID")
+        public String gameId;
+
+        @Label("Players")
+        public int playerCount;
+
+        @Label("Alive Players")
+        public int alivePlayerCount;
+
+        @Label("Events")
+        @Description("Zone, boundary and proximity events the sweep produced")
+        public int eventCount;
+    }
+
+    @Name("com.assassin.ZoneTick")
+    @Label("Zone Tick")
+    @Category({"Assassin", "Game"})
+    @Description("One scheduled shrinking-zone update of a game: advance, sweep and damage")
+    @StackTrace(false)
+    public static final class ZoneTick extends Event {
+        @Label("Game ID")
+        public String gameId;
+
+        @Label("Players")
+        public int playerCount;
+
+        @Label("Players Checked")
+        public int playersChecked;
+
+        @Label("Damage Applied")
+        public int damageApplied;
+
+        @Label("Zone Active")
+        public boolean zoneActive;
+    }
+
+    @Name("com.assassin.KillCommit")
+    @Label("Kill Commit")
+    @Category({"Assassin", "Game"})
+    @Description("Persisting a validated kill and reassigning targets")
+    @StackTrace(false)
+    public static final class KillCommit extends Event {
+        @Label("Game ID")
+        public String gameId;
+
+        @Label("Killer ID")
+        public String killerId;
+
+        @Label("Victim ID")
+        public String victimId;
+
+        @Label("Writes")
+        public int writes;
+    }
+
+    @Name("com.assassin.NotificationFanOut")
+    @Label("Notification Fan-Out")
+    @Category({"Assassin", "Game"})
+    @Description("Persisting a notification and pushing it to the recipient's WebSocket connections")
+    @StackTrace(false)
+    public static final class NotificationFanOut extends Event {
+        @Label("Game ID")
+        public String gameId;
+
+        @Label("Notification Type")
+        public String type;
+
+        @Label("Connections")
+        public int connections;
+
+        @Label("Delivered")
+        public int delivered;
+
+        @Label("Payload Size")
+        @DataAmount
+        public int payloadBytes;
+    }
+
+    @Name("com.assassin.DaoCall")
+    @Label("DAO Call")
+    @Category({"Assassin", "DynamoDB"})
+    @Description("One call through a DAO interface")
+    @StackTrace(false)
+    public static final class DaoCall extends Event {
+        @Label("Operation")
+        @Description("Dao.method")
+        public String operation;
+
+        @Label("Write")
+        public boolean write;
+
+        @Label("Items")
+        public int items;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+}
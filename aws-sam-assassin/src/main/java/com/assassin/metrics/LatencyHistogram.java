@@ -0,0 +1,184 @@
+package com.assassin.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of an HDR histogram.
+ * <p>
+ * Values are recorded in microseconds. Values below {@code 2 * SUB_BUCKETS} get a bucket each; above that,
+ * every power of two is split into {@code SUB_BUCKETS} equal buckets, so a bucket is never wider than about
+ * 3% of the values it holds. Recording is one array increment plus a few atomic updates, and
+ * {@link #snapshotAndReset()} hands every recorded value to exactly one snapshot, so concurrent recorders
+ * never block the flush and nothing is counted twice.
+ */
+public class LatencyHistogram {
+
+    // Buckets per power of two: 2^5 = 32, about 3% relative precision
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Largest trackable value, 2^32 us (over an hour); larger values are clamped into the last bucket
+    private static final int MAX_EXPONENT = 32;
+    static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records one value.
+     *
+     * @param micros Latency in microseconds; negative values are recorded as 0
+     */
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Takes the values recorded since the previous snapshot and starts over.
+     *
+     * @return The values recorded since the previous snapshot
+     */
+    public Snapshot snapshotAndReset() {
+        long[] taken = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            // Skip the write for empty buckets, which are the vast majority
+            if (counts.get(i) != 0) {
+                taken[i] = counts.getAndSet(i, 0);
+                count += taken[i];
+            }
+        }
+        return new Snapshot(taken, count, sum.sumThenReset(),
+                min.getAndSet(Long.MAX_VALUE), max.getAndSet(Long.MIN_VALUE));
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        long clamped = Math.min(value, MAX_VALUE);
+        int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // The top SUB_BUCKET_BITS + 1 bits, in [SUB_BUCKETS, 2 * SUB_BUCKETS)
+        int mantissa = (int) (clamped >>> shift);
+        return shift * SUB_BUCKETS + mantissa;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+        return mantissa << shift;
+    }
+
+    // Exclusive
+    static long bucketUpperBound(int index) {
+        return bucketLowerBound(index + 1);
+    }
+
+    /**
+     * Values recorded between two resets.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return Sum of all values in microseconds
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * @return Smallest value in microseconds, 0 if empty
+         */
+        public long getMin() {
+            return count == 0 ? 0 : min;
+        }
+
+        /**
+         * @return Largest value in microseconds, 0 if empty
+         */
+        public long getMax() {
+            return count == 0 ? 0 : max;
+        }
+
+        /**
+         * Estimates a percentile from the buckets; the estimate is within one bucket (about 3%) of the
+         * true value and never outside [min, max].
+         *
+         * @param percentile Percentile between 0 and 100
+         * @return The estimated value in microseconds, 0 if empty
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            if (rank >= count) {
+                return getMax();
+            }
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.max(getMin(), Math.min(getMax(), representative(i)));
+                }
+            }
+            return getMax();
+        }
+
+        /**
+         * Calls the visitor once per non-empty bucket, in ascending order, with the bucket's midpoint.
+         *
+         * @param visitor Receives the bucket midpoint in microseconds and the number of values in it
+         */
+        public void forEachBucket(BucketVisitor visitor) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    visitor.visit(representative(i), counts[i]);
+                }
+            }
+        }
+
+        private static long representative(int index) {
+            long lower = bucketLowerBound(index);
+            return lower + (bucketUpperBound(index) - 1 - lower) / 2;
+        }
+    }
+
+    /**
+     * Receives the non-empty buckets of a {@link Snapshot}.
+     */
+    @FunctionalInterface
+    public interface BucketVisitor {
+        void visit(long micros, long count);
+    }
+}
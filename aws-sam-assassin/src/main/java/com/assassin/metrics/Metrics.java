@@ -0,0 +1,337 @@
+package com.assassin.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * In-process metrics registry flushed as CloudWatch Embedded Metric Format (EMF) log lines.
+ * <p>
+ * Operations (handler routes, service methods, DAO calls) each get a {@link LatencyHistogram} plus error
+ * and fault counters; named caches get hit and miss counters. Recording is lock-free. {@link #flush()}
+ * runs at the end of every invocation and writes one JSON line per active operation and cache to stdout,
+ * where CloudWatch extracts the metrics from the Lambda log stream; no network calls are made. Latencies
+ * are published as value/count pairs so CloudWatch can compute percentiles. Each flush only publishes
+ * what was recorded since the previous one, plus the current value of every registered gauge.
+ * <p>
+ * Set {@code EMF_METRICS_ENABLED=false} to turn flushing off (recording still happens) and
+ * {@code METRICS_NAMESPACE} to override the CloudWatch namespace.
+ */
+public final class Metrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(Metrics.class);
+
+    public static final String DEFAULT_NAMESPACE = "Assassin";
+
+    // CloudWatch accepts at most 100 values per EMF distribution
+    static final int MAX_VALUES_PER_LINE = 100;
+
+    private static final String NAMESPACE =
+            Optional.ofNullable(System.getenv("METRICS_NAMESPACE")).orElse(DEFAULT_NAMESPACE);
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getenv("EMF_METRICS_ENABLED"));
+
+    private static final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private static final Map<String, CacheCounter> caches = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    // Where EMF lines go; stdout is the Lambda log stream
+    private static volatile Consumer<String> sink = System.out::println;
+
+    // Private constructor to prevent instantiation
+    private Metrics() {}
+
+    /**
+     * Records how long one execution of an operation took.
+     *
+     * @param operation Operation name, e.g. {@code LocationService.updatePlayerLocation}
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void recordLatency(String operation, long nanos) {
+        operation(operation).latency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Counts an execution that failed because of the caller, e.g. a 4xx response.
+     *
+     * @param operation Operation name
+     */
+    public static void recordError(String operation) {
+        operation(operation).errors.increment();
+    }
+
+    /**
+     * Counts an execution that failed on our side, e.g. a 5xx response or an exception.
+     *
+     * @param operation Operation name
+     */
+    public static void recordFault(String operation) {
+        operation(operation).faults.increment();
+    }
+
+    /**
+     * Returns the hit/miss counter of a cache, creating it on first use. Services keep the counter in a
+     * static field.
+     *
+     * @param name Cache name, published as the {@code Cache} dimension
+     * @return The shared counter for the cache
+     */
+    public static CacheCounter cache(String name) {
+        return caches.computeIfAbsent(name, n -> new CacheCounter());
+    }
+
+    /**
+     * Registers a level sampled at every flush, such as the size of container-local state. Registering
+     * a gauge under a name already in use replaces the previous one.
+     *
+     * @param name Gauge name, published as the {@code Gauge} dimension
+     * @param value Reads the current value; called on the flushing thread
+     */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Writes everything recorded since the previous flush as EMF lines and resets the deltas.
+     *
+     * @return Number of lines written
+     */
+    public static synchronized int flush() {
+        List<String> lines = render(System.currentTimeMillis());
+        if (!ENABLED) {
+            return 0;
+        }
+        Consumer<String> target = sink;
+        for (String line : lines) {
+            target.accept(line);
+        }
+        return lines.size();
+    }
+
+    /**
+     * Redirects EMF lines, e.g. to a list in tests. Pass null to restore stdout.
+     *
+     * @param newSink Receives each EMF line
+     */
+    public static void setSink(Consumer<String> newSink) {
+        sink = newSink != null ? newSink : System.out::println;
+    }
+
+    /**
+     * Discards everything recorded so far and unregisters the gauges, e.g. between tests. Cache counters
+     * stay registered.
+     */
+    public static void reset() {
+        operations.clear();
+        gauges.clear();
+        for (CacheCounter cache : caches.values()) {
+            cache.hits.reset();
+            cache.misses.reset();
+        }
+    }
+
+    private static Operation operation(String name) {
+        Operation operation = operations.get(name);
+        return operation != null ? operation : operations.computeIfAbsent(name, n -> new Operation());
+    }
+
+    private static List<String> render(long timestamp) {
+        List<String> lines = new ArrayList<>();
+        try {
+            for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+                renderOperation(entry.getKey(), entry.getValue(), timestamp, lines);
+            }
+            for (Map.Entry<String, CacheCounter> entry : caches.entrySet()) {
+                renderCache(entry.getKey(), entry.getValue(), timestamp, lines);
+            }
+            for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+                renderGauge(entry.getKey(), entry.getValue(), timestamp, lines);
+            }
+        } catch (IOException e) {
+            // StringWriter does not throw; keep whatever was rendered
+            logger.warn("Failed to render metrics: {}", e.getMessage());
+        }
+        return lines;
+    }
+
+    private static void renderOperation(String name, Operation operation, long timestamp, List<String> lines)
+            throws IOException {
+        LatencyHistogram.Snapshot snapshot = operation.latency.snapshotAndReset();
+        long errors = operation.errors.sumThenReset();
+        long faults = operation.faults.sumThenReset();
+        if (snapshot.getCount() == 0 && errors == 0 && faults == 0) {
+            return;
+        }
+
+        List<long[]> buckets = new ArrayList<>();
+        snapshot.forEachBucket((micros, count) -> buckets.add(new long[] {micros, count}));
+        // Counters go on the first line only; large distributions continue on further lines
+        int start = 0;
+        do {
+            int end = Math.min(buckets.size(), start + MAX_VALUES_PER_LINE);
+            boolean first = start == 0;
+            StringWriter out = new StringWriter();
+            JsonWriter json = new JsonWriter(out);
+            json.beginObject();
+            String[] declared;
+            if (buckets.isEmpty()) {
+                declared = new String[] {"Errors", "Count", "Faults", "Count"};
+            } else if (first) {
+                declared = new String[] {"Latency", "Milliseconds", "Errors", "Count", "Faults", "Count"};
+            } else {
+                declared = new String[] {"Latency", "Milliseconds"};
+            }
+            writeMetadata(json, timestamp, "Operation", declared);
+            json.name("Operation").value(name);
+            if (!buckets.isEmpty()) {
+                json.name("Latency");
+                writeDistribution(json, snapshot, buckets.subList(start, end), end - start == buckets.size());
+            }
+            if (first) {
+                json.name("Errors").value(errors);
+                json.name("Faults").value(faults);
+            }
+            json.endObject();
+            json.close();
+            lines.add(out.toString());
+            start = end;
+        } while (start < buckets.size());
+    }
+
+    private static void writeDistribution(JsonWriter json, LatencyHistogram.Snapshot snapshot, List<long[]> buckets,
+                                          boolean complete) throws IOException {
+        long count = 0;
+        long sum = 0;
+        json.beginObject();
+        json.name("Values").beginArray();
+        for (long[] bucket : buckets) {
+            json.value(toMillis(bucket[0]));
+            count += bucket[1];
+            sum += bucket[0] * bucket[1];
+        }
+        json.endArray();
+        json.name("Counts").beginArray();
+        for (long[] bucket : buckets) {
+            json.value(bucket[1]);
+        }
+        json.endArray();
+        // Exact statistics when the whole distribution fits on one line, bucket estimates otherwise
+        json.name("Min").value(toMillis(complete ? snapshot.getMin() : buckets.get(0)[0]));
+        json.name("Max").value(toMillis(complete ? snapshot.getMax() : buckets.get(buckets.size() - 1)[0]));
+        json.name("Sum").value(toMillis(complete ? snapshot.getSum() : sum));
+        json.name("Count").value(count);
+        json.endObject();
+    }
+
+    private static void renderCache(String name, CacheCounter cache, long timestamp, List<String> lines)
+            throws IOException {
+        long hits = cache.hits.sumThenReset();
+        long misses = cache.misses.sumThenReset();
+        if (hits + misses == 0) {
+            return;
+        }
+        StringWriter out = new StringWriter();
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        writeMetadata(json, timestamp, "Cache",
+                new String[] {"Hits", "Count", "Misses", "Count", "HitRatio", "Percent"});
+        json.name("Cache").value(name);
+        json.name("Hits").value(hits);
+        json.name("Misses").value(misses);
+        json.name("HitRatio").value(100.0 * hits / (hits + misses));
+        json.endObject();
+        json.close();
+        lines.add(out.toString());
+    }
+
+    private static void renderGauge(String name, LongSupplier gauge, long timestamp, List<String> lines)
+            throws IOException {
+        long value;
+        try {
+            value = gauge.getAsLong();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read gauge {}: {}", name, e.getMessage());
+            return;
+        }
+        StringWriter out = new StringWriter();
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        writeMetadata(json, timestamp, "Gauge", new String[] {"Value", "Count"});
+        json.name("Gauge").value(name);
+        json.name("Value").value(value);
+        json.endObject();
+        json.close();
+        lines.add(out.toString());
+    }
+
+    // The "_aws" member that tells CloudWatch which fields are metrics; nameUnitPairs alternates name and unit
+    private static void writeMetadata(JsonWriter json, long timestamp, String dimension, String[] nameUnitPairs)
+            throws IOException {
+        json.name("_aws").beginObject();
+        json.name("Timestamp").value(timestamp);
+        json.name("CloudWatchMetrics").beginArray().beginObject();
+        json.name("Namespace").value(NAMESPACE);
+        json.name("Dimensions").beginArray().beginArray().value(dimension).endArray().endArray();
+        json.name("Metrics").beginArray();
+        for (int i = 0; i < nameUnitPairs.length; i += 2) {
+            json.beginObject().name("Name").value(nameUnitPairs[i]).name("Unit").value(nameUnitPairs[i + 1]).endObject();
+        }
+        json.endArray();
+        json.endObject().endArray();
+        json.endObject();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Latency and failure counts of one operation.
+     */
+    private static final class Operation {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder faults = new LongAdder();
+    }
+
+    /**
+     * Hit and miss counts of one cache.
+     */
+    public static final class CacheCounter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private CacheCounter() {}
+
+        public void hit() {
+            hits.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+
+        /**
+         * @param hit True for a hit, false for a miss
+         */
+        public void record(boolean hit) {
+            if (hit) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.assassin.model;
+
+import java.util.Map;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+/**
+ * One change to a game, numbered by a per-game sequence that only grows, so a reconnecting client can
+ * ask for everything after the last sequence number it saw.
+ * <p>
+ * Events live in the GameEvents table under the game ID, sorted by sequence number. Sequence numbers
+ * start at 1; the item at sequence 0 holds the game's counter and is never returned as an event.
+ */
+@DynamoDbBean
+public class GameEvent {
+
+    // Kinds of change a client has to replay
+    public enum Type {
+        KILL_REPORTED, // Data: killerId, victimId, killTime
+        KILL_VERIFIED, // Data: killerId, victimId, killTime, verificationStatus
+        PLAYER_ELIMINATED, // Data: playerId, cause, and eliminatedBy for kills
+        ZONE_PHASE_CHANGED, // Data: stageIndex, phase, radiusMeters, phaseEndTime
+        SAFE_ZONE_CREATED, // Data: safeZoneId
+        SAFE_ZONE_UPDATED, // Data: safeZoneId
+        SAFE_ZONE_DELETED // Data: safeZoneId
+    }
+
+    private String gameId;
+    private Long seq;
+    private String type;
+    private String time; // ISO 8601 time the change was recorded
+    private Map<String, String> data;
+
+    public GameEvent() {
+    }
+
+    public GameEvent(String gameId, Long seq, Type type, String time, Map<String, String> data) {
+        this.gameId = gameId;
+        this.seq = seq;
+        this.type = type.name();
+        this.time = time;
+        this.data = data;
+    }
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("GameID")
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    @DynamoDbSortKey
+    @DynamoDbAttribute("Seq")
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    @DynamoDbAttribute("Type")
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    @DynamoDbAttribute("Time")
+    public String getTime() {
+        return time;
+    }
+
+    public void setTime(String time) {
+        this.time = time;
+    }
+
+    @DynamoDbAttribute("Data")
+    public Map<String, String> getData() {
+        return data;
+    }
+
+    public void setData(Map<String, String> data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,164 @@
+package com.assassin.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+/**
+ * Who is still alive in one game, materialized in a single item of the GameRosters table so the win check
+ * after an elimination is one conditional write instead of a reload of every player in the game.
+ * <p>
+ * Holds the alive players, their count and the number of players in each status. It is written in the same
+ * transaction as the player whose status changed, and writers use {@code version} for optimistic locking, so
+ * exactly one elimination sees the alive count drop to one.
+ */
+@DynamoDbBean
+public class GameRoster {
+
+    private String gameId;
+    private Integer aliveCount = 0;
+    private List<String> alivePlayerIds = new ArrayList<>(); // A list: DynamoDB rejects empty string sets
+    private Map<String, Integer> statusCounts = new HashMap<>();
+    private Long version;
+    private String lastUpdated;
+
+    public GameRoster() {
+    }
+
+    public GameRoster(String gameId) {
+        this.gameId = gameId;
+    }
+
+    /**
+     * Builds the roster of a game from its players.
+     *
+     * @param gameId The ID of the game
+     * @param players Every player in the game
+     * @return The roster, not yet versioned
+     */
+    public static GameRoster of(String gameId, Collection<Player> players) {
+        GameRoster roster = new GameRoster(gameId);
+        for (Player player : players) {
+            String status = normalize(player.getStatus());
+            roster.statusCounts.merge(status, 1, Integer::sum);
+            if (isAliveStatus(status)) {
+                roster.alivePlayerIds.add(player.getPlayerID());
+            }
+        }
+        roster.aliveCount = roster.alivePlayerIds.size();
+        return roster;
+    }
+
+    /**
+     * Records a player's change of status. A player leaving {@code ACTIVE} is only counted once, so a repeated
+     * elimination changes nothing.
+     *
+     * @param playerId The player whose status changed
+     * @param fromStatus The status before the change
+     * @param toStatus The status after the change
+     * @return Whether the roster changed
+     */
+    public boolean applyStatusChange(String playerId, String fromStatus, String toStatus) {
+        String from = normalize(fromStatus);
+        String to = normalize(toStatus);
+        boolean wasAlive = alivePlayerIds.contains(playerId);
+        if (from.equals(to) || (isAliveStatus(from) && !wasAlive) || (isAliveStatus(to) && wasAlive)) {
+            return false;
+        }
+        statusCounts.computeIfPresent(from, (status, count) -> count > 1 ? count - 1 : null);
+        statusCounts.merge(to, 1, Integer::sum);
+        if (isAliveStatus(to)) {
+            alivePlayerIds.add(playerId);
+        } else {
+            alivePlayerIds.remove(playerId);
+        }
+        aliveCount = alivePlayerIds.size();
+        return true;
+    }
+
+    /**
+     * @return The only player still alive, or empty while two or more are (or none is)
+     */
+    public Optional<String> lastPlayerStanding() {
+        return alivePlayerIds.size() == 1 ? Optional.of(alivePlayerIds.get(0)) : Optional.empty();
+    }
+
+    /**
+     * @param playerId The ID of a player
+     * @return Whether the player is alive in this game
+     */
+    public boolean isAlive(String playerId) {
+        return alivePlayerIds.contains(playerId);
+    }
+
+    private static boolean isAliveStatus(String status) {
+        return PlayerStatus.ACTIVE.name().equals(status);
+    }
+
+    private static String normalize(String status) {
+        return status == null ? PlayerStatus.PENDING.name() : status.toUpperCase(Locale.ROOT);
+    }
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("GameID")
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    @DynamoDbAttribute("AliveCount")
+    public Integer getAliveCount() {
+        return aliveCount;
+    }
+
+    public void setAliveCount(Integer aliveCount) {
+        this.aliveCount = aliveCount != null ? aliveCount : 0;
+    }
+
+    @DynamoDbAttribute("AlivePlayerIDs")
+    public List<String> getAlivePlayerIds() {
+        return alivePlayerIds;
+    }
+
+    public void setAlivePlayerIds(List<String> alivePlayerIds) {
+        this.alivePlayerIds = alivePlayerIds != null ? new ArrayList<>(alivePlayerIds) : new ArrayList<>();
+    }
+
+    @DynamoDbAttribute("StatusCounts")
+    public Map<String, Integer> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Integer> statusCounts) {
+        this.statusCounts = statusCounts != null ? new HashMap<>(statusCounts) : new HashMap<>();
+    }
+
+    @DynamoDbAttribute("Version")
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @DynamoDbAttribute("LastUpdated")
+    public String getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public void setLastUpdated(String lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+}
@@ -0,0 +1,128 @@
+package com.assassin.model;
+
+import java.util.Objects;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+/**
+ * The public part of a verified kill, as kept in a {@link RecentKillFeed}. Verification data and notes stay
+ * in the Kills table.
+ */
+@DynamoDbBean
+public class KillFeedEntry {
+
+    private String killerID;
+    private String victimID;
+    private String gameId;
+    private String time;
+    private String verificationMethod;
+    private Double latitude;
+    private Double longitude;
+
+    public KillFeedEntry() {
+    }
+
+    /**
+     * @param kill A verified kill
+     * @return The feed entry for the kill
+     */
+    public static KillFeedEntry from(Kill kill) {
+        KillFeedEntry entry = new KillFeedEntry();
+        entry.killerID = kill.getKillerID();
+        entry.victimID = kill.getVictimID();
+        entry.gameId = kill.getGameId();
+        entry.time = kill.getTime();
+        entry.verificationMethod = kill.getVerificationMethod();
+        entry.latitude = kill.getLatitude();
+        entry.longitude = kill.getLongitude();
+        return entry;
+    }
+
+    /**
+     * @return A verified kill carrying this entry's attributes, in the shape the kill endpoints return
+     */
+    public Kill toKill() {
+        Kill kill = new Kill();
+        kill.setKillerID(killerID);
+        kill.setVictimID(victimID);
+        kill.setGameId(gameId);
+        kill.setTime(time);
+        kill.setVerificationMethod(verificationMethod);
+        kill.setVerificationStatus("VERIFIED");
+        kill.setLatitude(latitude);
+        kill.setLongitude(longitude);
+        return kill;
+    }
+
+    /**
+     * @param other Another entry
+     * @return Whether both entries are for the same kill, i.e. have the same Kills table key
+     */
+    public boolean isSameKill(KillFeedEntry other) {
+        return other != null && Objects.equals(killerID, other.killerID) && Objects.equals(time, other.time);
+    }
+
+    @DynamoDbAttribute("KillerID")
+    public String getKillerID() {
+        return killerID;
+    }
+
+    public void setKillerID(String killerID) {
+        this.killerID = killerID;
+    }
+
+    @DynamoDbAttribute("VictimID")
+    public String getVictimID() {
+        return victimID;
+    }
+
+    public void setVictimID(String victimID) {
+        this.victimID = victimID;
+    }
+
+    @DynamoDbAttribute("GameID")
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    @DynamoDbAttribute("Time")
+    public String getTime() {
+        return time;
+    }
+
+    public void setTime(String time) {
+        this.time = time;
+    }
+
+    @DynamoDbAttribute("VerificationMethod")
+    public String getVerificationMethod() {
+        return verificationMethod;
+    }
+
+    public void setVerificationMethod(String verificationMethod) {
+        this.verificationMethod = verificationMethod;
+    }
+
+    @DynamoDbAttribute("Latitude")
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    @DynamoDbAttribute("Longitude")
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
@@ -0,0 +1,58 @@
+package com.assassin.model;
+
+import java.util.Objects;
+
+/**
+ * Response body returned to clients after a location update.
+ * Tells the client when to report next and whether a boundary event occurred.
+ */
+public class LocationUpdateResponse {
+
+    private int recommendedIntervalSeconds;
+    private String boundaryEvent; // Optional, GeofenceEventType name
+
+    public LocationUpdateResponse() {}
+
+    public LocationUpdateResponse(int recommendedIntervalSeconds, String boundaryEvent) {
+        this.recommendedIntervalSeconds = recommendedIntervalSeconds;
+        this.boundaryEvent = boundaryEvent;
+    }
+
+    public int getRecommendedIntervalSeconds() {
+        return recommendedIntervalSeconds;
+    }
+
+    public void setRecommendedIntervalSeconds(int recommendedIntervalSeconds) {
+        this.recommendedIntervalSeconds = recommendedIntervalSeconds;
+    }
+
+    public String getBoundaryEvent() {
+        return boundaryEvent;
+    }
+
+    public void setBoundaryEvent(String boundaryEvent) {
+        this.boundaryEvent = boundaryEvent;
+    }
+
+    @Override
+    public String toString() {
+        return "LocationUpdateResponse{" +
+               "recommendedIntervalSeconds=" + recommendedIntervalSeconds +
+               ", boundaryEvent='" + boundaryEvent + '\'' +
+               '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LocationUpdateResponse that = (LocationUpdateResponse) o;
+        return recommendedIntervalSeconds == that.recommendedIntervalSeconds &&
+               Objects.equals(boundaryEvent, that.boundaryEvent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recommendedIntervalSeconds, boundaryEvent);
+    }
+}
@@ -36,6 +36,7 @@ public class Player {
     private Double lastKnownLongitude;
     private String locationTimestamp; // ISO 8601 format
     private Double locationAccuracy;
+    private String gameCellKey; // GSI PK (GameCellIndex): "gameId#geohash" of the last known location
 
     // Shrinking Zone related fields
     private String firstEnteredOutOfZoneTimestamp; // ISO 8601 format
@@ -46,6 +47,7 @@ public class Player {
     private static final String GAME_ID_INDEX = "GameIdIndex";
     private static final String TARGET_ID_INDEX = "TargetIdIndex";
     private static final String KILL_COUNT_INDEX = "KillCountIndex";
+    private static final String GAME_CELL_INDEX = "GameCellIndex";
 
     @DynamoDbPartitionKey
     @DynamoDbAttribute("PlayerID") // Explicit attribute name matching schema
@@ -250,6 +252,16 @@ public class Player {
         this.locationAccuracy = locationAccuracy;
     }
 
+    @DynamoDbSecondaryPartitionKey(indexNames = {GAME_CELL_INDEX})
+    @DynamoDbAttribute("GameCellKey")
+    public String getGameCellKey() {
+        return gameCellKey;
+    }
+
+    public void setGameCellKey(String gameCellKey) {
+        this.gameCellKey = gameCellKey;
+    }
+
     @DynamoDbAttribute("FirstEnteredOutOfZoneTimestamp")
     public String getFirstEnteredOutOfZoneTimestamp() {
         return firstEnteredOutOfZoneTimestamp;
@@ -50,11 +50,11 @@ public class PlayerStats {
         this.points = points;
     }
 
-    // Getters are likely generated by @Data, but adding manually if necessary
-    // public String getPlayerId() { return playerId; }
-    // public int getKills() { return kills; }
-    // public int getDeaths() { return deaths; }
-    // public int getPoints() { return points; }
+    // Manual Getters (used by the JSON codec; Lombok skips getters that already exist)
+    public String getPlayerId() { return playerId; }
+    public int getKills() { return kills; }
+    public int getDeaths() { return deaths; }
+    public int getPoints() { return points; }
 
     // Consider adding methods for incrementing/decrementing stats if needed
 } 
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.assassin.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+/**
+ * The most recently verified kills of one game, or of all games, materialized in a single item of the
+ * RecentKillFeed table so the public feed is one GetItem instead of an index query or a scan.
+ * <p>
+ * The entries form a ring buffer of at most {@link #CAPACITY} slots: until it is full new entries are
+ * appended, after that each one overwrites the one added longest ago, at {@code head}. Writers use
+ * {@code version} for optimistic locking.
+ */
+@DynamoDbBean
+public class RecentKillFeed {
+
+    public static final int CAPACITY = 50;
+    // Feed ID of the feed across all games; per-game feeds use the game ID
+    public static final String GLOBAL_FEED_ID = "GLOBAL";
+
+    private String feedId;
+    private List<KillFeedEntry> entries = new ArrayList<>();
+    private Integer head = 0;
+    private Long version;
+    private String lastUpdated;
+
+    public RecentKillFeed() {
+    }
+
+    public RecentKillFeed(String feedId) {
+        this.feedId = feedId;
+    }
+
+    /**
+     * Adds a kill as the newest entry, overwriting the oldest one if the feed is full. A kill already in the
+     * feed is not added again.
+     *
+     * @param entry The kill to add
+     * @return Whether the entry was added
+     */
+    public boolean add(KillFeedEntry entry) {
+        for (KillFeedEntry existing : entries) {
+            if (existing.isSameKill(entry)) {
+                return false;
+            }
+        }
+        if (entries.size() < CAPACITY) {
+            entries.add(entry);
+            head = entries.size() % CAPACITY;
+        } else {
+            entries.set(head, entry);
+            head = (head + 1) % CAPACITY;
+        }
+        return true;
+    }
+
+    /**
+     * @param limit The maximum number of entries
+     * @return Up to {@code limit} entries, latest kill time first, in the order the StatusTimeIndex gave
+     */
+    public List<KillFeedEntry> newestFirst(int limit) {
+        List<KillFeedEntry> newest = new ArrayList<>(entries);
+        // Kills are mostly verified in the order they happen, but one verified late must not jump the queue
+        newest.sort(Comparator.comparing(KillFeedEntry::getTime, Comparator.nullsLast(Comparator.<String>reverseOrder())));
+        return new ArrayList<>(newest.subList(0, Math.min(Math.max(limit, 0), newest.size())));
+    }
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("FeedID")
+    public String getFeedId() {
+        return feedId;
+    }
+
+    public void setFeedId(String feedId) {
+        this.feedId = feedId;
+    }
+
+    @DynamoDbAttribute("Entries")
+    public List<KillFeedEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<KillFeedEntry> entries) {
+        this.entries = entries != null ? new ArrayList<>(entries) : new ArrayList<>();
+    }
+
+    @DynamoDbAttribute("Head")
+    public Integer getHead() {
+        return head;
+    }
+
+    public void setHead(Integer head) {
+        this.head = head != null ? head : 0;
+    }
+
+    @DynamoDbAttribute("Version")
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @DynamoDbAttribute("LastUpdated")
+    public String getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public void setLastUpdated(String lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+}
@@ -0,0 +1,364 @@
+package com.assassin.model;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Hand-built table schemas for the DynamoDB model classes.
+ * <p>
+ * {@code TableSchema.fromBean} introspects each bean with reflection and generates accessors with
+ * LambdaMetafactory, which is a large share of a cold Lambda's init time. These schemas declare the
+ * same attribute names, keys and indexes as the bean annotations using plain method references, so
+ * they cost almost nothing to build. Keep them in sync with the annotations on the model classes;
+ * {@code StaticTableSchemasTest} fails if the two drift apart.
+ */
+public final class StaticTableSchemas {
+
+    private static final Map<Class<?>, Supplier<TableSchema<?>>> SCHEMAS = Map.of(
+            Player.class, StaticTableSchemas::player,
+            Game.class, StaticTableSchemas::game,
+            Kill.class, StaticTableSchemas::kill,
+            Notification.class, StaticTableSchemas::notification,
+            SafeZone.class, StaticTableSchemas::safeZone,
+            GameZoneState.class, StaticTableSchemas::gameZoneState,
+            WebSocketConnection.class, StaticTableSchemas::webSocketConnection,
+            RecentKillFeed.class, StaticTableSchemas::recentKillFeed,
+            GameEvent.class, StaticTableSchemas::gameEvent,
+            GameRoster.class, StaticTableSchemas::gameRoster);
+
+    // Private constructor to prevent instantiation
+    private StaticTableSchemas() {}
+
+    /**
+     * Builds the static schema for a model class.
+     *
+     * @param beanClass The DynamoDB bean class
+     * @return A new static schema, or null if the class has none and must fall back to the bean schema
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TableSchema<T> forClass(Class<T> beanClass) {
+        Supplier<TableSchema<?>> supplier = SCHEMAS.get(beanClass);
+        return supplier == null ? null : (TableSchema<T>) supplier.get();
+    }
+
+    public static TableSchema<Coordinate> coordinate() {
+        return StaticTableSchema.builder(Coordinate.class)
+                .newItemSupplier(Coordinate::new)
+                .addAttribute(Double.class, a -> a.name("latitude")
+                        .getter(Coordinate::getLatitude).setter(Coordinate::setLatitude))
+                .addAttribute(Double.class, a -> a.name("longitude")
+                        .getter(Coordinate::getLongitude).setter(Coordinate::setLongitude))
+                .build();
+    }
+
+    public static TableSchema<Player> player() {
+        return StaticTableSchema.builder(Player.class)
+                .newItemSupplier(Player::new)
+                .addAttribute(String.class, a -> a.name("PlayerID")
+                        .getter(Player::getPlayerID).setter(Player::setPlayerID)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("Email")
+                        .getter(Player::getEmail).setter(Player::setEmail)
+                        .tags(secondaryPartitionKey("EmailIndex")))
+                .addAttribute(String.class, a -> a.name("PlayerName")
+                        .getter(Player::getPlayerName).setter(Player::setPlayerName))
+                .addAttribute(String.class, a -> a.name("TargetID")
+                        .getter(Player::getTargetID).setter(Player::setTargetID)
+                        .tags(secondaryPartitionKey("TargetIdIndex")))
+                .addAttribute(String.class, a -> a.name("TargetName")
+                        .getter(Player::getTargetName).setter(Player::setTargetName))
+                .addAttribute(String.class, a -> a.name("TargetSecret")
+                        .getter(Player::getTargetSecret).setter(Player::setTargetSecret))
+                .addAttribute(String.class, a -> a.name("Secret")
+                        .getter(Player::getSecret).setter(Player::setSecret))
+                .addAttribute(String.class, a -> a.name("LastWill")
+                        .getter(Player::getLastWill).setter(Player::setLastWill))
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(Player::getGameID).setter(Player::setGameID)
+                        .tags(secondaryPartitionKey("GameIdIndex")))
+                .addAttribute(String.class, a -> a.name("Status")
+                        .getter(Player::getStatus).setter(Player::setStatus))
+                .addAttribute(Integer.class, a -> a.name("KillCount")
+                        .getter(Player::getKillCount).setter(Player::setKillCount)
+                        .tags(secondarySortKey("KillCountIndex")))
+                .addAttribute(String.class, a -> a.name("LeaderboardStatusPartition")
+                        .getter(Player::getLeaderboardStatusPartition).setter(Player::setLeaderboardStatusPartition)
+                        .tags(secondaryPartitionKey("KillCountIndex")))
+                .addAttribute(Long.class, a -> a.name("version")
+                        .getter(Player::getVersion).setter(Player::setVersion))
+                .addAttribute(String.class, a -> a.name("PasswordHash")
+                        .getter(Player::getPasswordHash).setter(Player::setPasswordHash))
+                .addAttribute(Boolean.class, a -> a.name("Active")
+                        .getter(Player::getActive).setter(Player::setActive))
+                .addAttribute(String.class, a -> a.name("NfcTagId")
+                        .getter(Player::getNfcTagId).setter(Player::setNfcTagId))
+                .addAttribute(Double.class, a -> a.name("LastKnownLatitude")
+                        .getter(Player::getLatitude).setter(Player::setLatitude))
+                .addAttribute(Double.class, a -> a.name("LastKnownLongitude")
+                        .getter(Player::getLongitude).setter(Player::setLongitude))
+                .addAttribute(String.class, a -> a.name("LocationTimestamp")
+                        .getter(Player::getLocationTimestamp).setter(Player::setLocationTimestamp))
+                .addAttribute(Double.class, a -> a.name("LocationAccuracy")
+                        .getter(Player::getLocationAccuracy).setter(Player::setLocationAccuracy))
+                .addAttribute(String.class, a -> a.name("GameCellKey")
+                        .getter(Player::getGameCellKey).setter(Player::setGameCellKey)
+                        .tags(secondaryPartitionKey("GameCellIndex")))
+                .addAttribute(String.class, a -> a.name("FirstEnteredOutOfZoneTimestamp")
+                        .getter(Player::getFirstEnteredOutOfZoneTimestamp).setter(Player::setFirstEnteredOutOfZoneTimestamp))
+                .addAttribute(String.class, a -> a.name("LastZoneDamageTimestamp")
+                        .getter(Player::getLastZoneDamageTimestamp).setter(Player::setLastZoneDamageTimestamp))
+                .build();
+    }
+
+    public static TableSchema<Game> game() {
+        return StaticTableSchema.builder(Game.class)
+                .newItemSupplier(Game::new)
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(Game::getGameID).setter(Game::setGameID)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("gameName")
+                        .getter(Game::getGameName).setter(Game::setGameName))
+                .addAttribute(String.class, a -> a.name("status")
+                        .getter(Game::getStatus).setter(Game::setStatus)
+                        .tags(secondaryPartitionKey("StatusCreatedAtIndex")))
+                .addAttribute(String.class, a -> a.name("createdAt")
+                        .getter(Game::getCreatedAt).setter(Game::setCreatedAt)
+                        .tags(secondarySortKey("StatusCreatedAtIndex")))
+                .addAttribute(EnhancedType.listOf(String.class), a -> a.name("playerIDs")
+                        .getter(Game::getPlayerIDs).setter(Game::setPlayerIDs))
+                .addAttribute(String.class, a -> a.name("adminPlayerID")
+                        .getter(Game::getAdminPlayerID).setter(Game::setAdminPlayerID))
+                .addAttribute(EnhancedType.mapOf(String.class, Object.class), a -> a.name("Settings")
+                        .getter(Game::getSettings).setter(Game::setSettings)
+                        .attributeConverter(new Game.GenericMapConverter()))
+                .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(Coordinate.class, coordinate())), a -> a.name("boundary")
+                        .getter(Game::getBoundary).setter(Game::setBoundary))
+                .addAttribute(Boolean.class, a -> a.name("shrinkingZoneEnabled")
+                        .getter(Game::getShrinkingZoneEnabled).setter(Game::setShrinkingZoneEnabled))
+                .addAttribute(String.class, a -> a.name("mapId")
+                        .getter(Game::getMapId).setter(Game::setMapId))
+                .addAttribute(Long.class, a -> a.name("startTimeEpochMillis")
+                        .getter(Game::getStartTimeEpochMillis).setter(Game::setStartTimeEpochMillis))
+                .build();
+    }
+
+    public static TableSchema<Kill> kill() {
+        return StaticTableSchema.builder(Kill.class)
+                .newItemSupplier(Kill::new)
+                .addAttribute(String.class, a -> a.name("KillerID")
+                        .getter(Kill::getKillerID).setter(Kill::setKillerID)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("Time")
+                        .getter(Kill::getTime).setter(Kill::setTime)
+                        .tags(primarySortKey(),
+                              secondarySortKey(List.of("VictimID-Time-index", "GameID-Time-index", "StatusTimeIndex"))))
+                .addAttribute(String.class, a -> a.name("VictimID")
+                        .getter(Kill::getVictimID).setter(Kill::setVictimID)
+                        .tags(secondaryPartitionKey("VictimID-Time-index")))
+                .addAttribute(Double.class, a -> a.name("Latitude")
+                        .getter(Kill::getLatitude).setter(Kill::setLatitude))
+                .addAttribute(Double.class, a -> a.name("Longitude")
+                        .getter(Kill::getLongitude).setter(Kill::setLongitude))
+                .addAttribute(String.class, a -> a.name("LastWill")
+                        .getter(Kill::getLastWill).setter(Kill::setLastWill))
+                .addAttribute(Boolean.class, a -> a.name("DeathConfirmed")
+                        .getter(Kill::isDeathConfirmed).setter(Kill::setDeathConfirmed))
+                .addAttribute(String.class, a -> a.name("VerificationMethod")
+                        .getter(Kill::getVerificationMethod).setter(Kill::setVerificationMethod))
+                .addAttribute(String.class, a -> a.name("VerificationStatus")
+                        .getter(Kill::getVerificationStatus).setter(Kill::setVerificationStatus))
+                .addAttribute(EnhancedType.mapOf(String.class, String.class), a -> a.name("VerificationData")
+                        .getter(Kill::getVerificationData).setter(Kill::setVerificationData))
+                .addAttribute(String.class, a -> a.name("VerificationNotes")
+                        .getter(Kill::getVerificationNotes).setter(Kill::setVerificationNotes))
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(Kill::getGameId).setter(Kill::setGameId)
+                        .tags(secondaryPartitionKey("GameID-Time-index")))
+                .addAttribute(String.class, a -> a.name("KillStatusPartition")
+                        .getter(Kill::getKillStatusPartition).setter(Kill::setKillStatusPartition)
+                        .tags(secondaryPartitionKey("StatusTimeIndex")))
+                .build();
+    }
+
+    public static TableSchema<Notification> notification() {
+        return StaticTableSchema.builder(Notification.class)
+                .newItemSupplier(Notification::new)
+                .addAttribute(String.class, a -> a.name("NotificationID")
+                        .getter(Notification::getNotificationId).setter(Notification::setNotificationId))
+                .addAttribute(String.class, a -> a.name("RecipientPlayerID")
+                        .getter(Notification::getRecipientPlayerId).setter(Notification::setRecipientPlayerId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(Notification::getGameId).setter(Notification::setGameId))
+                .addAttribute(String.class, a -> a.name("Type")
+                        .getter(Notification::getType).setter(Notification::setType))
+                .addAttribute(String.class, a -> a.name("Title")
+                        .getter(Notification::getTitle).setter(Notification::setTitle))
+                .addAttribute(String.class, a -> a.name("Message")
+                        .getter(Notification::getMessage).setter(Notification::setMessage))
+                .addAttribute(String.class, a -> a.name("Timestamp")
+                        .getter(Notification::getTimestamp).setter(Notification::setTimestamp)
+                        .tags(primarySortKey()))
+                .addAttribute(EnhancedType.mapOf(String.class, String.class), a -> a.name("Data")
+                        .getter(Notification::getData).setter(Notification::setData))
+                .addAttribute(String.class, a -> a.name("Status")
+                        .getter(Notification::getStatus).setter(Notification::setStatus))
+                .addAttribute(Boolean.class, a -> a.name("Read")
+                        .getter(Notification::isRead).setter(Notification::setRead))
+                .build();
+    }
+
+    public static TableSchema<SafeZone> safeZone() {
+        return StaticTableSchema.builder(SafeZone.class)
+                .newItemSupplier(SafeZone::new)
+                .addAttribute(String.class, a -> a.name("SafeZoneID")
+                        .getter(SafeZone::getSafeZoneId).setter(SafeZone::setSafeZoneId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(SafeZone::getGameId).setter(SafeZone::setGameId)
+                        .tags(secondaryPartitionKey("GameIdIndex")))
+                .addAttribute(String.class, a -> a.name("Name")
+                        .getter(SafeZone::getName).setter(SafeZone::setName))
+                .addAttribute(EnhancedType.documentOf(Coordinate.class, coordinate()), a -> a.name("Center")
+                        .getter(SafeZone::getCenter).setter(SafeZone::setCenter))
+                .addAttribute(Double.class, a -> a.name("RadiusMeters")
+                        .getter(SafeZone::getRadiusMeters).setter(SafeZone::setRadiusMeters))
+                .addAttribute(String.class, a -> a.name("Type")
+                        .getter(SafeZone::getType).setter(SafeZone::setType))
+                .addAttribute(String.class, a -> a.name("CreatedAt")
+                        .getter(SafeZone::getCreatedAt).setter(SafeZone::setCreatedAt))
+                .addAttribute(String.class, a -> a.name("ExpiresAt")
+                        .getter(SafeZone::getExpiresAt).setter(SafeZone::setExpiresAt))
+                .build();
+    }
+
+    public static TableSchema<GameZoneState> gameZoneState() {
+        return StaticTableSchema.builder(GameZoneState.class)
+                .newItemSupplier(GameZoneState::new)
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(GameZoneState::getGameId).setter(GameZoneState::setGameId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(Integer.class, a -> a.name("currentStageIndex")
+                        .getter(GameZoneState::getCurrentStageIndex).setter(GameZoneState::setCurrentStageIndex))
+                // setCurrentPhase is overloaded, so the String variant is selected explicitly
+                .addAttribute(String.class, a -> a.name("currentPhase")
+                        .getter(GameZoneState::getCurrentPhase).setter((state, phase) -> state.setCurrentPhase(phase)))
+                .addAttribute(String.class, a -> a.name("phaseEndTime")
+                        .getter(GameZoneState::getPhaseEndTime).setter(GameZoneState::setPhaseEndTime))
+                .addAttribute(Double.class, a -> a.name("currentRadiusMeters")
+                        .getter(GameZoneState::getCurrentRadiusMeters).setter(GameZoneState::setCurrentRadiusMeters))
+                .addAttribute(EnhancedType.documentOf(Coordinate.class, coordinate()), a -> a.name("currentCenter")
+                        .getter(GameZoneState::getCurrentCenter).setter(GameZoneState::setCurrentCenter))
+                .addAttribute(String.class, a -> a.name("lastUpdated")
+                        .getter(GameZoneState::getLastUpdated).setter(GameZoneState::setLastUpdated))
+                .addAttribute(Double.class, a -> a.name("nextRadiusMeters")
+                        .getter(GameZoneState::getNextRadiusMeters).setter(GameZoneState::setNextRadiusMeters))
+                .addAttribute(Double.class, a -> a.name("targetCenterLatitude")
+                        .getter(GameZoneState::getTargetCenterLatitude).setter(GameZoneState::setTargetCenterLatitude))
+                .addAttribute(Double.class, a -> a.name("targetCenterLongitude")
+                        .getter(GameZoneState::getTargetCenterLongitude).setter(GameZoneState::setTargetCenterLongitude))
+                .addAttribute(Long.class, a -> a.name("stageStartTimeEpochMillis")
+                        .getter(GameZoneState::getStageStartTimeEpochMillis).setter(GameZoneState::setStageStartTimeEpochMillis))
+                .addAttribute(Long.class, a -> a.name("nextShrinkTimeEpochMillis")
+                        .getter(GameZoneState::getNextShrinkTimeEpochMillis).setter(GameZoneState::setNextShrinkTimeEpochMillis))
+                .addAttribute(Long.class, a -> a.name("lastUpdateTimeEpochMillis")
+                        .getter(GameZoneState::getLastUpdateTimeEpochMillis).setter(GameZoneState::setLastUpdateTimeEpochMillis))
+                .build();
+    }
+
+    public static TableSchema<WebSocketConnection> webSocketConnection() {
+        return StaticTableSchema.builder(WebSocketConnection.class)
+                .newItemSupplier(WebSocketConnection::new)
+                .addAttribute(String.class, a -> a.name("connectionId")
+                        .getter(WebSocketConnection::getConnectionId).setter(WebSocketConnection::setConnectionId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("playerId")
+                        .getter(WebSocketConnection::getPlayerId).setter(WebSocketConnection::setPlayerId)
+                        .tags(secondaryPartitionKey("PlayerIdIndex")))
+                .build();
+    }
+
+    public static TableSchema<KillFeedEntry> killFeedEntry() {
+        return StaticTableSchema.builder(KillFeedEntry.class)
+                .newItemSupplier(KillFeedEntry::new)
+                .addAttribute(String.class, a -> a.name("KillerID")
+                        .getter(KillFeedEntry::getKillerID).setter(KillFeedEntry::setKillerID))
+                .addAttribute(String.class, a -> a.name("VictimID")
+                        .getter(KillFeedEntry::getVictimID).setter(KillFeedEntry::setVictimID))
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(KillFeedEntry::getGameId).setter(KillFeedEntry::setGameId))
+                .addAttribute(String.class, a -> a.name("Time")
+                        .getter(KillFeedEntry::getTime).setter(KillFeedEntry::setTime))
+                .addAttribute(String.class, a -> a.name("VerificationMethod")
+                        .getter(KillFeedEntry::getVerificationMethod).setter(KillFeedEntry::setVerificationMethod))
+                .addAttribute(Double.class, a -> a.name("Latitude")
+                        .getter(KillFeedEntry::getLatitude).setter(KillFeedEntry::setLatitude))
+                .addAttribute(Double.class, a -> a.name("Longitude")
+                        .getter(KillFeedEntry::getLongitude).setter(KillFeedEntry::setLongitude))
+                .build();
+    }
+
+    public static TableSchema<RecentKillFeed> recentKillFeed() {
+        return StaticTableSchema.builder(RecentKillFeed.class)
+                .newItemSupplier(RecentKillFeed::new)
+                .addAttribute(String.class, a -> a.name("FeedID")
+                        .getter(RecentKillFeed::getFeedId).setter(RecentKillFeed::setFeedId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(KillFeedEntry.class, killFeedEntry())), a -> a.name("Entries")
+                        .getter(RecentKillFeed::getEntries).setter(RecentKillFeed::setEntries))
+                .addAttribute(Integer.class, a -> a.name("Head")
+                        .getter(RecentKillFeed::getHead).setter(RecentKillFeed::setHead))
+                .addAttribute(Long.class, a -> a.name("Version")
+                        .getter(RecentKillFeed::getVersion).setter(RecentKillFeed::setVersion))
+                .addAttribute(String.class, a -> a.name("LastUpdated")
+                        .getter(RecentKillFeed::getLastUpdated).setter(RecentKillFeed::setLastUpdated))
+                .build();
+    }
+
+    public static TableSchema<GameEvent> gameEvent() {
+        return StaticTableSchema.builder(GameEvent.class)
+                .newItemSupplier(GameEvent::new)
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(GameEvent::getGameId).setter(GameEvent::setGameId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(Long.class, a -> a.name("Seq")
+                        .getter(GameEvent::getSeq).setter(GameEvent::setSeq)
+                        .tags(primarySortKey()))
+                .addAttribute(String.class, a -> a.name("Type")
+                        .getter(GameEvent::getType).setter(GameEvent::setType))
+                .addAttribute(String.class, a -> a.name("Time")
+                        .getter(GameEvent::getTime).setter(GameEvent::setTime))
+                .addAttribute(EnhancedType.mapOf(String.class, String.class), a -> a.name("Data")
+                        .getter(GameEvent::getData).setter(GameEvent::setData))
+                .build();
+    }
+
+    public static TableSchema<GameRoster> gameRoster() {
+        return StaticTableSchema.builder(GameRoster.class)
+                .newItemSupplier(GameRoster::new)
+                .addAttribute(String.class, a -> a.name("GameID")
+                        .getter(GameRoster::getGameId).setter(GameRoster::setGameId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(Integer.class, a -> a.name("AliveCount")
+                        .getter(GameRoster::getAliveCount).setter(GameRoster::setAliveCount))
+                .addAttribute(EnhancedType.listOf(String.class), a -> a.name("AlivePlayerIDs")
+                        .getter(GameRoster::getAlivePlayerIds).setter(GameRoster::setAlivePlayerIds))
+                .addAttribute(EnhancedType.mapOf(String.class, Integer.class), a -> a.name("StatusCounts")
+                        .getter(GameRoster::getStatusCounts).setter(GameRoster::setStatusCounts))
+                .addAttribute(Long.class, a -> a.name("Version")
+                        .getter(GameRoster::getVersion).setter(GameRoster::setVersion))
+                .addAttribute(String.class, a -> a.name("LastUpdated")
+                        .getter(GameRoster::getLastUpdated).setter(GameRoster::setLastUpdated))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.assassin.routing;
+
+import com.assassin.handlers.AuthHandler;
+import com.assassin.handlers.GameHandler;
+import com.assassin.handlers.GameManagementHandler;
+import com.assassin.handlers.KillHandler;
+import com.assassin.handlers.LocationHandler;
+import com.assassin.handlers.NotificationHandler;
+import com.assassin.handlers.PlayerHandler;
+import com.assassin.handlers.SafeZoneHandler;
+import com.assassin.handlers.StatisticsHandler;
+
+/**
+ * Every route the REST API serves, with the handler class deployed for it. Mirrors the Api events in
+ * template.yaml plus the routes the handlers dispatch internally.
+ * <p>
+ * Handlers resolve requests with {@link #match(String, String)} and switch on the constant, so all of them
+ * share one trie compiled when this enum is initialized.
+ */
+public enum ApiRoute {
+    // Players
+    LIST_PLAYERS("GET", "/players", PlayerHandler.class),
+    CREATE_PLAYER("POST", "/players", PlayerHandler.class),
+    GET_ME("GET", "/players/me", PlayerHandler.class),
+    GET_MY_TARGET("GET", "/players/me/target", PlayerHandler.class),
+    GET_PLAYER("GET", "/players/{playerId}", PlayerHandler.class),
+    UPDATE_PLAYER("PUT", "/players/{playerId}", PlayerHandler.class),
+    DELETE_PLAYER("DELETE", "/players/{playerId}", PlayerHandler.class),
+    // Games
+    LIST_GAMES("GET", "/games", GameHandler.class),
+    CREATE_GAME("POST", "/games", GameHandler.class),
+    GET_GAME("GET", "/games/{gameId}", GameHandler.class),
+    JOIN_GAME("POST", "/games/{gameId}/join", GameHandler.class),
+    START_GAME("POST", "/games/{gameId}/start", GameHandler.class),
+    END_GAME("POST", "/games/{gameId}/end", GameHandler.class),
+    REMOVE_GAME_PLAYER("DELETE", "/games/{gameId}/players/{playerId}", GameHandler.class),
+    UPDATE_GAME_BOUNDARY("PUT", "/games/{gameId}/boundary", GameManagementHandler.class),
+    GAME_TIMELINE("GET", "/games/{gameID}/timeline", KillHandler.class),
+    GAME_EVENTS("GET", "/games/{gameID}/events", KillHandler.class),
+    // Game administration
+    ADMIN_CREATE_GAME("POST", "/admin/games", GameManagementHandler.class),
+    ADMIN_START_GAME("POST", "/admin/games/{gameId}/start", GameManagementHandler.class),
+    ADMIN_END_GAME("POST", "/admin/games/{gameId}/end", GameManagementHandler.class),
+    ADMIN_ADD_PLAYER("POST", "/admin/games/{gameId}/players", GameManagementHandler.class),
+    ADMIN_REMOVE_PLAYER("DELETE", "/admin/games/{gameId}/players/{playerId}", GameManagementHandler.class),
+    // Kills
+    REPORT_KILL("POST", "/kills", KillHandler.class),
+    REPORT_DEATH("POST", "/die", KillHandler.class),
+    RECENT_KILLS("GET", "/kills/recent", KillHandler.class),
+    KILLS_BY_KILLER("GET", "/kills/killer/{killerID}", KillHandler.class),
+    KILLS_BY_VICTIM("GET", "/kills/victim/{victimID}", KillHandler.class),
+    VERIFY_KILL("POST", "/kills/{killerId}/{killTime}/verify", KillHandler.class),
+    // Location
+    UPDATE_LOCATION("POST", "/location", LocationHandler.class),
+    // Safe zones
+    LIST_SAFE_ZONES("GET", "/games/{gameId}/safezones", SafeZoneHandler.class),
+    CREATE_SAFE_ZONE("POST", "/games/{gameId}/safezones", SafeZoneHandler.class),
+    GET_SAFE_ZONE("GET", "/safezones/{safeZoneId}", SafeZoneHandler.class),
+    UPDATE_SAFE_ZONE("PUT", "/safezones/{safeZoneId}", SafeZoneHandler.class),
+    DELETE_SAFE_ZONE("DELETE", "/safezones/{safeZoneId}", SafeZoneHandler.class),
+    // Notifications
+    SEND_NOTIFICATION("POST", "/notifications", NotificationHandler.class),
+    PLAYER_NOTIFICATIONS("GET", "/notifications/player/{playerId}", NotificationHandler.class),
+    GET_NOTIFICATION("GET", "/notifications/{notificationId}", NotificationHandler.class),
+    // Statistics
+    KILL_LEADERBOARD("GET", "/leaderboard/kills", StatisticsHandler.class),
+    PLAYER_STATS("GET", "/stats/player/{playerId}", StatisticsHandler.class),
+    // Authentication
+    SIGN_UP("POST", "/auth/signup", AuthHandler.class),
+    SIGN_IN("POST", "/auth/signin", AuthHandler.class),
+    OAUTH_URL("GET", "/auth/oauth/url", AuthHandler.class),
+    OAUTH_CALLBACK("GET", "/auth/oauth/callback", AuthHandler.class),
+    OAUTH_TOKEN("POST", "/auth/oauth/token", AuthHandler.class);
+
+    private static final Router<ApiRoute> ROUTER = buildRouter();
+
+    private final String method;
+    private final String template;
+    private final Class<?> handlerClass;
+
+    ApiRoute(String method, String template, Class<?> handlerClass) {
+        this.method = method;
+        this.template = template;
+        this.handlerClass = handlerClass;
+    }
+
+    private static Router<ApiRoute> buildRouter() {
+        Router.Builder<ApiRoute> builder = Router.builder();
+        for (ApiRoute route : values()) {
+            builder.add(route.method, route.template, route);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param method HTTP method, upper case
+     * @param path Request path
+     * @return The matched route and its path parameters, or null if the API has no such route
+     */
+    public static Router.Match<ApiRoute> match(String method, String path) {
+        return ROUTER.match(method, path);
+    }
+
+    /**
+     * @return The shared, precompiled router over every API route
+     */
+    public static Router<ApiRoute> router() {
+        return ROUTER;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public Class<?> getHandlerClass() {
+        return handlerClass;
+    }
+}
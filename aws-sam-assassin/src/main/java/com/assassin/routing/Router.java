@@ -0,0 +1,387 @@
+package com.assassin.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable HTTP router backed by a path-template trie, compiled once at class init.
+ * <p>
+ * Templates such as {@code /games/{gameId}/safezones} are split into segments when the router is built and
+ * merged into a trie keyed by literal segment or parameter type. Matching walks the request path in place:
+ * literal segments are compared with {@link String#regionMatches}, parameters are validated against their
+ * type, and substrings are only taken for the parameters of the route that finally matches. There is no
+ * regex work and no path splitting per request.
+ * <p>
+ * Literal segments take precedence over parameters, and typed parameters over plain ones, so
+ * {@code /players/me} wins over {@code /players/{playerId}} regardless of registration order. Parameters
+ * are typed with a suffix: {@code {playerId}} matches any segment, {@code {limit:int}} and
+ * {@code {since:long}} only match numbers.
+ *
+ * @param <T> What a route resolves to, e.g. the handler class or endpoint serving it
+ */
+public final class Router<T> {
+
+    private final Node<T> root;
+    private final List<Route<T>> routes;
+    private final int maxDepth;
+
+    private Router(List<Route<T>> routes) {
+        this.routes = Collections.unmodifiableList(new ArrayList<>(routes));
+        Node<T> rootNode = new Node<>();
+        int depth = 0;
+        for (Route<T> route : routes) {
+            rootNode.insert(route, 0);
+            depth = Math.max(depth, route.segments.length);
+        }
+        rootNode.freeze();
+        this.root = rootNode;
+        this.maxDepth = depth;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Finds the most specific route for a request.
+     *
+     * @param method HTTP method, upper case
+     * @param path Decoded request path, e.g. {@code /games/g1/safezones}
+     * @return The match with its path parameters, or null if no route serves this method and path
+     */
+    public Match<T> match(String method, String path) {
+        if (method == null || path == null) {
+            return null;
+        }
+        // Start and end offset of every segment on the matched branch
+        int[] bounds = new int[maxDepth * 2];
+        Route<T> route = root.find(method, path, 0, 0, bounds);
+        return route == null ? null : new Match<>(route, path, bounds);
+    }
+
+    /**
+     * @param path Decoded request path
+     * @return True if any method has a route for this path; used to tell 405 from 404
+     */
+    public boolean hasPath(String path) {
+        return path != null && root.find(null, path, 0, 0, new int[maxDepth * 2]) != null;
+    }
+
+    public List<Route<T>> getRoutes() {
+        return routes;
+    }
+
+    // Splits "/a/b/" into ["a", "b"]; empty segments are dropped. Only used when compiling templates.
+    static String[] split(String path) {
+        List<String> segments = new ArrayList<>(6);
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    /**
+     * Type of a path parameter, declared as {@code {name:type}} in a template.
+     */
+    public enum ParameterType {
+        INT,
+        LONG,
+        STRING;
+
+        static ParameterType parse(String name, String template) {
+            switch (name) {
+                case "int":
+                    return INT;
+                case "long":
+                    return LONG;
+                case "string":
+                    return STRING;
+                default:
+                    throw new IllegalArgumentException("Unknown parameter type '" + name + "' in " + template);
+            }
+        }
+
+        // Checks path[start, end) without allocating
+        boolean accepts(String path, int start, int end) {
+            if (this == STRING) {
+                return true;
+            }
+            int i = start;
+            boolean negative = path.charAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            if (i == end) {
+                return false;
+            }
+            long limit = this == INT ? (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE) : Long.MAX_VALUE;
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = path.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                // Reject values that would overflow the type
+                if (value > (limit - digit) / 10) {
+                    return false;
+                }
+                value = value * 10 + digit;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A compiled route: method, template and target.
+     */
+    public static final class Route<T> {
+        private final String method;
+        private final String template;
+        private final T target;
+        private final String[] segments;
+        // Parameter name and type per segment, null for literal segments
+        private final String[] parameterNames;
+        private final ParameterType[] parameterTypes;
+
+        Route(String method, String template, T target) {
+            this.method = method;
+            this.template = template;
+            this.target = target;
+            this.segments = split(template);
+            this.parameterNames = new String[segments.length];
+            this.parameterTypes = new ParameterType[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    String declaration = segment.substring(1, segment.length() - 1);
+                    int colon = declaration.indexOf(':');
+                    parameterNames[i] = colon < 0 ? declaration : declaration.substring(0, colon);
+                    parameterTypes[i] = colon < 0 ? ParameterType.STRING
+                            : ParameterType.parse(declaration.substring(colon + 1), template);
+                    if (parameterNames[i].isEmpty()) {
+                        throw new IllegalArgumentException("Unnamed path parameter in " + template);
+                    }
+                }
+            }
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public T getTarget() {
+            return target;
+        }
+
+        private int indexOf(String parameterName) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterName.equals(parameterNames[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + template;
+        }
+    }
+
+    /**
+     * Result of a successful match. Parameter values are cut from the request path on first access.
+     */
+    public static final class Match<T> {
+        private final Route<T> route;
+        private final String path;
+        private final int[] bounds;
+        private Map<String, String> pathParameters;
+
+        Match(Route<T> route, String path, int[] bounds) {
+            this.route = route;
+            this.path = path;
+            this.bounds = bounds;
+        }
+
+        public Route<T> getRoute() {
+            return route;
+        }
+
+        public T getTarget() {
+            return route.getTarget();
+        }
+
+        /**
+         * @param name Parameter name as declared in the template
+         * @return The parameter's value, or null if the route has no such parameter
+         */
+        public String get(String name) {
+            int index = route.indexOf(name);
+            return index < 0 ? null : path.substring(bounds[index * 2], bounds[index * 2 + 1]);
+        }
+
+        /**
+         * @param name Name of an {@code int} parameter
+         * @return The parameter's value
+         * @throws IllegalArgumentException If the route has no such parameter
+         */
+        public int getInt(String name) {
+            return (int) getLong(name);
+        }
+
+        /**
+         * @param name Name of an {@code int} or {@code long} parameter
+         * @return The parameter's value
+         * @throws IllegalArgumentException If the route has no such parameter
+         */
+        public long getLong(String name) {
+            int index = route.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("No path parameter '" + name + "' in " + route.getTemplate());
+            }
+            // Digits were validated while matching
+            return Long.parseLong(path, bounds[index * 2], bounds[index * 2 + 1], 10);
+        }
+
+        /**
+         * @return All path parameters by name, in template order
+         */
+        public Map<String, String> getPathParameters() {
+            if (pathParameters == null) {
+                Map<String, String> parameters = new LinkedHashMap<>(4);
+                for (int i = 0; i < route.parameterNames.length; i++) {
+                    if (route.parameterNames[i] != null) {
+                        parameters.put(route.parameterNames[i], path.substring(bounds[i * 2], bounds[i * 2 + 1]));
+                    }
+                }
+                pathParameters = parameters.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(parameters);
+            }
+            return pathParameters;
+        }
+    }
+
+    /**
+     * Collects routes; {@link #build()} compiles them into an immutable router.
+     */
+    public static final class Builder<T> {
+        private final List<Route<T>> routes = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder<T> add(String method, String template, T target) {
+            routes.add(new Route<>(method.toUpperCase(), template, target));
+            return this;
+        }
+
+        public Router<T> build() {
+            return new Router<>(routes);
+        }
+    }
+
+    // One trie level. Built mutable, then frozen into arrays for matching.
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literalChildren = new LinkedHashMap<>();
+        private final Map<ParameterType, Node<T>> parameterChildren = new HashMap<>();
+        // Method -> route ending at this node
+        private final Map<String, Route<T>> routesByMethod = new HashMap<>();
+
+        private String[] literals = new String[0];
+        private Node<T>[] literalNodes;
+        // Ordered most specific type first
+        private ParameterType[] parameterTypes = new ParameterType[0];
+        private Node<T>[] parameterNodes;
+
+        void insert(Route<T> route, int depth) {
+            if (depth == route.segments.length) {
+                Route<T> existing = routesByMethod.putIfAbsent(route.getMethod(), route);
+                if (existing != null) {
+                    throw new IllegalArgumentException("Duplicate route " + route + " conflicts with " + existing);
+                }
+                return;
+            }
+            Node<T> child = route.parameterTypes[depth] == null
+                    ? literalChildren.computeIfAbsent(route.segments[depth], s -> new Node<>())
+                    : parameterChildren.computeIfAbsent(route.parameterTypes[depth], t -> new Node<>());
+            child.insert(route, depth + 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        void freeze() {
+            literals = literalChildren.keySet().toArray(new String[0]);
+            literalNodes = literalChildren.values().toArray(new Node[0]);
+            parameterTypes = parameterChildren.keySet().toArray(new ParameterType[0]);
+            Arrays.sort(parameterTypes);
+            parameterNodes = new Node[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterNodes[i] = parameterChildren.get(parameterTypes[i]);
+            }
+            for (Node<T> child : literalNodes) {
+                child.freeze();
+            }
+            for (Node<T> child : parameterNodes) {
+                child.freeze();
+            }
+        }
+
+        // Depth-first, literals before parameters, backtracking when a branch has no route for the method.
+        // A null method accepts a route for any method.
+        Route<T> find(String method, String path, int position, int depth, int[] bounds) {
+            int length = path.length();
+            while (position < length && path.charAt(position) == '/') {
+                position++;
+            }
+            if (position == length) {
+                if (method == null) {
+                    return routesByMethod.isEmpty() ? null : routesByMethod.values().iterator().next();
+                }
+                return routesByMethod.get(method);
+            }
+            if (depth * 2 >= bounds.length) {
+                return null;
+            }
+            int end = path.indexOf('/', position);
+            if (end < 0) {
+                end = length;
+            }
+            int segmentLength = end - position;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == segmentLength && path.regionMatches(position, literal, 0, segmentLength)) {
+                    Route<T> route = literalNodes[i].find(method, path, end, depth + 1, bounds);
+                    if (route != null) {
+                        bounds[depth * 2] = position;
+                        bounds[depth * 2 + 1] = end;
+                        return route;
+                    }
+                }
+            }
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].accepts(path, position, end)) {
+                    Route<T> route = parameterNodes[i].find(method, path, end, depth + 1, bounds);
+                    if (route != null) {
+                        bounds[depth * 2] = position;
+                        bounds[depth * 2 + 1] = end;
+                        return route;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
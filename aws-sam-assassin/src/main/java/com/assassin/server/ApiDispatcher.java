@@ -0,0 +1,193 @@
+package com.assassin.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.routing.Router;
+import com.assassin.util.ErrorResponse;
+import com.assassin.util.HandlerUtils;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Serves HTTP requests by converting them into API Gateway proxy events and invoking the Lambda handler
+ * the {@link Router} maps them to. Each handler class is instantiated once and shared by all requests,
+ * exactly as a warm Lambda container would reuse it.
+ */
+public class ApiDispatcher implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiDispatcher.class);
+    private static final long HANDLER_TIMEOUT_MILLIS = 30_000; // Matches the function timeout in template.yaml
+
+    private final Router<Class<?>> routes;
+    private final Function<Class<?>, RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent>> handlerFactory;
+    private final ServerAuthenticator authenticator;
+    // Handler class -> shared instance
+    private final Map<Class<?>, RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent>> handlers = new ConcurrentHashMap<>();
+
+    public ApiDispatcher(Router<Class<?>> routes, ServerAuthenticator authenticator) {
+        this(routes, ApiDispatcher::instantiate, authenticator);
+    }
+
+    // Constructor for dependency injection (testing)
+    public ApiDispatcher(Router<Class<?>> routes,
+                         Function<Class<?>, RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent>> handlerFactory,
+                         ServerAuthenticator authenticator) {
+        this.routes = routes;
+        this.handlerFactory = handlerFactory;
+        this.authenticator = authenticator;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod().toUpperCase();
+            String path = exchange.getRequestURI().getPath();
+
+            if ("OPTIONS".equals(method)) {
+                send(exchange, 200, HandlerUtils.getPreflightResponseHeaders(), null);
+                return;
+            }
+
+            Router.Match<Class<?>> match = routes.match(method, path);
+            if (match == null) {
+                int status = routes.hasPath(path) ? 405 : 404;
+                send(exchange, status, HandlerUtils.getResponseHeaders(),
+                        new ErrorResponse(status == 405 ? "Method not allowed" : "Route not found").toJson());
+                return;
+            }
+
+            APIGatewayProxyRequestEvent event = toEvent(exchange, method, path, match);
+            RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> handler =
+                    handlers.computeIfAbsent(match.getTarget(), handlerFactory);
+            APIGatewayProxyResponseEvent response = handler.handleRequest(event,
+                    new LocalContext(match.getTarget().getSimpleName(), HANDLER_TIMEOUT_MILLIS));
+
+            int status = response.getStatusCode() != null ? response.getStatusCode() : 200;
+            send(exchange, status, response.getHeaders(), response.getBody());
+        } catch (RuntimeException e) {
+            logger.error("Unhandled error serving {} {}: {}", exchange.getRequestMethod(), exchange.getRequestURI(), e.getMessage(), e);
+            send(exchange, 500, HandlerUtils.getResponseHeaders(), new ErrorResponse("Internal Server Error").toJson());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private APIGatewayProxyRequestEvent toEvent(HttpExchange exchange, String method, String path,
+                                                Router.Match<Class<?>> match) throws IOException {
+        Headers requestHeaders = exchange.getRequestHeaders();
+        Map<String, String> headers = new HashMap<>();
+        requestHeaders.forEach((name, values) -> {
+            if (!values.isEmpty()) {
+                headers.put(name, values.get(0));
+            }
+        });
+
+        APIGatewayProxyRequestEvent.ProxyRequestContext requestContext = new APIGatewayProxyRequestEvent.ProxyRequestContext()
+                .withHttpMethod(method)
+                .withPath(path)
+                .withResourcePath(match.getRoute().getTemplate())
+                .withStage("local")
+                .withRequestTimeEpoch(System.currentTimeMillis());
+        APIGatewayProxyRequestEvent.RequestIdentity identity = new APIGatewayProxyRequestEvent.RequestIdentity();
+        identity.setSourceIp(exchange.getRemoteAddress().getAddress().getHostAddress());
+        requestContext.setIdentity(identity);
+
+        Map<String, Object> claims = authenticator.claims(requestHeaders.getFirst("Authorization"), requestHeaders.getFirst("X-Player-Id"));
+        if (claims != null) {
+            Map<String, Object> authorizer = new HashMap<>();
+            authorizer.put("claims", claims);
+            requestContext.setAuthorizer(authorizer);
+        }
+
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        Map<String, List<String>> multiValueQuery = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod(method)
+                .withPath(path)
+                .withResource(match.getRoute().getTemplate())
+                .withPathParameters(match.getPathParameters().isEmpty() ? null : match.getPathParameters())
+                .withQueryStringParameters(multiValueQuery == null ? null : firstValues(multiValueQuery))
+                .withMultiValueQueryStringParameters(multiValueQuery)
+                .withHeaders(headers)
+                .withBody(body.length == 0 ? null : new String(body, StandardCharsets.UTF_8))
+                .withIsBase64Encoded(false)
+                .withRequestContext(requestContext);
+    }
+
+    // API Gateway passes null rather than an empty map when there is no query string
+    private static Map<String, List<String>> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        Map<String, List<String>> parameters = new HashMap<>();
+        int start = 0;
+        while (start <= rawQuery.length()) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = rawQuery.length();
+            }
+            if (end > start) {
+                int equals = rawQuery.indexOf('=', start);
+                String name;
+                String value;
+                if (equals < 0 || equals > end) {
+                    name = rawQuery.substring(start, end);
+                    value = "";
+                } else {
+                    name = rawQuery.substring(start, equals);
+                    value = rawQuery.substring(equals + 1, end);
+                }
+                parameters.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), k -> new ArrayList<>(1))
+                        .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            start = end + 1;
+        }
+        return parameters;
+    }
+
+    private static Map<String, String> firstValues(Map<String, List<String>> multiValue) {
+        Map<String, String> single = new HashMap<>();
+        multiValue.forEach((name, values) -> single.put(name, values.get(0)));
+        return single;
+    }
+
+    private static void send(HttpExchange exchange, int status, Map<String, String> headers, String body) throws IOException {
+        if (headers != null) {
+            headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        }
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> instantiate(Class<?> handlerClass) {
+        try {
+            return (RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent>)
+                    handlerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate handler " + handlerClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.assassin.server;
+
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
+
+/**
+ * The REST API's routes keyed to the handler class serving them, for dispatching HTTP requests in-process.
+ * Built from {@link ApiRoute}, the same route set the handlers dispatch on.
+ */
+public final class ApiRoutes {
+
+    private static final Router<Class<?>> TABLE = buildTable();
+
+    // Private constructor to prevent instantiation
+    private ApiRoutes() {}
+
+    private static Router<Class<?>> buildTable() {
+        Router.Builder<Class<?>> builder = Router.builder();
+        for (ApiRoute route : ApiRoute.values()) {
+            builder.add(route.getMethod(), route.getTemplate(), route.getHandlerClass());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return The shared, precompiled route table
+     */
+    public static Router<Class<?>> table() {
+        return TABLE;
+    }
+}
@@ -0,0 +1,197 @@
+package com.assassin.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.handlers.websocket.ConnectHandler;
+import com.assassin.handlers.websocket.DefaultMessageHandler;
+import com.assassin.util.ServiceRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Long-running server mode: hosts the REST API and the WebSocket API in one JVM, calling the existing Lambda
+ * handlers in-process. Shared services, caches and per-game state stay warm for the life of the process
+ * instead of being discarded on every Lambda scale-in, and the same entry point gives a complete local
+ * environment for load testing.
+ * <p>
+ * Configuration (environment variables): PORT (default 8080), WEBSOCKET_PORT (default 8081),
+ * SERVER_THREADS (default 32 per core), SERVER_QUEUE_CAPACITY (default 10000), COGNITO_USER_POOL_ID and
+ * COGNITO_CLIENT_ID for verifying callers, or ALLOW_HEADER_AUTH=true to trust the X-Player-Id header instead
+ * (see {@link ServerAuthenticator#fromEnvironment}), BIND_ADDRESS (default every interface, or loopback
+ * with header authentication), plus the table names and
+ * DYNAMODB_ENDPOINT_OVERRIDE the handlers already read. DAO_BACKEND=memory keeps players, games, kills,
+ * notifications, safe zones and zone state in memory instead of DynamoDB, for simulations too large or
+ * fast for DynamoDB Local; map configurations are still read from DynamoDB, falling back to the default map.
+ * Run with:
+ * {@code java -cp target/assassin-game-api-1.0.0.jar com.assassin.server.EmbeddedServer}
+ */
+public class EmbeddedServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedServer.class);
+
+    private final HttpServer httpServer;
+    private final WebSocketServer webSocketServer;
+    private final ThreadPoolExecutor requestExecutor;
+    private final ExecutorService connectionExecutor;
+
+    /**
+     * @param httpPort REST API port, 0 for any free port
+     * @param webSocketPort WebSocket API port, 0 for any free port
+     * @param threads Worker threads for HTTP requests
+     * @param queueCapacity Requests allowed to wait for a worker before accepting slows down
+     * @param dispatcher Dispatcher for REST requests
+     * @param webSocketServerFactory Builds the WebSocket server on the given port and connection executor
+     * @throws IOException If the HTTP port cannot be bound
+     */
+    public EmbeddedServer(int httpPort, int webSocketPort, int threads, int queueCapacity, ApiDispatcher dispatcher,
+                          WebSocketServerFactory webSocketServerFactory) throws IOException {
+        this(null, httpPort, webSocketPort, threads, queueCapacity, dispatcher, webSocketServerFactory);
+    }
+
+    /**
+     * @param bindAddress Address the REST API listens on, or null for every interface
+     * @param httpPort REST API port, 0 for any free port
+     * @param webSocketPort WebSocket API port, 0 for any free port
+     * @param threads Worker threads for HTTP requests
+     * @param queueCapacity Requests allowed to wait for a worker before accepting slows down
+     * @param dispatcher Dispatcher for REST requests
+     * @param webSocketServerFactory Builds the WebSocket server on the given port and connection executor
+     * @throws IOException If the HTTP port cannot be bound
+     */
+    public EmbeddedServer(InetAddress bindAddress, int httpPort, int webSocketPort, int threads, int queueCapacity,
+                          ApiDispatcher dispatcher, WebSocketServerFactory webSocketServerFactory) throws IOException {
+        // Handlers block on DynamoDB, so size for I/O wait rather than CPU. When the queue is full the accepting
+        // thread runs the request itself, which slows accepts instead of dropping connections.
+        this.requestExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreads("api-worker"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.requestExecutor.allowCoreThreadTimeOut(true);
+        // One long-lived task per WebSocket connection
+        this.connectionExecutor = Executors.newCachedThreadPool(namedThreads("websocket"));
+
+        this.httpServer = HttpServer.create(new InetSocketAddress(bindAddress, httpPort), 1024);
+        this.httpServer.createContext("/", dispatcher);
+        this.httpServer.setExecutor(requestExecutor);
+        this.webSocketServer = webSocketServerFactory.create(webSocketPort, connectionExecutor);
+    }
+
+    /**
+     * Builds the WebSocket server for a port and connection executor.
+     */
+    @FunctionalInterface
+    public interface WebSocketServerFactory {
+        WebSocketServer create(int port, ExecutorService connectionExecutor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int threads = intEnv("SERVER_THREADS", Runtime.getRuntime().availableProcessors() * 32);
+        ServerAuthenticator authenticator = ServerAuthenticator.fromEnvironment();
+        InetAddress bindAddress = bindAddress(authenticator);
+        EmbeddedServer server = new EmbeddedServer(
+                bindAddress,
+                intEnv("PORT", 8080),
+                intEnv("WEBSOCKET_PORT", 8081),
+                threads,
+                intEnv("SERVER_QUEUE_CAPACITY", 10_000),
+                new ApiDispatcher(ApiRoutes.table(), authenticator),
+                (port, executor) -> new WebSocketServer(bindAddress, port, executor, new ConnectHandler(), new DefaultMessageHandler(), null));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "server-shutdown"));
+        server.start();
+        logger.info("Embedded server started: {} routes, {} worker threads, HTTP port {}, WebSocket port {} on {}, {} DAOs",
+                ApiRoutes.table().getRoutes().size(), threads, server.getHttpPort(), server.getWebSocketPort(),
+                bindAddress == null ? "every interface" : bindAddress.getHostAddress(),
+                ServiceRegistry.inMemoryDaos() ? "in-memory" : "DynamoDB");
+    }
+
+    public void start() throws IOException {
+        httpServer.start();
+        webSocketServer.start();
+    }
+
+    /**
+     * Stops accepting requests, lets in-flight ones finish for up to five seconds and closes all connections.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        try {
+            webSocketServer.close();
+        } catch (IOException e) {
+            logger.warn("Error closing WebSocket server: {}", e.getMessage());
+        }
+        requestExecutor.shutdown();
+        connectionExecutor.shutdownNow();
+        try {
+            if (!requestExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                requestExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Embedded server stopped");
+    }
+
+    public int getHttpPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public int getWebSocketPort() {
+        return webSocketServer.getPort();
+    }
+
+    public WebSocketServer getWebSocketServer() {
+        return webSocketServer;
+    }
+
+    /**
+     * @param authenticator The authenticator the server will use
+     * @return BIND_ADDRESS if set; otherwise loopback when callers are not verified, so an unverified server is
+     *         not reachable from the network by accident, and null (every interface) when they are
+     * @throws UnknownHostException If BIND_ADDRESS does not resolve
+     */
+    static InetAddress bindAddress(ServerAuthenticator authenticator) throws UnknownHostException {
+        boolean unverified = authenticator instanceof ServerAuthenticator.HeaderAuthenticator;
+        String configured = ServerAuthenticator.setting("BIND_ADDRESS");
+        if (configured == null) {
+            return unverified ? InetAddress.getLoopbackAddress() : null;
+        }
+        InetAddress address = InetAddress.getByName(configured);
+        if (unverified && !address.isLoopbackAddress()) {
+            logger.warn("Listening on {} while trusting the X-Player-Id header; anyone who can reach it can act as any player",
+                    address.getHostAddress());
+        }
+        return address;
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}', using {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
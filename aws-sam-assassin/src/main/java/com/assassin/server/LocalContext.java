@@ -0,0 +1,95 @@
+package com.assassin.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+/**
+ * Lambda {@link Context} for handlers invoked in-process by the embedded server.
+ * The deadline mirrors the function timeout so handlers that check remaining time behave as on Lambda.
+ */
+public class LocalContext implements Context {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalContext.class);
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final String functionName;
+    private final long deadlineMillis;
+
+    public LocalContext(String functionName, long timeoutMillis) {
+        this.functionName = functionName;
+        this.deadlineMillis = System.currentTimeMillis() + timeoutMillis;
+    }
+
+    @Override
+    public String getAwsRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return "/local/" + functionName;
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return "embedded-server";
+    }
+
+    @Override
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:local:000000000000:function:" + functionName;
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) Math.max(0, deadlineMillis - System.currentTimeMillis());
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return (int) (Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                logger.info(message);
+            }
+
+            @Override
+            public void log(byte[] message) {
+                logger.info(new String(message, StandardCharsets.UTF_8));
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.assassin.server;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.service.maintenance.PlayerExportJob;
+import com.assassin.service.maintenance.PlayerLocationReindexJob;
+
+/**
+ * Runs whole-table admin jobs against the tables the handlers are configured with:
+ * <ul>
+ *   <li>{@code export-players <file>} writes every player as JSON Lines to the file</li>
+ *   <li>{@code reindex-player-locations} backfills the GameCellIndex keys of players</li>
+ * </ul>
+ * Configuration (environment variables): SCAN_SEGMENTS (default 8), SCAN_READ_CAPACITY read capacity units
+ * per second (default 100, 0 for no limit), plus the table names and DYNAMODB_ENDPOINT_OVERRIDE.
+ * Run with:
+ * {@code java -cp target/assassin-game-api-1.0.0.jar com.assassin.server.MaintenanceTool export-players players.jsonl}
+ */
+public final class MaintenanceTool {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceTool.class);
+    private static final String USAGE = "Usage: MaintenanceTool export-players <file> | reindex-player-locations";
+
+    // Private constructor to prevent instantiation
+    private MaintenanceTool() {}
+
+    public static void main(String[] args) throws IOException {
+        int segments = intEnv("SCAN_SEGMENTS", 8);
+        double readCapacity = doubleEnv("SCAN_READ_CAPACITY", 100);
+        String job = args.length > 0 ? args[0] : "";
+        switch (job) {
+            case "export-players":
+                if (args.length < 2) {
+                    throw new IllegalArgumentException(USAGE);
+                }
+                try (Writer out = Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)) {
+                    logger.info("Exported {}", new PlayerExportJob().export(out, segments, readCapacity));
+                }
+                break;
+            case "reindex-player-locations":
+                logger.info("Reindexed {} players", new PlayerLocationReindexJob().reindex(segments, readCapacity));
+                break;
+            default:
+                throw new IllegalArgumentException(USAGE);
+        }
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}', using {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static double doubleEnv(String name, double defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}', using {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+}
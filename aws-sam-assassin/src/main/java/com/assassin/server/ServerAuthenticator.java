@@ -0,0 +1,113 @@
+package com.assassin.server;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.util.AuthorizationUtils;
+import com.assassin.util.ServiceRegistry;
+import com.auth0.jwk.JwkException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Resolves the Cognito authorizer claims API Gateway would attach to a request.
+ * Handlers read the caller from {@code requestContext.authorizer.claims}, so the embedded server fills it in the same shape.
+ */
+public interface ServerAuthenticator {
+
+    /**
+     * @param authorizationHeader Value of the Authorization header, may be null
+     * @param playerIdHeader Value of the X-Player-Id header, may be null
+     * @return Claims for the caller, or null if the request is anonymous or the credentials are invalid
+     */
+    Map<String, Object> claims(String authorizationHeader, String playerIdHeader);
+
+    /**
+     * Verifies Cognito JWTs when COGNITO_USER_POOL_ID and COGNITO_CLIENT_ID are configured. Trusting the
+     * X-Player-Id header instead, which is only meant for local runs and load tests, has to be asked for with
+     * ALLOW_HEADER_AUTH=true (a system property or environment variable); the server then listens on the loopback
+     * address unless BIND_ADDRESS says otherwise.
+     *
+     * @return The authenticator for this environment
+     * @throws IllegalStateException If Cognito is not configured and header authentication was not allowed
+     */
+    static ServerAuthenticator fromEnvironment() {
+        if (System.getenv("COGNITO_USER_POOL_ID") != null && System.getenv("COGNITO_CLIENT_ID") != null) {
+            return new CognitoAuthenticator(ServiceRegistry.authorizationUtils());
+        }
+        if (!"true".equalsIgnoreCase(setting("ALLOW_HEADER_AUTH"))) {
+            throw new IllegalStateException("Cognito is not configured: set COGNITO_USER_POOL_ID and COGNITO_CLIENT_ID, "
+                    + "or ALLOW_HEADER_AUTH=true to trust the X-Player-Id header on a local run");
+        }
+        LoggerFactory.getLogger(ServerAuthenticator.class)
+                .warn("Cognito is not configured; trusting the X-Player-Id header. Do not expose this server publicly.");
+        return new HeaderAuthenticator();
+    }
+
+    /**
+     * @param name Setting name
+     * @return The system property of that name, else the environment variable, or null if neither is set
+     */
+    static String setting(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(name);
+        }
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * Validates Bearer tokens against the user pool's JWKS.
+     */
+    final class CognitoAuthenticator implements ServerAuthenticator {
+        private static final Logger logger = LoggerFactory.getLogger(CognitoAuthenticator.class);
+        private final AuthorizationUtils authorizationUtils;
+
+        public CognitoAuthenticator(AuthorizationUtils authorizationUtils) {
+            this.authorizationUtils = authorizationUtils;
+        }
+
+        @Override
+        public Map<String, Object> claims(String authorizationHeader, String playerIdHeader) {
+            if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+                return null;
+            }
+            try {
+                DecodedJWT jwt = authorizationUtils.validateAndDecodeToken(authorizationHeader.substring("Bearer ".length()).trim());
+                Map<String, Object> claims = new HashMap<>();
+                claims.put("sub", authorizationUtils.getUserIdFromToken(jwt));
+                String email = jwt.getClaim("email").asString();
+                if (email != null) {
+                    claims.put("email", email);
+                }
+                List<String> groups = authorizationUtils.getUserGroups(jwt);
+                if (!groups.isEmpty()) {
+                    claims.put("cognito:groups", String.join(",", groups));
+                }
+                return claims;
+            } catch (JwkException | JWTVerificationException | IllegalArgumentException e) {
+                logger.warn("Rejected bearer token: {}", e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Takes the caller's player ID from the X-Player-Id header without verification.
+     */
+    final class HeaderAuthenticator implements ServerAuthenticator {
+        @Override
+        public Map<String, Object> claims(String authorizationHeader, String playerIdHeader) {
+            if (playerIdHeader == null || playerIdHeader.isBlank()) {
+                return null;
+            }
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("sub", playerIdHeader.trim());
+            return claims;
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.assassin.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketResponse;
+
+/**
+ * Minimal RFC 6455 WebSocket endpoint that stands in for the API Gateway WebSocket API.
+ * <p>
+ * The upgrade request is passed to the {@code $connect} handler and rejected unless it returns 200. Each text
+ * message goes to the {@code $default} handler, and a response body, if any, is sent back to the sender like
+ * an API Gateway route response. Connections closing invoke {@code $disconnect} when a handler is configured.
+ * Messages are capped at API Gateway's 128 KB limit. Other code in the process can push to a connection with
+ * {@link #send(String, String)}.
+ */
+public class WebSocketServer implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketServer.class);
+    private static final String HANDSHAKE_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int MAX_MESSAGE_BYTES = 128 * 1024;
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+    private static final long HANDLER_TIMEOUT_MILLIS = 30_000;
+
+    private static final int OP_CONTINUATION = 0x0;
+    private static final int OP_TEXT = 0x1;
+    private static final int OP_BINARY = 0x2;
+    private static final int OP_CLOSE = 0x8;
+    private static final int OP_PING = 0x9;
+    private static final int OP_PONG = 0xA;
+
+    private static final int CLOSE_NORMAL = 1000;
+    private static final int CLOSE_PROTOCOL_ERROR = 1002;
+    private static final int CLOSE_UNSUPPORTED_DATA = 1003;
+    private static final int CLOSE_TOO_BIG = 1009;
+
+    private final InetAddress bindAddress;
+    private final int port;
+    private final ExecutorService executor;
+    private final RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> connectHandler;
+    private final RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> defaultHandler;
+    private final RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> disconnectHandler;
+    private final SecureRandom random = new SecureRandom();
+    // Connection ID -> open connection
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * @param port Port to listen on, 0 for any free port
+     * @param executor Executor running one task per connection
+     * @param connectHandler $connect route handler
+     * @param defaultHandler $default route handler
+     * @param disconnectHandler $disconnect route handler, or null if there is none
+     */
+    public WebSocketServer(int port, ExecutorService executor,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> connectHandler,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> defaultHandler,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> disconnectHandler) {
+        this(null, port, executor, connectHandler, defaultHandler, disconnectHandler);
+    }
+
+    /**
+     * @param bindAddress Address to listen on, or null for every interface
+     * @param port Port to listen on, 0 for any free port
+     * @param executor Executor running one task per connection
+     * @param connectHandler $connect route handler
+     * @param defaultHandler $default route handler
+     * @param disconnectHandler $disconnect route handler, or null if there is none
+     */
+    public WebSocketServer(InetAddress bindAddress, int port, ExecutorService executor,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> connectHandler,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> defaultHandler,
+                           RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> disconnectHandler) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.executor = executor;
+        this.connectHandler = connectHandler;
+        this.defaultHandler = defaultHandler;
+        this.disconnectHandler = disconnectHandler;
+    }
+
+    /**
+     * Binds the port and starts accepting connections on a dedicated thread.
+     *
+     * @throws IOException If the port cannot be bound
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(bindAddress, port));
+        Thread acceptor = new Thread(this::acceptLoop, "websocket-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.info("WebSocket server listening on port {}", getPort());
+    }
+
+    /**
+     * @return The bound port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return Number of open connections
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Sends a text message to an open connection.
+     *
+     * @param connectionId Target connection
+     * @param message Text to send
+     * @return False if the connection is gone
+     */
+    public boolean send(String connectionId, String message) {
+        Connection connection = connections.get(connectionId);
+        if (connection == null) {
+            return false;
+        }
+        try {
+            connection.writeFrame(OP_TEXT, message.getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            logger.debug("Send to {} failed: {}", connectionId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (Connection connection : connections.values()) {
+            connection.closeQuietly();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (SocketException e) {
+                // Server socket closed
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to accept WebSocket connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String connectionId = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+            HandshakeRequest handshake = readHandshake(in);
+            if (handshake == null) {
+                writeHttpError(out, 400, "Bad Request");
+                return;
+            }
+
+            connectionId = newConnectionId();
+            long connectedAt = System.currentTimeMillis();
+            APIGatewayV2WebSocketResponse connectResponse = invoke(connectHandler,
+                    event(connectionId, "$connect", "CONNECT", connectedAt, handshake, null));
+            if (connectResponse == null || connectResponse.getStatusCode() != 200) {
+                writeHttpError(out, 403, "Forbidden");
+                connectionId = null;
+                return;
+            }
+
+            writeHandshakeResponse(out, handshake.key);
+            Connection connection = new Connection(connectionId, socket, out);
+            connections.put(connectionId, connection);
+            readMessages(connection, in, connectedAt, handshake);
+        } catch (EOFException | SocketException e) {
+            logger.debug("WebSocket {} closed: {}", connectionId, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("WebSocket {} failed: {}", connectionId, e.getMessage());
+        } finally {
+            if (connectionId != null && connections.remove(connectionId) != null && disconnectHandler != null) {
+                invoke(disconnectHandler, event(connectionId, "$disconnect", "DISCONNECT", System.currentTimeMillis(), null, null));
+            }
+        }
+    }
+
+    private void readMessages(Connection connection, DataInputStream in, long connectedAt, HandshakeRequest handshake) throws IOException {
+        ByteArrayOutputStream message = null;
+        while (true) {
+            int first = in.readUnsignedByte();
+            int second = in.readUnsignedByte();
+            boolean fin = (first & 0x80) != 0;
+            int opcode = first & 0x0F;
+            boolean masked = (second & 0x80) != 0;
+            long length = second & 0x7F;
+            if (length == 126) {
+                length = in.readUnsignedShort();
+            } else if (length == 127) {
+                length = in.readLong();
+            }
+
+            if (!masked) {
+                // Clients must mask every frame
+                connection.close(CLOSE_PROTOCOL_ERROR);
+                return;
+            }
+            if (length > MAX_MESSAGE_BYTES || (message != null && message.size() + length > MAX_MESSAGE_BYTES)) {
+                connection.close(CLOSE_TOO_BIG);
+                return;
+            }
+            byte[] mask = new byte[4];
+            in.readFully(mask);
+            byte[] payload = new byte[(int) length];
+            in.readFully(payload);
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i & 3];
+            }
+
+            switch (opcode) {
+                case OP_TEXT:
+                case OP_CONTINUATION:
+                    if (opcode == OP_TEXT) {
+                        message = new ByteArrayOutputStream(payload.length);
+                    } else if (message == null) {
+                        connection.close(CLOSE_PROTOCOL_ERROR);
+                        return;
+                    }
+                    message.write(payload);
+                    if (fin) {
+                        onMessage(connection, message.toString(StandardCharsets.UTF_8), connectedAt, handshake);
+                        message = null;
+                    }
+                    break;
+                case OP_PING:
+                    connection.writeFrame(OP_PONG, payload);
+                    break;
+                case OP_PONG:
+                    break;
+                case OP_CLOSE:
+                    connection.close(CLOSE_NORMAL);
+                    return;
+                case OP_BINARY:
+                    connection.close(CLOSE_UNSUPPORTED_DATA);
+                    return;
+                default:
+                    connection.close(CLOSE_PROTOCOL_ERROR);
+                    return;
+            }
+        }
+    }
+
+    private void onMessage(Connection connection, String body, long connectedAt, HandshakeRequest handshake) throws IOException {
+        APIGatewayV2WebSocketResponse response = invoke(defaultHandler,
+                event(connection.id, "$default", "MESSAGE", connectedAt, handshake, body));
+        if (response != null && response.getBody() != null) {
+            connection.writeFrame(OP_TEXT, response.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private APIGatewayV2WebSocketResponse invoke(RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> handler,
+                                                 APIGatewayV2WebSocketEvent event) {
+        try {
+            return handler.handleRequest(event, new LocalContext(handler.getClass().getSimpleName(), HANDLER_TIMEOUT_MILLIS));
+        } catch (RuntimeException e) {
+            logger.error("{} handler failed for connection {}: {}", event.getRequestContext().getRouteKey(),
+                    event.getRequestContext().getConnectionId(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private APIGatewayV2WebSocketEvent event(String connectionId, String routeKey, String eventType, long connectedAt,
+                                             HandshakeRequest handshake, String body) {
+        APIGatewayV2WebSocketEvent.RequestContext requestContext = new APIGatewayV2WebSocketEvent.RequestContext();
+        requestContext.setConnectionId(connectionId);
+        requestContext.setRouteKey(routeKey);
+        requestContext.setEventType(eventType);
+        requestContext.setMessageDirection("IN");
+        requestContext.setConnectedAt(connectedAt);
+        requestContext.setRequestTimeEpoch(System.currentTimeMillis());
+        requestContext.setDomainName("localhost:" + getPort());
+        requestContext.setStage("local");
+
+        APIGatewayV2WebSocketEvent event = new APIGatewayV2WebSocketEvent();
+        event.setRequestContext(requestContext);
+        if (handshake != null) {
+            event.setHeaders(handshake.headers);
+            event.setQueryStringParameters(handshake.query);
+        }
+        event.setBody(body);
+        event.setIsBase64Encoded(false);
+        return event;
+    }
+
+    // Reads the HTTP upgrade request; returns null if it is not a valid WebSocket handshake
+    private static HandshakeRequest readHandshake(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream(512);
+        int matched = 0;
+        while (matched < 4) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Connection closed during handshake");
+            }
+            head.write(b);
+            if (head.size() > MAX_HEADER_BYTES) {
+                return null;
+            }
+            matched = (b == (matched % 2 == 0 ? '\r' : '\n')) ? matched + 1 : (b == '\r' ? 1 : 0);
+        }
+
+        String[] lines = head.toString(StandardCharsets.ISO_8859_1).split("\r\n");
+        String[] requestLine = lines[0].split(" ");
+        if (requestLine.length < 3 || !"GET".equals(requestLine[0])) {
+            return null;
+        }
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.put(lines[i].substring(0, colon).trim(), lines[i].substring(colon + 1).trim());
+            }
+        }
+        String key = headerIgnoreCase(headers, "Sec-WebSocket-Key");
+        String upgrade = headerIgnoreCase(headers, "Upgrade");
+        if (key == null || upgrade == null || !"websocket".equalsIgnoreCase(upgrade)) {
+            return null;
+        }
+
+        String target = requestLine[1];
+        int queryStart = target.indexOf('?');
+        Map<String, String> query = null;
+        if (queryStart >= 0) {
+            query = new HashMap<>();
+            for (String pair : target.substring(queryStart + 1).split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int equals = pair.indexOf('=');
+                String name = equals < 0 ? pair : pair.substring(0, equals);
+                String value = equals < 0 ? "" : pair.substring(equals + 1);
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return new HandshakeRequest(key, headers, query);
+    }
+
+    private static String headerIgnoreCase(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void writeHandshakeResponse(OutputStream out, String key) throws IOException {
+        String accept;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest((key + HANDSHAKE_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            accept = Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n";
+        out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private static void writeHttpError(OutputStream out, int status, String reason) throws IOException {
+        out.write(("HTTP/1.1 " + status + " " + reason + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    // API Gateway style connection ID: 12 random bytes, base64
+    private String newConnectionId() {
+        byte[] bytes = new byte[12];
+        random.nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static final class HandshakeRequest {
+        private final String key;
+        private final Map<String, String> headers;
+        private final Map<String, String> query;
+
+        HandshakeRequest(String key, Map<String, String> headers, Map<String, String> query) {
+            this.key = key;
+            this.headers = headers;
+            this.query = query;
+        }
+    }
+
+    /**
+     * An open connection. Writes are serialized because handler replies and {@link #send} can race.
+     */
+    private static final class Connection {
+        private final String id;
+        private final Socket socket;
+        private final OutputStream out;
+
+        Connection(String id, Socket socket, OutputStream out) {
+            this.id = id;
+            this.socket = socket;
+            this.out = out;
+        }
+
+        synchronized void writeFrame(int opcode, byte[] payload) throws IOException {
+            out.write(0x80 | opcode);
+            if (payload.length < 126) {
+                out.write(payload.length);
+            } else if (payload.length <= 0xFFFF) {
+                out.write(126);
+                out.write(payload.length >>> 8);
+                out.write(payload.length & 0xFF);
+            } else {
+                out.write(127);
+                long length = payload.length;
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    out.write((int) (length >>> shift) & 0xFF);
+                }
+            }
+            out.write(payload);
+            out.flush();
+        }
+
+        void close(int code) throws IOException {
+            writeFrame(OP_CLOSE, new byte[] {(byte) (code >>> 8), (byte) (code & 0xFF)});
+            socket.close();
+        }
+
+        void closeQuietly() {
+            try {
+                close(CLOSE_NORMAL);
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import com.assassin.util.AuthorizationUtils;
 import com.assassin.util.CognitoFederationHelper;
+import com.assassin.util.RestorableClients;
 
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
@@ -49,7 +50,9 @@ public class AuthService {
      * Default constructor.
      */
     public AuthService() {
-        this.cognitoClient = CognitoIdentityProviderClient.builder().build();
+        // Re-created after a snapshot restore, like the DynamoDB client
+        this.cognitoClient = RestorableClients.create(CognitoIdentityProviderClient.class,
+                () -> CognitoIdentityProviderClient.builder().build());
         // These would typically come from environment variables
         this.userPoolId = System.getenv("COGNITO_USER_POOL_ID");
         this.clientId = System.getenv("COGNITO_CLIENT_ID");
@@ -0,0 +1,105 @@
+package com.assassin.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.dao.GameEventDao;
+import com.assassin.exception.PersistenceException;
+import com.assassin.exception.ValidationException;
+import com.assassin.model.GameEvent;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
+
+/**
+ * Records the changes to a game in its event sequence and reads them back for clients catching up.
+ * <p>
+ * A client keeps the sequence number of the last event it applied and, on reconnect, asks only for the
+ * events after it instead of reloading the game's kills, players and zones.
+ */
+public class GameEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameEventService.class);
+
+    private final GameEventDao gameEventDao;
+    private final TimeSource timeSource; // Stamps recorded events
+
+    // Default constructor using the shared DAO and clock
+    public GameEventService() {
+        this(ServiceRegistry.gameEventDao(), ServiceRegistry.timeSource());
+    }
+
+    // Constructor for dependency injection with DAO and clock
+    public GameEventService(GameEventDao gameEventDao, TimeSource timeSource) {
+        this.gameEventDao = gameEventDao;
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Appends an event to a game's sequence. Failures are logged rather than thrown: the change itself is
+     * already saved, and failing the request would only make the client retry it.
+     *
+     * @param gameId The game that changed; events without one are dropped
+     * @param type What changed
+     * @param data Details of the change, see {@link GameEvent.Type}
+     */
+    public void record(String gameId, GameEvent.Type type, Map<String, String> data) {
+        if (gameId == null || gameId.isEmpty()) {
+            logger.warn("Dropping {} event without a game ID: {}", type, data);
+            return;
+        }
+        try {
+            gameEventDao.addEvent(gameId, type, timeSource.now().toString(), data);
+        } catch (PersistenceException e) {
+            logger.error("Failed to record {} event for game {}: {}", type, gameId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the events of a game after the last one a client has seen.
+     *
+     * @param gameId The ID of the game
+     * @param afterSeq The last sequence number the client has applied, or 0 to start from the beginning
+     * @param limit The maximum number of events to return
+     * @return Up to {@code limit} events, oldest first
+     * @throws ValidationException if {@code afterSeq} is negative or {@code limit} is not positive
+     * @throws PersistenceException if the read fails
+     */
+    public List<GameEvent> readSince(String gameId, long afterSeq, int limit) throws PersistenceException {
+        if (afterSeq < 0) {
+            throw new ValidationException("since must not be negative: " + afterSeq);
+        }
+        if (limit < 1) {
+            throw new ValidationException("limit must be positive: " + limit);
+        }
+        return gameEventDao.readSince(gameId, afterSeq, limit);
+    }
+
+    /**
+     * @param gameId The ID of the game
+     * @return The sequence number of the game's latest event, or 0 if it has none
+     * @throws PersistenceException if the read fails
+     */
+    public long getLatestSeq(String gameId) throws PersistenceException {
+        return gameEventDao.getLatestSeq(gameId);
+    }
+
+    /**
+     * Builds event data from alternating keys and values, leaving out null values.
+     *
+     * @param keyValues key1, value1, key2, value2, ...
+     * @return The event data
+     */
+    static Map<String, String> data(String... keyValues) {
+        Map<String, String> data = new HashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (keyValues[i + 1] != null) {
+                data.put(keyValues[i], keyValues[i + 1]);
+            }
+        }
+        return data;
+    }
+}
@@ -0,0 +1,104 @@
+package com.assassin.service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.assassin.dao.GameRosterDao;
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.model.GameRoster;
+import com.assassin.model.Player;
+import com.assassin.util.ExpiringGameCache;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
+
+/**
+ * Keeps the per-game rosters in step with player statuses and answers who is still alive.
+ * <p>
+ * Status changes that can end a game go through {@link #recordStatusChange}, which saves the player and the
+ * roster together; the roster it returns says straight away whether one player is left. Reads are served from
+ * a warm copy of each roster that lives for a few seconds.
+ */
+public class GameRosterService {
+
+    // A change made on another container shows up in this one's copy within this many milliseconds
+    static final long CACHE_TTL_MS = 5_000;
+    private static final long CACHE_TICK_MS = 1_000;
+    private static final String ROSTER_KEY = "roster";
+
+    private final GameRosterDao gameRosterDao;
+    private final TimeSource timeSource; // Stamps roster updates and expires the warm copies
+    // gameId -> the roster as last read or written by this container
+    private final ExpiringGameCache<GameRoster> rosterCache = new ExpiringGameCache<>(CACHE_TTL_MS, CACHE_TICK_MS);
+
+    // Default constructor using the shared DAO and clock
+    public GameRosterService() {
+        this(ServiceRegistry.gameRosterDao(), ServiceRegistry.timeSource());
+    }
+
+    // Constructor for dependency injection with DAO and clock
+    public GameRosterService(GameRosterDao gameRosterDao, TimeSource timeSource) {
+        this.gameRosterDao = gameRosterDao;
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Builds and stores the roster of a game that is starting.
+     *
+     * @param gameId The ID of the game
+     * @param players Every player in the game, with the status they start with
+     * @return The stored roster
+     * @throws GamePersistenceException if the write fails
+     */
+    public GameRoster startRoster(String gameId, Collection<Player> players) throws GamePersistenceException {
+        GameRoster roster = GameRoster.of(gameId, players);
+        roster.setLastUpdated(timeSource.now().toString());
+        gameRosterDao.saveRoster(roster);
+        rosterCache.clearGame(gameId); // The version restarts, so a copy from an earlier start would win
+        cache(roster);
+        return roster;
+    }
+
+    /**
+     * Saves a player whose status changed, together with the roster of the player's game.
+     *
+     * @param player The player, already carrying the new status
+     * @param previousStatus The player's status before the change
+     * @return The roster as written by this change, or empty if the game has no roster or the change was
+     *         already recorded. The player is saved either way.
+     * @throws GamePersistenceException if the write fails
+     */
+    public Optional<GameRoster> recordStatusChange(Player player, String previousStatus) throws GamePersistenceException {
+        Optional<GameRoster> roster = gameRosterDao.updatePlayerStatus(player, previousStatus, timeSource.now().toString());
+        roster.ifPresent(this::cache);
+        return roster;
+    }
+
+    /**
+     * Gets the roster of a game, at most {@link #CACHE_TTL_MS} old.
+     *
+     * @param gameId The ID of the game
+     * @return The roster, or empty if the game has none (it has not started, or started before rosters were kept)
+     * @throws GamePersistenceException if the roster has to be read and the read fails
+     */
+    public Optional<GameRoster> getRoster(String gameId) throws GamePersistenceException {
+        long now = timeSource.currentTimeMillis();
+        rosterCache.expire(now);
+        GameRoster cached = rosterCache.get(gameId, ROSTER_KEY, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<GameRoster> roster = gameRosterDao.getRoster(gameId);
+        roster.ifPresent(this::cache);
+        return roster;
+    }
+
+    private void cache(GameRoster roster) {
+        long now = timeSource.currentTimeMillis();
+        GameRoster cached = rosterCache.get(roster.getGameId(), ROSTER_KEY, now);
+        // Changes can finish out of order; never swap the copy for an older version of the roster
+        if (cached == null || cached.getVersion() == null || roster.getVersion() == null
+                || roster.getVersion() >= cached.getVersion()) {
+            rosterCache.put(roster.getGameId(), ROSTER_KEY, roster, now);
+        }
+    }
+}
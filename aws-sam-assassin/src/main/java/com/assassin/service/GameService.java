@@ -10,9 +10,8 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.GameDao;
+import com.assassin.dao.PagedResult;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
@@ -24,6 +23,7 @@ import com.assassin.model.Game;
 import com.assassin.model.GameStatus;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus; // Assuming PlayerStatus enum exists
+import com.assassin.util.ServiceRegistry;
 
 /**
  * Service layer for managing game logic, such as starting games and assigning targets.
@@ -33,16 +33,25 @@ public class GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
     private final GameDao gameDao;
     private final PlayerDao playerDao;
+    private final GameRosterService gameRosterService; // Builds the roster the win check reads
+    private final GeofenceManager geofenceManager; // Released when a game ends
+    private final ProximityDetectionService proximityDetectionService; // Released when a game ends
 
     // Default constructor
     public GameService() {
-        this(new DynamoDbGameDao(), new DynamoDbPlayerDao());
+        this(ServiceRegistry.gameDao(), ServiceRegistry.playerDao(), ServiceRegistry.gameRosterService(),
+             ServiceRegistry.geofenceManager(), ServiceRegistry.proximityDetectionService());
     }
 
     // Constructor for dependency injection (testing)
-    public GameService(GameDao gameDao, PlayerDao playerDao) {
+    public GameService(GameDao gameDao, PlayerDao playerDao, GameRosterService gameRosterService,
+                       GeofenceManager geofenceManager, ProximityDetectionService proximityDetectionService) {
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
+        this.gameRosterService = Objects.requireNonNull(gameRosterService, "gameRosterService cannot be null");
+        this.geofenceManager = Objects.requireNonNull(geofenceManager, "geofenceManager cannot be null");
+        this.proximityDetectionService = Objects.requireNonNull(proximityDetectionService,
+                "proximityDetectionService cannot be null");
     }
 
     /**
@@ -77,11 +86,15 @@ public class GameService {
 
         // 4. Fetch Player objects and filter for ACTIVE status
         // Consider optimizing this for large games (e.g., batch get or GSI query)
+        List<Player> playersInGame = new ArrayList<>();
         List<Player> activePlayers = new ArrayList<>();
         for (String playerId : playerIdsInGame) {
             Player player = playerDao.getPlayerById(playerId).orElse(null);
-            if (player != null && PlayerStatus.ACTIVE.name().equalsIgnoreCase(player.getStatus())) {
-                activePlayers.add(player);
+            if (player != null) {
+                playersInGame.add(player);
+                if (PlayerStatus.ACTIVE.name().equalsIgnoreCase(player.getStatus())) {
+                    activePlayers.add(player);
+                }
             }
         }
 
@@ -116,7 +129,10 @@ public class GameService {
             }
         }
 
-        // 7. Update game status to ACTIVE
+        // 7. Build the roster from the players just loaded, so eliminations never reload the game to find a winner
+        gameRosterService.startRoster(gameId, playersInGame);
+
+        // 8. Update game status to ACTIVE
         game.setStatus(GameStatus.ACTIVE.name());
         // Optionally update other game fields like startTime
         // game.setSettings(...); // Example if storing start time in settings
@@ -193,6 +209,19 @@ public class GameService {
         throw new UnsupportedOperationException("Game listing not implemented.");
     }
 
+    /**
+     * Lists one page of the games with a status, newest first.
+     *
+     * @param status The status to filter games by (e.g., "PENDING", "ACTIVE").
+     * @param limit The maximum number of games on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of games and the token for the next one.
+     */
+    public PagedResult<Game> listGames(String status, int limit, String pageToken) {
+        logger.debug("Listing a page of up to {} games with status {}", limit, status);
+        return gameDao.listGamesByStatus(status, limit, pageToken);
+    }
+
     public Game getGame(String gameId) throws GameNotFoundException {
         logger.warn("getGame is not fully implemented yet.");
         // TODO: Implement game retrieval logic (call DAO)
@@ -207,10 +236,44 @@ public class GameService {
         throw new UnsupportedOperationException("Joining game not implemented.");
     }
 
+    /**
+     * Ends a game early at its admin's request, marking it CANCELLED, and drops the geofence and proximity
+     * state this container holds for it.
+     *
+     * @param gameId The ID of the game to end.
+     * @param requestingPlayerId The ID of the player requesting the end.
+     * @return The updated Game object.
+     * @throws GameNotFoundException If the game is not found.
+     * @throws UnauthorizedException If the requesting player is not the game admin.
+     * @throws GameStateException If the game has already ended.
+     */
     public Game forceEndGame(String gameId, String requestingPlayerId) throws GameNotFoundException, ValidationException {
-         logger.warn("forceEndGame is not fully implemented yet.");
-         // TODO: Implement logic to force game status to COMPLETED/CANCELLED (check admin)
-         throw new UnsupportedOperationException("Forcing game end not implemented.");
+        logger.info("Attempting to force end game {} by player {}", gameId, requestingPlayerId);
+
+        Game game = gameDao.getGameById(gameId)
+                .orElseThrow(() -> new GameNotFoundException("Game not found with ID: " + gameId));
+
+        if (!Objects.equals(game.getAdminPlayerID(), requestingPlayerId)) {
+            logger.warn("Unauthorized attempt by player {} to end game {} (Admin: {})",
+                    requestingPlayerId, gameId, game.getAdminPlayerID());
+            throw new UnauthorizedException("Only the game admin can end the game.");
+        }
+        if (GameStatus.COMPLETED.name().equalsIgnoreCase(game.getStatus())
+                || GameStatus.CANCELLED.name().equalsIgnoreCase(game.getStatus())) {
+            throw new GameStateException("Game " + gameId + " has already ended. Current status: " + game.getStatus());
+        }
+
+        game.setStatus(GameStatus.CANCELLED.name());
+        gameDao.saveGame(game);
+        releaseGameState(gameId);
+        logger.info("Force ended game {}.", gameId);
+        return game;
+    }
+
+    // Nothing reads an ended game's locations again, so free them instead of waiting for idle eviction
+    private void releaseGameState(String gameId) {
+        geofenceManager.clearGameGeofences(gameId);
+        proximityDetectionService.clearProximityCache(gameId);
     }
     
     public Game removePlayerFromGame(String gameId, String playerIdToRemove, String requestingPlayerId) throws GameNotFoundException, ValidationException {
@@ -0,0 +1,559 @@
+package com.assassin.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.config.MapConfiguration;
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.SafeZoneDao;
+import com.assassin.exception.GameNotFoundException;
+import com.assassin.metrics.JfrEvents;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameStatus;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.model.SafeZone;
+import com.assassin.util.GeoUtils;
+
+/**
+ * Evaluates every per-player game rule for a single game in one pass.
+ * <p>
+ * Zone damage, proximity and boundary checks used to each reload the same game and roster.
+ * A tick loads the game, zone state, safe zones, map configuration and roster exactly once,
+ * flattens the roster into a {@link PlayerSnapshot} (parallel primitive arrays), and then walks
+ * that snapshot once, evaluating:
+ * <ol>
+ *   <li>shrinking zone in/out</li>
+ *   <li>safe-zone membership</li>
+ *   <li>signed distance to the game boundary</li>
+ *   <li>target/hunter proximity bands</li>
+ * </ol>
+ * All resulting events are returned together in a {@link TickResult}, which
+ * {@link TickEventDispatcher} sends to the players as a batch. The cost of a tick is therefore
+ * linear in the number of players.
+ */
+public class GameTickProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameTickProcessor.class);
+
+    // Distance in meters that determines when a player is approaching a boundary
+    private static final double BOUNDARY_APPROACH_THRESHOLD_METERS = 50.0;
+    // Fallbacks when the map configuration does not specify distances
+    private static final double DEFAULT_ELIMINATION_DISTANCE = 10.0;
+    private static final double DEFAULT_PROXIMITY_AWARENESS_DISTANCE = 50.0;
+    // Locations older than this are ignored for proximity (matches ProximityDetectionService)
+    private static final long LOCATION_STALENESS_THRESHOLD_MS = 60000;
+
+    private final GameDao gameDao;
+    private final PlayerDao playerDao;
+    private final GameZoneStateDao gameZoneStateDao;
+    private final SafeZoneDao safeZoneDao;
+    private final MapConfigurationService mapConfigurationService;
+
+    /**
+     * Types of events emitted by a tick.
+     */
+    public enum TickEventType {
+        /** Player is outside the shrinking zone */
+        OUTSIDE_ZONE,
+        /** Player is outside the game boundary */
+        OUTSIDE_BOUNDARY,
+        /** Player is inside the game boundary but close to its edge */
+        APPROACHING_BOUNDARY,
+        /** Player's target is within elimination range */
+        TARGET_IN_RANGE,
+        /** Player's target is within proximity awareness range */
+        TARGET_NEARBY,
+        /** Player's hunter is within elimination range */
+        HUNTER_IN_RANGE,
+        /** Player's hunter is within proximity awareness range */
+        HUNTER_NEARBY
+    }
+
+    /**
+     * A single event produced by a tick.
+     */
+    public static class TickEvent {
+        private final String gameId;
+        private final String playerId;
+        private final String otherPlayerId;
+        private final TickEventType eventType;
+        private final double distanceMeters;
+
+        public TickEvent(String gameId, String playerId, String otherPlayerId,
+                         TickEventType eventType, double distanceMeters) {
+            this.gameId = gameId;
+            this.playerId = playerId;
+            this.otherPlayerId = otherPlayerId;
+            this.eventType = eventType;
+            this.distanceMeters = distanceMeters;
+        }
+
+        public String getGameId() {
+            return gameId;
+        }
+
+        public String getPlayerId() {
+            return playerId;
+        }
+
+        /**
+         * @return The counterpart player for proximity events, null otherwise.
+         */
+        public String getOtherPlayerId() {
+            return otherPlayerId;
+        }
+
+        public TickEventType getEventType() {
+            return eventType;
+        }
+
+        /**
+         * @return Distance to the counterpart, boundary edge or zone edge in meters.
+         */
+        public double getDistanceMeters() {
+            return distanceMeters;
+        }
+
+        @Override
+        public String toString() {
+            return "TickEvent{" +
+                    "gameId='" + gameId + '\'' +
+                    ", playerId='" + playerId + '\'' +
+                    ", otherPlayerId='" + otherPlayerId + '\'' +
+                    ", eventType=" + eventType +
+                    ", distanceMeters=" + distanceMeters +
+                    '}';
+        }
+    }
+
+    /**
+     * Struct-of-arrays view of a game's roster. Index {@code i} in every array refers to the same player.
+     * Derived per-tick results (zone, safe zone, boundary, proximity) are written back into the arrays
+     * during the evaluation pass so callers can read them without recomputing.
+     */
+    public static class PlayerSnapshot {
+        final int size;
+        final Player[] players;
+        final String[] playerIds;
+        final boolean[] alive;
+        final boolean[] hasLocation;
+        final double[] latitudes;
+        final double[] longitudes;
+        final long[] locationTimestamps;
+        final int[] targetIndexes;
+
+        final boolean[] outsideZone;
+        final boolean[] inSafeZone;
+        final double[] boundaryDistances;
+        final double[] targetDistances;
+        final double[] hunterDistances;
+
+        PlayerSnapshot(List<Player> roster) {
+            this.size = roster.size();
+            this.players = roster.toArray(new Player[0]);
+            this.playerIds = new String[size];
+            this.alive = new boolean[size];
+            this.hasLocation = new boolean[size];
+            this.latitudes = new double[size];
+            this.longitudes = new double[size];
+            this.locationTimestamps = new long[size];
+            this.targetIndexes = new int[size];
+            this.outsideZone = new boolean[size];
+            this.inSafeZone = new boolean[size];
+            this.boundaryDistances = new double[size];
+            this.targetDistances = new double[size];
+            this.hunterDistances = new double[size];
+
+            Map<String, Integer> indexById = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Player p = players[i];
+                playerIds[i] = p.getPlayerID();
+                indexById.put(p.getPlayerID(), i);
+                alive[i] = PlayerStatus.ACTIVE.name().equalsIgnoreCase(p.getStatus());
+                Double lat = p.getLatitude();
+                Double lon = p.getLongitude();
+                hasLocation[i] = lat != null && lon != null;
+                latitudes[i] = hasLocation[i] ? lat : Double.NaN;
+                longitudes[i] = hasLocation[i] ? lon : Double.NaN;
+                locationTimestamps[i] = parseTimestamp(p.getLocationTimestamp());
+                boundaryDistances[i] = Double.NaN;
+                targetDistances[i] = Double.NaN;
+                hunterDistances[i] = Double.NaN;
+            }
+            for (int i = 0; i < size; i++) {
+                Integer idx = players[i].getTargetID() == null ? null : indexById.get(players[i].getTargetID());
+                targetIndexes[i] = idx == null ? -1 : idx;
+            }
+        }
+
+        private static long parseTimestamp(String isoTimestamp) {
+            if (isoTimestamp == null) {
+                return Long.MIN_VALUE;
+            }
+            try {
+                return Instant.parse(isoTimestamp).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                return Long.MIN_VALUE;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Player getPlayer(int index) {
+            return players[index];
+        }
+
+        public String getPlayerId(int index) {
+            return playerIds[index];
+        }
+
+        public boolean isAlive(int index) {
+            return alive[index];
+        }
+
+        public boolean isOutsideZone(int index) {
+            return outsideZone[index];
+        }
+
+        public boolean isInSafeZone(int index) {
+            return inSafeZone[index];
+        }
+
+        /**
+         * @return Distance to the nearest boundary edge in meters (negative when outside), NaN if unknown.
+         */
+        public double getBoundaryDistance(int index) {
+            return boundaryDistances[index];
+        }
+
+        /**
+         * @return Distance to the player's target in meters, NaN if unknown.
+         */
+        public double getTargetDistance(int index) {
+            return targetDistances[index];
+        }
+
+        /**
+         * @return Distance to the player's hunter in meters, NaN if unknown.
+         */
+        public double getHunterDistance(int index) {
+            return hunterDistances[index];
+        }
+    }
+
+    /**
+     * Outcome of a tick: the evaluated snapshot and the batch of events it produced.
+     */
+    public static class TickResult {
+        private final String gameId;
+        private final Game game;
+        private final GameZoneState zoneState;
+        private final PlayerSnapshot snapshot;
+        private final List<TickEvent> events;
+        private final long tickTimeMillis;
+
+        TickResult(String gameId, Game game, GameZoneState zoneState, PlayerSnapshot snapshot,
+                   List<TickEvent> events, long tickTimeMillis) {
+            this.gameId = gameId;
+            this.game = game;
+            this.zoneState = zoneState;
+            this.snapshot = snapshot;
+            this.events = Collections.unmodifiableList(events);
+            this.tickTimeMillis = tickTimeMillis;
+        }
+
+        static TickResult empty(String gameId, Game game, long tickTimeMillis) {
+            return new TickResult(gameId, game, null, new PlayerSnapshot(List.of()), new ArrayList<>(), tickTimeMillis);
+        }
+
+        public String getGameId() {
+            return gameId;
+        }
+
+        public Game getGame() {
+            return game;
+        }
+
+        /**
+         * @return The zone state the tick was evaluated against, or null if the game has no active zone.
+         */
+        public GameZoneState getZoneState() {
+            return zoneState;
+        }
+
+        public PlayerSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        public List<TickEvent> getEvents() {
+            return events;
+        }
+
+        public long getTickTimeMillis() {
+            return tickTimeMillis;
+        }
+    }
+
+    public GameTickProcessor(GameDao gameDao, PlayerDao playerDao, GameZoneStateDao gameZoneStateDao,
+                             SafeZoneDao safeZoneDao, MapConfigurationService mapConfigurationService) {
+        this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
+        this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
+        this.gameZoneStateDao = Objects.requireNonNull(gameZoneStateDao, "gameZoneStateDao cannot be null");
+        this.safeZoneDao = Objects.requireNonNull(safeZoneDao, "safeZoneDao cannot be null");
+        this.mapConfigurationService = Objects.requireNonNull(mapConfigurationService, "mapConfigurationService cannot be null");
+    }
+
+    /**
+     * Runs a tick for a game, loading the game and its stored zone state.
+     *
+     * @param gameId The game to evaluate.
+     * @param nowMillis The tick time in epoch milliseconds.
+     * @return The tick result; empty if the game is not active.
+     * @throws GameNotFoundException If the game does not exist.
+     */
+    public TickResult processTick(String gameId, long nowMillis) throws GameNotFoundException {
+        Game game = gameDao.getGameById(gameId)
+                .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameId));
+        GameZoneState zoneState = Boolean.TRUE.equals(game.getShrinkingZoneEnabled())
+                ? gameZoneStateDao.getGameZoneState(gameId).orElse(null)
+                : null;
+        return processTick(game, zoneState, nowMillis);
+    }
+
+    /**
+     * Runs a tick for an already loaded game and zone state (e.g. the state just returned by
+     * {@link ShrinkingZoneService#advanceZoneState(String)}), so no game or zone reads are repeated.
+     *
+     * @param game The game to evaluate.
+     * @param zoneState The current zone state, or null if the game has no active zone.
+     * @param nowMillis The tick time in epoch milliseconds.
+     * @return The tick result; empty if the game is not active.
+     */
+    public TickResult processTick(Game game, GameZoneState zoneState, long nowMillis) {
+        Objects.requireNonNull(game, "game cannot be null");
+        String gameId = game.getGameID();
+
+        if (!GameStatus.ACTIVE.name().equalsIgnoreCase(game.getStatus())) {
+            logger.debug("Skipping tick for game {} with status {}", gameId, game.getStatus());
+            return TickResult.empty(gameId, game, nowMillis);
+        }
+
+        JfrEvents.ProximitySweep event = JfrEvents.begin(JfrEvents.ProximitySweep::new);
+
+        // --- Load runtime context once ---
+        MapConfiguration mapConfig = loadMapConfiguration(gameId);
+        List<Coordinate> boundary = resolveBoundary(game, mapConfig);
+        double eliminationDistance = valueOrDefault(
+                mapConfig != null ? mapConfig.getEliminationDistanceMeters() : null, DEFAULT_ELIMINATION_DISTANCE);
+        double awarenessDistance = Math.max(eliminationDistance, valueOrDefault(
+                mapConfig != null ? mapConfig.getProximityAwarenessDistanceMeters() : null, DEFAULT_PROXIMITY_AWARENESS_DISTANCE));
+
+        boolean zoneActive = zoneState != null
+                && zoneState.getCurrentCenter() != null
+                && zoneState.getCurrentRadiusMeters() != null;
+        double zoneLat = zoneActive ? zoneState.getCurrentCenter().getLatitude() : 0;
+        double zoneLon = zoneActive ? zoneState.getCurrentCenter().getLongitude() : 0;
+        double zoneRadius = zoneActive ? zoneState.getCurrentRadiusMeters() : 0;
+
+        double[][] safeZones = loadActiveSafeZones(gameId, nowMillis);
+        PlayerSnapshot snapshot = new PlayerSnapshot(playerDao.getPlayersByGameId(gameId));
+
+        // --- Single evaluation pass ---
+        List<TickEvent> events = new ArrayList<>();
+        // 0 = not yet evaluated, 1 = outside all safe zones, 2 = inside a safe zone
+        byte[] safeState = new byte[snapshot.size];
+
+        for (int i = 0; i < snapshot.size; i++) {
+            if (!snapshot.alive[i]) {
+                continue;
+            }
+            String playerId = snapshot.playerIds[i];
+
+            // Zone: players without a location are treated as outside (matches PlayerStatusService)
+            if (zoneActive) {
+                if (!snapshot.hasLocation[i]) {
+                    snapshot.outsideZone[i] = true;
+                    events.add(new TickEvent(gameId, playerId, null, TickEventType.OUTSIDE_ZONE, Double.NaN));
+                } else {
+                    double distanceToCenter = GeoUtils.calculateDistance(
+                            snapshot.latitudes[i], snapshot.longitudes[i], zoneLat, zoneLon);
+                    if (distanceToCenter > zoneRadius) {
+                        snapshot.outsideZone[i] = true;
+                        events.add(new TickEvent(gameId, playerId, null, TickEventType.OUTSIDE_ZONE, distanceToCenter - zoneRadius));
+                    }
+                }
+            }
+
+            if (!snapshot.hasLocation[i]) {
+                continue;
+            }
+
+            // Safe zone
+            snapshot.inSafeZone[i] = isInSafeZone(snapshot, i, safeZones, safeState);
+
+            // Boundary
+            if (boundary != null) {
+                double boundaryDistance = signedDistanceToBoundary(snapshot.latitudes[i], snapshot.longitudes[i], boundary);
+                snapshot.boundaryDistances[i] = boundaryDistance;
+                if (boundaryDistance < 0) {
+                    events.add(new TickEvent(gameId, playerId, null, TickEventType.OUTSIDE_BOUNDARY, -boundaryDistance));
+                } else if (boundaryDistance < BOUNDARY_APPROACH_THRESHOLD_METERS) {
+                    events.add(new TickEvent(gameId, playerId, null, TickEventType.APPROACHING_BOUNDARY, boundaryDistance));
+                }
+            }
+
+            // Target/hunter proximity: the pair (i -> target) yields both the hunter's and the target's band
+            int t = snapshot.targetIndexes[i];
+            if (t < 0 || !snapshot.alive[t] || !snapshot.hasLocation[t]
+                    || isStale(snapshot.locationTimestamps[i], nowMillis)
+                    || isStale(snapshot.locationTimestamps[t], nowMillis)) {
+                continue;
+            }
+            double distance = GeoUtils.calculateDistance(
+                    snapshot.latitudes[i], snapshot.longitudes[i], snapshot.latitudes[t], snapshot.longitudes[t]);
+            snapshot.targetDistances[i] = distance;
+            snapshot.hunterDistances[t] = distance;
+
+            if (distance > awarenessDistance) {
+                continue;
+            }
+            // A target sheltering in a safe zone cannot be eliminated, so it only counts as nearby
+            boolean targetProtected = isInSafeZone(snapshot, t, safeZones, safeState);
+            boolean inRange = distance <= eliminationDistance && !targetProtected;
+            String targetId = snapshot.playerIds[t];
+            events.add(new TickEvent(gameId, playerId, targetId,
+                    inRange ? TickEventType.TARGET_IN_RANGE : TickEventType.TARGET_NEARBY, distance));
+            events.add(new TickEvent(gameId, targetId, playerId,
+                    inRange ? TickEventType.HUNTER_IN_RANGE : TickEventType.HUNTER_NEARBY, distance));
+        }
+
+        logger.debug("Tick for game {} evaluated {} players and produced {} events", gameId, snapshot.size, events.size());
+        if (JfrEvents.shouldCommit(event)) {
+            event.gameId = gameId;
+            event.playerCount = snapshot.size;
+            int alive = 0;
+            for (int i = 0; i < snapshot.size; i++) {
+                if (snapshot.alive[i]) {
+                    alive++;
+                }
+            }
+            event.alivePlayerCount = alive;
+            event.eventCount = events.size();
+            event.commit();
+        }
+        return new TickResult(gameId, game, zoneActive ? zoneState : null, snapshot, events, nowMillis);
+    }
+
+    private MapConfiguration loadMapConfiguration(String gameId) {
+        try {
+            return mapConfigurationService.getEffectiveMapConfiguration(gameId);
+        } catch (Exception e) {
+            logger.warn("Could not load map configuration for game {}: {}. Using default distances.", gameId, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Coordinate> resolveBoundary(Game game, MapConfiguration mapConfig) {
+        if (game.getBoundary() != null && game.getBoundary().size() >= 3) {
+            return game.getBoundary();
+        }
+        if (mapConfig != null && mapConfig.getGameBoundary() != null && mapConfig.getGameBoundary().size() >= 3) {
+            return mapConfig.getGameBoundary();
+        }
+        List<Coordinate> fallback = mapConfigurationService.getGameBoundary(game.getGameID());
+        return fallback != null && fallback.size() >= 3 ? fallback : null;
+    }
+
+    /**
+     * Flattens the game's unexpired safe zones into rows of {lat, lon, radius}.
+     * A failed read counts as no safe zones, so the rest of the tick still runs.
+     */
+    private double[][] loadActiveSafeZones(String gameId, long nowMillis) {
+        List<SafeZone> zones;
+        try {
+            zones = safeZoneDao.getSafeZonesByGameId(gameId);
+        } catch (Exception e) {
+            logger.warn("Could not load safe zones for game {}: {}. Evaluating the tick without safe zones.", gameId, e.getMessage());
+            return new double[0][];
+        }
+        if (zones == null || zones.isEmpty()) {
+            return new double[0][];
+        }
+        List<double[]> active = new ArrayList<>(zones.size());
+        for (SafeZone zone : zones) {
+            if (zone.getCenter() == null || zone.getRadiusMeters() == null) {
+                continue;
+            }
+            if (zone.getExpiresAt() != null) {
+                try {
+                    if (Long.parseLong(zone.getExpiresAt()) < nowMillis) {
+                        continue;
+                    }
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid expiresAt timestamp for safe zone {}: {}", zone.getSafeZoneId(), zone.getExpiresAt());
+                    continue;
+                }
+            }
+            active.add(new double[] {zone.getCenter().getLatitude(), zone.getCenter().getLongitude(), zone.getRadiusMeters()});
+        }
+        return active.toArray(new double[0][]);
+    }
+
+    private static boolean isInSafeZone(PlayerSnapshot snapshot, int index, double[][] safeZones, byte[] safeState) {
+        if (safeState[index] == 0) {
+            boolean inside = false;
+            if (snapshot.hasLocation[index]) {
+                for (double[] zone : safeZones) {
+                    if (GeoUtils.calculateDistance(snapshot.latitudes[index], snapshot.longitudes[index], zone[0], zone[1]) <= zone[2]) {
+                        inside = true;
+                        break;
+                    }
+                }
+            }
+            safeState[index] = inside ? (byte) 2 : (byte) 1;
+        }
+        return safeState[index] == 2;
+    }
+
+    /**
+     * Distance in meters to the nearest boundary edge; positive inside the boundary, negative outside.
+     */
+    private static double signedDistanceToBoundary(double lat, double lon, List<Coordinate> boundary) {
+        double minDistance = Double.MAX_VALUE;
+        int n = boundary.size();
+        for (int j = 0; j < n; j++) {
+            Coordinate a = boundary.get(j);
+            Coordinate b = boundary.get((j + 1) % n);
+            double d = GeoUtils.distanceToLineSegment(lat, lon, a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
+            if (d < minDistance) {
+                minDistance = d;
+            }
+        }
+        boolean inside = GeoUtils.isPointInBoundary(new Coordinate(lat, lon), boundary);
+        return inside ? minDistance : -minDistance;
+    }
+
+    private static boolean isStale(long timestampMillis, long nowMillis) {
+        return timestampMillis == Long.MIN_VALUE || nowMillis - timestampMillis > LOCATION_STALENESS_THRESHOLD_MS;
+    }
+
+    private static double valueOrDefault(Double value, double defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+}
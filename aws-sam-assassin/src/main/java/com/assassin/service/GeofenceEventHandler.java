@@ -6,12 +6,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbGameZoneStateDao;
-import com.assassin.dao.DynamoDbPlayerDao;
-import com.assassin.dao.DynamoDbSafeZoneDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.service.GeofenceManager.GeofenceEvent;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 /**
  * Handles geofence events triggered by the GeofenceManager.
@@ -23,6 +21,7 @@ public class GeofenceEventHandler {
     private final PlayerDao playerDao;
     private final GeofenceManager geofenceManager;
     private final Map<String, Long> playerWarnings; // playerId+gameId -> timestamp of last warning
+    private final TimeSource timeSource;
     
     // Constants for event handling
     private static final long WARNING_COOLDOWN_MS = 60000; // 1 minute between warnings
@@ -35,26 +34,28 @@ public class GeofenceEventHandler {
      * @param geofenceManager For registering event listeners
      */
     public GeofenceEventHandler(PlayerDao playerDao, GeofenceManager geofenceManager) {
+        this(playerDao, geofenceManager, TimeSource.system());
+    }
+    
+    /**
+     * Creates a new GeofenceEventHandler whose warning cooldowns follow the given clock.
+     * 
+     * @param playerDao For updating player state
+     * @param geofenceManager For registering event listeners
+     * @param timeSource Clock used for warning cooldowns
+     */
+    public GeofenceEventHandler(PlayerDao playerDao, GeofenceManager geofenceManager, TimeSource timeSource) {
         this.playerDao = playerDao;
         this.geofenceManager = geofenceManager;
         this.playerWarnings = new ConcurrentHashMap<>();
+        this.timeSource = timeSource;
     }
     
     /**
      * Default constructor that initializes with default dependencies.
      */
     public GeofenceEventHandler() {
-        this(new DynamoDbPlayerDao(), new GeofenceManager(
-             new MapConfigurationService(
-                 new DynamoDbGameDao(), 
-                 new DynamoDbGameZoneStateDao(),
-                 new DynamoDbSafeZoneDao(),
-                 new ShrinkingZoneService(
-                     new DynamoDbGameDao(),
-                     new DynamoDbGameZoneStateDao(),
-                     new DynamoDbPlayerDao()
-                 )
-             )));
+        this(ServiceRegistry.playerDao(), ServiceRegistry.geofenceManager(), ServiceRegistry.timeSource());
     }
     
     /**
@@ -126,7 +127,7 @@ public class GeofenceEventHandler {
             case APPROACHING_BOUNDARY:
                 // Player is getting close to boundary - warn them
                 // Only send warning if we haven't recently sent one (prevent spam)
-                long now = System.currentTimeMillis();
+                long now = timeSource.currentTimeMillis();
                 Long lastWarningTime = playerWarnings.get(boundaryKey);
                 
                 if (lastWarningTime == null || (now - lastWarningTime) > WARNING_COOLDOWN_MS) {
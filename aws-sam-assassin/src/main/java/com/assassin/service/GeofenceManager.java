@@ -3,14 +3,18 @@ package com.assassin.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.TimeSource;
 
 /**
  * Manages geofencing functionality for game boundaries and handles boundary crossing events.
@@ -26,13 +30,20 @@ public class GeofenceManager {
     // Distance in meters that determines when a player is approaching a boundary
     private static final double BOUNDARY_APPROACH_THRESHOLD_METERS = 50.0;
     
+    // Games with no location updates for this long have their state evicted
+    private static final long GAME_IDLE_TIMEOUT_MS = 30 * 60 * 1000L; // 30 minutes
+    
+    // Minimum time between idle-game sweeps, so the sweep cost is amortized across updates
+    private static final long IDLE_SWEEP_INTERVAL_MS = 60 * 1000L; // 1 minute
+    
     private final MapConfigurationService mapConfigurationService;
+    private final TimeSource timeSource;
     
-    // Cache of player locations, mapped by playerId -> last known coordinate
-    private final Map<String, Coordinate> playerLocationCache;
+    // Per-game player state, mapped by gameId -> partition; each partition is evicted as a unit
+    private final Map<String, GamePartition> gamePartitions;
     
-    // Cache of player boundary status, mapped by playerId+gameId -> boolean (true if inside boundary)
-    private final Map<String, Boolean> playerBoundaryStatusCache;
+    // Time of the last idle-game sweep
+    private volatile long lastIdleSweepMillis;
     
     // Listeners for boundary crossing events, mapped by gameId -> (playerId, listener)
     private final Map<String, Map<String, Consumer<GeofenceEvent>>> boundaryEventListeners;
@@ -86,15 +97,49 @@ public class GeofenceManager {
         }
     }
     
+    /**
+     * Geofence state of all tracked players in one game.
+     */
+    private static final class GamePartition {
+        private final Map<String, PlayerGeofenceState> players = new ConcurrentHashMap<>();
+        private volatile long lastAccessMillis;
+        
+        private GamePartition(long nowMillis) {
+            this.lastAccessMillis = nowMillis;
+        }
+    }
+    
+    /**
+     * Compact per-player geofence state held as primitives rather than boxed values.
+     */
+    private static final class PlayerGeofenceState {
+        private double latitude;
+        private double longitude;
+        private boolean insideBoundary;
+        // Time of the last boundary event emitted for the player, or 0 if none
+        private long lastEventMillis;
+    }
+    
     /**
      * Creates a new GeofenceManager with the necessary dependencies.
      * 
      * @param mapConfigurationService For retrieving game boundaries
      */
     public GeofenceManager(MapConfigurationService mapConfigurationService) {
+        this(mapConfigurationService, TimeSource.system());
+    }
+    
+    /**
+     * Creates a new GeofenceManager whose idle eviction and event timestamps follow the given clock.
+     * 
+     * @param mapConfigurationService For retrieving game boundaries
+     * @param timeSource Clock used for idle eviction and event timestamps
+     */
+    public GeofenceManager(MapConfigurationService mapConfigurationService, TimeSource timeSource) {
         this.mapConfigurationService = mapConfigurationService;
-        this.playerLocationCache = new ConcurrentHashMap<>();
-        this.playerBoundaryStatusCache = new ConcurrentHashMap<>();
+        this.timeSource = timeSource;
+        this.gamePartitions = new ConcurrentHashMap<>();
+        this.lastIdleSweepMillis = timeSource.currentTimeMillis();
         this.boundaryEventListeners = new ConcurrentHashMap<>();
     }
     
@@ -113,39 +158,78 @@ public class GeofenceManager {
             return Optional.empty();
         }
         
+        return updatePlayerLocation(gameId, playerId, newLocation,
+                mapConfigurationService.isCoordinateInGameBoundary(gameId, newLocation),
+                location -> calculateApproximateDistanceToBoundary(gameId, location));
+    }
+    
+    /**
+     * Updates a player's location in an already loaded game, checking it against the boundary of the
+     * game's map without reading the game again.
+     * 
+     * @param game The player's game
+     * @param playerId The player ID
+     * @param newLocation The player's new location
+     * @return Optional containing a GeofenceEvent if a boundary event occurred, empty otherwise
+     */
+    public Optional<GeofenceEvent> updatePlayerLocation(Game game, String playerId, Coordinate newLocation) {
+        if (game == null || game.getGameID() == null || playerId == null || newLocation == null) {
+            logger.warn("Cannot update player location with null parameters: game={}, playerId={}, location={}", 
+                        game, playerId, newLocation);
+            return Optional.empty();
+        }
+        
+        List<Coordinate> boundary = mapConfigurationService.getGameBoundary(game);
+        return updatePlayerLocation(game.getGameID(), playerId, newLocation,
+                GeoUtils.isPointInBoundary(newLocation, boundary),
+                location -> calculateApproximateDistanceToBoundary(boundary, location));
+    }
+    
+    private Optional<GeofenceEvent> updatePlayerLocation(String gameId, String playerId, Coordinate newLocation,
+            boolean isInBoundary, ToDoubleFunction<Coordinate> boundaryDistance) {
         logger.debug("Updating location for player {} in game {} to ({}, {})", 
                     playerId, gameId, newLocation.getLatitude(), newLocation.getLongitude());
         
-        // Store previous location and update cache
-        Coordinate previousLocation = playerLocationCache.put(playerId, newLocation);
-        
-        // Check if the player is within the game boundary
-        boolean isInBoundary = mapConfigurationService.isCoordinateInGameBoundary(gameId, newLocation);
+        long now = timeSource.currentTimeMillis();
+        evictIdleGamesIfDue(now);
+        GamePartition partition = gamePartitions.computeIfAbsent(gameId, g -> new GamePartition(now));
+        partition.lastAccessMillis = now;
         
-        // Generate a composite key for player+game boundary status
-        String boundaryStatusKey = generateBoundaryStatusKey(gameId, playerId);
-        Boolean wasInBoundary = playerBoundaryStatusCache.get(boundaryStatusKey);
+        // Record the new state, remembering the previous boundary status
+        PlayerGeofenceState state = partition.players.get(playerId);
+        if (state == null) {
+            state = new PlayerGeofenceState();
+            state.latitude = newLocation.getLatitude();
+            state.longitude = newLocation.getLongitude();
+            state.insideBoundary = isInBoundary;
+            // If we've never seen this player before, just store the status and return
+            if (partition.players.putIfAbsent(playerId, state) == null) {
+                logger.debug("First location update for player {} in game {}, is inside boundary: {}", 
+                            playerId, gameId, isInBoundary);
+                return Optional.empty();
+            }
+            state = partition.players.get(playerId);
+        }
         
-        // If we've never seen this player before, just update the status and return
-        if (wasInBoundary == null) {
-            playerBoundaryStatusCache.put(boundaryStatusKey, isInBoundary);
-            logger.debug("First location update for player {} in game {}, is inside boundary: {}", 
-                        playerId, gameId, isInBoundary);
-            return Optional.empty();
+        boolean wasInBoundary;
+        synchronized (state) {
+            wasInBoundary = state.insideBoundary;
+            state.latitude = newLocation.getLatitude();
+            state.longitude = newLocation.getLongitude();
+            state.insideBoundary = isInBoundary;
         }
         
         // Check if boundary status has changed
         if (wasInBoundary != isInBoundary) {
-            playerBoundaryStatusCache.put(boundaryStatusKey, isInBoundary);
-            
             GeofenceEventType eventType = isInBoundary 
                 ? GeofenceEventType.ENTER_BOUNDARY 
                 : GeofenceEventType.EXIT_BOUNDARY;
                 
             // Calculate approximate distance to boundary (simplified)
-            double distanceToBoundary = calculateApproximateDistanceToBoundary(gameId, newLocation);
+            double distanceToBoundary = boundaryDistance.applyAsDouble(newLocation);
             
             GeofenceEvent event = new GeofenceEvent(gameId, playerId, newLocation, eventType, distanceToBoundary);
+            recordEvent(state, now);
             
             // Trigger listeners
             triggerBoundaryEvent(event);
@@ -158,10 +242,11 @@ public class GeofenceManager {
         
         // If player is inside but approaching boundary, warn them
         if (isInBoundary) {
-            double distanceToBoundary = calculateApproximateDistanceToBoundary(gameId, newLocation);
+            double distanceToBoundary = boundaryDistance.applyAsDouble(newLocation);
             if (distanceToBoundary <= BOUNDARY_APPROACH_THRESHOLD_METERS) {
                 GeofenceEvent event = new GeofenceEvent(
                     gameId, playerId, newLocation, GeofenceEventType.APPROACHING_BOUNDARY, distanceToBoundary);
+                recordEvent(state, now);
                 
                 // Trigger approach warning
                 triggerBoundaryEvent(event);
@@ -176,18 +261,42 @@ public class GeofenceManager {
         return Optional.empty();
     }
     
+    /**
+     * Returns the distance from a coordinate to the nearest edge of the game boundary.
+     * 
+     * @param gameId The game ID
+     * @param location The coordinate to check
+     * @return Distance in meters; positive inside the boundary, negative outside
+     */
+    public double getDistanceToBoundary(String gameId, Coordinate location) {
+        return calculateApproximateDistanceToBoundary(gameId, location);
+    }
+    
+    /**
+     * Returns the distance from a coordinate to the nearest edge of an already loaded game's boundary,
+     * without reading the game again.
+     * 
+     * @param game The game
+     * @param location The coordinate to check
+     * @return Distance in meters; positive inside the boundary, negative outside
+     */
+    public double getDistanceToBoundary(Game game, Coordinate location) {
+        return calculateApproximateDistanceToBoundary(mapConfigurationService.getGameBoundary(game), location);
+    }
+    
+    private double calculateApproximateDistanceToBoundary(String gameId, Coordinate location) {
+        return calculateApproximateDistanceToBoundary(mapConfigurationService.getGameBoundary(gameId), location);
+    }
+    
     /**
      * Calculates an approximate distance from a coordinate to the nearest point on the game boundary.
      * This is a simplified implementation that could be improved for accuracy and performance.
      * 
-     * @param gameId The game ID
+     * @param boundary The game boundary
      * @param location The coordinate to check
      * @return Approximate distance in meters to the boundary
      */
-    private double calculateApproximateDistanceToBoundary(String gameId, Coordinate location) {
-        // Get the game boundary
-        List<Coordinate> boundary = mapConfigurationService.getGameBoundary(gameId);
-        
+    private static double calculateApproximateDistanceToBoundary(List<Coordinate> boundary, Coordinate location) {
         // If we're outside the boundary, we use a negative distance
         boolean isInside = GeoUtils.isPointInBoundary(location, boundary);
         
@@ -264,12 +373,107 @@ public class GeofenceManager {
         // Remove all listeners for this game
         boundaryEventListeners.remove(gameId);
         
-        // Remove all boundary status cache entries for this game
-        playerBoundaryStatusCache.keySet().removeIf(key -> key.startsWith(gameId + ":"));
+        // Drop the game's player state as a unit
+        gamePartitions.remove(gameId);
         
         logger.info("Cleared all geofence data for game {}", gameId);
     }
     
+    /**
+     * Evicts the state of games that have had no location updates for {@value #GAME_IDLE_TIMEOUT_MS}ms.
+     * Listeners are kept, since they are registered explicitly and removed by {@link #clearGameGeofences}.
+     * 
+     * @param nowMillis Current time in milliseconds
+     * @return Number of game partitions evicted
+     */
+    public int evictIdleGames(long nowMillis) {
+        int evicted = 0;
+        for (Map.Entry<String, GamePartition> entry : gamePartitions.entrySet()) {
+            if (nowMillis - entry.getValue().lastAccessMillis > GAME_IDLE_TIMEOUT_MS
+                    && gamePartitions.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+                logger.info("Evicted idle geofence state for game {}", entry.getKey());
+            }
+        }
+        lastIdleSweepMillis = nowMillis;
+        return evicted;
+    }
+    
+    /**
+     * @return Number of games with tracked geofence state
+     */
+    public int getTrackedGameCount() {
+        return gamePartitions.size();
+    }
+    
+    /**
+     * @return Number of players with tracked geofence state, across all games
+     */
+    public int getTrackedPlayerCount() {
+        int count = 0;
+        for (GamePartition partition : gamePartitions.values()) {
+            count += partition.players.size();
+        }
+        return count;
+    }
+    
+    /**
+     * @param gameId The game ID
+     * @return Number of players with tracked geofence state in the game
+     */
+    public int getTrackedPlayerCount(String gameId) {
+        GamePartition partition = gameId != null ? gamePartitions.get(gameId) : null;
+        return partition != null ? partition.players.size() : 0;
+    }
+    
+    /**
+     * Returns the last location recorded for a player in a game.
+     * 
+     * @param gameId The game ID
+     * @param playerId The player ID
+     * @return The last recorded location, or empty if the player is not tracked
+     */
+    public Optional<Coordinate> getLastKnownLocation(String gameId, String playerId) {
+        GamePartition partition = gameId != null ? gamePartitions.get(gameId) : null;
+        PlayerGeofenceState state = partition != null && playerId != null ? partition.players.get(playerId) : null;
+        if (state == null) {
+            return Optional.empty();
+        }
+        synchronized (state) {
+            return Optional.of(new Coordinate(state.latitude, state.longitude));
+        }
+    }
+    
+    /**
+     * Returns when the last boundary event was emitted for a player in a game.
+     * 
+     * @param gameId The game ID
+     * @param playerId The player ID
+     * @return Epoch millis of the last event, or empty if the player is untracked or has had no event
+     */
+    public OptionalLong getLastBoundaryEventMillis(String gameId, String playerId) {
+        GamePartition partition = gameId != null ? gamePartitions.get(gameId) : null;
+        PlayerGeofenceState state = partition != null && playerId != null ? partition.players.get(playerId) : null;
+        if (state == null) {
+            return OptionalLong.empty();
+        }
+        synchronized (state) {
+            return state.lastEventMillis > 0 ? OptionalLong.of(state.lastEventMillis) : OptionalLong.empty();
+        }
+    }
+    
+    private static void recordEvent(PlayerGeofenceState state, long nowMillis) {
+        synchronized (state) {
+            state.lastEventMillis = nowMillis;
+        }
+    }
+    
+    private void evictIdleGamesIfDue(long nowMillis) {
+        if (nowMillis - lastIdleSweepMillis >= IDLE_SWEEP_INTERVAL_MS) {
+            evictIdleGames(nowMillis);
+        }
+    }
+    
     /**
      * Triggers appropriate boundary event listeners for an event.
      * 
@@ -285,15 +489,5 @@ public class GeofenceManager {
             }
         }
     }
-    
-    /**
-     * Generates a composite key for the player boundary status cache.
-     * 
-     * @param gameId The game ID
-     * @param playerId The player ID
-     * @return A composite key string
-     */
-    private String generateBoundaryStatusKey(String gameId, String playerId) {
-        return gameId + ":" + playerId;
-    }
+
 } 
\ No newline at end of file
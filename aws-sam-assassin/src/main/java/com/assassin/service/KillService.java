@@ -8,11 +8,12 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbKillDao;
-import com.assassin.dao.DynamoDbPlayerDao;
+import com.assassin.dao.DynamoDbGameEventDao;
+import com.assassin.dao.DynamoDbGameRosterDao;
+import com.assassin.dao.DynamoDbRecentKillFeedDao;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.KillDao;
+import com.assassin.dao.PagedResult;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.InvalidGameStateException;
@@ -22,8 +23,10 @@ import com.assassin.exception.PlayerActionNotAllowedException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.SafeZoneException;
 import com.assassin.exception.ValidationException;
+import com.assassin.metrics.JfrEvents;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
 import com.assassin.model.GameState;
 import com.assassin.model.Kill;
 import com.assassin.model.Notification;
@@ -32,6 +35,8 @@ import com.assassin.model.PlayerStatus;
 import com.assassin.service.verification.VerificationManager;
 import com.assassin.service.verification.VerificationResult;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 
@@ -47,28 +52,33 @@ public class KillService {
     private final NotificationService notificationService; // Added NotificationService
     private final VerificationManager verificationManager; // Add VerificationManager dependency
     private final SafeZoneService safeZoneService; // Add SafeZoneService
+    private final TimeSource timeSource; // Stamps kill times
+    private final RecentKillFeedService recentKillFeedService; // Serves the recent-kills feeds
+    private final GameEventService gameEventService; // Sequences kill changes for client sync
+    private final GameRosterService gameRosterService; // Saves eliminations together with the game's roster
 
     // Default constructor for frameworks or testing if needed
     public KillService() {
-        this(new DynamoDbKillDao(), new DynamoDbPlayerDao(), new DynamoDbGameDao(), new NotificationService(), 
-             new VerificationManager(new DynamoDbPlayerDao(), new DynamoDbGameDao()), new SafeZoneService()); // Pass GameDao here too
+        this(ServiceRegistry.killDao(), ServiceRegistry.playerDao(), ServiceRegistry.gameDao(), ServiceRegistry.notificationService(), 
+             ServiceRegistry.verificationManager(), ServiceRegistry.safeZoneService(), ServiceRegistry.timeSource(),
+             ServiceRegistry.recentKillFeedService(), ServiceRegistry.gameEventService(), ServiceRegistry.gameRosterService());
     }
 
-    // Constructor for dependency injection (testing)
-    public KillService(KillDao killDao, PlayerDao playerDao, GameDao gameDao, NotificationService notificationService) {
-        this(killDao, playerDao, gameDao, notificationService, 
-             new VerificationManager(playerDao, gameDao), new SafeZoneService()); // Pass GameDao here too
-    }
-
-    // Constructor allowing explicit VerificationManager injection (for testing or different DI setups)
+    // Constructor allowing explicit injection of every dependency, including the feeds, the event sequence and the rosters
     public KillService(KillDao killDao, PlayerDao playerDao, GameDao gameDao, 
-                       NotificationService notificationService, VerificationManager verificationManager, SafeZoneService safeZoneService) {
+                       NotificationService notificationService, VerificationManager verificationManager, SafeZoneService safeZoneService,
+                       TimeSource timeSource, RecentKillFeedService recentKillFeedService, GameEventService gameEventService,
+                       GameRosterService gameRosterService) {
         this.killDao = killDao;
         this.playerDao = playerDao;
         this.gameDao = gameDao; 
         this.notificationService = notificationService;
         this.verificationManager = verificationManager; // Assign VerificationManager
         this.safeZoneService = safeZoneService; // Assign SafeZoneService
+        this.timeSource = timeSource;
+        this.recentKillFeedService = recentKillFeedService;
+        this.gameEventService = gameEventService;
+        this.gameRosterService = gameRosterService;
     }
 
     // Constructor for full dependency injection including the enhanced client for SafeZoneService
@@ -82,6 +92,10 @@ public class KillService {
         this.verificationManager = verificationManager;
         // Instantiate SafeZoneService with the provided client
         this.safeZoneService = new SafeZoneService(enhancedClient); 
+        this.timeSource = TimeSource.system();
+        this.recentKillFeedService = new RecentKillFeedService(new DynamoDbRecentKillFeedDao(enhancedClient), timeSource);
+        this.gameEventService = new GameEventService(new DynamoDbGameEventDao(enhancedClient), timeSource);
+        this.gameRosterService = new GameRosterService(new DynamoDbGameRosterDao(enhancedClient, playerDao), timeSource);
     }
 
     /**
@@ -188,7 +202,8 @@ public class KillService {
             Kill kill = new Kill();
             kill.setKillerID(killerId);
             kill.setVictimID(victimId);
-            kill.setTime(Instant.now().toString());
+            kill.setGameId(gameId); // Lets the verified kill reach its game's feed
+            kill.setTime(timeSource.now().toString());
             kill.setLatitude(latitude);
             kill.setLongitude(longitude);
             // Set verification details
@@ -201,16 +216,18 @@ public class KillService {
             
             logger.info("Reporting valid kill: Killer={}, Victim={}, Time={}, Verification={}", 
                         killerId, victimId, kill.getTime(), kill.getVerificationMethod());
+            JfrEvents.KillCommit event = JfrEvents.begin(JfrEvents.KillCommit::new);
             killDao.saveKill(kill);
     
             // --- Update Player Statuses and Targets --- 
             // Victim is now dead
+            String victimPreviousStatus = victim.getStatus();
             victim.setStatus(PlayerStatus.DEAD.name());
             String victimsOldTarget = victim.getTargetID(); // Store before clearing
             victim.setTargetID(null); // Dead players have no target
             victim.setSecret(null);   // Clear secrets
             victim.setTargetSecret(null);
-            playerDao.savePlayer(victim);
+            gameRosterService.recordStatusChange(victim, victimPreviousStatus); // Victim and roster in one write
             logger.info("Updated victim {} status to DEAD", victimId);
     
             // Killer gets victim's old target as their new target
@@ -220,6 +237,19 @@ public class KillService {
             
             // --- Increment Killer's Kill Count ---
             incrementKillerCount(killerId);
+
+            gameEventService.record(gameId, GameEvent.Type.KILL_REPORTED, GameEventService.data(
+                    "killerId", killerId, "victimId", victimId, "killTime", kill.getTime()));
+            gameEventService.record(gameId, GameEvent.Type.PLAYER_ELIMINATED, GameEventService.data(
+                    "playerId", victimId, "cause", "KILL", "eliminatedBy", killerId));
+
+            if (JfrEvents.shouldCommit(event)) {
+                event.gameId = gameId;
+                event.killerId = killerId;
+                event.victimId = victimId;
+                event.writes = 4; // Kill, victim, killer and kill count
+                event.commit();
+            }
             
             return kill;
         } else {
@@ -230,7 +260,7 @@ public class KillService {
             Kill kill = new Kill();
             kill.setKillerID(killerId);
             kill.setVictimID(victimId);
-            kill.setTime(Instant.now().toString());
+            kill.setTime(timeSource.now().toString());
             kill.setLatitude(latitude);
             kill.setLongitude(longitude);
             kill.setVerificationMethod(verificationMethod != null ? verificationMethod.toUpperCase() : "TEST_MODE");
@@ -303,9 +333,13 @@ public class KillService {
                     
         // Save the updated kill record
         killDao.saveKill(kill);
+        gameEventService.record(kill.getGameId(), GameEvent.Type.KILL_VERIFIED, GameEventService.data(
+                "killerId", kill.getKillerID(), "victimId", kill.getVictimID(), "killTime", kill.getTime(),
+                "verificationStatus", kill.getVerificationStatus()));
         
         // Send notification only on successful verification
         if (result.isVerified()) {
+            recentKillFeedService.recordVerifiedKill(kill);
             sendKillVerifiedNotification(kill);
         }
         
@@ -344,6 +378,19 @@ public class KillService {
         return killDao.findKillsByKiller(killerId);
     }
 
+    /**
+     * Gets one page of the kills where the specified player was the killer, newest first.
+     *
+     * @param killerId The ID of the killer player.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     */
+    public PagedResult<Kill> getKillsByKiller(String killerId, int limit, String pageToken) {
+        logger.info("Getting a page of kills by killer: {}", killerId);
+        return killDao.findKillsByKiller(killerId, limit, pageToken);
+    }
+
     /**
      * Gets all kills where the specified player was the victim.
      *
@@ -355,15 +402,46 @@ public class KillService {
         return killDao.findKillsByVictim(victimId);
     }
 
+    /**
+     * Gets one page of the kills where the specified player was the victim, newest first.
+     *
+     * @param victimId The ID of the victim player.
+     * @param limit The maximum number of kills on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of kills and the token for the next one.
+     */
+    public PagedResult<Kill> getKillsByVictim(String victimId, int limit, String pageToken) {
+        logger.info("Getting a page of kills by victim: {}", victimId);
+        return killDao.findKillsByVictim(victimId, limit, pageToken);
+    }
+
     /**
      * Gets a list of the most recent kills across all players.
      *
      * @param limit The maximum number of kills to return.
      * @return A list of Kill objects.
+     * @throws KillNotFoundException if no kill has been verified yet.
+     */
+    public List<Kill> findRecentKills(int limit) throws KillNotFoundException {
+        return findRecentKills(null, limit);
+    }
+
+    /**
+     * Gets a list of the most recent verified kills of a game, or across all games, from the materialized
+     * recent-kills feeds.
+     *
+     * @param gameId The ID of the game, or null for all games.
+     * @param limit The maximum number of kills to return.
+     * @return A list of Kill objects, most recent first.
+     * @throws KillNotFoundException if no kill has been verified yet.
      */
-    public List<Kill> findRecentKills(int limit) {
-        logger.info("Getting recent kills with limit: {}", limit);
-        return killDao.findRecentKills(limit);
+    public List<Kill> findRecentKills(String gameId, int limit) throws KillNotFoundException {
+        logger.info("Getting recent kills for game {} with limit: {}", gameId != null ? gameId : "(all)", limit);
+        List<Kill> kills = recentKillFeedService.getRecentKills(gameId, limit);
+        if (kills.isEmpty()) {
+            throw new KillNotFoundException("No recent verified kills found");
+        }
+        return kills;
     }
 
     /**
@@ -408,17 +486,13 @@ public class KillService {
     // Potentially add methods like:
     // List<Kill> getKillsInGame(String gameId); // Would require gameId on Kill model + GSI
 
-    // Added helper method to call the specific DAO implementation method
+    // Increments the killer's count without failing the kill report
     private void incrementKillerCount(String killerId) {
-         if (playerDao instanceof DynamoDbPlayerDao) {
-            try {
-                ((DynamoDbPlayerDao) playerDao).incrementPlayerKillCount(killerId);
-            } catch (Exception e) {
-                // Log error but don't fail the kill report operation
-                logger.error("Failed to increment kill count for player {}: {}", killerId, e.getMessage(), e);
-            }
-        } else {
-            logger.warn("Cannot increment kill count: PlayerDao is not an instance of DynamoDbPlayerDao.");
+        try {
+            playerDao.incrementPlayerKillCount(killerId);
+        } catch (Exception e) {
+            // Log error but don't fail the kill report operation
+            logger.error("Failed to increment kill count for player {}: {}", killerId, e.getMessage(), e);
         }
     }
 
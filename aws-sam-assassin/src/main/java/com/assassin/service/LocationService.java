@@ -1,6 +1,7 @@
 package com.assassin.service;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,22 +11,23 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbGameZoneStateDao;
-import com.assassin.dao.DynamoDbPlayerDao;
-import com.assassin.dao.DynamoDbSafeZoneDao;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.InvalidLocationException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.exception.PlayerPersistenceException;
+import com.assassin.metrics.JfrEvents;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.LocationUpdateResponse;
 import com.assassin.model.Player;
 import com.assassin.service.GeofenceManager.GeofenceEvent;
 import com.assassin.service.GeofenceManager.GeofenceEventType;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 /**
  * Service responsible for handling player location updates and boundary checks.
@@ -38,60 +40,50 @@ public class LocationService {
     private final GameDao gameDao;
     private final MapConfigurationService mapConfigService;
     private final GeofenceManager geofenceManager;
+    private final TimeSource timeSource;
+    private final ReportingIntervalPolicy reportingIntervalPolicy = new ReportingIntervalPolicy();
     
     // Constants for location validation
     private static final double DEFAULT_SPEED_LIMIT_METERS_PER_SECOND = 30.0; // ~108 km/h or ~67 mph
     private static final int MAX_LOCATION_HISTORY_SIZE = 10; // Number of recent locations to keep
+    private static final long ENGAGED_PLAYER_MAX_AGE_MS = 2 * ReportingIntervalPolicy.MAX_INTERVAL_SECONDS * 1000L;
 
-    // Default constructor
+    // Default constructor, using the container-wide shared dependencies
     public LocationService() {
-        MapConfigurationService mapConfig = new MapConfigurationService(
-            new DynamoDbGameDao(), 
-            new DynamoDbGameZoneStateDao(),
-            new DynamoDbSafeZoneDao(),
-            new ShrinkingZoneService(
-                new DynamoDbGameDao(),
-                new DynamoDbGameZoneStateDao(),
-                new DynamoDbPlayerDao()
-            )
-        );
-        
-        this.playerDao = new DynamoDbPlayerDao();
-        this.gameDao = new DynamoDbGameDao();
-        this.mapConfigService = mapConfig;
-        this.geofenceManager = new GeofenceManager(mapConfig);
+        this(ServiceRegistry.playerDao(), ServiceRegistry.gameDao(),
+             ServiceRegistry.mapConfigurationService(), ServiceRegistry.geofenceManager(), ServiceRegistry.timeSource());
     }
 
     // Constructor for dependency injection (testing)
     public LocationService(PlayerDao playerDao, GameDao gameDao) {
         // This constructor might need to be adjusted or removed depending on testing strategy,
         // as MapConfigurationService now has required dependencies.
-        // For now, initialize MapConfigurationService with default DAOs/Services.
-        MapConfigurationService mapConfig = new MapConfigurationService(
-            new DynamoDbGameDao(), 
-            new DynamoDbGameZoneStateDao(),
-            new DynamoDbSafeZoneDao(),
-            new ShrinkingZoneService(
-                new DynamoDbGameDao(),
-                new DynamoDbGameZoneStateDao(),
-                new DynamoDbPlayerDao()
-            )
-        );
+        // For now, use the shared MapConfigurationService.
+        MapConfigurationService mapConfig = ServiceRegistry.mapConfigurationService();
         
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
         this.mapConfigService = mapConfig;
         this.geofenceManager = new GeofenceManager(mapConfig);
+        this.timeSource = TimeSource.system();
     }
     
-    // Full constructor for all dependencies
+    // Full constructor for all dependencies, on the wall clock
     public LocationService(PlayerDao playerDao, GameDao gameDao, 
                           MapConfigurationService mapConfigService,
                           GeofenceManager geofenceManager) {
+        this(playerDao, gameDao, mapConfigService, geofenceManager, TimeSource.system());
+    }
+
+    // Full constructor for all dependencies; the clock stamps location updates and paces speed checks
+    public LocationService(PlayerDao playerDao, GameDao gameDao, 
+                          MapConfigurationService mapConfigService,
+                          GeofenceManager geofenceManager, TimeSource timeSource) {
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
         this.mapConfigService = Objects.requireNonNull(mapConfigService, "mapConfigService cannot be null");
         this.geofenceManager = Objects.requireNonNull(geofenceManager, "geofenceManager cannot be null");
+        this.timeSource = Objects.requireNonNull(timeSource, "timeSource cannot be null");
     }
 
     /**
@@ -112,6 +104,131 @@ public class LocationService {
      */
     public Optional<GeofenceEvent> updatePlayerLocation(String playerId, Double latitude, Double longitude, Double accuracy)
             throws PlayerNotFoundException, GameNotFoundException, InvalidLocationException, PlayerPersistenceException {
+        long start = System.nanoTime();
+        try {
+            return applyLocationUpdate(playerId, latitude, longitude, accuracy).geofenceEvent;
+        } finally {
+            Metrics.recordLatency("LocationService.updatePlayerLocation", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Updates a player's location (see {@link #updatePlayerLocation}) and recommends when the client
+     * should report next, based on the distance to the player's target or nearest hunter, the game
+     * boundary and the shrinking zone edge.
+     *
+     * @param playerId The ID of the player.
+     * @param latitude The reported latitude.
+     * @param longitude The reported longitude.
+     * @param accuracy The reported accuracy in meters.
+     * @return Response carrying the recommended report interval and any boundary event
+     * @throws PlayerNotFoundException If the player doesn't exist.
+     * @throws GameNotFoundException If the player's game doesn't exist.
+     * @throws InvalidLocationException If the location is invalid (outside boundaries, impossible movement).
+     * @throws PlayerPersistenceException If the database update fails.
+     */
+    public LocationUpdateResponse reportLocation(String playerId, Double latitude, Double longitude, Double accuracy)
+            throws PlayerNotFoundException, GameNotFoundException, InvalidLocationException, PlayerPersistenceException {
+        long start = System.nanoTime();
+        try {
+            AppliedLocationUpdate update = applyLocationUpdate(playerId, latitude, longitude, accuracy);
+            int interval = recommendReportInterval(update);
+            String boundaryEvent = update.geofenceEvent.map(e -> e.getEventType().name()).orElse(null);
+            logger.debug("Recommending next location report in {}s for player {}", interval, playerId);
+            return new LocationUpdateResponse(interval, boundaryEvent);
+        } finally {
+            Metrics.recordLatency("LocationService.reportLocation", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Computes the recommended report interval for an applied update. The target and hunter distances
+     * come from one nearby-players query around the new location; the boundary comes from the loaded
+     * game and the zone edge from the cached zone state. Never fails the update: any error falls back
+     * to {@link ReportingIntervalPolicy#DEFAULT_INTERVAL_SECONDS}.
+     */
+    private int recommendReportInterval(AppliedLocationUpdate update) {
+        if (update.game == null) {
+            // Not in a game, nothing nearby can matter
+            return ReportingIntervalPolicy.MAX_INTERVAL_SECONDS;
+        }
+        try {
+            String gameId = update.game.getGameID();
+            Coordinate location = update.location;
+
+            double nearestPlayer = distanceToNearestEngagedPlayer(update.player, gameId, location);
+
+            double boundaryDistance = update.geofenceEvent
+                    .map(GeofenceEvent::getDistanceToBoundary)
+                    .orElseGet(() -> geofenceManager.getDistanceToBoundary(update.game, location));
+
+            double zoneEdgeDistance = Boolean.TRUE.equals(update.game.getShrinkingZoneEnabled())
+                    ? mapConfigService.getDistanceToZoneEdge(gameId, location).orElse(Double.NaN)
+                    : Double.NaN;
+
+            return reportingIntervalPolicy.recommendIntervalSeconds(nearestPlayer, boundaryDistance, zoneEdgeDistance);
+        } catch (Exception e) {
+            logger.warn("Could not compute report interval for player {}: {}", update.player.getPlayerID(), e.getMessage());
+            return ReportingIntervalPolicy.DEFAULT_INTERVAL_SECONDS;
+        }
+    }
+
+    /**
+     * @return Distance to the player's target or nearest hunter within
+     *         {@link ReportingIntervalPolicy#MAX_PLAYER_DISTANCE_METERS}, or NaN if neither is that close
+     */
+    private double distanceToNearestEngagedPlayer(Player player, String gameId, Coordinate location) {
+        String playerId = player.getPlayerID();
+        String targetId = player.getTargetID();
+        // Players who stopped reporting (eliminated, offline) drop out once they miss two slow reports
+        Instant oldest = timeSource.now().minusMillis(ENGAGED_PLAYER_MAX_AGE_MS);
+        double nearest = Double.NaN;
+        for (Player other : playerDao.findPlayersNear(gameId, location.getLatitude(), location.getLongitude(),
+                ReportingIntervalPolicy.MAX_PLAYER_DISTANCE_METERS)) {
+            boolean engaged = Objects.equals(other.getPlayerID(), targetId)
+                    || Objects.equals(other.getTargetID(), playerId);
+            if (!engaged || playerId.equals(other.getPlayerID()) || !reportedSince(other, oldest)) {
+                continue;
+            }
+            double distance = GeoUtils.calculateDistance(location.getLatitude(), location.getLongitude(),
+                    other.getLatitude(), other.getLongitude());
+            if (Double.isNaN(nearest) || distance < nearest) {
+                nearest = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean reportedSince(Player player, Instant oldest) {
+        try {
+            return player.getLocationTimestamp() != null && !Instant.parse(player.getLocationTimestamp()).isBefore(oldest);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private AppliedLocationUpdate applyLocationUpdate(String playerId, Double latitude, Double longitude, Double accuracy)
+            throws PlayerNotFoundException, GameNotFoundException, InvalidLocationException, PlayerPersistenceException {
+        JfrEvents.LocationUpdate event = JfrEvents.begin(JfrEvents.LocationUpdate::new);
+        AppliedLocationUpdate update = null;
+        try {
+            update = validateAndStoreLocation(playerId, latitude, longitude, accuracy);
+            return update;
+        } finally {
+            if (JfrEvents.shouldCommit(event)) {
+                event.playerId = playerId;
+                event.succeeded = update != null;
+                if (update != null) {
+                    event.gameId = update.game != null ? update.game.getGameID() : null;
+                    event.geofenceEvent = update.geofenceEvent.map(e -> e.getEventType().name()).orElse(null);
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private AppliedLocationUpdate validateAndStoreLocation(String playerId, Double latitude, Double longitude, Double accuracy)
+            throws PlayerNotFoundException, GameNotFoundException, InvalidLocationException, PlayerPersistenceException {
         
         logger.debug("Attempting to update location for player: {}", playerId);
         Optional<GeofenceEvent> geofenceEvent = Optional.empty();
@@ -137,11 +254,11 @@ public class LocationService {
         if (player.getGameID() == null || player.getGameID().isEmpty()) {
             logger.warn("Player {} is not associated with any game. Location update skipped.", playerId);
             // If the player is not in a game, we'll still update their location but skip game-specific validations
-            String timestamp = Instant.now().toString();
+            String timestamp = timeSource.now().toString();
             playerDao.updatePlayerLocation(playerId, latitude, longitude, timestamp, accuracy);
             logger.info("Updated location for player {} not in a game: ({}, {})", 
                       playerId, latitude, longitude);
-            return Optional.empty();
+            return new AppliedLocationUpdate(player, null, null, Optional.empty());
         }
         
         String gameId = player.getGameID();
@@ -154,7 +271,7 @@ public class LocationService {
             
             validateMovementSpeed(
                 player.getLatitude(), player.getLongitude(), player.getLocationTimestamp(),
-                latitude, longitude, Instant.now().toString(),
+                latitude, longitude, timeSource.now().toString(),
                 game);
         }
         
@@ -169,12 +286,12 @@ public class LocationService {
         }
         
         // 6. Update GeofenceManager to check for boundary events
-        geofenceEvent = geofenceManager.updatePlayerLocation(gameId, playerId, location);
+        geofenceEvent = geofenceManager.updatePlayerLocation(game, playerId, location);
         
         // 7. Update Player Location in DAO
-        String timestamp = Instant.now().toString();
+        String timestamp = timeSource.now().toString();
         try {
-            playerDao.updatePlayerLocation(playerId, latitude, longitude, timestamp, accuracy);
+            playerDao.updatePlayerLocation(playerId, gameId, latitude, longitude, timestamp, accuracy);
             logger.info("Successfully updated location for player: {}, Timestamp: {}", playerId, timestamp);
             
             // 8. Log any boundary events
@@ -199,7 +316,24 @@ public class LocationService {
             throw ppe;
         }
         
-        return geofenceEvent;
+        return new AppliedLocationUpdate(player, game, location, geofenceEvent);
+    }
+
+    /**
+     * What an applied location update loaded, so follow-up work does not reload it.
+     */
+    private static class AppliedLocationUpdate {
+        private final Player player;
+        private final Game game; // null when the player is not in a game
+        private final Coordinate location;
+        private final Optional<GeofenceEvent> geofenceEvent;
+
+        AppliedLocationUpdate(Player player, Game game, Coordinate location, Optional<GeofenceEvent> geofenceEvent) {
+            this.player = player;
+            this.game = game;
+            this.location = location;
+            this.geofenceEvent = geofenceEvent;
+        }
     }
 
     /**
@@ -17,15 +17,19 @@ import com.assassin.dao.SafeZoneDao;
 import com.assassin.exception.ConfigurationNotFoundException;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.GameZoneState;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.ExpiringGameCache;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 
 /**
  * Service for managing map configurations and game boundaries.
@@ -36,6 +40,10 @@ public class MapConfigurationService {
     private static final String MAP_CONFIG_TABLE_ENV_VAR = "MAP_CONFIG_TABLE_NAME";
     private static final String DEFAULT_MAP_CONFIG_TABLE_NAME = "dev-MapConfigurations";
     private static final String DEFAULT_MAP_ID = "default_map";
+    // Zone distances used for report pacing may lag the stored zone state by this many milliseconds
+    static final long ZONE_STATE_CACHE_TTL_MS = 15_000;
+    private static final long ZONE_STATE_CACHE_TICK_MS = 1_000;
+    private static final String ZONE_STATE_KEY = "zoneState";
 
     private final GameDao gameDao;
     private final GameZoneStateDao gameZoneStateDao;
@@ -45,6 +53,12 @@ public class MapConfigurationService {
 
     private final Map<String, MapConfiguration> mapConfigCache;
     private final Map<String, List<Coordinate>> gameBoundaryCache;
+    private final TimeSource timeSource; // Expires the cached zone states
+    // gameId -> the zone state as last read by this container, empty if the game has none
+    private final ExpiringGameCache<Optional<GameZoneState>> zoneStateCache =
+            new ExpiringGameCache<>(ZONE_STATE_CACHE_TTL_MS, ZONE_STATE_CACHE_TICK_MS);
+    private static final Metrics.CacheCounter mapConfigCacheMetrics = Metrics.cache("MapConfiguration");
+    private static final Metrics.CacheCounter zoneStateCacheMetrics = Metrics.cache("ZoneState");
 
     private static final List<Coordinate> DEFAULT_GAME_BOUNDARY;
 
@@ -64,16 +78,26 @@ public class MapConfigurationService {
             GameZoneStateDao gameZoneStateDao,
             SafeZoneDao safeZoneDao,
             ShrinkingZoneService shrinkingZoneService) {
+        this(gameDao, gameZoneStateDao, safeZoneDao, shrinkingZoneService, TimeSource.system());
+    }
+
+    public MapConfigurationService(
+            GameDao gameDao,
+            GameZoneStateDao gameZoneStateDao,
+            SafeZoneDao safeZoneDao,
+            ShrinkingZoneService shrinkingZoneService,
+            TimeSource timeSource) {
         this.gameDao = gameDao;
         this.gameZoneStateDao = gameZoneStateDao;
         this.safeZoneDao = safeZoneDao;
         this.shrinkingZoneService = shrinkingZoneService;
+        this.timeSource = timeSource;
         this.gameBoundaryCache = new ConcurrentHashMap<>();
         this.mapConfigCache = new ConcurrentHashMap<>();
 
         DynamoDbEnhancedClient enhancedClient = DynamoDbClientProvider.getDynamoDbEnhancedClient();
         String mapConfigTableName = getTableName(MAP_CONFIG_TABLE_ENV_VAR, DEFAULT_MAP_CONFIG_TABLE_NAME);
-        this.mapConfigTable = enhancedClient.table(mapConfigTableName, TableSchema.fromBean(MapConfiguration.class));
+        this.mapConfigTable = enhancedClient.table(mapConfigTableName, ServiceRegistry.tableSchema(MapConfiguration.class));
         logger.info("Initialized MapConfigurationService with MapConfiguration table: {}", mapConfigTableName);
     }
 
@@ -93,14 +117,7 @@ public class MapConfigurationService {
 
     public List<Coordinate> getGameBoundary(String gameId) {
         try {
-            MapConfiguration mapConfig = getEffectiveMapConfiguration(gameId);
-            List<Coordinate> boundary = mapConfig.getGameBoundary();
-            if (boundary != null && boundary.size() >= 3) {
-                return boundary;
-            } else {
-                logger.warn("Map configuration '{}' for game '{}' has invalid boundary, using default.", mapConfig.getMapId(), gameId);
-                return DEFAULT_GAME_BOUNDARY;
-            }
+            return validBoundary(getEffectiveMapConfiguration(gameId), gameId);
         } catch (ConfigurationNotFoundException e) {
             logger.error("Could not retrieve map configuration for game {}: {}. Using default boundary.", gameId, e.getMessage());
             return DEFAULT_GAME_BOUNDARY;
@@ -110,6 +127,33 @@ public class MapConfigurationService {
         }
     }
 
+    /**
+     * Returns the boundary of an already loaded game, without reading the game again.
+     *
+     * @param game The game.
+     * @return The boundary of the game's map configuration, or the default boundary if it has none.
+     */
+    public List<Coordinate> getGameBoundary(Game game) {
+        try {
+            return validBoundary(getEffectiveMapConfiguration(game), game.getGameID());
+        } catch (ConfigurationNotFoundException e) {
+            logger.error("Could not retrieve map configuration for game {}: {}. Using default boundary.", game.getGameID(), e.getMessage());
+            return DEFAULT_GAME_BOUNDARY;
+        } catch (Exception e) {
+            logger.error("Unexpected error retrieving game boundary for game {}: {}. Using default boundary.", game.getGameID(), e.getMessage(), e);
+            return DEFAULT_GAME_BOUNDARY;
+        }
+    }
+
+    private static List<Coordinate> validBoundary(MapConfiguration mapConfig, String gameId) {
+        List<Coordinate> boundary = mapConfig.getGameBoundary();
+        if (boundary != null && boundary.size() >= 3) {
+            return boundary;
+        }
+        logger.warn("Map configuration '{}' for game '{}' has invalid boundary, using default.", mapConfig.getMapId(), gameId);
+        return DEFAULT_GAME_BOUNDARY;
+    }
+
     public boolean isCoordinateInGameBoundary(String gameId, Coordinate coordinate) {
         if (coordinate == null) {
             return false;
@@ -149,6 +193,42 @@ public class MapConfigurationService {
         }
     }
 
+    /**
+     * Returns the distance from a coordinate to the edge of the game's current shrinking zone,
+     * from the stored zone state without advancing it. The state is read at most once per
+     * {@link #ZONE_STATE_CACHE_TTL_MS} per game, so the distance may lag a zone change by that long.
+     *
+     * @param gameId The game ID.
+     * @param coordinate The coordinate to check.
+     * @return Distance in meters (positive inside the zone, negative outside), or empty if the game has no zone state.
+     */
+    public Optional<Double> getDistanceToZoneEdge(String gameId, Coordinate coordinate) {
+        if (gameId == null || coordinate == null || gameZoneStateDao == null) {
+            return Optional.empty();
+        }
+        try {
+            return getCachedZoneState(gameId)
+                    .filter(state -> state.getCurrentCenter() != null && state.getCurrentRadiusMeters() != null)
+                    .map(state -> state.getCurrentRadiusMeters() - GeoUtils.calculateDistance(coordinate, state.getCurrentCenter()));
+        } catch (Exception e) {
+            logger.warn("Could not read zone state for game {}: {}", gameId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<GameZoneState> getCachedZoneState(String gameId) {
+        long now = timeSource.currentTimeMillis();
+        zoneStateCache.expire(now);
+        Optional<GameZoneState> cached = zoneStateCache.get(gameId, ZONE_STATE_KEY, now);
+        zoneStateCacheMetrics.record(cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<GameZoneState> state = gameZoneStateDao.getGameZoneState(gameId);
+        zoneStateCache.put(gameId, ZONE_STATE_KEY, state, now);
+        return state;
+    }
+
     public boolean validateCoordinate(String gameId, Coordinate coordinate) {
         if (coordinate == null) {
             return false;
@@ -272,52 +352,7 @@ public class MapConfigurationService {
         try {
             Game game = gameDao.getGameById(gameId)
                     .orElseThrow(() -> new GameNotFoundException("Game not found: " + gameId));
-
-            String mapId = game.getMapId();
-            if (mapId == null || mapId.isEmpty()) {
-                logger.warn("Game {} does not have a mapId specified. Falling back to default mapId: {}", gameId, DEFAULT_MAP_ID);
-                mapId = DEFAULT_MAP_ID;
-            }
-
-            final String effectiveMapId = mapId;
-            MapConfiguration cachedConfig = mapConfigCache.computeIfAbsent(effectiveMapId, id -> {
-                logger.debug("Cache miss for MapConfiguration with mapId: {}. Attempting fetch.", id);
-                try {
-                    return fetchMapConfigurationFromDb(id);
-                } catch (ConfigurationNotFoundException e) {
-                    logger.error("Failed to fetch map configuration for mapId {}: {}", id, e.getMessage());
-                    return null;
-                }
-            });
-
-            if (cachedConfig != null) {
-                logger.debug("Returning map configuration for mapId: {} (from cache or fetch)", effectiveMapId);
-                return cachedConfig;
-            } else {
-                logger.warn("Specific map configuration for mapId {} not found or failed to load for game {}. Attempting fallback to default mapId: {}",
-                        effectiveMapId, gameId, DEFAULT_MAP_ID);
-
-                if (DEFAULT_MAP_ID.equals(effectiveMapId)) {
-                    throw new ConfigurationNotFoundException("Default map configuration (mapId: " + DEFAULT_MAP_ID + ") could not be loaded.");
-                }
-
-                MapConfiguration defaultConfig = mapConfigCache.computeIfAbsent(DEFAULT_MAP_ID, id -> {
-                     logger.debug("Cache miss for DEFAULT MapConfiguration (mapId: {}). Attempting fetch.", id);
-                     try {
-                         return fetchMapConfigurationFromDb(id);
-                     } catch (ConfigurationNotFoundException e) {
-                         logger.error("CRITICAL: Failed to fetch DEFAULT map configuration for mapId {}: {}", id, e.getMessage());
-                         return null;
-                     }
-                 });
-
-                if (defaultConfig != null) {
-                    return defaultConfig;
-                } else {
-                    throw new ConfigurationNotFoundException("Default map configuration (mapId: " + DEFAULT_MAP_ID + ") could not be loaded.");
-                }
-            }
-
+            return resolveMapConfiguration(game);
         } catch (GameNotFoundException e) {
              logger.error("Cannot get effective map configuration because game {} was not found.", gameId);
              logger.warn("Falling back to default map configuration due to GameNotFoundException for game {}", gameId);
@@ -327,13 +362,86 @@ public class MapConfigurationService {
                   throw new ConfigurationNotFoundException("Failed to load default map configuration (mapId: " + DEFAULT_MAP_ID + ") after game " + gameId + " not found.", ce);
              }
         } catch (Exception e) {
-             logger.error("Unexpected error retrieving effective map configuration for game {}: {}", gameId, e.getMessage(), e);
-             logger.warn("Falling back to default map configuration due to unexpected error for game {}", gameId);
-              try {
-                 return getMapConfigurationById(DEFAULT_MAP_ID);
-             } catch (ConfigurationNotFoundException ce) {
-                  throw new ConfigurationNotFoundException("Failed to load default map configuration (mapId: " + DEFAULT_MAP_ID + ") after unexpected error for game " + gameId + ".", ce);
-             }
+             return defaultConfigurationAfterError(gameId, e);
+        }
+    }
+
+    /**
+     * Returns the map configuration of an already loaded game, without reading the game again.
+     *
+     * @param game The game.
+     * @return The game's map configuration, or the default one if it has none or it cannot be loaded.
+     * @throws ConfigurationNotFoundException If the default configuration cannot be loaded either.
+     */
+    public MapConfiguration getEffectiveMapConfiguration(Game game) throws ConfigurationNotFoundException {
+        if (game == null) {
+            throw new IllegalArgumentException("game cannot be null");
+        }
+
+        try {
+            return resolveMapConfiguration(game);
+        } catch (Exception e) {
+            return defaultConfigurationAfterError(game.getGameID(), e);
+        }
+    }
+
+    private MapConfiguration resolveMapConfiguration(Game game) throws ConfigurationNotFoundException {
+        String gameId = game.getGameID();
+        String mapId = game.getMapId();
+        if (mapId == null || mapId.isEmpty()) {
+            logger.warn("Game {} does not have a mapId specified. Falling back to default mapId: {}", gameId, DEFAULT_MAP_ID);
+            mapId = DEFAULT_MAP_ID;
+        }
+
+        final String effectiveMapId = mapId;
+        mapConfigCacheMetrics.record(mapConfigCache.containsKey(effectiveMapId));
+        MapConfiguration cachedConfig = mapConfigCache.computeIfAbsent(effectiveMapId, id -> {
+            logger.debug("Cache miss for MapConfiguration with mapId: {}. Attempting fetch.", id);
+            try {
+                return fetchMapConfigurationFromDb(id);
+            } catch (ConfigurationNotFoundException e) {
+                logger.error("Failed to fetch map configuration for mapId {}: {}", id, e.getMessage());
+                return null;
+            }
+        });
+
+        if (cachedConfig != null) {
+            logger.debug("Returning map configuration for mapId: {} (from cache or fetch)", effectiveMapId);
+            return cachedConfig;
+        } else {
+            logger.warn("Specific map configuration for mapId {} not found or failed to load for game {}. Attempting fallback to default mapId: {}",
+                    effectiveMapId, gameId, DEFAULT_MAP_ID);
+
+            if (DEFAULT_MAP_ID.equals(effectiveMapId)) {
+                throw new ConfigurationNotFoundException("Default map configuration (mapId: " + DEFAULT_MAP_ID + ") could not be loaded.");
+            }
+
+            mapConfigCacheMetrics.record(mapConfigCache.containsKey(DEFAULT_MAP_ID));
+            MapConfiguration defaultConfig = mapConfigCache.computeIfAbsent(DEFAULT_MAP_ID, id -> {
+                 logger.debug("Cache miss for DEFAULT MapConfiguration (mapId: {}). Attempting fetch.", id);
+                 try {
+                     return fetchMapConfigurationFromDb(id);
+                 } catch (ConfigurationNotFoundException e) {
+                     logger.error("CRITICAL: Failed to fetch DEFAULT map configuration for mapId {}: {}", id, e.getMessage());
+                     return null;
+                 }
+             });
+
+            if (defaultConfig != null) {
+                return defaultConfig;
+            } else {
+                throw new ConfigurationNotFoundException("Default map configuration (mapId: " + DEFAULT_MAP_ID + ") could not be loaded.");
+            }
+        }
+    }
+
+    private MapConfiguration defaultConfigurationAfterError(String gameId, Exception e) throws ConfigurationNotFoundException {
+        logger.error("Unexpected error retrieving effective map configuration for game {}: {}", gameId, e.getMessage(), e);
+        logger.warn("Falling back to default map configuration due to unexpected error for game {}", gameId);
+        try {
+            return getMapConfigurationById(DEFAULT_MAP_ID);
+        } catch (ConfigurationNotFoundException ce) {
+            throw new ConfigurationNotFoundException("Failed to load default map configuration (mapId: " + DEFAULT_MAP_ID + ") after unexpected error for game " + gameId + ".", ce);
         }
     }
 
@@ -360,6 +468,7 @@ public class MapConfigurationService {
          if (mapId == null || mapId.isEmpty()) {
             throw new IllegalArgumentException("mapId cannot be null or empty");
         }
+         mapConfigCacheMetrics.record(mapConfigCache.containsKey(mapId));
          MapConfiguration config = mapConfigCache.computeIfAbsent(mapId, id -> {
              logger.debug("Cache miss for specific MapConfiguration request: mapId={}. Attempting fetch.", id);
              try {
@@ -1,32 +1,36 @@
 package com.assassin.service;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbNotificationDao;
 import com.assassin.dao.NotificationDao;
+import com.assassin.dao.PagedResult;
+import com.assassin.exception.ValidationException;
+import com.assassin.metrics.JfrEvents;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Notification;
 import com.assassin.model.WebSocketConnection;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.RestorableClients;
+import com.assassin.util.ServiceRegistry;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiClient;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.GoneException;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
 /**
@@ -41,26 +45,23 @@ public class NotificationService {
     private final DynamoDbIndex<WebSocketConnection> connectionsByPlayerIndex;
     private static final String CONNECTIONS_TABLE_NAME = System.getenv("CONNECTIONS_TABLE_NAME");
     private static final String PLAYER_ID_INDEX_NAME = "PlayerIdIndex";
-    private static final Gson gson = new GsonBuilder().create();
+    private static final Gson gson = JsonCodecs.gson();
 
     // Lazy initialization for the ApiGatewayManagementApiClient
     private ApiGatewayManagementApiClient apiGatewayManagementApiClient = null;
 
     // Default constructor initializes the DAOs and index
     public NotificationService() {
-        this(new DynamoDbNotificationDao());
+        this(ServiceRegistry.notificationDao());
     }
 
     // Constructor for dependency injection (testing)
     public NotificationService(NotificationDao notificationDao) {
         this.notificationDao = notificationDao;
-        DynamoDbClient ddbClient = DynamoDbClientProvider.getClient();
-        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
-            .dynamoDbClient(ddbClient)
-            .build();
+        DynamoDbEnhancedClient enhancedClient = DynamoDbClientProvider.getDynamoDbEnhancedClient();
         // Handle potential null table name during initialization (e.g., in unit tests without env vars)
         if (CONNECTIONS_TABLE_NAME != null) {
-            this.connectionsTable = enhancedClient.table(CONNECTIONS_TABLE_NAME, TableSchema.fromBean(WebSocketConnection.class));
+            this.connectionsTable = enhancedClient.table(CONNECTIONS_TABLE_NAME, ServiceRegistry.tableSchema(WebSocketConnection.class));
             this.connectionsByPlayerIndex = connectionsTable.index(PLAYER_ID_INDEX_NAME);
             logger.info("NotificationService initialized with DAO and WebSocket Connections Table: {}", CONNECTIONS_TABLE_NAME);
         } else {
@@ -87,11 +88,13 @@ public class NotificationService {
                  return null; 
             }
             logger.info("Initializing ApiGatewayManagementApiClient with endpoint: {}", endpoint);
-            this.apiGatewayManagementApiClient = ApiGatewayManagementApiClient.builder()
-                .endpointOverride(URI.create(endpoint))
-                // Consider region configuration if needed
-                // .region(Region.of(System.getenv("AWS_REGION")))
-                .build();
+            // Re-created after a snapshot restore, like the DynamoDB client
+            this.apiGatewayManagementApiClient = RestorableClients.create(ApiGatewayManagementApiClient.class,
+                () -> ApiGatewayManagementApiClient.builder()
+                    .endpointOverride(URI.create(endpoint))
+                    // Consider region configuration if needed
+                    // .region(Region.of(System.getenv("AWS_REGION")))
+                    .build());
         }
         return this.apiGatewayManagementApiClient;
     }
@@ -103,6 +106,22 @@ public class NotificationService {
      * @param notification The notification object to send.
      */
     public void sendNotification(Notification notification) {
+        long start = System.nanoTime();
+        JfrEvents.NotificationFanOut event = JfrEvents.begin(JfrEvents.NotificationFanOut::new);
+        try {
+            persistAndPush(notification, event);
+        } finally {
+            Metrics.recordLatency("NotificationService.sendNotification", System.nanoTime() - start);
+            if (notification != null && JfrEvents.shouldCommit(event)) {
+                event.gameId = notification.getGameId();
+                event.type = notification.getType();
+                event.commit();
+            }
+        }
+    }
+
+    // The event, when recording, receives the connection and delivery counts
+    private void persistAndPush(Notification notification, JfrEvents.NotificationFanOut event) {
         String webSocketApiEndpoint = System.getenv("WEBSOCKET_API_ENDPOINT"); // Get endpoint from env
 
         if (notification == null) {
@@ -155,12 +174,14 @@ public class NotificationService {
                 
                 String notificationJson = gson.toJson(notification);
                 final int[] successfulSends = {0}; // Use array for modification in lambda
+                final int[] connections = {0};
 
                 connectionsByPlayerIndex.query(queryRequest)
                     .stream()
                     .flatMap(page -> page.items().stream())
                     .forEach(connection -> {
                         String connectionId = connection.getConnectionId();
+                        connections[0]++;
                         logger.debug("Found active connection for player {}: {}", recipientPlayerId, connectionId);
                         try {
                             PostToConnectionRequest postRequest = PostToConnectionRequest.builder()
@@ -179,6 +200,12 @@ public class NotificationService {
                             logger.error("Failed to send notification to connection {}: {}", connectionId, e.getMessage(), e);
                         }
                     });
+
+                if (event != null) {
+                    event.connections = connections[0];
+                    event.delivered = successfulSends[0];
+                    event.payloadBytes = notificationJson.getBytes(StandardCharsets.UTF_8).length;
+                }
                 
                 if (successfulSends[0] > 0) {
                      logger.info("Successfully sent notification to {} active connections for player {}", successfulSends[0], recipientPlayerId);
@@ -272,6 +299,33 @@ public class NotificationService {
             throw new RuntimeException("Failed to retrieve notifications for player", e);
         }
     }
+
+    /**
+     * Gets one page of a player's notifications, newest first.
+     *
+     * @param playerId The ID of the player whose notifications to retrieve
+     * @param sinceTimestamp Optional ISO 8601 timestamp to filter notifications after this time
+     * @param limit The maximum number of notifications on the page
+     * @param pageToken The previous page's next page token, or null for the first page
+     * @return The page of notifications and the token for the next one
+     * @throws ValidationException If the page token is invalid
+     */
+    public PagedResult<Notification> getNotificationsForPlayer(String playerId, String sinceTimestamp, int limit,
+                                                               String pageToken) {
+        if (playerId == null || playerId.isEmpty()) {
+            logger.warn("Cannot get notifications with null or empty playerId");
+            throw new IllegalArgumentException("playerId cannot be null or empty");
+        }
+        
+        try {
+            return notificationDao.findNotificationsByPlayer(playerId, sinceTimestamp, limit, pageToken);
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error retrieving notifications for player: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to retrieve notifications for player", e);
+        }
+    }
     
     /**
      * Marks a specific notification as read for a recipient.
@@ -5,10 +5,10 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.PlayerPersistenceException;
 import com.assassin.model.Player;
+import com.assassin.util.ServiceRegistry;
 
 /**
  * Service for player-related operations.
@@ -22,7 +22,7 @@ public class PlayerService {
      * Default constructor.
      */
     public PlayerService() {
-        this.playerDao = new DynamoDbPlayerDao();
+        this.playerDao = ServiceRegistry.playerDao();
     }
 
     /**
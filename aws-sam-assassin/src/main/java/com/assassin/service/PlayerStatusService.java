@@ -8,9 +8,11 @@ import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Player;
 import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
 import com.assassin.model.GameZoneState;
 import com.assassin.model.ShrinkingZoneStage;
 import com.assassin.util.GeoUtils; // Assuming we'll need this for distance calcs
+import com.assassin.util.TimeSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +37,20 @@ public class PlayerStatusService {
     private final PlayerDao playerDao;
     private final ShrinkingZoneService shrinkingZoneService;
     private final GameDao gameDao; // Add GameDao dependency
+    private final TimeSource timeSource;
+    private final GameEventService gameEventService; // Sequences zone eliminations for client sync
+    private final GameRosterService gameRosterService; // Saves eliminations together with the game's roster
 
-    // Constructor for dependency injection
-    public PlayerStatusService(PlayerDao playerDao, ShrinkingZoneService shrinkingZoneService, GameDao gameDao) {
+    // Constructor for dependency injection with an explicit clock, the game event sequence and the game rosters
+    public PlayerStatusService(PlayerDao playerDao, ShrinkingZoneService shrinkingZoneService, GameDao gameDao,
+                               TimeSource timeSource, GameEventService gameEventService,
+                               GameRosterService gameRosterService) {
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
         this.shrinkingZoneService = Objects.requireNonNull(shrinkingZoneService, "shrinkingZoneService cannot be null");
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null"); // Initialize GameDao
+        this.timeSource = Objects.requireNonNull(timeSource, "timeSource cannot be null");
+        this.gameEventService = Objects.requireNonNull(gameEventService, "gameEventService cannot be null");
+        this.gameRosterService = Objects.requireNonNull(gameRosterService, "gameRosterService cannot be null");
     }
 
     /**
@@ -127,18 +137,10 @@ public class PlayerStatusService {
 
         boolean isOutside = isPlayerOutsideZone(playerId);
         Player player = playerDao.getPlayerById(playerId).orElseThrow(); // Get player early
-        Instant now = Instant.now();
+        Instant now = timeSource.now();
 
         if (!isOutside) {
-            // Player is safe. Clear the timestamp tracking continuous time outside.
-            if (player.getFirstEnteredOutOfZoneTimestamp() != null) {
-                 logger.debug("Player {} re-entered the safe zone. Clearing out-of-zone timer.", playerId);
-                 player.setFirstEnteredOutOfZoneTimestamp(null);
-                 // Optionally clear lastZoneDamageTimestamp too?
-                 // player.setLastZoneDamageTimestamp(null); 
-                 playerDao.savePlayer(player);
-            }
-            return false;
+            return applyZoneDamage(player, null, null, false, now);
         }
 
         // --- Player is confirmed OUTSIDE --- 
@@ -153,6 +155,41 @@ public class PlayerStatusService {
         GameZoneState zoneState = shrinkingZoneService.advanceZoneState(gameId)
                 .orElseThrow(() -> new GameStateException("Could not retrieve current zone state for game: " + gameId));
 
+        return applyZoneDamage(player, game, zoneState, true, now);
+    }
+
+    /**
+     * Applies the zone damage rules to an already loaded player, using game and zone state
+     * that the caller has loaded once for the whole roster (see {@link GameTickProcessor}).
+     * Behaves exactly like {@link #applyOutOfZoneDamage(String)} but performs no reads.
+     *
+     * @param player The player to evaluate.
+     * @param game The player's game (may be null when {@code isOutside} is false).
+     * @param zoneState The current zone state (may be null when {@code isOutside} is false).
+     * @param isOutside Whether the player is currently outside the zone.
+     * @param now The evaluation time.
+     * @return true if damage was applied or player was eliminated, false otherwise.
+     * @throws GameStateException If the game configuration is invalid or missing.
+     */
+    public boolean applyZoneDamage(Player player, Game game, GameZoneState zoneState, boolean isOutside, Instant now)
+            throws GameStateException {
+        String playerId = player.getPlayerID();
+
+        if (!isOutside) {
+            // Player is safe. Clear the timestamp tracking continuous time outside.
+            if (player.getFirstEnteredOutOfZoneTimestamp() != null) {
+                 logger.debug("Player {} re-entered the safe zone. Clearing out-of-zone timer.", playerId);
+                 player.setFirstEnteredOutOfZoneTimestamp(null);
+                 // Optionally clear lastZoneDamageTimestamp too?
+                 // player.setLastZoneDamageTimestamp(null); 
+                 playerDao.savePlayer(player);
+            }
+            return false;
+        }
+
+        Objects.requireNonNull(game, "game cannot be null when player is outside the zone");
+        Objects.requireNonNull(zoneState, "zoneState cannot be null when player is outside the zone");
+
         List<ShrinkingZoneStage> zoneConfig = getShrinkingZoneConfigFromGame(game); // Use helper to get config
         ShrinkingZoneStage currentStageConfig = zoneConfig.get(zoneState.getCurrentStageIndex());
         double damagePerSecond = Optional.ofNullable(currentStageConfig.getDamagePerSecond()).orElse(0.0);
@@ -173,6 +210,7 @@ public class PlayerStatusService {
                 playerId, damageIntervalSeconds, eliminationThresholdSeconds, damagePerSecond);
 
             boolean eliminated = false;
+            String previousStatus = player.getStatus();
             String firstOutsideTimestampStr = player.getFirstEnteredOutOfZoneTimestamp();
             
             // Set timestamp if this is the first check interval they are outside
@@ -215,7 +253,14 @@ public class PlayerStatusService {
             player.setLastZoneDamageTimestamp(now.toString());
             // FirstEnteredOutOfZoneTimestamp is set above if it was null
             
-            playerDao.savePlayer(player); // Save changes (status, timestamps)
+            if (eliminated) {
+                // Save changes (status, timestamps) in the same write as the roster
+                gameRosterService.recordStatusChange(player, previousStatus);
+                gameEventService.record(player.getGameID(), GameEvent.Type.PLAYER_ELIMINATED,
+                        GameEventService.data("playerId", playerId, "cause", "ZONE"));
+            } else {
+                playerDao.savePlayer(player); // Save changes (timestamps)
+            }
             
             return true; // Damage check occurred
         } else {
@@ -6,25 +6,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.assassin.config.MapConfiguration;
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
 import com.assassin.model.Notification;
 import com.assassin.model.NotificationType;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus;
+import com.assassin.util.ExpiringGameCache;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 /**
  * Service responsible for detecting proximity between players for elimination mechanics.
@@ -39,8 +40,8 @@ public class ProximityDetectionService {
     // GPS accuracy compensation (meters)
     private static final double GPS_ACCURACY_BUFFER = 5.0;
     
-    // Cache of recent proximity checks to reduce unnecessary recalculations
-    private final Map<String, ProximityResult> proximityCache;
+    // Cache of recent proximity checks to reduce unnecessary recalculations, indexed by both players
+    private final ExpiringGameCache<ProximityResult> proximityCache;
     
     // Cache expiration time in milliseconds
     private static final long CACHE_EXPIRATION_MS = 10000; // 10 seconds
@@ -48,15 +49,23 @@ public class ProximityDetectionService {
     // Maximum age of location data to be considered valid (milliseconds)
     private static final long LOCATION_STALENESS_THRESHOLD_MS = 60000; // 60 seconds
     
-    // Cache for recent alerts sent to avoid spamming users
-    private final Map<String, Long> alertCache;
+    // Cache for recent alerts sent to avoid spamming users; an entry's presence means the alert is on cooldown
+    private final ExpiringGameCache<Long> alertCache;
     private static final long ALERT_COOLDOWN_MS = 60000; // 1 minute
     
+    // Resolution of the caches' expiry wheels
+    private static final long CACHE_TICK_MS = 1000;
+
+    // Hit ratios published with the invocation metrics; an alert cache hit is a suppressed alert
+    private static final Metrics.CacheCounter proximityCacheMetrics = Metrics.cache("Proximity");
+    private static final Metrics.CacheCounter alertCacheMetrics = Metrics.cache("ProximityAlert");
+    
     private final PlayerDao playerDao;
     private final GameDao gameDao;
     private final LocationService locationService;
     private final MapConfigurationService mapConfigService;
     private final NotificationService notificationService;
+    private final TimeSource timeSource;
     
     /**
      * Represents the result of a proximity check between two players.
@@ -69,10 +78,14 @@ public class ProximityDetectionService {
         private final boolean isInRange;
         
         public ProximityResult(String player1Id, String player2Id, double distance, boolean isInRange) {
+            this(player1Id, player2Id, distance, isInRange, System.currentTimeMillis());
+        }
+        
+        public ProximityResult(String player1Id, String player2Id, double distance, boolean isInRange, long timestamp) {
             this.player1Id = player1Id;
             this.player2Id = player2Id;
             this.distance = distance;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = timestamp;
             this.isInRange = isInRange;
         }
         
@@ -97,7 +110,11 @@ public class ProximityDetectionService {
         }
         
         public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_EXPIRATION_MS;
+            return isExpired(System.currentTimeMillis());
+        }
+        
+        public boolean isExpired(long nowMillis) {
+            return nowMillis - timestamp > CACHE_EXPIRATION_MS;
         }
     }
     
@@ -105,7 +122,8 @@ public class ProximityDetectionService {
      * Default constructor that initializes dependencies.
      */
     public ProximityDetectionService() {
-        this(new DynamoDbPlayerDao(), new DynamoDbGameDao(), new LocationService(), new MapConfigurationService(new DynamoDbGameDao(), null, null, null), new NotificationService());
+        this(ServiceRegistry.playerDao(), ServiceRegistry.gameDao(), ServiceRegistry.locationService(),
+             ServiceRegistry.mapConfigurationService(), ServiceRegistry.notificationService(), ServiceRegistry.timeSource());
     }
     
     /**
@@ -118,13 +136,29 @@ public class ProximityDetectionService {
      * @param notificationService Service for sending notifications
      */
     public ProximityDetectionService(PlayerDao playerDao, GameDao gameDao, LocationService locationService, MapConfigurationService mapConfigService, NotificationService notificationService) {
+        this(playerDao, gameDao, locationService, mapConfigService, notificationService, TimeSource.system());
+    }
+    
+    /**
+     * Constructor for dependency injection with an explicit clock.
+     * 
+     * @param playerDao Data access for player information
+     * @param gameDao Data access for game configuration
+     * @param locationService Service for location-related operations
+     * @param mapConfigService Service for retrieving map configuration
+     * @param notificationService Service for sending notifications
+     * @param timeSource Clock for location staleness, safe zone activity, cache expiry and alert cooldowns
+     */
+    public ProximityDetectionService(PlayerDao playerDao, GameDao gameDao, LocationService locationService, MapConfigurationService mapConfigService,
+                                     NotificationService notificationService, TimeSource timeSource) {
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
         this.locationService = Objects.requireNonNull(locationService, "locationService cannot be null");
         this.mapConfigService = Objects.requireNonNull(mapConfigService, "mapConfigService cannot be null");
         this.notificationService = Objects.requireNonNull(notificationService, "notificationService cannot be null");
-        this.proximityCache = new ConcurrentHashMap<>();
-        this.alertCache = new ConcurrentHashMap<>();
+        this.timeSource = Objects.requireNonNull(timeSource, "timeSource cannot be null");
+        this.proximityCache = new ExpiringGameCache<>(CACHE_EXPIRATION_MS, CACHE_TICK_MS);
+        this.alertCache = new ExpiringGameCache<>(ALERT_COOLDOWN_MS, CACHE_TICK_MS);
     }
     
     /**
@@ -141,6 +175,16 @@ public class ProximityDetectionService {
      */
     public boolean canEliminateTarget(String gameId, String playerId, String targetId, String weaponType) 
             throws PlayerNotFoundException, GameNotFoundException {
+        long start = System.nanoTime();
+        try {
+            return evaluateElimination(gameId, playerId, targetId, weaponType);
+        } finally {
+            Metrics.recordLatency("ProximityDetectionService.canEliminateTarget", System.nanoTime() - start);
+        }
+    }
+
+    private boolean evaluateElimination(String gameId, String playerId, String targetId, String weaponType) 
+            throws PlayerNotFoundException, GameNotFoundException {
         
         // Validate inputs
         if (gameId == null || playerId == null || targetId == null) {
@@ -181,7 +225,7 @@ public class ProximityDetectionService {
         }
         
         // Check staleness
-        long nowMillis = System.currentTimeMillis();
+        long nowMillis = timeSource.currentTimeMillis();
         try {
             Instant killerLocationInstant = Instant.parse(killer.getLocationTimestamp());
             if (nowMillis - killerLocationInstant.toEpochMilli() > LOCATION_STALENESS_THRESHOLD_MS) {
@@ -208,7 +252,7 @@ public class ProximityDetectionService {
         
         // Check if killer is in a safe zone
         Coordinate killerCoordinate = new Coordinate(killer.getLatitude(), killer.getLongitude());
-        long currentTimeMillis = System.currentTimeMillis();
+        long currentTimeMillis = timeSource.currentTimeMillis();
         if (mapConfigService.isLocationInSafeZone(gameId, killerCoordinate, currentTimeMillis)) {
             logger.debug("Cannot eliminate: Killer {} is in a safe zone", playerId);
             return false;
@@ -243,7 +287,8 @@ public class ProximityDetectionService {
                    playerId, targetId, inRange, actualDistance, effectiveDistance);
 
         // Cache the result (using actual distance)
-        proximityCache.put(generateCacheKey(gameId, playerId, targetId), new ProximityResult(playerId, targetId, actualDistance, inRange));
+        ProximityResult result = new ProximityResult(playerId, targetId, actualDistance, inRange, timeSource.currentTimeMillis());
+        proximityCache.put(gameId, generateCacheKey(playerId, targetId), result, result.getTimestamp(), playerId, targetId);
         
         return inRange;
     }
@@ -310,25 +355,17 @@ public class ProximityDetectionService {
      */
     public Map<String, ProximityResult> getRecentProximityResults(String playerId) {
         Map<String, ProximityResult> results = new HashMap<>();
+        long now = timeSource.currentTimeMillis();
         
-        // Clean expired results while collecting player's results
-        proximityCache.entrySet().removeIf(entry -> {
-            ProximityResult result = entry.getValue();
-            
-            // Check if result is expired
-            if (result.isExpired()) {
-                return true; // Remove expired entries
-            }
-            
-            // If this entry involves the player, add it to results
-            if (result.getPlayer1Id().equals(playerId) || result.getPlayer2Id().equals(playerId)) {
-                String otherPlayerId = result.getPlayer1Id().equals(playerId) ? 
-                                     result.getPlayer2Id() : result.getPlayer1Id();
-                results.put(otherPlayerId, result);
-            }
-            
-            return false; // Keep the entry
-        });
+        // Sweep only the expiry slots that have elapsed, then read just this player's entries
+        proximityCache.expire(now);
+        List<ProximityResult> cached = proximityCache.getForPlayer(playerId, now);
+        proximityCacheMetrics.record(!cached.isEmpty());
+        for (ProximityResult result : cached) {
+            String otherPlayerId = result.getPlayer1Id().equals(playerId) ? 
+                                 result.getPlayer2Id() : result.getPlayer1Id();
+            results.put(otherPlayerId, result);
+        }
         
         return results;
     }
@@ -344,19 +381,18 @@ public class ProximityDetectionService {
             return;
         }
         
-        proximityCache.keySet().removeIf(key -> key.startsWith(gameId + ":"));
+        proximityCache.clearGame(gameId);
         logger.debug("Cleared proximity cache for game {}", gameId);
     }
     
     /**
-     * Generate a cache key for proximity checks.
+     * Generate a cache key for proximity checks, scoped to the game's partition of the cache.
      * 
-     * @param gameId Game ID
      * @param player1Id First player ID
      * @param player2Id Second player ID
      * @return Cache key string
      */
-    private String generateCacheKey(String gameId, String player1Id, String player2Id) {
+    private String generateCacheKey(String player1Id, String player2Id) {
         // Ensure consistent ordering of player IDs for bidirectional caching
         if (player1Id.compareTo(player2Id) > 0) {
             String temp = player1Id;
@@ -364,7 +400,7 @@ public class ProximityDetectionService {
             player2Id = temp;
         }
         
-        return gameId + ":" + player1Id + ":" + player2Id;
+        return ExpiringGameCache.key(player1Id, player2Id);
     }
 
     /**
@@ -444,8 +480,8 @@ public class ProximityDetectionService {
             double distance = calculateDistanceBetweenPlayers(player.getPlayerID(), subjectPlayer.getPlayerID());
 
             if (distance <= alertDistance) {
-                String alertCacheKey = generateAlertCacheKey(gameId, player.getPlayerID(), subjectPlayerId, subjectType);
-                if (!isAlertOnCooldown(alertCacheKey)) {
+                String alertCacheKey = generateAlertCacheKey(player.getPlayerID(), subjectPlayerId, subjectType);
+                if (!isAlertOnCooldown(gameId, alertCacheKey)) {
                     String message = String.format("Your %s (%s) is nearby! (Approx. %.0fm)",
                             subjectType, subjectPlayer.getPlayerName(), distance);
                     logger.info("Sending proximity alert to {}: {}", player.getPlayerID(), message);
@@ -456,19 +492,20 @@ public class ProximityDetectionService {
                     notification.setType(NotificationType.PROXIMITY_ALERT.name());
                     notification.setTitle(subjectType.substring(0, 1).toUpperCase() + subjectType.substring(1) + " Nearby");
                     notification.setMessage(message);
-                    notification.setTimestamp(String.valueOf(System.currentTimeMillis()));
+                    notification.setTimestamp(String.valueOf(timeSource.currentTimeMillis()));
 
                     notificationService.sendNotification(notification);
 
                     // Update alert cache
-                    alertCache.put(alertCacheKey, System.currentTimeMillis());
+                    long sentAt = timeSource.currentTimeMillis();
+                    alertCache.put(gameId, alertCacheKey, sentAt, sentAt);
                 } else {
                     logger.debug("Proximity alert for {} to {} about {} is on cooldown.",
                                player.getPlayerID(), subjectPlayerId, subjectType);
                 }
             } else {
                  // Optional: Consider removing the alert from cooldown if players move far apart again?
-                 // String alertCacheKey = generateAlertCacheKey(gameId, player.getPlayerID(), subjectPlayerId, subjectType);
+                 // String alertCacheKey = generateAlertCacheKey(player.getPlayerID(), subjectPlayerId, subjectType);
                  // alertCache.remove(alertCacheKey);
             }
 
@@ -512,39 +549,39 @@ public class ProximityDetectionService {
     }
 
     /**
-     * Generate a cache key for proximity alerts.
+     * Generate a cache key for proximity alerts, scoped to the game's partition of the cache.
      *
-     * @param gameId Game ID
      * @param recipientPlayerId Player receiving the alert
      * @param subjectPlayerId Player the alert is about (target/hunter)
      * @param alertType Type of alert ("target" or "hunter")
      * @return Cache key string
      */
-    private String generateAlertCacheKey(String gameId, String recipientPlayerId, String subjectPlayerId, String alertType) {
-        return gameId + ":" + recipientPlayerId + ":" + subjectPlayerId + ":" + alertType;
+    private String generateAlertCacheKey(String recipientPlayerId, String subjectPlayerId, String alertType) {
+        return ExpiringGameCache.key(recipientPlayerId, subjectPlayerId, alertType);
     }
 
     /**
      * Check if a specific alert type is currently on cooldown for the player.
      *
+     * @param gameId The game ID.
      * @param alertCacheKey The generated key for the alert.
      * @return true if the alert is on cooldown, false otherwise.
      */
-    private boolean isAlertOnCooldown(String alertCacheKey) {
-        Long lastAlertTimestamp = alertCache.get(alertCacheKey);
-        if (lastAlertTimestamp == null) {
-            return false; // Not on cooldown if never sent
-        }
-        return (System.currentTimeMillis() - lastAlertTimestamp) < ALERT_COOLDOWN_MS;
+    private boolean isAlertOnCooldown(String gameId, String alertCacheKey) {
+        // Entries expire after ALERT_COOLDOWN_MS, so any live entry means the alert is on cooldown
+        boolean onCooldown = alertCache.get(gameId, alertCacheKey, timeSource.currentTimeMillis()) != null;
+        alertCacheMetrics.record(onCooldown);
+        return onCooldown;
     }
 
     /**
      * Cleans up expired entries from the alert cache.
+     * Only sweeps the expiry slots that elapsed since the previous cleanup.
      */
     private void cleanupAlertCache() {
-        long now = System.currentTimeMillis();
-        alertCache.entrySet().removeIf(entry -> (now - entry.getValue()) > ALERT_COOLDOWN_MS);
-        // Optionally log cache size after cleanup
-        // logger.debug("Alert cache size after cleanup: {}", alertCache.size());
+        int removed = alertCache.expire(timeSource.currentTimeMillis());
+        if (removed > 0) {
+            logger.debug("Expired {} alert cache entries; {} remain", removed, alertCache.size());
+        }
     }
 } 
\ No newline at end of file
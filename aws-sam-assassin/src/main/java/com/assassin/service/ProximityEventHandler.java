@@ -7,17 +7,18 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.assassin.dao.DynamoDbGameDao;
-import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
+import com.assassin.model.GameRoster;
 import com.assassin.model.GameStatus;
 import com.assassin.model.Notification;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus;
+import com.assassin.util.ServiceRegistry;
 
 /**
  * Handles proximity-based events between players, including elimination attempts.
@@ -30,6 +31,9 @@ public class ProximityEventHandler {
     private final GameDao gameDao;
     private final ProximityDetectionService proximityService;
     private final NotificationService notificationService;
+    private final GameEventService gameEventService;
+    private final GameRosterService gameRosterService;
+    private final GeofenceManager geofenceManager;
     
     /**
      * Enum defining different types of proximity events
@@ -46,25 +50,35 @@ public class ProximityEventHandler {
     }
     
     /**
-     * Constructor with dependencies
+     * Constructor with dependencies, including the game event sequence, the game rosters and the
+     * geofence state released when a game completes
      */
     public ProximityEventHandler(PlayerDao playerDao, GameDao gameDao, 
                                 ProximityDetectionService proximityService,
-                                NotificationService notificationService) {
+                                NotificationService notificationService,
+                                GameEventService gameEventService,
+                                GameRosterService gameRosterService,
+                                GeofenceManager geofenceManager) {
         this.playerDao = playerDao;
         this.gameDao = gameDao;
         this.proximityService = proximityService;
         this.notificationService = notificationService;
+        this.gameEventService = gameEventService;
+        this.gameRosterService = gameRosterService;
+        this.geofenceManager = geofenceManager;
     }
     
     /**
      * Default constructor for Lambda initialization
      */
     public ProximityEventHandler() {
-        this.playerDao = new DynamoDbPlayerDao();
-        this.gameDao = new DynamoDbGameDao();
-        this.proximityService = new ProximityDetectionService();
-        this.notificationService = new NotificationService();
+        this.playerDao = ServiceRegistry.playerDao();
+        this.gameDao = ServiceRegistry.gameDao();
+        this.proximityService = ServiceRegistry.proximityDetectionService();
+        this.notificationService = ServiceRegistry.notificationService();
+        this.gameEventService = ServiceRegistry.gameEventService();
+        this.gameRosterService = ServiceRegistry.gameRosterService();
+        this.geofenceManager = ServiceRegistry.geofenceManager();
     }
     
     /**
@@ -150,15 +164,18 @@ public class ProximityEventHandler {
         String targetId = target.getPlayerID();
         String targetNextTargetId = target.getTargetID();
         
-        // Mark target as eliminated
+        // Mark target as eliminated, in the same write as the game's roster
+        String targetPreviousStatus = target.getStatus();
         target.setStatus(PlayerStatus.DEAD.name());
         logger.info("Marking player {} as eliminated by {}", targetId, hunter.getPlayerID());
-        playerDao.savePlayer(target);
+        Optional<GameRoster> rosterChange = gameRosterService.recordStatusChange(target, targetPreviousStatus);
         
         // Update hunter's target to the target's target
         hunter.setTargetID(targetNextTargetId);
         hunter.setKillCount(hunter.getKillCount() + 1);
         playerDao.savePlayer(hunter);
+        gameEventService.record(gameId, GameEvent.Type.PLAYER_ELIMINATED, GameEventService.data(
+                "playerId", targetId, "cause", "PROXIMITY", "eliminatedBy", hunter.getPlayerID()));
         
         // Update the chain - target's target now has a new hunter
         if (targetNextTargetId != null) {
@@ -191,13 +208,33 @@ public class ProximityEventHandler {
         notificationService.sendNotification(targetEliminatedNotification);
         
         // Check if the game is complete (only one player remaining)
-        checkGameCompletion(gameId);
+        checkGameCompletion(gameId, rosterChange);
     }
     
     /**
-     * Check if the game should be completed (only one player remaining)
+     * Check if the game should be completed (only one player remaining).
+     * <p>
+     * The roster written with the elimination answers this without reading the game's players; exactly one
+     * elimination sees it drop to a single alive player. Games that started before rosters were kept have no
+     * roster and fall back to reloading every player.
      */
-    private void checkGameCompletion(String gameId) {
+    private void checkGameCompletion(String gameId, Optional<GameRoster> rosterChange) {
+        if (rosterChange.isPresent()) {
+            Optional<String> winnerId = rosterChange.get().lastPlayerStanding();
+            if (winnerId.isPresent()) {
+                Optional<Player> winner = playerDao.getPlayerById(winnerId.get());
+                if (winner.isPresent()) {
+                    completeGame(gameId, winner.get(), playerDao.getPlayersByGameId(gameId));
+                } else {
+                    logger.warn("Last player standing {} in game {} was not found", winnerId.get(), gameId);
+                }
+            }
+            return;
+        }
+        if (gameRosterService.getRoster(gameId).isPresent()) {
+            return; // The elimination was already recorded, so whoever recorded it ran this check
+        }
+        
         // Get all active players
         List<Player> allPlayersInGame = playerDao.getPlayersByGameId(gameId);
         List<Player> activePlayers = allPlayersInGame.stream()
@@ -206,32 +243,40 @@ public class ProximityEventHandler {
         
         // If only one player remains, they're the winner
         if (activePlayers.size() == 1) {
-            Player winner = activePlayers.get(0);
-            logger.info("Game {} completed. Winner: {}", gameId, winner.getPlayerID());
+            completeGame(gameId, activePlayers.get(0), allPlayersInGame);
+        }
+    }
+    
+    /**
+     * Mark the game completed, tell its players who won and drop the game's geofence and proximity state
+     */
+    private void completeGame(String gameId, Player winner, List<Player> allPlayersInGame) {
+        logger.info("Game {} completed. Winner: {}", gameId, winner.getPlayerID());
+        
+        // Update game status
+        Optional<Game> gameOpt = gameDao.getGameById(gameId);
+        if (gameOpt.isPresent()) {
+            Game game = gameOpt.get();
+            game.setStatus(GameStatus.COMPLETED.name());
+            gameDao.saveGame(game);
+            geofenceManager.clearGameGeofences(gameId);
+            proximityService.clearProximityCache(gameId);
             
-            // Update game status
-            Optional<Game> gameOpt = gameDao.getGameById(gameId);
-            if (gameOpt.isPresent()) {
-                Game game = gameOpt.get();
-                game.setStatus(GameStatus.COMPLETED.name());
-                gameDao.saveGame(game);
-                
-                // Notify the winner
-                Notification winnerNotification = new Notification(winner.getPlayerID(), 
-                        "GAME_WON", 
-                        "Congratulations! You are the last player standing! You've won the game!", 
-                        null);
-                notificationService.sendNotification(winnerNotification);
-                
-                // Notify all players about the game result
-                for (Player player : allPlayersInGame) {
-                    Notification gameEndNotification = new Notification(player.getPlayerID(), 
-                            "GAME_COMPLETED", 
-                            winner.getPlayerName() + " has won the game!",
-                            Map.of("winnerId", winner.getPlayerID()));
-                    notificationService.sendNotification(gameEndNotification);
-                }
+            // Notify the winner
+            Notification winnerNotification = new Notification(winner.getPlayerID(), 
+                    "GAME_WON", 
+                    "Congratulations! You are the last player standing! You've won the game!", 
+                    null);
+            notificationService.sendNotification(winnerNotification);
+            
+            // Notify all players about the game result
+            for (Player player : allPlayersInGame) {
+                Notification gameEndNotification = new Notification(player.getPlayerID(), 
+                        "GAME_COMPLETED", 
+                        winner.getPlayerName() + " has won the game!",
+                        Map.of("winnerId", winner.getPlayerID()));
+                notificationService.sendNotification(gameEndNotification);
             }
         }
     }
-} 
\ No newline at end of file
+}
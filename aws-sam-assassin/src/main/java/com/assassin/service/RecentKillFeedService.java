@@ -0,0 +1,99 @@
+package com.assassin.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.dao.RecentKillFeedDao;
+import com.assassin.exception.PersistenceException;
+import com.assassin.model.Kill;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.util.ExpiringGameCache;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
+
+/**
+ * Keeps the recent-kill feeds up to date and serves them.
+ * <p>
+ * Every verified kill is added to the feed of its game and to the global feed. Reads are served from a warm
+ * copy of each feed that lives for a few seconds, so a busy feed costs one GetItem per container per TTL
+ * instead of one per request.
+ */
+public class RecentKillFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentKillFeedService.class);
+    // A kill verified on another container shows up in this one's copy within this many milliseconds
+    static final long CACHE_TTL_MS = 5_000;
+    private static final long CACHE_TICK_MS = 1_000;
+    private static final String FEED_KEY = "feed";
+
+    private final RecentKillFeedDao recentKillFeedDao;
+    private final TimeSource timeSource; // Stamps feed updates and expires the warm copies
+    // feedId -> the feed as last read or written by this container
+    private final ExpiringGameCache<RecentKillFeed> feedCache = new ExpiringGameCache<>(CACHE_TTL_MS, CACHE_TICK_MS);
+
+    // Default constructor using the shared DAO and clock
+    public RecentKillFeedService() {
+        this(ServiceRegistry.recentKillFeedDao(), ServiceRegistry.timeSource());
+    }
+
+    // Constructor for dependency injection with DAO and clock
+    public RecentKillFeedService(RecentKillFeedDao recentKillFeedDao, TimeSource timeSource) {
+        this.recentKillFeedDao = recentKillFeedDao;
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Adds a verified kill to its game's feed and to the global feed. Failures are logged rather than thrown:
+     * the kill itself is already saved, and the feed is a best-effort view of it.
+     *
+     * @param kill The verified kill
+     */
+    public void recordVerifiedKill(Kill kill) {
+        KillFeedEntry entry = KillFeedEntry.from(kill);
+        String updatedAt = timeSource.now().toString();
+        if (kill.getGameId() != null && !kill.getGameId().isEmpty()) {
+            addToFeed(kill.getGameId(), entry, updatedAt);
+        } else {
+            logger.warn("Verified kill by {} at {} has no game ID; adding it to the global feed only",
+                    kill.getKillerID(), kill.getTime());
+        }
+        addToFeed(RecentKillFeed.GLOBAL_FEED_ID, entry, updatedAt);
+    }
+
+    /**
+     * Gets the most recently verified kills of a game, or of all games.
+     *
+     * @param gameId The game, or null for the global feed
+     * @param limit The maximum number of kills; at most {@link RecentKillFeed#CAPACITY} are kept per feed
+     * @return Up to {@code limit} verified kills, most recent first; empty if none have been verified yet
+     * @throws PersistenceException if the feed has to be read and the read fails
+     */
+    public List<Kill> getRecentKills(String gameId, int limit) throws PersistenceException {
+        String feedId = gameId != null ? gameId : RecentKillFeed.GLOBAL_FEED_ID;
+        long now = timeSource.currentTimeMillis();
+        feedCache.expire(now);
+        RecentKillFeed feed = feedCache.get(feedId, FEED_KEY, now);
+        if (feed == null) {
+            feed = recentKillFeedDao.getFeed(feedId).orElseGet(() -> new RecentKillFeed(feedId));
+            feedCache.put(feedId, FEED_KEY, feed, now);
+        }
+        return feed.newestFirst(limit).stream()
+                .map(KillFeedEntry::toKill)
+                .collect(Collectors.toList());
+    }
+
+    private void addToFeed(String feedId, KillFeedEntry entry, String updatedAt) {
+        try {
+            RecentKillFeed feed = recentKillFeedDao.addKill(feedId, entry, updatedAt);
+            // This container's next read sees the kill straight away; others within the TTL
+            feedCache.put(feedId, FEED_KEY, feed, timeSource.currentTimeMillis());
+        } catch (PersistenceException e) {
+            logger.error("Failed to add kill by {} at {} to recent kill feed {}: {}",
+                    entry.getKillerID(), entry.getTime(), feedId, e.getMessage(), e);
+        }
+    }
+}
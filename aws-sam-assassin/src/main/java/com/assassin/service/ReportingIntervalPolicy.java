@@ -0,0 +1,69 @@
+package com.assassin.service;
+
+/**
+ * Decides how often a client should report its location.
+ * <p>
+ * The interval is driven by the closest thing that could change the player's situation:
+ * their target or hunter, the game boundary and the shrinking zone edge. Players in an
+ * engagement report every {@value #MIN_INTERVAL_SECONDS}s, players far from everything
+ * every {@value #MAX_INTERVAL_SECONDS}s.
+ */
+public class ReportingIntervalPolicy {
+
+    public static final int MIN_INTERVAL_SECONDS = 2;
+    public static final int MAX_INTERVAL_SECONDS = 60;
+    // Used when the situation could not be evaluated
+    public static final int DEFAULT_INTERVAL_SECONDS = 10;
+
+    // A target or hunter further away than this does not shorten the interval
+    public static final double MAX_PLAYER_DISTANCE_METERS = 1000.0;
+
+    // Distance to nearest target/hunter (meters) -> interval (seconds), checked in order
+    private static final double[] PLAYER_DISTANCE_BANDS = {50.0, 200.0, 500.0, MAX_PLAYER_DISTANCE_METERS};
+    private static final int[] PLAYER_INTERVALS = {MIN_INTERVAL_SECONDS, 5, 15, 30};
+
+    // Distance to boundary or zone edge (meters) -> interval (seconds), checked in order
+    private static final double[] EDGE_DISTANCE_BANDS = {25.0, 100.0, 300.0};
+    private static final int[] EDGE_INTERVALS = {5, 15, 30};
+    // Players already outside the boundary or zone need quick feedback when they return
+    private static final int OUTSIDE_EDGE_INTERVAL_SECONDS = 5;
+
+    /**
+     * Computes the recommended interval until the next location report.
+     * Any distance may be {@link Double#NaN} when it is unknown or not applicable.
+     *
+     * @param nearestPlayerMeters Distance to the nearest target or hunter.
+     * @param boundaryMeters Signed distance to the game boundary (negative when outside).
+     * @param zoneEdgeMeters Signed distance to the shrinking zone edge (negative when outside).
+     * @return Recommended interval in seconds, between {@link #MIN_INTERVAL_SECONDS} and {@link #MAX_INTERVAL_SECONDS}.
+     */
+    public int recommendIntervalSeconds(double nearestPlayerMeters, double boundaryMeters, double zoneEdgeMeters) {
+        int interval = MAX_INTERVAL_SECONDS;
+        interval = Math.min(interval, bandInterval(nearestPlayerMeters, PLAYER_DISTANCE_BANDS, PLAYER_INTERVALS));
+        interval = Math.min(interval, edgeInterval(boundaryMeters));
+        interval = Math.min(interval, edgeInterval(zoneEdgeMeters));
+        return Math.max(MIN_INTERVAL_SECONDS, interval);
+    }
+
+    private static int edgeInterval(double signedDistance) {
+        if (Double.isNaN(signedDistance)) {
+            return MAX_INTERVAL_SECONDS;
+        }
+        if (signedDistance < 0) {
+            return OUTSIDE_EDGE_INTERVAL_SECONDS;
+        }
+        return bandInterval(signedDistance, EDGE_DISTANCE_BANDS, EDGE_INTERVALS);
+    }
+
+    private static int bandInterval(double distance, double[] bands, int[] intervals) {
+        if (Double.isNaN(distance)) {
+            return MAX_INTERVAL_SECONDS;
+        }
+        for (int i = 0; i < bands.length; i++) {
+            if (distance <= bands[i]) {
+                return intervals[i];
+            }
+        }
+        return MAX_INTERVAL_SECONDS;
+    }
+}
@@ -8,14 +8,19 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.assassin.dao.DynamoDbGameEventDao;
 import com.assassin.dao.DynamoDbSafeZoneDao;
+import com.assassin.dao.PagedResult;
 import com.assassin.dao.SafeZoneDao;
 import com.assassin.exception.PersistenceException;
 import com.assassin.exception.SafeZoneNotFoundException;
 import com.assassin.exception.UnauthorizedException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Coordinate;
+import com.assassin.model.GameEvent;
 import com.assassin.model.SafeZone;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 
@@ -26,21 +31,26 @@ public class SafeZoneService {
 
     private static final Logger logger = LoggerFactory.getLogger(SafeZoneService.class);
     private final SafeZoneDao safeZoneDao;
+    private final TimeSource timeSource; // Stamps creation times
+    private final GameEventService gameEventService; // Sequences zone changes for client sync
     // Add other DAOs as needed (e.g., GameDao to validate gameId)
 
     // Default constructor using the default DAO constructor
     public SafeZoneService() {
-        this(new DynamoDbSafeZoneDao());
+        this(ServiceRegistry.safeZoneDao(), ServiceRegistry.timeSource(), ServiceRegistry.gameEventService());
     }
 
-    // Constructor for dependency injection with DAO
-    public SafeZoneService(SafeZoneDao safeZoneDao) {
+    // Constructor for dependency injection with DAO, clock and the game event sequence
+    public SafeZoneService(SafeZoneDao safeZoneDao, TimeSource timeSource, GameEventService gameEventService) {
         this.safeZoneDao = safeZoneDao;
+        this.timeSource = timeSource;
+        this.gameEventService = gameEventService;
     }
     
     // Constructor for dependency injection with Enhanced Client
     public SafeZoneService(DynamoDbEnhancedClient enhancedClient) {
-        this(new DynamoDbSafeZoneDao(enhancedClient));
+        this(new DynamoDbSafeZoneDao(enhancedClient), TimeSource.system(),
+             new GameEventService(new DynamoDbGameEventDao(enhancedClient), TimeSource.system()));
     }
 
     /**
@@ -76,11 +86,13 @@ public class SafeZoneService {
 
         // Set creation timestamp if not provided
         if (safeZone.getCreatedAt() == null || safeZone.getCreatedAt().isEmpty()) {
-            safeZone.setCreatedAt(Instant.now().toString());
+            safeZone.setCreatedAt(timeSource.now().toString());
         }
 
         logger.info("Creating safe zone with ID: {} for game: {}", safeZone.getSafeZoneId(), safeZone.getGameId());
         safeZoneDao.saveSafeZone(safeZone);
+        gameEventService.record(safeZone.getGameId(), GameEvent.Type.SAFE_ZONE_CREATED,
+                GameEventService.data("safeZoneId", safeZone.getSafeZoneId()));
         return safeZone;
     }
 
@@ -112,6 +124,22 @@ public class SafeZoneService {
         return safeZoneDao.getSafeZonesByGameId(gameId);
     }
 
+    /**
+     * Retrieves one page of the safe zones for a specific game.
+     *
+     * @param gameId The ID of the game.
+     * @param limit The maximum number of safe zones on the page.
+     * @param pageToken The previous page's next page token, or null for the first page.
+     * @return The page of safe zones and the token for the next one.
+     */
+    public PagedResult<SafeZone> getSafeZonesForGame(String gameId, int limit, String pageToken) {
+        if (gameId == null || gameId.isEmpty()) {
+            return new PagedResult<>(List.of(), null); // Empty page for invalid gameId
+        }
+        logger.debug("Getting a page of safe zones for game ID: {}", gameId);
+        return safeZoneDao.getSafeZonesByGameId(gameId, limit, pageToken);
+    }
+
     /**
      * Deletes a safe zone by its ID.
      *
@@ -125,7 +153,11 @@ public class SafeZoneService {
         }
         // Consider adding checks: does the zone exist? does the caller have permission?
         logger.info("Deleting safe zone with ID: {}", safeZoneId);
+        // Read first: the event goes to the zone's game, which the ID alone does not name
+        Optional<SafeZone> existingZone = safeZoneDao.getSafeZoneById(safeZoneId);
         safeZoneDao.deleteSafeZone(safeZoneId);
+        existingZone.ifPresent(zone -> gameEventService.record(zone.getGameId(), GameEvent.Type.SAFE_ZONE_DELETED,
+                GameEventService.data("safeZoneId", safeZoneId)));
     }
 
     /**
@@ -252,6 +284,8 @@ public class SafeZoneService {
         
         logger.info("Updating safe zone: {} for game: {}", existingZone.getSafeZoneId(), existingZone.getGameId());
         safeZoneDao.saveSafeZone(existingZone);
+        gameEventService.record(existingZone.getGameId(), GameEvent.Type.SAFE_ZONE_UPDATED,
+                GameEventService.data("safeZoneId", safeZoneId));
         return existingZone;
     }
 
@@ -15,10 +15,13 @@ import com.assassin.dao.GameZoneStateDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
+import com.assassin.metrics.Metrics;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
 import com.assassin.model.GameZoneState;
 import com.assassin.model.ShrinkingZoneStage;
+import com.assassin.util.TimeSource;
 
 /**
  * Service responsible for managing the state and progression 
@@ -33,12 +36,17 @@ public class ShrinkingZoneService {
     private final GameDao gameDao;
     private final GameZoneStateDao gameZoneStateDao;
     private final PlayerDao playerDao; // Might be needed for damage application
+    private final TimeSource timeSource;
+    private final GameEventService gameEventService; // Sequences phase changes for client sync
 
-    // Constructor for dependency injection
-    public ShrinkingZoneService(GameDao gameDao, GameZoneStateDao gameZoneStateDao, PlayerDao playerDao) {
+    // Constructor for dependency injection with an explicit clock and the game event sequence
+    public ShrinkingZoneService(GameDao gameDao, GameZoneStateDao gameZoneStateDao, PlayerDao playerDao, TimeSource timeSource,
+                                GameEventService gameEventService) {
         this.gameDao = Objects.requireNonNull(gameDao, "gameDao cannot be null");
         this.gameZoneStateDao = Objects.requireNonNull(gameZoneStateDao, "gameZoneStateDao cannot be null");
         this.playerDao = Objects.requireNonNull(playerDao, "playerDao cannot be null");
+        this.timeSource = Objects.requireNonNull(timeSource, "timeSource cannot be null");
+        this.gameEventService = Objects.requireNonNull(gameEventService, "gameEventService cannot be null");
     }
 
     /**
@@ -85,11 +93,12 @@ public class ShrinkingZoneService {
         initialState.setCurrentRadiusMeters(initialStage.getEndRadiusMeters()); // Start at the radius defined for stage 0
         initialState.setCurrentCenter(initialCenter); 
 
-        Instant now = Instant.now();
+        Instant now = timeSource.now();
         initialState.setPhaseEndTime(now.plusSeconds(initialStage.getWaitTimeSeconds()).toString());
         initialState.setLastUpdated(now.toString());
 
         gameZoneStateDao.saveGameZoneState(initialState);
+        recordPhaseChange(initialState);
         logger.info("Successfully initialized zone state for game {}: Stage {}, Phase {}, Radius {}, EndTime {}", 
             game.getGameID(), 
             initialState.getCurrentStageIndex(), 
@@ -157,7 +166,16 @@ public class ShrinkingZoneService {
      * @throws GameStateException If the game configuration is missing.
      */
     public Optional<GameZoneState> advanceZoneState(String gameId) throws GameNotFoundException, GameStateException {
-        Instant now = Instant.now();
+        long start = System.nanoTime();
+        try {
+            return advanceZoneStateNow(gameId);
+        } finally {
+            Metrics.recordLatency("ShrinkingZoneService.advanceZoneState", System.nanoTime() - start);
+        }
+    }
+
+    private Optional<GameZoneState> advanceZoneStateNow(String gameId) throws GameNotFoundException, GameStateException {
+        Instant now = timeSource.now();
         logger.debug("Attempting to advance zone state for game {} at time {}", gameId, now);
 
         Game game = gameDao.getGameById(gameId)
@@ -274,8 +292,18 @@ public class ShrinkingZoneService {
         }
 
         gameZoneStateDao.saveGameZoneState(nextState);
+        recordPhaseChange(nextState);
         return Optional.of(nextState);
     }
+
+    // Tells syncing clients the zone entered a new phase; the radius in between follows from the phase
+    private void recordPhaseChange(GameZoneState state) {
+        gameEventService.record(state.getGameId(), GameEvent.Type.ZONE_PHASE_CHANGED, GameEventService.data(
+                "stageIndex", String.valueOf(state.getCurrentStageIndex()),
+                "phase", state.getCurrentPhase(),
+                "radiusMeters", String.valueOf(state.getCurrentRadiusMeters()),
+                "phaseEndTime", state.getPhaseEndTime()));
+    }
     
     /**
      * Calculates the current state (primarily radius) during a SHRINKING phase based on elapsed time.
@@ -0,0 +1,138 @@
+package com.assassin.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.model.Notification;
+import com.assassin.model.NotificationType;
+import com.assassin.service.GameTickProcessor.PlayerSnapshot;
+import com.assassin.service.GameTickProcessor.TickEvent;
+import com.assassin.service.GameTickProcessor.TickResult;
+import com.assassin.util.ExpiringGameCache;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
+
+/**
+ * Turns the events of a {@link GameTickProcessor} tick into player notifications.
+ * <p>
+ * Proximity events become proximity alerts, zone and boundary events become zone warnings.
+ * A condition that persists across ticks is notified again only after {@link #ALERT_COOLDOWN_MS},
+ * so a player standing outside the zone is not sent a warning on every tick.
+ */
+public class TickEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TickEventDispatcher.class);
+
+    // Ticks run every minute; the cooldown spans several of them
+    static final long ALERT_COOLDOWN_MS = 5 * 60 * 1000L;
+    private static final long CACHE_TICK_MS = 1_000;
+
+    private final NotificationService notificationService;
+    private final TimeSource timeSource; // Stamps notifications and expires cooldowns
+    // gameId -> (recipient, counterpart, event type) -> time the notification was sent
+    private final ExpiringGameCache<Long> cooldowns = new ExpiringGameCache<>(ALERT_COOLDOWN_MS, CACHE_TICK_MS);
+
+    // Default constructor using the shared notification service and clock
+    public TickEventDispatcher() {
+        this(ServiceRegistry.notificationService(), ServiceRegistry.timeSource());
+    }
+
+    // Constructor for dependency injection with notification service and clock
+    public TickEventDispatcher(NotificationService notificationService, TimeSource timeSource) {
+        this.notificationService = Objects.requireNonNull(notificationService, "notificationService cannot be null");
+        this.timeSource = Objects.requireNonNull(timeSource, "timeSource cannot be null");
+    }
+
+    /**
+     * Sends a notification for every event of a tick that is not on cooldown.
+     * A failure to send one notification does not stop the others.
+     *
+     * @param tick The tick result
+     * @return Number of notifications sent
+     */
+    public int dispatch(TickResult tick) {
+        long now = timeSource.currentTimeMillis();
+        cooldowns.expire(now);
+        Map<String, String> playerNames = null;
+        int sent = 0;
+
+        for (TickEvent event : tick.getEvents()) {
+            String key = ExpiringGameCache.key(event.getPlayerId(),
+                    event.getOtherPlayerId() != null ? event.getOtherPlayerId() : "", event.getEventType().name());
+            if (cooldowns.get(tick.getGameId(), key, now) != null) {
+                continue;
+            }
+            if (event.getOtherPlayerId() != null && playerNames == null) {
+                playerNames = playerNames(tick.getSnapshot());
+            }
+            Notification notification = toNotification(event, playerNames, now);
+            try {
+                notificationService.sendNotification(notification);
+                cooldowns.put(tick.getGameId(), key, now, now);
+                sent++;
+            } catch (Exception e) {
+                logger.error("Failed to send {} notification to player {} in game {}: {}",
+                        event.getEventType(), event.getPlayerId(), tick.getGameId(), e.getMessage(), e);
+            }
+        }
+
+        if (sent > 0) {
+            logger.info("Sent {} tick notifications for game {}", sent, tick.getGameId());
+        }
+        return sent;
+    }
+
+    private static Notification toNotification(TickEvent event, Map<String, String> playerNames, long now) {
+        String title;
+        String message;
+        NotificationType type = NotificationType.ZONE_WARNING;
+        double distance = event.getDistanceMeters();
+        switch (event.getEventType()) {
+            case TARGET_IN_RANGE:
+            case TARGET_NEARBY:
+            case HUNTER_IN_RANGE:
+            case HUNTER_NEARBY:
+                String subjectType = event.getEventType().name().startsWith("TARGET") ? "target" : "hunter";
+                title = subjectType.substring(0, 1).toUpperCase() + subjectType.substring(1) + " Nearby";
+                message = String.format("Your %s (%s) is nearby! (Approx. %.0fm)",
+                        subjectType, playerNames.get(event.getOtherPlayerId()), distance);
+                type = NotificationType.PROXIMITY_ALERT;
+                break;
+            case OUTSIDE_ZONE:
+                title = "Outside the Zone";
+                message = Double.isNaN(distance)
+                        ? "You are outside the zone. Get back inside to avoid damage."
+                        : String.format("You are outside the zone (approx. %.0fm from its edge). Get back inside to avoid damage.", distance);
+                break;
+            case OUTSIDE_BOUNDARY:
+                title = "Outside the Game Area";
+                message = String.format("You are outside the game area (approx. %.0fm from its edge).", distance);
+                break;
+            default:
+                title = "Near the Game Area Edge";
+                message = String.format("You are approx. %.0fm from the edge of the game area.", distance);
+                break;
+        }
+
+        Notification notification = new Notification();
+        notification.setRecipientPlayerId(event.getPlayerId());
+        notification.setGameId(event.getGameId());
+        notification.setType(type.name());
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notification.setTimestamp(String.valueOf(now));
+        return notification;
+    }
+
+    private static Map<String, String> playerNames(PlayerSnapshot snapshot) {
+        Map<String, String> names = new HashMap<>(snapshot.size() * 2);
+        for (int i = 0; i < snapshot.size(); i++) {
+            names.put(snapshot.getPlayerId(i), snapshot.getPlayer(i).getPlayerName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,76 @@
+package com.assassin.service.maintenance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.dao.ParallelScan;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.ScanOptions;
+import com.assassin.model.Player;
+import com.assassin.util.JsonCodecs;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * Exports every player as JSON Lines, one player object per line, in no particular order.
+ * <p>
+ * Players are streamed from a parallel scan straight to the writer. Only the attributes below are fetched,
+ * which keeps secrets, password hashes and targets out of the export and makes the scan cheaper.
+ */
+public class PlayerExportJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerExportJob.class);
+
+    static final String[] EXPORTED_ATTRIBUTES = {
+            "PlayerID", "PlayerName", "Email", "GameID", "Status", "KillCount", "Active",
+            "LastKnownLatitude", "LastKnownLongitude", "LocationTimestamp"
+    };
+
+    private final PlayerDao playerDao;
+
+    public PlayerExportJob() {
+        this(ServiceRegistry.playerDao());
+    }
+
+    public PlayerExportJob(PlayerDao playerDao) {
+        this.playerDao = playerDao;
+    }
+
+    /**
+     * @param out Destination of the JSON Lines; written from several threads, one whole line at a time
+     * @param segments Scan segments
+     * @param readCapacityPerSecond Read capacity budget, or 0 for no limit
+     * @return Totals of the scan
+     * @throws IOException If writing fails
+     */
+    public ParallelScan.Result export(Writer out, int segments, double readCapacityPerSecond) throws IOException {
+        ScanOptions options = ScanOptions.builder()
+                .segments(segments)
+                .attributes(EXPORTED_ATTRIBUTES)
+                .readCapacityPerSecond(readCapacityPerSecond)
+                .build();
+        try {
+            ParallelScan.Result result = playerDao.scanAllPlayers(options, player -> writeLine(out, player));
+            out.flush();
+            logger.info("Exported players: {}", result);
+            return result;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeLine(Writer out, Player player) {
+        String line = JsonCodecs.gson().toJson(player, Player.class);
+        try {
+            synchronized (out) {
+                out.write(line);
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
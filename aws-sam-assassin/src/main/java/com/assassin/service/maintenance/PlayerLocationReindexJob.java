@@ -0,0 +1,81 @@
+package com.assassin.service.maintenance;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.dao.DynamoDbPlayerDao;
+import com.assassin.dao.ParallelScan;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.ScanOptions;
+import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.model.Player;
+import com.assassin.util.ServiceRegistry;
+
+/**
+ * Backfills the GameCellIndex: rewrites the geo-cell key of every player whose stored key does not match
+ * their game and last known location, e.g. players written before the index existed or after a precision
+ * change. Only the attributes needed to compute the key are scanned.
+ * <p>
+ * The read capacity budget covers the scan; each fix is one update of the key alone on top of it, so the
+ * backfill never touches kill counts, statuses or anything else written since the scan read the player.
+ * The update only applies while the player still has the scanned game, location and key, so a stale scan
+ * never overwrites a key written by a later location update.
+ */
+public class PlayerLocationReindexJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerLocationReindexJob.class);
+
+    static final String[] SCANNED_ATTRIBUTES = {
+            "PlayerID", "GameID", "LastKnownLatitude", "LastKnownLongitude", "GameCellKey"
+    };
+
+    private final PlayerDao playerDao;
+
+    public PlayerLocationReindexJob() {
+        this(ServiceRegistry.playerDao());
+    }
+
+    public PlayerLocationReindexJob(PlayerDao playerDao) {
+        this.playerDao = playerDao;
+    }
+
+    /**
+     * @param segments Scan segments
+     * @param readCapacityPerSecond Read capacity budget for the scan, or 0 for no limit
+     * @return The number of players whose key was rewritten
+     */
+    public long reindex(int segments, double readCapacityPerSecond) {
+        ScanOptions options = ScanOptions.builder()
+                .segments(segments)
+                .attributes(SCANNED_ATTRIBUTES)
+                .readCapacityPerSecond(readCapacityPerSecond)
+                .build();
+        LongAdder reindexed = new LongAdder();
+        ParallelScan.Result result = playerDao.scanAllPlayers(options, player -> {
+            if (reindex(player)) {
+                reindexed.increment();
+            }
+        });
+        logger.info("Reindexed {} player locations after scanning {}", reindexed.sum(), result);
+        return reindexed.sum();
+    }
+
+    private boolean reindex(Player player) {
+        String expected = DynamoDbPlayerDao.gameCellKeyFor(player.getGameID(), player.getLatitude(), player.getLongitude());
+        // Players without a game or location have nothing to index
+        if (expected == null || Objects.equals(expected, player.getGameCellKey())) {
+            return false;
+        }
+        try {
+            // False if the player moved or was re-keyed since the scan; that write already stored a current key
+            return playerDao.updateGameCellKey(player, expected);
+        } catch (PlayerNotFoundException e) {
+            // Deleted since the scan read it
+            logger.debug("Player {} disappeared before reindexing", player.getPlayerID());
+            return false;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.assassin.util;
 
+import com.assassin.metrics.Metrics;
 import com.auth0.jwk.Jwk;
 import com.auth0.jwk.JwkException;
-import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.JwkProviderBuilder;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
@@ -14,41 +15,93 @@ import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
-import java.util.concurrent.TimeUnit;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Utility class for handling authorization, primarily JWT validation.
+ * <p>
+ * The user pool's signing keys are held in memory and re-read from its JWKS in the background once they are an
+ * hour old, or straight away (at most once a minute) when a token names a key that is not known yet. Tokens that
+ * pass verification are remembered by their SHA-256 hash until they expire, so a session that sends the same token
+ * on every request pays for one RSA signature check instead of one per request.
  */
 public class AuthorizationUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthorizationUtils.class);
+    // A container serves far fewer live sessions than this; the least recently used token goes first
+    static final int MAX_CACHED_TOKENS = 1_000;
+    // Cognito publishes a new key well before signing with it, so an hourly re-read finds it ahead of the tokens
+    static final long KEY_REFRESH_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
+    // Once keys have loaded, tokens naming unknown keys cannot make us fetch the JWKS more often than this
+    static final long MIN_KEY_FETCH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final int JWKS_TIMEOUT_MS = 2_000;
+    private static final Metrics.CacheCounter verifiedTokenMetrics = Metrics.cache("VerifiedTokens");
+    private static final Executor KEY_REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwks-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Where the signing keys come from: the user pool's JWKS in production, a self-signed key set in tests.
+     */
+    @FunctionalInterface
+    public interface KeySource {
+        /**
+         * @return Every current signing key by key ID (kid)
+         * @throws JwkException If the keys cannot be read
+         */
+        Map<String, RSAPublicKey> fetchKeys() throws JwkException;
+    }
 
     private final String awsRegion;
     private final String userPoolId;
     private final String audience; // Typically the Cognito App Client ID
-    private final JwkProvider jwkProvider;
     private final String issuer;
+    private final KeySource keySource;
+    private final TimeSource timeSource; // Checks token expiry and paces key fetches
+    private final Clock verifierClock;
+
+    private final Object keyFetchLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Map<String, RSAPublicKey> signingKeys = Map.of();
+    private volatile long keysFetchedAt = -1; // Last successful fetch, -1 if none yet
+    private volatile long lastKeyFetchAttemptAt = -1;
+    // SHA-256 of the token -> the token as verified, in least recently used order
+    private final Map<String, DecodedJWT> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DecodedJWT> eldest) {
+            return size() > MAX_CACHED_TOKENS;
+        }
+    };
 
     /**
      * Constructor initializes the utility with necessary Cognito configuration.
      * Expects environment variables: AWS_REGION, COGNITO_USER_POOL_ID, COGNITO_CLIENT_ID
      */
     public AuthorizationUtils() {
-        this.awsRegion = System.getenv("AWS_REGION"); // Ensure this is set in your Lambda environment
-        this.userPoolId = System.getenv("COGNITO_USER_POOL_ID");
-        this.audience = System.getenv("COGNITO_CLIENT_ID");
-
-        if (awsRegion == null || userPoolId == null || audience == null) {
-            logger.error("Missing required environment variables for JWT validation: AWS_REGION, COGNITO_USER_POOL_ID, COGNITO_CLIENT_ID");
-            throw new IllegalStateException("Missing required Cognito configuration for JWT validation.");
-        }
-
-        this.issuer = String.format("https://cognito-idp.%s.amazonaws.com/%s", awsRegion, userPoolId);
-        this.jwkProvider = buildCachingJwkProvider(this.issuer);
-        logger.info("AuthorizationUtils initialized for issuer: {} and audience: {}", this.issuer, this.audience);
+        this(requireEnv("AWS_REGION"), requireEnv("COGNITO_USER_POOL_ID"), requireEnv("COGNITO_CLIENT_ID"));
     }
 
     /**
@@ -58,6 +111,19 @@ public class AuthorizationUtils {
      * @param audience Cognito App Client ID
      */
     public AuthorizationUtils(String awsRegion, String userPoolId, String audience) {
+        this(awsRegion, userPoolId, audience, null, TimeSource.system());
+    }
+
+    /**
+     * Constructor for explicit configuration with the signing keys and the clock supplied, so tests can sign
+     * their own tokens with a self-signed key set.
+     * @param awsRegion AWS Region
+     * @param userPoolId Cognito User Pool ID
+     * @param audience Cognito App Client ID
+     * @param keySource Source of the signing keys, or null for the user pool's JWKS
+     * @param timeSource Clock that token expiry is checked against
+     */
+    public AuthorizationUtils(String awsRegion, String userPoolId, String audience, KeySource keySource, TimeSource timeSource) {
         this.awsRegion = awsRegion;
         this.userPoolId = userPoolId;
         this.audience = audience;
@@ -67,29 +133,77 @@ public class AuthorizationUtils {
         }
 
         this.issuer = String.format("https://cognito-idp.%s.amazonaws.com/%s", awsRegion, userPoolId);
-        this.jwkProvider = buildCachingJwkProvider(this.issuer);
-         logger.info("AuthorizationUtils initialized for issuer: {} and audience: {}", this.issuer, this.audience);
+        this.keySource = keySource != null ? keySource : jwksKeySource(this.issuer);
+        this.timeSource = timeSource;
+        this.verifierClock = clockOf(timeSource);
+        logger.info("AuthorizationUtils initialized for issuer: {} and audience: {}", this.issuer, this.audience);
+    }
+
+    private static String requireEnv(String name) {
+        String value = System.getenv(name); // Ensure this is set in your Lambda environment
+        if (value == null) {
+            logger.error("Missing required environment variables for JWT validation: AWS_REGION, COGNITO_USER_POOL_ID, COGNITO_CLIENT_ID");
+            throw new IllegalStateException("Missing required Cognito configuration for JWT validation.");
+        }
+        return value;
     }
 
-    private JwkProvider buildCachingJwkProvider(String issuerUrl) {
+    private static KeySource jwksKeySource(String issuerUrl) {
+        URL jwksUrl;
         try {
-            URL jwksUrl = new URL(issuerUrl + "/.well-known/jwks.json");
-            // Build a provider that caches JWKs for 10 hours and limits rate
-            return new JwkProviderBuilder(jwksUrl)
-                    .cached(10, 24, TimeUnit.HOURS) // Cache up to 10 JWKs for 24 hours
-                    .rateLimited(10, 1, TimeUnit.MINUTES) // Allow max 10 requests per minute (overall)
-                    .build();
+            jwksUrl = new URL(issuerUrl + "/.well-known/jwks.json");
         } catch (MalformedURLException e) {
             logger.error("Invalid JWKS URL derived from issuer: {}", issuerUrl, e);
             throw new IllegalStateException("Could not build JWK provider due to invalid URL", e);
         }
+        UrlJwkProvider provider = new UrlJwkProvider(jwksUrl, JWKS_TIMEOUT_MS, JWKS_TIMEOUT_MS);
+        return () -> {
+            Map<String, RSAPublicKey> keys = new HashMap<>();
+            for (Jwk jwk : provider.getAll()) {
+                PublicKey key = jwk.getPublicKey();
+                if (key instanceof RSAPublicKey) {
+                    keys.put(jwk.getId(), (RSAPublicKey) key);
+                }
+            }
+            return keys;
+        };
+    }
+
+    /**
+     * Reads the signing keys now, so the first request does not wait for them.
+     *
+     * @throws JwkException If the keys cannot be read
+     */
+    public void prefetchKeys() throws JwkException {
+        synchronized (keyFetchLock) {
+            fetchKeys();
+        }
+    }
+
+    /**
+     * Reads the signing keys on a background thread. Used while a container initializes, so the JWKS download
+     * overlaps the rest of the cold start. A failure is logged; the first token then fetches the keys itself.
+     */
+    public void prefetchKeysInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            KEY_REFRESH_EXECUTOR.execute(() -> {
+                try {
+                    prefetchKeys();
+                } catch (JwkException | RuntimeException e) {
+                    logger.warn("Could not read signing keys from {}: {}", issuer, e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
     }
 
     /**
      * Validates a JWT token (typically an IdToken or AccessToken from Cognito)
      * and returns the decoded claims if validation is successful.
      *
-     * Checks signature, expiration, issuer, and audience.
+     * Checks signature, expiration, issuer, and audience. A token that already passed these checks in this
+     * container is returned as verified until it expires.
      *
      * @param token The JWT token string.
      * @return DecodedJWT containing the token's claims.
@@ -101,6 +215,15 @@ public class AuthorizationUtils {
             throw new IllegalArgumentException("Token cannot be null or empty.");
         }
 
+        long now = timeSource.currentTimeMillis();
+        String tokenHash = sha256(token);
+        DecodedJWT cached = cachedToken(tokenHash, now);
+        verifiedTokenMetrics.record(cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        refreshKeysIfStale(now);
+
         // Decode without verification first to get the Key ID (kid)
         DecodedJWT jwt = JWT.decode(token);
         String keyId = jwt.getKeyId();
@@ -108,25 +231,130 @@ public class AuthorizationUtils {
              throw new JWTVerificationException("Token does not contain kid header");
         }
 
-        // Get the JWK (public key) from the provider using the kid
-        Jwk jwk = jwkProvider.get(keyId);
-
         // Build the RSA Algorithm using the public key
-        Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null); // Assuming RSA keys
+        Algorithm algorithm = Algorithm.RSA256(signingKey(keyId, now), null);
 
         // Build the verifier
-        JWTVerifier verifier = JWT.require(algorithm)
+        JWTVerifier verifier = ((JWTVerifier.BaseVerification) JWT.require(algorithm)
                 .withIssuer(this.issuer)
-                .withAudience(this.audience) // Verify 'aud' claim matches the App Client ID
+                .withAudience(this.audience)) // Verify 'aud' claim matches the App Client ID
                 // .acceptLeeway(1) // Optional: Account for clock skew (in seconds)
-                .build();
+                .build(verifierClock);
 
         // Verify the token's signature and claims (exp, iss, aud)
-        DecodedJWT verifiedJwt = verifier.verify(token);
+        DecodedJWT verifiedJwt = verifier.verify(jwt);
+        if (verifiedJwt.getExpiresAt() != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(tokenHash, verifiedJwt);
+            }
+        }
         logger.debug("Successfully validated token for user: {}", verifiedJwt.getSubject());
         return verifiedJwt;
     }
 
+    private DecodedJWT cachedToken(String tokenHash, long now) {
+        synchronized (verifiedTokens) {
+            DecodedJWT cached = verifiedTokens.get(tokenHash);
+            if (cached != null && cached.getExpiresAt().getTime() <= now) {
+                verifiedTokens.remove(tokenHash);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private RSAPublicKey signingKey(String keyId, long now) throws JwkException {
+        RSAPublicKey key = signingKeys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+        // A key we have not seen: the pool may have rotated since the last fetch. Until one fetch has worked
+        // (say the prefetch at init hit a transient JWKS error) every miss fetches, as it did before keys were held
+        synchronized (keyFetchLock) {
+            key = signingKeys.get(keyId);
+            if (key == null && (keysFetchedAt < 0 || now - lastKeyFetchAttemptAt >= MIN_KEY_FETCH_INTERVAL_MS)) {
+                fetchKeys();
+                key = signingKeys.get(keyId);
+            }
+        }
+        if (key == null) {
+            throw new SigningKeyNotFoundException("No signing key found for kid " + keyId, null);
+        }
+        return key;
+    }
+
+    private void refreshKeysIfStale(long now) {
+        if (keysFetchedAt >= 0 && now - keysFetchedAt >= KEY_REFRESH_INTERVAL_MS) {
+            prefetchKeysInBackground(); // Keep verifying with the keys we have meanwhile
+        }
+    }
+
+    // Callers hold keyFetchLock
+    private void fetchKeys() throws JwkException {
+        lastKeyFetchAttemptAt = timeSource.currentTimeMillis();
+        Map<String, RSAPublicKey> keys = Map.copyOf(keySource.fetchKeys());
+        signingKeys = keys;
+        keysFetchedAt = lastKeyFetchAttemptAt;
+        synchronized (verifiedTokens) {
+            // A key dropped from the set no longer vouches for the tokens it signed
+            verifiedTokens.values().removeIf(jwt -> !keys.containsKey(jwt.getKeyId()));
+        }
+        logger.info("Read {} signing keys for issuer {}", keys.size(), issuer);
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Clock clockOf(TimeSource timeSource) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return timeSource.now();
+            }
+        };
+    }
+
+    /**
+     * Signs and verifies a synthetic token with a throwaway self-signed key, so the RSA and JWT code paths are
+     * loaded before the first real token arrives. Stays offline, like the other priming warm-ups.
+     */
+    public static void primeVerification() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            AuthorizationUtils utils = new AuthorizationUtils("priming-region", "priming-pool", "priming-client",
+                    () -> Map.of("priming-key", (RSAPublicKey) keyPair.getPublic()), TimeSource.system());
+            String token = JWT.create()
+                    .withKeyId("priming-key")
+                    .withIssuer(utils.issuer)
+                    .withAudience(utils.audience)
+                    .withSubject("priming-player")
+                    .withExpiresAt(Instant.now().plusSeconds(60))
+                    .sign(Algorithm.RSA256(null, (RSAPrivateKey) keyPair.getPrivate()));
+            utils.getUserIdFromToken(utils.validateAndDecodeToken(token));
+            utils.validateAndDecodeToken(token);
+        } catch (NoSuchAlgorithmException | JwkException e) {
+            throw new IllegalStateException("Could not prime token verification", e);
+        }
+    }
+
     /**
      * Extracts the user ID (subject) from a validated JWT.
      *
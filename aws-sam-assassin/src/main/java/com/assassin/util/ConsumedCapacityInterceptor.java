@@ -0,0 +1,127 @@
+package com.assassin.util;
+
+import java.util.List;
+
+import com.assassin.dao.DaoAccounting;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+/**
+ * Reports every DynamoDB request made while a {@link DaoAccounting} scope is open on the calling thread.
+ * Asks DynamoDB for the consumed capacity ({@code ReturnConsumedCapacity.TOTAL}) on item, query, scan,
+ * batch and transaction requests, and records the operation and capacity once the response arrives.
+ * Requests made outside a scope are left untouched.
+ */
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        if (!DaoAccounting.isActive()) {
+            return request;
+        }
+        if (request instanceof GetItemRequest) {
+            return ((GetItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof PutItemRequest) {
+            return ((PutItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof UpdateItemRequest) {
+            return ((UpdateItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof DeleteItemRequest) {
+            return ((DeleteItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof QueryRequest) {
+            return ((QueryRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof ScanRequest) {
+            return ((ScanRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof BatchGetItemRequest) {
+            return ((BatchGetItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof BatchWriteItemRequest) {
+            return ((BatchWriteItemRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof TransactGetItemsRequest) {
+            return ((TransactGetItemsRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        } else if (request instanceof TransactWriteItemsRequest) {
+            return ((TransactWriteItemsRequest) request).toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        return request;
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        if (!DaoAccounting.isActive()) {
+            return;
+        }
+        SdkResponse response = context.response();
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        boolean write = response instanceof PutItemResponse || response instanceof UpdateItemResponse
+                || response instanceof DeleteItemResponse || response instanceof BatchWriteItemResponse
+                || response instanceof TransactWriteItemsResponse;
+        DaoAccounting.recordRoundTrip(operation != null ? operation : response.getClass().getSimpleName(),
+                write, capacityUnits(response));
+    }
+
+    static double capacityUnits(SdkResponse response) {
+        if (response instanceof GetItemResponse) {
+            return units(((GetItemResponse) response).consumedCapacity());
+        } else if (response instanceof PutItemResponse) {
+            return units(((PutItemResponse) response).consumedCapacity());
+        } else if (response instanceof UpdateItemResponse) {
+            return units(((UpdateItemResponse) response).consumedCapacity());
+        } else if (response instanceof DeleteItemResponse) {
+            return units(((DeleteItemResponse) response).consumedCapacity());
+        } else if (response instanceof QueryResponse) {
+            return units(((QueryResponse) response).consumedCapacity());
+        } else if (response instanceof ScanResponse) {
+            return units(((ScanResponse) response).consumedCapacity());
+        } else if (response instanceof BatchGetItemResponse) {
+            return units(((BatchGetItemResponse) response).consumedCapacity());
+        } else if (response instanceof BatchWriteItemResponse) {
+            return units(((BatchWriteItemResponse) response).consumedCapacity());
+        } else if (response instanceof TransactGetItemsResponse) {
+            return units(((TransactGetItemsResponse) response).consumedCapacity());
+        } else if (response instanceof TransactWriteItemsResponse) {
+            return units(((TransactWriteItemsResponse) response).consumedCapacity());
+        }
+        return 0;
+    }
+
+    private static double units(ConsumedCapacity capacity) {
+        return capacity == null || capacity.capacityUnits() == null ? 0 : capacity.capacityUnits();
+    }
+
+    // Batch and transaction responses report one entry per table
+    private static double units(List<ConsumedCapacity> capacities) {
+        double total = 0;
+        if (capacities != null) {
+            for (ConsumedCapacity capacity : capacities) {
+                total += units(capacity);
+            }
+        }
+        return total;
+    }
+}
@@ -1,11 +1,13 @@
 package com.assassin.util;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.net.URI;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -22,6 +24,7 @@ public class DynamoDbClientProvider {
     private static final String AWS_REGION = System.getenv("AWS_REGION"); // SAM injects this by default
 
     private static volatile DynamoDbClient dynamoDbClientInstance;
+    private static volatile DynamoDbClient currentDelegate; // Client behind dynamoDbClientInstance, swapped by recreateClients()
     private static volatile DynamoDbEnhancedClient dynamoDbEnhancedClientInstance;
     private static volatile DynamoDbClient overrideClient; // Added for testing
     private static volatile DynamoDbEnhancedClient overriddenEnhancedClient;
@@ -44,7 +47,8 @@ public class DynamoDbClientProvider {
             synchronized (DynamoDbClientProvider.class) {
                 if (dynamoDbClientInstance == null) {
                     logger.info("Initializing standard DynamoDbClient instance.");
-                    dynamoDbClientInstance = buildDynamoDbClient();
+                    currentDelegate = buildDynamoDbClient();
+                    dynamoDbClientInstance = delegatingClient();
                 }
             }
         }
@@ -82,10 +86,48 @@ public class DynamoDbClientProvider {
         return getDynamoDbEnhancedClient();
     }
 
+    /**
+     * Replaces the underlying DynamoDB client with a freshly built one and closes the old one.
+     * DAOs and enhanced clients already holding {@link #getClient()} keep working, because that
+     * instance only delegates to the current client. Used after a snapshot restore, when pooled
+     * connections from the checkpoint are dead. Does nothing for test overrides or before first use.
+     */
+    public static void recreateClients() {
+        DynamoDbClient previous;
+        synchronized (DynamoDbClientProvider.class) {
+            if (dynamoDbClientInstance == null || currentDelegate == null) {
+                return;
+            }
+            previous = currentDelegate;
+            currentDelegate = buildDynamoDbClient();
+        }
+        try {
+            previous.close();
+        } catch (RuntimeException e) {
+            logger.warn("Error closing previous DynamoDbClient: {}", e.getMessage());
+        }
+        logger.info("Re-created DynamoDbClient.");
+    }
+
+    // Stable client handed to callers; every call goes to whichever client is current
+    private static DynamoDbClient delegatingClient() {
+        return (DynamoDbClient) Proxy.newProxyInstance(DynamoDbClient.class.getClassLoader(),
+                new Class<?>[] {DynamoDbClient.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(currentDelegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
     private static DynamoDbClient buildDynamoDbClient() {
         var clientBuilder = DynamoDbClient.builder()
                 .httpClient(UrlConnectionHttpClient.builder().build())
-                .credentialsProvider(EnvironmentVariableCredentialsProvider.create());
+                // A new provider each time: the shared default one would keep credentials resolved before a snapshot
+                .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .overrideConfiguration(config -> config.addExecutionInterceptor(new ConsumedCapacityInterceptor()));
 
         if (AWS_REGION != null && !AWS_REGION.isEmpty()) {
             clientBuilder.region(Region.of(AWS_REGION));
@@ -112,7 +154,9 @@ public class DynamoDbClientProvider {
         logger.warn("!!! Overriding DynamoDbClientProvider with a test client !!!");
         overrideClient = client;
         dynamoDbClientInstance = null;
+        currentDelegate = null;
         dynamoDbEnhancedClientInstance = null;
+        ServiceRegistry.clearInstances(); // Shared DAOs are bound to the previous client
     }
 
     /**
@@ -123,6 +167,8 @@ public class DynamoDbClientProvider {
          logger.warn("!!! Resetting DynamoDbClientProvider !!!");
         overrideClient = null;
         dynamoDbClientInstance = null;
+        currentDelegate = null;
         dynamoDbEnhancedClientInstance = null;
+        ServiceRegistry.clearInstances();
     }
 } 
\ No newline at end of file
@@ -1,7 +1,5 @@
 package com.assassin.util;
 
-import com.google.gson.Gson;
-
 /**
  * Simple utility class to represent a JSON error response.
  */
@@ -22,6 +20,6 @@ public class ErrorResponse {
      * @return JSON string representing the error.
      */
     public String toJson() {
-        return new Gson().toJson(this);
+        return JsonCodecs.gson().toJson(this);
     }
 } 
\ No newline at end of file
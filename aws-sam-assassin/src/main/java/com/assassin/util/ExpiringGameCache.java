@@ -0,0 +1,251 @@
+package com.assassin.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Time-bounded cache partitioned by game, with a hashed timing wheel for expiry.
+ * <p>
+ * Entries live in a per-game sub-map under a compact key (the game ID is not repeated in it),
+ * and are optionally indexed by the players they involve. Every entry has the same TTL, so each
+ * one is scheduled into exactly one wheel slot. Expiring entries only touches the slots whose time
+ * has passed, clearing a game only touches that game's entries and per-player lookups only touch
+ * entries involving that player, so maintenance costs O(expired + matching) instead of O(total).
+ *
+ * @param <V> Type of cached values
+ */
+public class ExpiringGameCache<V> {
+
+    private final long ttlMillis;
+    private final long tickMillis;
+    private final Queue<Entry<V>>[] wheel;
+
+    // gameId -> (compact key -> entry)
+    private final Map<String, Map<String, Entry<V>>> games = new ConcurrentHashMap<>();
+    // playerId -> entries that involve the player
+    private final Map<String, Set<Entry<V>>> playerIndex = new ConcurrentHashMap<>();
+
+    // Last wheel tick that has been swept; starts unset so the first sweep covers the whole wheel
+    private long expiredThroughTick = Long.MIN_VALUE;
+
+    /**
+     * A cached value with its location in the cache.
+     */
+    private static final class Entry<V> {
+        private final String gameId;
+        private final String key;
+        private final V value;
+        private final long expiresAtMillis;
+        private final String[] playerIds;
+
+        private Entry(String gameId, String key, V value, long expiresAtMillis, String[] playerIds) {
+            this.gameId = gameId;
+            this.key = key;
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.playerIds = playerIds;
+        }
+    }
+
+    /**
+     * Creates a cache whose entries expire {@code ttlMillis} after they are written.
+     *
+     * @param ttlMillis Time to live of each entry in milliseconds
+     * @param tickMillis Wheel resolution in milliseconds; entries may outlive their TTL by up to one tick
+     *                   before being swept, but are never returned once expired
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiringGameCache(long ttlMillis, long tickMillis) {
+        if (ttlMillis <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("ttlMillis and tickMillis must be positive");
+        }
+        this.ttlMillis = ttlMillis;
+        this.tickMillis = tickMillis;
+        // One slot per tick of the TTL plus slack, so no entry ever needs more than one rotation
+        int slots = (int) (ttlMillis / tickMillis) + 2;
+        this.wheel = new Queue[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Builds a compact key from its parts, for use within a single game's sub-map.
+     *
+     * @param parts Key components (e.g. player IDs and a qualifier)
+     * @return The parts joined with a separator that does not occur in IDs
+     */
+    public static String key(String... parts) {
+        return String.join("|", parts);
+    }
+
+    /**
+     * Stores a value, replacing any previous value under the same game and key.
+     *
+     * @param gameId Game the entry belongs to
+     * @param key Compact key within the game
+     * @param value Value to cache
+     * @param nowMillis Current time in milliseconds
+     * @param playerIds Players the entry should be found under by {@link #getForPlayer}
+     */
+    public void put(String gameId, String key, V value, long nowMillis, String... playerIds) {
+        Entry<V> entry = new Entry<>(gameId, key, value, nowMillis + ttlMillis, playerIds);
+        Entry<V> previous = games.computeIfAbsent(gameId, g -> new ConcurrentHashMap<>()).put(key, entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String playerId : playerIds) {
+            playerIndex.computeIfAbsent(playerId, p -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+        wheel[slot(tickOf(entry.expiresAtMillis))].add(entry);
+    }
+
+    /**
+     * Returns the live value for a key, or null if absent or expired.
+     *
+     * @param gameId Game the entry belongs to
+     * @param key Compact key within the game
+     * @param nowMillis Current time in milliseconds
+     * @return The cached value or null
+     */
+    public V get(String gameId, String key, long nowMillis) {
+        Map<String, Entry<V>> entries = games.get(gameId);
+        if (entries == null) {
+            return null;
+        }
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAtMillis > nowMillis ? entry.value : null;
+    }
+
+    /**
+     * Returns the live values involving a player, across all games.
+     *
+     * @param playerId Player to look up
+     * @param nowMillis Current time in milliseconds
+     * @return Live values involving the player, in no particular order
+     */
+    public List<V> getForPlayer(String playerId, long nowMillis) {
+        Set<Entry<V>> entries = playerIndex.get(playerId);
+        if (entries == null) {
+            return List.of();
+        }
+        List<V> values = new ArrayList<>(entries.size());
+        for (Entry<V> entry : entries) {
+            if (entry.expiresAtMillis > nowMillis) {
+                values.add(entry.value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Drops every entry of a game. Their wheel slots are swept lazily.
+     *
+     * @param gameId Game to clear
+     */
+    public void clearGame(String gameId) {
+        Map<String, Entry<V>> entries = games.remove(gameId);
+        if (entries != null) {
+            entries.values().forEach(this::unindex);
+        }
+    }
+
+    /**
+     * Removes entries whose TTL has passed by sweeping the wheel slots elapsed since the last call.
+     *
+     * @param nowMillis Current time in milliseconds
+     * @return Number of entries removed
+     */
+    public synchronized int expire(long nowMillis) {
+        // Only fully elapsed ticks are swept
+        long lastTick = tickOf(nowMillis) - 1;
+        if (lastTick <= expiredThroughTick) {
+            return 0;
+        }
+        // After a long idle period every slot is due, but each only needs sweeping once
+        long firstTick = Math.max(expiredThroughTick + 1, lastTick - wheel.length + 1);
+        int removed = 0;
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            Queue<Entry<V>> bucket = wheel[slot(tick)];
+            int pending = bucket.size();
+            for (int i = 0; i < pending; i++) {
+                Entry<V> entry = bucket.poll();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.expiresAtMillis > nowMillis) {
+                    bucket.add(entry); // Due on a later rotation of the wheel
+                } else if (remove(entry)) {
+                    removed++;
+                }
+            }
+        }
+        expiredThroughTick = lastTick;
+        return removed;
+    }
+
+    /**
+     * @return Number of cached entries, including expired ones not yet swept
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, Entry<V>> entries : games.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return Number of games with cached entries
+     */
+    public int gameCount() {
+        return games.size();
+    }
+
+    /**
+     * Snapshot of entry counts per game, for diagnostics.
+     *
+     * @return Map of game ID to number of cached entries
+     */
+    public Map<String, Integer> sizeByGame() {
+        Map<String, Integer> sizes = new HashMap<>();
+        games.forEach((gameId, entries) -> sizes.put(gameId, entries.size()));
+        return sizes;
+    }
+
+    // Removes the entry if it is still the current value for its key; superseded entries are skipped
+    private boolean remove(Entry<V> entry) {
+        Map<String, Entry<V>> entries = games.get(entry.gameId);
+        if (entries == null || !entries.remove(entry.key, entry)) {
+            return false;
+        }
+        if (entries.isEmpty()) {
+            games.remove(entry.gameId, entries);
+        }
+        unindex(entry);
+        return true;
+    }
+
+    private void unindex(Entry<V> entry) {
+        for (String playerId : entry.playerIds) {
+            playerIndex.computeIfPresent(playerId, (p, set) -> {
+                set.remove(entry);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private long tickOf(long millis) {
+        return millis / tickMillis;
+    }
+
+    private int slot(long tick) {
+        return (int) Math.floorMod(tick, (long) wheel.length);
+    }
+}
@@ -0,0 +1,142 @@
+package com.assassin.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Minimal geohash encoder used to bucket player locations into fixed-size cells,
+ * so "nearby" lookups can query a handful of cells instead of a whole game roster.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // Separator between the game ID and the cell in composite index keys
+    private static final String KEY_SEPARATOR = "#";
+
+    // Private constructor to prevent instantiation
+    private GeoHash() {}
+
+    /**
+     * Encodes a coordinate as a geohash of the given precision.
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param precision Number of geohash characters (1-12)
+     * @return The geohash string
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12: " + precision);
+        }
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true; // Bits alternate longitude, latitude, starting with longitude
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Height of a geohash cell in degrees of latitude.
+     */
+    public static double cellHeightDegrees(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    /**
+     * Width of a geohash cell in degrees of longitude.
+     */
+    public static double cellWidthDegrees(int precision) {
+        int lonBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    /**
+     * Returns the set of cells at the given precision that together cover a circle.
+     * The circle is approximated by its bounding box, so callers should still filter by exact distance.
+     * Does not handle circles crossing the antimeridian.
+     *
+     * @param latitude Center latitude in degrees
+     * @param longitude Center longitude in degrees
+     * @param radiusMeters Circle radius in meters
+     * @param precision Geohash precision of the cells
+     * @return Geohash cells covering the circle's bounding box
+     */
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusMeters, int precision) {
+        double[] box = GeoUtils.calculateBoundingBox(latitude, longitude, radiusMeters); // minLat, minLon, maxLat, maxLon
+        double minLat = Math.max(-90.0, box[0]);
+        double minLon = Math.max(-180.0, box[1]);
+        double maxLat = Math.min(90.0, box[2]);
+        double maxLon = Math.min(180.0, box[3]);
+        double latStep = cellHeightDegrees(precision);
+        double lonStep = cellWidthDegrees(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        // Step one cell at a time and always include the far edge so partially covered cells are kept
+        for (double lat = minLat; ; lat = Math.min(lat + latStep, maxLat)) {
+            for (double lon = minLon; ; lon = Math.min(lon + lonStep, maxLon)) {
+                cells.add(encode(lat, lon, precision));
+                if (lon >= maxLon) {
+                    break;
+                }
+            }
+            if (lat >= maxLat) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Number of cells {@link #coveringCells} would return, without encoding them.
+     * Lets callers decide up front whether a cell query beats loading the whole roster.
+     */
+    public static long estimateCoveringCellCount(double latitude, double longitude, double radiusMeters, int precision) {
+        double[] box = GeoUtils.calculateBoundingBox(latitude, longitude, radiusMeters);
+        long rows = (long) Math.ceil((box[2] - box[0]) / cellHeightDegrees(precision)) + 1;
+        long cols = (long) Math.ceil((box[3] - box[1]) / cellWidthDegrees(precision)) + 1;
+        return rows * cols;
+    }
+
+    /**
+     * Builds the composite partition key used by the player geo-cell index.
+     *
+     * @param gameId The game ID
+     * @param cell The geohash cell
+     * @return Key of the form {@code gameId#cell}
+     */
+    public static String gameCellKey(String gameId, String cell) {
+        return gameId + KEY_SEPARATOR + cell;
+    }
+}
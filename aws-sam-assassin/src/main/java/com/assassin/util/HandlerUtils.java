@@ -1,13 +1,21 @@
 package com.assassin.util;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.DaoAccounting;
+import com.assassin.dao.PagedResult;
+import com.assassin.exception.ValidationException;
+import com.assassin.metrics.Metrics;
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
 
 /**
  * Utility class for common Lambda handler tasks.
@@ -16,11 +24,21 @@ public class HandlerUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(HandlerUtils.class);
 
+    /** Response header carrying the token for the next page of a list response; absent on the last page. */
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+    /** Page size of list endpoints when the request gives no {@code limit}. */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    /** Largest page size a request may ask for. */
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final String LIMIT_PARAM = "limit";
+    private static final String PAGE_TOKEN_PARAM = "pageToken";
+
     // Define standard CORS headers
     private static final Map<String, String> CORS_HEADERS = Map.of(
         "Access-Control-Allow-Origin", "*", // Restrict in production!
         "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
-        "Access-Control-Allow-Headers", "Content-Type, Authorization, X-Amz-Date, X-Api-Key, X-Amz-Security-Token"
+        "Access-Control-Allow-Headers", "Content-Type, Authorization, X-Amz-Date, X-Api-Key, X-Amz-Security-Token",
+        "Access-Control-Expose-Headers", NEXT_PAGE_TOKEN_HEADER
     );
 
     // Define headers specifically for OPTIONS preflight responses
@@ -55,6 +73,48 @@ public class HandlerUtils {
         return "OPTIONS".equalsIgnoreCase(request.getHttpMethod());
     }
 
+    /**
+     * Runs one API invocation with DynamoDB accounting and latency metrics. The latency is recorded
+     * under {@code <handler>.<route>} (e.g. {@code PlayerHandler.GET_PLAYER}), 4xx responses count as
+     * errors and 5xx responses or exceptions as faults, and the metrics are flushed before returning.
+     *
+     * @param handlerName Simple name of the handler
+     * @param request The API Gateway request event
+     * @param dispatch Handles the request
+     * @return The response from {@code dispatch}
+     */
+    public static APIGatewayProxyResponseEvent invoke(String handlerName, APIGatewayProxyRequestEvent request,
+                                                      Supplier<APIGatewayProxyResponseEvent> dispatch) {
+        String operation = handlerName + "." + routeName(request);
+        long start = System.nanoTime();
+        boolean fault = true;
+        try (DaoAccounting.Scope accounting = DaoAccounting.begin(
+                handlerName + " " + request.getHttpMethod() + " " + request.getPath())) {
+            APIGatewayProxyResponseEvent response = dispatch.get();
+            int statusCode = response != null && response.getStatusCode() != null ? response.getStatusCode() : 200;
+            fault = statusCode >= 500;
+            if (statusCode >= 400 && statusCode < 500) {
+                Metrics.recordError(operation);
+            }
+            return response;
+        } finally {
+            if (fault) {
+                Metrics.recordFault(operation);
+            }
+            Metrics.recordLatency(operation, System.nanoTime() - start);
+            Metrics.flush();
+        }
+    }
+
+    // Route constant for metrics; unmatched paths share one name so they cannot explode the metric count
+    private static String routeName(APIGatewayProxyRequestEvent request) {
+        if (isPreflightRequest(request)) {
+            return "PREFLIGHT";
+        }
+        Router.Match<ApiRoute> route = ApiRoute.match(request.getHttpMethod(), request.getPath());
+        return route != null ? route.getTarget().name() : "UNMATCHED";
+    }
+
     /**
      * Creates a standard API Gateway response with CORS headers.
      *
@@ -72,6 +132,58 @@ public class HandlerUtils {
         return response;
     }
 
+    /**
+     * Reads the page size of a list request from its {@code limit} query parameter, capped at
+     * {@value #MAX_PAGE_SIZE}.
+     *
+     * @param request The API Gateway request event
+     * @param defaultSize Page size when the parameter is absent
+     * @return The page size, at least 1
+     * @throws ValidationException If the parameter is not a number
+     */
+    public static int getPageSize(APIGatewayProxyRequestEvent request, int defaultSize) {
+        Map<String, String> queryParams = request.getQueryStringParameters();
+        String limit = queryParams != null ? queryParams.get(LIMIT_PARAM) : null;
+        if (limit == null || limit.isEmpty()) {
+            return defaultSize;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_PAGE_SIZE, Integer.parseInt(limit.trim())));
+        } catch (NumberFormatException e) {
+            throw new ValidationException("limit must be a number: " + limit);
+        }
+    }
+
+    /**
+     * @param request The API Gateway request event
+     * @return The {@code pageToken} query parameter, i.e. the previous page's next page token, or null for the first page
+     */
+    public static String getPageToken(APIGatewayProxyRequestEvent request) {
+        Map<String, String> queryParams = request.getQueryStringParameters();
+        return queryParams != null ? queryParams.get(PAGE_TOKEN_PARAM) : null;
+    }
+
+    /**
+     * Completes a 200 response for one page of a list endpoint. The body stays a plain JSON array, written
+     * element by element; the token for the next page goes in the {@value #NEXT_PAGE_TOKEN_HEADER} header.
+     *
+     * @param response The response to complete; its headers are kept
+     * @param page The page to return
+     * @param type Element type of the page
+     * @return The completed response
+     */
+    public static <T> APIGatewayProxyResponseEvent createPageResponse(APIGatewayProxyResponseEvent response,
+                                                                      PagedResult<T> page, Class<T> type) {
+        Map<String, String> headers = new HashMap<>(response.getHeaders() != null ? response.getHeaders() : getResponseHeaders());
+        if (page.hasMore()) {
+            headers.put(NEXT_PAGE_TOKEN_HEADER, page.getNextPageToken());
+        }
+        return response
+                .withStatusCode(200)
+                .withHeaders(headers)
+                .withBody(JsonCodecs.toJsonArray(page.getItems(), type));
+    }
+
     /**
      * Creates an error response with CORS headers.
      *
@@ -0,0 +1,556 @@
+package com.assassin.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.Kill;
+import com.assassin.model.LocationUpdateInput;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStats;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Shared Gson instance with hand-written streaming adapters for the hot request and response types.
+ * <p>
+ * Reflective Gson builds a field-binding adapter per type on first use and boxes every field through
+ * reflection. The adapters here read and write the same JSON field names directly through getters and
+ * setters, so they need no reflection. Other types still fall back to Gson's reflective adapters. Output
+ * is compact; nothing in production should pretty-print responses.
+ * <p>
+ * Because values are written through getters, derived defaults that reflective Gson would omit are
+ * written explicitly (e.g. a Game's {@code shrinkingZoneEnabled=false} when unset).
+ */
+public final class JsonCodecs {
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .create();
+
+    // Initial buffer per array element, about the size of a serialized player or kill
+    private static final int ESTIMATED_ELEMENT_CHARS = 256;
+
+    private static final Type SETTINGS_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    // Private constructor to prevent instantiation
+    private JsonCodecs() {}
+
+    /**
+     * @return The shared, thread-safe Gson instance used by all handlers
+     */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    /**
+     * Writes a list as a JSON array, one element at a time through the element type's adapter, so no JSON
+     * tree or intermediate copy of the list is built. The output matches {@code gson().toJson(items)}.
+     *
+     * @param out Destination of the JSON text
+     * @param items Elements to write, in order
+     * @param type Element type
+     * @throws IOException If {@code out} fails
+     */
+    public static <T> void writeArray(Writer out, List<T> items, Class<T> type) throws IOException {
+        TypeAdapter<T> adapter = GSON.getAdapter(type);
+        JsonWriter writer = GSON.newJsonWriter(out);
+        writer.beginArray();
+        for (T item : items) {
+            adapter.write(writer, item);
+        }
+        writer.endArray();
+        writer.flush();
+    }
+
+    /**
+     * @param items Elements to write, in order
+     * @param type Element type
+     * @return The list as a JSON array, built with {@link #writeArray(Writer, List, Class)}
+     */
+    public static <T> String toJsonArray(List<T> items, Class<T> type) {
+        StringWriter out = new StringWriter(Math.max(16, items.size() * ESTIMATED_ELEMENT_CHARS));
+        try {
+            writeArray(out, items, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return out.toString();
+    }
+
+    /**
+     * Supplies the model adapters. A factory is used so the Game adapter can delegate its free-form
+     * settings map to the same Gson instance.
+     */
+    private static final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> rawType = type.getRawType();
+            TypeAdapter<?> adapter;
+            if (rawType == LocationUpdateInput.class) {
+                adapter = new LocationUpdateInputAdapter();
+            } else if (rawType == Coordinate.class) {
+                adapter = new CoordinateAdapter();
+            } else if (rawType == Player.class) {
+                adapter = new PlayerAdapter();
+            } else if (rawType == Kill.class) {
+                adapter = new KillAdapter();
+            } else if (rawType == Notification.class) {
+                adapter = new NotificationAdapter();
+            } else if (rawType == PlayerStats.class) {
+                adapter = new PlayerStatsAdapter();
+            } else if (rawType == Game.class) {
+                adapter = new GameAdapter((TypeAdapter<Map<String, Object>>) gson.getAdapter(TypeToken.get(SETTINGS_TYPE)));
+            } else {
+                return null;
+            }
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    private static final class LocationUpdateInputAdapter extends TypeAdapter<LocationUpdateInput> {
+        @Override
+        public void write(JsonWriter out, LocationUpdateInput input) throws IOException {
+            out.beginObject();
+            out.name("latitude").value(input.getLatitude());
+            out.name("longitude").value(input.getLongitude());
+            out.name("timestamp").value(input.getTimestamp());
+            out.name("accuracy").value(input.getAccuracy());
+            out.endObject();
+        }
+
+        @Override
+        public LocationUpdateInput read(JsonReader in) throws IOException {
+            LocationUpdateInput input = new LocationUpdateInput();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "latitude": input.setLatitude(readDouble(in)); break;
+                    case "longitude": input.setLongitude(readDouble(in)); break;
+                    case "timestamp": input.setTimestamp(readString(in)); break;
+                    case "accuracy": input.setAccuracy(readDouble(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return input;
+        }
+    }
+
+    private static final class CoordinateAdapter extends TypeAdapter<Coordinate> {
+        @Override
+        public void write(JsonWriter out, Coordinate coordinate) throws IOException {
+            out.beginObject();
+            out.name("latitude").value(coordinate.getLatitude());
+            out.name("longitude").value(coordinate.getLongitude());
+            out.endObject();
+        }
+
+        @Override
+        public Coordinate read(JsonReader in) throws IOException {
+            Coordinate coordinate = new Coordinate();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "latitude": coordinate.setLatitude(readPrimitiveDouble(in)); break;
+                    case "longitude": coordinate.setLongitude(readPrimitiveDouble(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return coordinate;
+        }
+    }
+
+    private static final class PlayerAdapter extends TypeAdapter<Player> {
+        @Override
+        public void write(JsonWriter out, Player player) throws IOException {
+            out.beginObject();
+            out.name("playerID").value(player.getPlayerID());
+            out.name("email").value(player.getEmail());
+            out.name("playerName").value(player.getPlayerName());
+            out.name("targetID").value(player.getTargetID());
+            out.name("targetName").value(player.getTargetName());
+            out.name("targetSecret").value(player.getTargetSecret());
+            out.name("secret").value(player.getSecret());
+            out.name("lastWill").value(player.getLastWill());
+            out.name("gameID").value(player.getGameID());
+            out.name("killCount").value(player.getKillCount());
+            out.name("leaderboardStatusPartition").value(player.getLeaderboardStatusPartition());
+            out.name("status").value(player.getStatus());
+            out.name("version").value(player.getVersion());
+            out.name("passwordHash").value(player.getPasswordHash());
+            out.name("active").value(player.getActive());
+            out.name("nfcTagId").value(player.getNfcTagId());
+            out.name("lastKnownLatitude").value(player.getLatitude());
+            out.name("lastKnownLongitude").value(player.getLongitude());
+            out.name("locationTimestamp").value(player.getLocationTimestamp());
+            out.name("locationAccuracy").value(player.getLocationAccuracy());
+            out.name("gameCellKey").value(player.getGameCellKey());
+            out.name("firstEnteredOutOfZoneTimestamp").value(player.getFirstEnteredOutOfZoneTimestamp());
+            out.name("lastZoneDamageTimestamp").value(player.getLastZoneDamageTimestamp());
+            out.endObject();
+        }
+
+        @Override
+        public Player read(JsonReader in) throws IOException {
+            Player player = new Player();
+            String leaderboardStatusPartition = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "playerID": player.setPlayerID(readString(in)); break;
+                    case "email": player.setEmail(readString(in)); break;
+                    case "playerName": player.setPlayerName(readString(in)); break;
+                    case "targetID": player.setTargetID(readString(in)); break;
+                    case "targetName": player.setTargetName(readString(in)); break;
+                    case "targetSecret": player.setTargetSecret(readString(in)); break;
+                    case "secret": player.setSecret(readString(in)); break;
+                    case "lastWill": player.setLastWill(readString(in)); break;
+                    case "gameID": player.setGameID(readString(in)); break;
+                    case "killCount": player.setKillCount(readInteger(in)); break;
+                    case "leaderboardStatusPartition": leaderboardStatusPartition = readString(in); break;
+                    case "status": player.setStatus(readString(in)); break;
+                    case "version": player.setVersion(readLong(in)); break;
+                    case "passwordHash": player.setPasswordHash(readString(in)); break;
+                    case "active": player.setActive(readBoolean(in)); break;
+                    case "nfcTagId": player.setNfcTagId(readString(in)); break;
+                    case "lastKnownLatitude": player.setLatitude(readDouble(in)); break;
+                    case "lastKnownLongitude": player.setLongitude(readDouble(in)); break;
+                    case "locationTimestamp": player.setLocationTimestamp(readString(in)); break;
+                    case "locationAccuracy": player.setLocationAccuracy(readDouble(in)); break;
+                    case "gameCellKey": player.setGameCellKey(readString(in)); break;
+                    case "firstEnteredOutOfZoneTimestamp": player.setFirstEnteredOutOfZoneTimestamp(readString(in)); break;
+                    case "lastZoneDamageTimestamp": player.setLastZoneDamageTimestamp(readString(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            // setStatus derives the partition, so an explicit value is applied last regardless of field order
+            if (leaderboardStatusPartition != null) {
+                player.setLeaderboardStatusPartition(leaderboardStatusPartition);
+            }
+            return player;
+        }
+    }
+
+    private static final class KillAdapter extends TypeAdapter<Kill> {
+        @Override
+        public void write(JsonWriter out, Kill kill) throws IOException {
+            out.beginObject();
+            out.name("killerID").value(kill.getKillerID());
+            out.name("time").value(kill.getTime());
+            out.name("victimID").value(kill.getVictimID());
+            out.name("latitude").value(kill.getLatitude());
+            out.name("longitude").value(kill.getLongitude());
+            out.name("lastWill").value(kill.getLastWill());
+            out.name("deathConfirmed").value(kill.isDeathConfirmed());
+            out.name("verificationMethod").value(kill.getVerificationMethod());
+            out.name("verificationStatus").value(kill.getVerificationStatus());
+            writeStringMap(out.name("verificationData"), kill.getVerificationData());
+            out.name("verificationNotes").value(kill.getVerificationNotes());
+            out.name("gameId").value(kill.getGameId());
+            out.name("killStatusPartition").value(kill.getKillStatusPartition());
+            out.endObject();
+        }
+
+        @Override
+        public Kill read(JsonReader in) throws IOException {
+            Kill kill = new Kill();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "killerID": kill.setKillerID(readString(in)); break;
+                    case "time": kill.setTime(readString(in)); break;
+                    case "victimID": kill.setVictimID(readString(in)); break;
+                    case "latitude": kill.setLatitude(readDouble(in)); break;
+                    case "longitude": kill.setLongitude(readDouble(in)); break;
+                    case "lastWill": kill.setLastWill(readString(in)); break;
+                    case "deathConfirmed": kill.setDeathConfirmed(Boolean.TRUE.equals(readBoolean(in))); break;
+                    case "verificationMethod": kill.setVerificationMethod(readString(in)); break;
+                    case "verificationStatus": kill.setVerificationStatus(readString(in)); break;
+                    case "verificationData": kill.setVerificationData(readStringMap(in)); break;
+                    case "verificationNotes": kill.setVerificationNotes(readString(in)); break;
+                    case "gameId": kill.setGameId(readString(in)); break;
+                    case "killStatusPartition": kill.setKillStatusPartition(readString(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return kill;
+        }
+    }
+
+    private static final class NotificationAdapter extends TypeAdapter<Notification> {
+        @Override
+        public void write(JsonWriter out, Notification notification) throws IOException {
+            out.beginObject();
+            out.name("notificationId").value(notification.getNotificationId());
+            out.name("recipientPlayerId").value(notification.getRecipientPlayerId());
+            out.name("gameId").value(notification.getGameId());
+            out.name("type").value(notification.getType());
+            out.name("title").value(notification.getTitle());
+            out.name("message").value(notification.getMessage());
+            out.name("timestamp").value(notification.getTimestamp());
+            writeStringMap(out.name("data"), notification.getData());
+            out.name("status").value(notification.getStatus());
+            out.name("read").value(notification.isRead());
+            out.endObject();
+        }
+
+        @Override
+        public Notification read(JsonReader in) throws IOException {
+            Notification notification = new Notification();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "notificationId": notification.setNotificationId(readString(in)); break;
+                    case "recipientPlayerId": notification.setRecipientPlayerId(readString(in)); break;
+                    case "gameId": notification.setGameId(readString(in)); break;
+                    case "type": notification.setType(readString(in)); break;
+                    case "title": notification.setTitle(readString(in)); break;
+                    case "message": notification.setMessage(readString(in)); break;
+                    case "timestamp": notification.setTimestamp(readString(in)); break;
+                    case "data": notification.setData(readStringMap(in)); break;
+                    case "status": notification.setStatus(readString(in)); break;
+                    case "read": notification.setRead(Boolean.TRUE.equals(readBoolean(in))); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return notification;
+        }
+    }
+
+    private static final class PlayerStatsAdapter extends TypeAdapter<PlayerStats> {
+        @Override
+        public void write(JsonWriter out, PlayerStats stats) throws IOException {
+            out.beginObject();
+            out.name("playerId").value(stats.getPlayerId());
+            out.name("kills").value(stats.getKills());
+            out.name("deaths").value(stats.getDeaths());
+            out.name("points").value(stats.getPoints());
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStats read(JsonReader in) throws IOException {
+            PlayerStats stats = new PlayerStats();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "playerId": stats.setPlayerId(readString(in)); break;
+                    case "kills": stats.setKills(readPrimitiveInt(in)); break;
+                    case "deaths": stats.setDeaths(readPrimitiveInt(in)); break;
+                    case "points": stats.setPoints(readPrimitiveInt(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return stats;
+        }
+    }
+
+    private static final class GameAdapter extends TypeAdapter<Game> {
+        private final TypeAdapter<Map<String, Object>> settingsAdapter;
+        private final CoordinateAdapter coordinateAdapter = new CoordinateAdapter();
+
+        private GameAdapter(TypeAdapter<Map<String, Object>> settingsAdapter) {
+            this.settingsAdapter = settingsAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Game game) throws IOException {
+            out.beginObject();
+            out.name("gameID").value(game.getGameID());
+            out.name("gameName").value(game.getGameName());
+            out.name("status").value(game.getStatus());
+            out.name("createdAt").value(game.getCreatedAt());
+            List<String> playerIds = game.getPlayerIDs();
+            out.name("playerIDs");
+            if (playerIds == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (String playerId : playerIds) {
+                    out.value(playerId);
+                }
+                out.endArray();
+            }
+            out.name("adminPlayerID").value(game.getAdminPlayerID());
+            settingsAdapter.write(out.name("settings"), game.getSettings());
+            List<Coordinate> boundary = game.getBoundary();
+            out.name("boundary");
+            if (boundary == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (Coordinate coordinate : boundary) {
+                    if (coordinate == null) {
+                        out.nullValue();
+                    } else {
+                        coordinateAdapter.write(out, coordinate);
+                    }
+                }
+                out.endArray();
+            }
+            out.name("shrinkingZoneEnabled").value(game.getShrinkingZoneEnabled());
+            out.name("mapId").value(game.getMapId());
+            out.name("startTimeEpochMillis").value(game.getStartTimeEpochMillis());
+            out.endObject();
+        }
+
+        @Override
+        public Game read(JsonReader in) throws IOException {
+            Game game = new Game();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "gameID": game.setGameID(readString(in)); break;
+                    case "gameName": game.setGameName(readString(in)); break;
+                    case "status": game.setStatus(readString(in)); break;
+                    case "createdAt": game.setCreatedAt(readString(in)); break;
+                    case "playerIDs": game.setPlayerIDs(readStringList(in)); break;
+                    case "adminPlayerID": game.setAdminPlayerID(readString(in)); break;
+                    case "settings": game.setSettings(settingsAdapter.read(in)); break;
+                    case "boundary": game.setBoundary(readCoordinates(in)); break;
+                    case "shrinkingZoneEnabled": game.setShrinkingZoneEnabled(readBoolean(in)); break;
+                    case "mapId": game.setMapId(readString(in)); break;
+                    case "startTimeEpochMillis": game.setStartTimeEpochMillis(readLong(in)); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return game;
+        }
+
+        private List<Coordinate> readCoordinates(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<Coordinate> coordinates = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    coordinates.add(null);
+                } else {
+                    coordinates.add(coordinateAdapter.read(in));
+                }
+            }
+            in.endArray();
+            return coordinates;
+        }
+    }
+
+    // --- Value helpers; like Gson's own adapters, they accept numbers and booleans given as strings ---
+
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();
+    }
+
+    private static Double readDouble(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextDouble();
+    }
+
+    private static double readPrimitiveDouble(JsonReader in) throws IOException {
+        Double value = readDouble(in);
+        return value == null ? 0.0 : value;
+    }
+
+    private static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    private static int readPrimitiveInt(JsonReader in) throws IOException {
+        Integer value = readInteger(in);
+        return value == null ? 0 : value;
+    }
+
+    private static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return token == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean();
+    }
+
+    private static List<String> readStringList(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            values.put(in.nextName(), readString(in));
+        }
+        in.endObject();
+        return values;
+    }
+
+    private static void writeStringMap(JsonWriter out, Map<String, String> values) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            out.name(String.valueOf(entry.getKey())).value(entry.getValue());
+        }
+        out.endObject();
+    }
+}
@@ -0,0 +1,387 @@
+package com.assassin.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
+import com.assassin.model.GameRoster;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Kill;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.LocationUpdateInput;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStats;
+import com.assassin.model.PlayerStatus;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.model.SafeZone;
+import com.assassin.model.WebSocketConnection;
+import com.google.gson.Gson;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Checkpoint/restore priming for the Lambda handlers (SnapStart or any CRaC runtime).
+ * <p>
+ * Each handler registers a warm-up when its class loads. Before the runtime snapshots the initialized
+ * JVM, every registered warm-up runs so the snapshot already contains the shared services, table schemas,
+ * JSON codecs and geo code paths, loaded and partly compiled. Warm-ups must stay offline: they run on
+ * synthetic data and never touch DynamoDB, because nothing done against the network survives a restore.
+ * After restore the network clients are re-created, since pooled connections and the credentials captured
+ * in the snapshot are stale.
+ * <p>
+ * Without a CRaC runtime the hooks are never called automatically; {@link #beforeCheckpoint()} and
+ * {@link #afterRestore()} can be invoked directly to test them locally.
+ */
+public final class Priming {
+
+    private static final Logger logger = LoggerFactory.getLogger(Priming.class);
+
+    // Warm-up name -> warm-up, in registration order
+    private static final Map<String, Runnable> warmUps = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // CRaC only holds resources weakly, so the hooks must stay strongly reachable from here
+    private static final Resource CHECKPOINT_HOOKS = new CheckpointHooks();
+
+    static {
+        try {
+            Core.getGlobalContext().register(CHECKPOINT_HOOKS);
+        } catch (RuntimeException | LinkageError e) {
+            logger.warn("Could not register checkpoint hooks, priming only runs when invoked directly: {}", e.getMessage());
+        }
+    }
+
+    // Synthetic game area used by the geo warm-up (roughly downtown San Francisco)
+    private static final List<Coordinate> SYNTHETIC_BOUNDARY = List.of(
+            new Coordinate(37.770, -122.430), new Coordinate(37.770, -122.400),
+            new Coordinate(37.795, -122.400), new Coordinate(37.795, -122.430));
+
+    private static final String SAMPLE_TIME = "2024-01-01T00:00:00Z";
+
+    // Model class -> synthetic instance used by the schema and codec warm-ups
+    private static final Map<Class<?>, Supplier<?>> SAMPLES = samples();
+
+    // Private constructor to prevent instantiation
+    private Priming() {}
+
+    /**
+     * Outcome of a priming run.
+     */
+    public static final class Report {
+        private final int warmUpsRun;
+        private final List<String> failedWarmUps;
+        private final long classesLoaded;
+        private final long elapsedMillis;
+
+        Report(int warmUpsRun, List<String> failedWarmUps, long classesLoaded, long elapsedMillis) {
+            this.warmUpsRun = warmUpsRun;
+            this.failedWarmUps = Collections.unmodifiableList(failedWarmUps);
+            this.classesLoaded = classesLoaded;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getWarmUpsRun() {
+            return warmUpsRun;
+        }
+
+        public List<String> getFailedWarmUps() {
+            return failedWarmUps;
+        }
+
+        /**
+         * @return Number of classes loaded while the warm-ups ran
+         */
+        public long getClassesLoaded() {
+            return classesLoaded;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Priming.Report{" +
+                   "warmUpsRun=" + warmUpsRun +
+                   ", failedWarmUps=" + failedWarmUps +
+                   ", classesLoaded=" + classesLoaded +
+                   ", elapsedMillis=" + elapsedMillis +
+                   '}';
+        }
+    }
+
+    /**
+     * Registers a warm-up to run before a checkpoint. Registering the same name again is ignored,
+     * so handler instances created repeatedly in one container do not multiply the work.
+     *
+     * @param name Unique warm-up name, usually the handler's simple class name
+     * @param warmUp Offline warm-up to run
+     */
+    public static void register(String name, Runnable warmUp) {
+        warmUps.putIfAbsent(name, warmUp);
+    }
+
+    // Removes a warm-up; used by tests that register throwaway ones
+    static void unregister(String name) {
+        warmUps.remove(name);
+    }
+
+    /**
+     * @return Names of the registered warm-ups, in registration order
+     */
+    public static Set<String> registeredWarmUps() {
+        synchronized (warmUps) {
+            return new LinkedHashSet<>(warmUps.keySet());
+        }
+    }
+
+    /**
+     * Runs every registered warm-up. A failing warm-up is logged and reported but never aborts the checkpoint.
+     *
+     * @return What ran, what failed and how many classes were loaded
+     */
+    public static Report beforeCheckpoint() {
+        List<Map.Entry<String, Runnable>> toRun;
+        synchronized (warmUps) {
+            toRun = new ArrayList<>(warmUps.entrySet());
+        }
+        long classesBefore = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+        long start = System.nanoTime();
+        List<String> failed = new ArrayList<>();
+
+        for (Map.Entry<String, Runnable> warmUp : toRun) {
+            try {
+                warmUp.getValue().run();
+            } catch (RuntimeException | LinkageError e) {
+                logger.warn("Priming warm-up {} failed: {}", warmUp.getKey(), e.toString());
+                failed.add(warmUp.getKey());
+            }
+        }
+
+        Report report = new Report(toRun.size(), failed,
+                ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount() - classesBefore,
+                (System.nanoTime() - start) / 1_000_000);
+        logger.info("Priming complete: {}", report);
+        return report;
+    }
+
+    /**
+     * Re-creates network clients after a restore: the shared DynamoDB client and every client built through
+     * {@link RestorableClients}, such as the Cognito and WebSocket management clients. Services keep their
+     * client references; the calls behind them go to the new clients.
+     */
+    public static void afterRestore() {
+        DynamoDbClientProvider.recreateClients();
+        RestorableClients.recreateAll();
+        logger.info("Re-created network clients after restore");
+    }
+
+    // --- Building blocks for handler warm-ups ---
+
+    /**
+     * Loads each table schema through the registry and maps a synthetic item both ways.
+     *
+     * @param beanClasses Table model classes the handler reads or writes
+     */
+    public static void primeTables(Class<?>... beanClasses) {
+        for (Class<?> beanClass : beanClasses) {
+            roundTrip(ServiceRegistry.tableSchema(beanClass), sample(beanClass));
+        }
+    }
+
+    /**
+     * Writes and re-reads a synthetic value of each type with the shared JSON codecs.
+     *
+     * @param types Request or response types the handler encodes
+     */
+    public static void primeJson(Class<?>... types) {
+        Gson gson = JsonCodecs.gson();
+        for (Class<?> type : types) {
+            gson.fromJson(gson.toJson(sample(type), type), type);
+        }
+    }
+
+    /**
+     * Runs the geometry used by location, zone and proximity checks on the synthetic boundary.
+     */
+    public static void primeGeo() {
+        Coordinate inside = new Coordinate(37.780, -122.415);
+        Coordinate nearby = GeoUtils.calculateDestinationPoint(inside.getLatitude(), inside.getLongitude(), 90, 25);
+        GeoUtils.isPointInBoundary(inside, SYNTHETIC_BOUNDARY);
+        GeoUtils.calculateDistance(inside, nearby);
+        GeoUtils.calculateBearing(inside.getLatitude(), inside.getLongitude(), nearby.getLatitude(), nearby.getLongitude());
+        GeoUtils.distanceToLineSegment(inside.getLatitude(), inside.getLongitude(),
+                SYNTHETIC_BOUNDARY.get(0).getLatitude(), SYNTHETIC_BOUNDARY.get(0).getLongitude(),
+                SYNTHETIC_BOUNDARY.get(1).getLatitude(), SYNTHETIC_BOUNDARY.get(1).getLongitude());
+        GeoUtils.calculateCentroid(SYNTHETIC_BOUNDARY);
+        GeoHash.coveringCells(inside.getLatitude(), inside.getLongitude(), 100, 6);
+    }
+
+    /**
+     * Exercises the proximity result cache on a scratch instance, so no synthetic entries reach the real caches.
+     */
+    public static void primeProximityCache() {
+        long now = System.currentTimeMillis();
+        ExpiringGameCache<Double> cache = new ExpiringGameCache<>(10_000, 1_000);
+        cache.put("priming-game", ExpiringGameCache.key("a", "b"), 12.5, now, "a", "b");
+        cache.get("priming-game", ExpiringGameCache.key("a", "b"), now);
+        cache.getForPlayer("a", now);
+        cache.expire(now + 20_000);
+    }
+
+    private static <T> void roundTrip(TableSchema<T> schema, Object sample) {
+        T item = schema.mapToItem(schema.itemToMap(schema.itemType().rawClass().cast(sample), true));
+        schema.itemToMap(item, true);
+    }
+
+    // Synthetic, fully populated instance of a model class
+    private static Object sample(Class<?> type) {
+        Supplier<?> supplier = SAMPLES.get(type);
+        if (supplier == null) {
+            throw new IllegalArgumentException("No priming sample for " + type.getName());
+        }
+        return supplier.get();
+    }
+
+    private static Map<Class<?>, Supplier<?>> samples() {
+        Map<Class<?>, Supplier<?>> samples = new HashMap<>();
+        samples.put(Coordinate.class, () -> new Coordinate(37.780, -122.415));
+        samples.put(LocationUpdateInput.class, () -> {
+            LocationUpdateInput input = new LocationUpdateInput();
+            input.setLatitude(37.780);
+            input.setLongitude(-122.415);
+            input.setTimestamp(SAMPLE_TIME);
+            input.setAccuracy(8.0);
+            return input;
+        });
+        samples.put(Player.class, () -> {
+            Player player = new Player();
+            player.setPlayerID("priming-player-1");
+            player.setPlayerName("Priming Player");
+            player.setEmail("priming@example.com");
+            player.setGameID("priming-game");
+            player.setTargetID("priming-player-2");
+            player.setStatus("ACTIVE");
+            player.setKillCount(1);
+            player.setLatitude(37.780);
+            player.setLongitude(-122.415);
+            player.setLocationTimestamp(SAMPLE_TIME);
+            return player;
+        });
+        samples.put(Game.class, () -> {
+            Game game = new Game();
+            game.setGameID("priming-game");
+            game.setGameName("Priming Game");
+            game.setStatus("ACTIVE");
+            game.setCreatedAt(SAMPLE_TIME);
+            game.setPlayerIDs(List.of("priming-player-1", "priming-player-2"));
+            game.setSettings(Map.of("mode", "classic"));
+            game.setBoundary(SYNTHETIC_BOUNDARY);
+            return game;
+        });
+        samples.put(Kill.class, () -> {
+            Kill kill = new Kill();
+            kill.setKillerID("priming-player-1");
+            kill.setVictimID("priming-player-2");
+            kill.setTime(SAMPLE_TIME);
+            kill.setLatitude(37.780);
+            kill.setLongitude(-122.415);
+            kill.setVerificationMethod("GPS");
+            kill.setVerificationData(Map.of("killerLatitude", "37.780"));
+            kill.setGameId("priming-game");
+            return kill;
+        });
+        samples.put(Notification.class, () -> {
+            Notification notification = new Notification("priming-player-2", "KILL_VERIFIED", "Priming", Map.of("killerId", "priming-player-1"));
+            notification.setNotificationId("priming-notification");
+            notification.setGameId("priming-game");
+            return notification;
+        });
+        samples.put(PlayerStats.class, () -> new PlayerStats("priming-player-1", 1, 0, 10));
+        samples.put(SafeZone.class, () -> {
+            SafeZone safeZone = new SafeZone();
+            safeZone.setSafeZoneId("priming-zone");
+            safeZone.setGameId("priming-game");
+            safeZone.setName("Priming Zone");
+            safeZone.setCenter(new Coordinate(37.780, -122.415));
+            safeZone.setRadiusMeters(50.0);
+            safeZone.setType("PUBLIC");
+            safeZone.setCreatedAt(SAMPLE_TIME);
+            return safeZone;
+        });
+        samples.put(GameZoneState.class, () -> {
+            GameZoneState state = new GameZoneState();
+            state.setGameId("priming-game");
+            state.setCurrentStageIndex(0);
+            state.setCurrentPhase("WAITING");
+            state.setCurrentRadiusMeters(1000.0);
+            state.setCurrentCenter(new Coordinate(37.780, -122.415));
+            state.setLastUpdated(SAMPLE_TIME);
+            return state;
+        });
+        samples.put(RecentKillFeed.class, () -> {
+            Kill kill = new Kill();
+            kill.setKillerID("priming-player-1");
+            kill.setVictimID("priming-player-2");
+            kill.setTime(SAMPLE_TIME);
+            kill.setGameId("priming-game");
+            RecentKillFeed feed = new RecentKillFeed("priming-game");
+            feed.add(KillFeedEntry.from(kill));
+            feed.setVersion(1L);
+            feed.setLastUpdated(SAMPLE_TIME);
+            return feed;
+        });
+        samples.put(GameEvent.class, () -> new GameEvent("priming-game", 1L, GameEvent.Type.KILL_REPORTED, SAMPLE_TIME,
+                Map.of("killerId", "priming-player-1", "victimId", "priming-player-2", "killTime", SAMPLE_TIME)));
+        samples.put(GameRoster.class, () -> {
+            Player first = new Player();
+            first.setPlayerID("priming-player-1");
+            first.setStatus(PlayerStatus.ACTIVE.name());
+            Player second = new Player();
+            second.setPlayerID("priming-player-2");
+            second.setStatus(PlayerStatus.DEAD.name());
+            GameRoster roster = GameRoster.of("priming-game", List.of(first, second));
+            roster.setVersion(1L);
+            roster.setLastUpdated(SAMPLE_TIME);
+            return roster;
+        });
+        samples.put(WebSocketConnection.class, () -> {
+            WebSocketConnection connection = new WebSocketConnection();
+            connection.setConnectionId("priming-connection");
+            connection.setPlayerId("priming-player-1");
+            return connection;
+        });
+        return samples;
+    }
+
+    /**
+     * Bridges CRaC callbacks to the priming hooks.
+     */
+    private static final class CheckpointHooks implements Resource {
+        @Override
+        public void beforeCheckpoint(Context<? extends Resource> context) {
+            Priming.beforeCheckpoint();
+        }
+
+        @Override
+        public void afterRestore(Context<? extends Resource> context) {
+            Priming.afterRestore();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.assassin.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.SdkClient;
+
+/**
+ * SDK clients that can be rebuilt after a checkpoint/restore.
+ * <p>
+ * Callers get a stable proxy and keep it for as long as they like; every call goes to whichever client is
+ * current. {@link #recreateAll()} swaps the client behind every live proxy for a freshly built one, so
+ * pooled connections and credentials captured in a snapshot are never used after a restore. Proxies are
+ * only held weakly here, so a service that is dropped takes its client with it.
+ */
+public final class RestorableClients {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestorableClients.class);
+
+    private static final Set<Holder<?>> holders = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    // Private constructor to prevent instantiation
+    private RestorableClients() {}
+
+    /**
+     * Builds a client and wraps it in a proxy that {@link #recreateAll()} can point at a new one.
+     *
+     * @param type The client interface, e.g. {@code CognitoIdentityProviderClient.class}
+     * @param factory Builds a new client; called now and once per restore
+     * @return The stable client to hand to callers
+     */
+    public static <T extends SdkClient> T create(Class<T> type, Supplier<T> factory) {
+        Holder<T> holder = new Holder<>(factory);
+        // The proxy keeps its holder, and so its registration, alive
+        T proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (p, method, args) -> {
+                    try {
+                        return method.invoke(holder.current, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+        holders.add(holder);
+        return proxy;
+    }
+
+    /**
+     * Re-creates the client behind every live proxy and closes the previous ones.
+     *
+     * @return Number of clients re-created
+     */
+    public static int recreateAll() {
+        List<Holder<?>> toRecreate;
+        synchronized (holders) {
+            toRecreate = new ArrayList<>(holders);
+        }
+        for (Holder<?> holder : toRecreate) {
+            holder.recreate();
+        }
+        logger.info("Re-created {} SDK clients", toRecreate.size());
+        return toRecreate.size();
+    }
+
+    private static final class Holder<T extends SdkClient> {
+        private final Supplier<T> factory;
+        private volatile T current;
+
+        Holder(Supplier<T> factory) {
+            this.factory = factory;
+            this.current = factory.get();
+        }
+
+        void recreate() {
+            T previous = current;
+            current = factory.get();
+            try {
+                previous.close();
+            } catch (RuntimeException e) {
+                logger.warn("Error closing previous {}: {}", previous.serviceName(), e.getMessage());
+            }
+        }
+    }
+}
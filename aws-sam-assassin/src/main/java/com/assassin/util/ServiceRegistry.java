@@ -0,0 +1,356 @@
+package com.assassin.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.dao.DaoAccounting;
+import com.assassin.dao.DynamoDbGameDao;
+import com.assassin.dao.DynamoDbGameEventDao;
+import com.assassin.dao.DynamoDbGameRosterDao;
+import com.assassin.dao.DynamoDbGameZoneStateDao;
+import com.assassin.dao.DynamoDbKillDao;
+import com.assassin.dao.DynamoDbNotificationDao;
+import com.assassin.dao.DynamoDbPlayerDao;
+import com.assassin.dao.DynamoDbRecentKillFeedDao;
+import com.assassin.dao.DynamoDbSafeZoneDao;
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameEventDao;
+import com.assassin.dao.GameRosterDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.InMemoryGameDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.InMemoryGameRosterDao;
+import com.assassin.dao.InMemoryGameZoneStateDao;
+import com.assassin.dao.InMemoryKillDao;
+import com.assassin.dao.InMemoryNotificationDao;
+import com.assassin.dao.InMemoryPlayerDao;
+import com.assassin.dao.InMemoryRecentKillFeedDao;
+import com.assassin.dao.InMemorySafeZoneDao;
+import com.assassin.dao.KillDao;
+import com.assassin.dao.NotificationDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.RecentKillFeedDao;
+import com.assassin.dao.SafeZoneDao;
+import com.assassin.metrics.Metrics;
+import com.assassin.model.StaticTableSchemas;
+import com.assassin.service.GameEventService;
+import com.assassin.service.GameRosterService;
+import com.assassin.service.GameService;
+import com.assassin.service.GameTickProcessor;
+import com.assassin.service.GeofenceManager;
+import com.assassin.service.KillService;
+import com.assassin.service.LocationService;
+import com.assassin.service.MapConfigurationService;
+import com.assassin.service.NotificationService;
+import com.assassin.service.PlayerService;
+import com.assassin.service.PlayerStatusService;
+import com.assassin.service.ProximityDetectionService;
+import com.assassin.service.RecentKillFeedService;
+import com.assassin.service.SafeZoneService;
+import com.assassin.service.ShrinkingZoneService;
+import com.assassin.service.TickEventDispatcher;
+import com.assassin.service.verification.VerificationManager;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Container-wide registry of DAOs, services and table schemas.
+ * Each component is built lazily on first use and then shared by every handler in the container,
+ * so a cold start builds each DAO, client and schema exactly once.
+ * <p>
+ * With {@code DAO_BACKEND=memory} (system property or environment variable) the DAOs are the in-memory
+ * implementations instead of the DynamoDB ones, for the embedded server and large local simulations.
+ * Their data lives as long as the registry's instances.
+ */
+public final class ServiceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRegistry.class);
+    private static final String DAO_BACKEND_VAR = "DAO_BACKEND";
+    private static final String MEMORY_BACKEND = "memory";
+
+    // Component type -> shared instance
+    private static final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    // Bean class -> shared table schema
+    private static final Map<Class<?>, TableSchema<?>> tableSchemas = new ConcurrentHashMap<>();
+    // Component or bean class -> number of times it was built since the last reset
+    private static final Map<Class<?>, Integer> constructionCounts = new ConcurrentHashMap<>();
+    // Clock handed to every time-dependent service
+    private static volatile TimeSource timeSource = TimeSource.system();
+
+    // Private constructor to prevent instantiation
+    private ServiceRegistry() {}
+
+    // --- DAOs ---
+
+    public static PlayerDao playerDao() {
+        return get(PlayerDao.class, () -> DaoAccounting.wrap(PlayerDao.class,
+                inMemoryDaos() ? new InMemoryPlayerDao() : new DynamoDbPlayerDao()));
+    }
+
+    public static GameDao gameDao() {
+        return get(GameDao.class, () -> DaoAccounting.wrap(GameDao.class,
+                inMemoryDaos() ? new InMemoryGameDao() : new DynamoDbGameDao()));
+    }
+
+    public static KillDao killDao() {
+        return get(KillDao.class, () -> DaoAccounting.wrap(KillDao.class,
+                inMemoryDaos() ? new InMemoryKillDao(playerDao()) : new DynamoDbKillDao(playerDao())));
+    }
+
+    public static NotificationDao notificationDao() {
+        return get(NotificationDao.class, () -> DaoAccounting.wrap(NotificationDao.class,
+                inMemoryDaos() ? new InMemoryNotificationDao() : new DynamoDbNotificationDao()));
+    }
+
+    public static SafeZoneDao safeZoneDao() {
+        return get(SafeZoneDao.class, () -> DaoAccounting.wrap(SafeZoneDao.class,
+                inMemoryDaos() ? new InMemorySafeZoneDao() : new DynamoDbSafeZoneDao()));
+    }
+
+    public static GameZoneStateDao gameZoneStateDao() {
+        return get(GameZoneStateDao.class, () -> DaoAccounting.wrap(GameZoneStateDao.class,
+                inMemoryDaos() ? new InMemoryGameZoneStateDao() : new DynamoDbGameZoneStateDao()));
+    }
+
+    public static RecentKillFeedDao recentKillFeedDao() {
+        return get(RecentKillFeedDao.class, () -> DaoAccounting.wrap(RecentKillFeedDao.class,
+                inMemoryDaos() ? new InMemoryRecentKillFeedDao() : new DynamoDbRecentKillFeedDao()));
+    }
+
+    public static GameEventDao gameEventDao() {
+        return get(GameEventDao.class, () -> DaoAccounting.wrap(GameEventDao.class,
+                inMemoryDaos() ? new InMemoryGameEventDao() : new DynamoDbGameEventDao()));
+    }
+
+    public static GameRosterDao gameRosterDao() {
+        return get(GameRosterDao.class, () -> DaoAccounting.wrap(GameRosterDao.class,
+                inMemoryDaos() ? new InMemoryGameRosterDao(playerDao()) : new DynamoDbGameRosterDao(playerDao())));
+    }
+
+    /**
+     * @return Whether {@code DAO_BACKEND} selects the in-memory DAOs
+     */
+    public static boolean inMemoryDaos() {
+        String backend = System.getProperty(DAO_BACKEND_VAR);
+        if (backend == null || backend.isEmpty()) {
+            backend = System.getenv(DAO_BACKEND_VAR);
+        }
+        return MEMORY_BACKEND.equalsIgnoreCase(backend);
+    }
+
+    // --- Services ---
+
+    public static GameEventService gameEventService() {
+        return get(GameEventService.class, () -> new GameEventService(gameEventDao(), timeSource()));
+    }
+
+    public static GameRosterService gameRosterService() {
+        return get(GameRosterService.class, () -> new GameRosterService(gameRosterDao(), timeSource()));
+    }
+
+    public static ShrinkingZoneService shrinkingZoneService() {
+        return get(ShrinkingZoneService.class,
+                () -> new ShrinkingZoneService(gameDao(), gameZoneStateDao(), playerDao(), timeSource(),
+                        gameEventService()));
+    }
+
+    public static MapConfigurationService mapConfigurationService() {
+        return get(MapConfigurationService.class,
+                () -> new MapConfigurationService(gameDao(), gameZoneStateDao(), safeZoneDao(), shrinkingZoneService(), timeSource()));
+    }
+
+    public static GeofenceManager geofenceManager() {
+        return get(GeofenceManager.class, () -> {
+            GeofenceManager geofenceManager = new GeofenceManager(mapConfigurationService(), timeSource());
+            // Sampled at every flush, to show the container's geofence state growing and being released
+            Metrics.gauge("GeofenceTrackedGames", geofenceManager::getTrackedGameCount);
+            Metrics.gauge("GeofenceTrackedPlayers", geofenceManager::getTrackedPlayerCount);
+            return geofenceManager;
+        });
+    }
+
+    public static PlayerStatusService playerStatusService() {
+        return get(PlayerStatusService.class,
+                () -> new PlayerStatusService(playerDao(), shrinkingZoneService(), gameDao(), timeSource(),
+                        gameEventService(), gameRosterService()));
+    }
+
+    public static GameTickProcessor gameTickProcessor() {
+        return get(GameTickProcessor.class,
+                () -> new GameTickProcessor(gameDao(), playerDao(), gameZoneStateDao(), safeZoneDao(), mapConfigurationService()));
+    }
+
+    public static TickEventDispatcher tickEventDispatcher() {
+        return get(TickEventDispatcher.class, () -> new TickEventDispatcher(notificationService(), timeSource()));
+    }
+
+    public static NotificationService notificationService() {
+        return get(NotificationService.class, () -> new NotificationService(notificationDao()));
+    }
+
+    public static SafeZoneService safeZoneService() {
+        return get(SafeZoneService.class, () -> new SafeZoneService(safeZoneDao(), timeSource(), gameEventService()));
+    }
+
+    public static LocationService locationService() {
+        return get(LocationService.class,
+                () -> new LocationService(playerDao(), gameDao(), mapConfigurationService(), geofenceManager(), timeSource()));
+    }
+
+    public static ProximityDetectionService proximityDetectionService() {
+        return get(ProximityDetectionService.class,
+                () -> new ProximityDetectionService(playerDao(), gameDao(), locationService(),
+                        mapConfigurationService(), notificationService(), timeSource()));
+    }
+
+    public static VerificationManager verificationManager() {
+        return get(VerificationManager.class, () -> new VerificationManager(playerDao(), gameDao()));
+    }
+
+    public static RecentKillFeedService recentKillFeedService() {
+        return get(RecentKillFeedService.class, () -> new RecentKillFeedService(recentKillFeedDao(), timeSource()));
+    }
+
+    public static KillService killService() {
+        return get(KillService.class,
+                () -> new KillService(killDao(), playerDao(), gameDao(), notificationService(),
+                        verificationManager(), safeZoneService(), timeSource(), recentKillFeedService(),
+                        gameEventService(), gameRosterService()));
+    }
+
+    public static GameService gameService() {
+        return get(GameService.class,
+                () -> new GameService(gameDao(), playerDao(), gameRosterService(), geofenceManager(),
+                        proximityDetectionService()));
+    }
+
+    public static PlayerService playerService() {
+        return get(PlayerService.class, () -> new PlayerService(playerDao()));
+    }
+
+    // --- Auth ---
+
+    /**
+     * @return The shared token validator for the configured user pool. The first call starts reading the
+     *         pool's signing keys in the background, so they are usually in memory before the first token.
+     */
+    public static AuthorizationUtils authorizationUtils() {
+        return get(AuthorizationUtils.class, () -> {
+            AuthorizationUtils authorizationUtils = new AuthorizationUtils();
+            authorizationUtils.prefetchKeysInBackground();
+            return authorizationUtils;
+        });
+    }
+
+    // --- Clock ---
+
+    /**
+     * @return The clock shared by the time-dependent services; the system clock unless replaced
+     */
+    public static TimeSource timeSource() {
+        return timeSource;
+    }
+
+    /**
+     * Replaces the shared clock, e.g. with a {@link VirtualTimeSource} for accelerated simulations,
+     * and drops the shared components so they are rebuilt against it.
+     *
+     * @param newTimeSource The clock to hand to services from now on
+     */
+    public static synchronized void useTimeSource(TimeSource newTimeSource) {
+        timeSource = Objects.requireNonNull(newTimeSource, "timeSource cannot be null");
+        instances.clear();
+    }
+
+    // --- Schemas ---
+
+    /**
+     * Returns the shared table schema for a bean class, building it on first use.
+     * Model classes with a hand-built {@link StaticTableSchemas} entry use it instead of bean introspection.
+     *
+     * @param beanClass The DynamoDB bean class
+     * @return The shared table schema
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TableSchema<T> tableSchema(Class<T> beanClass) {
+        TableSchema<?> schema = tableSchemas.get(beanClass);
+        if (schema == null) {
+            synchronized (ServiceRegistry.class) {
+                schema = tableSchemas.get(beanClass);
+                if (schema == null) {
+                    schema = StaticTableSchemas.forClass(beanClass);
+                    if (schema == null) {
+                        schema = TableSchema.fromBean(beanClass);
+                    }
+                    tableSchemas.put(beanClass, schema);
+                    constructionCounts.merge(beanClass, 1, Integer::sum);
+                }
+            }
+        }
+        return (TableSchema<T>) schema;
+    }
+
+    // --- Diagnostics and testing ---
+
+    /**
+     * @param type A component type (e.g. {@code PlayerDao.class}) or schema bean class
+     * @return How many times it has been built since the last {@link #reset()}
+     */
+    public static int constructionCount(Class<?> type) {
+        return constructionCounts.getOrDefault(type, 0);
+    }
+
+    /**
+     * @return Total number of components and schemas built since the last {@link #reset()}
+     */
+    public static int totalConstructionCount() {
+        return constructionCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Drops all shared instances and counters and restores the system clock.
+     * USE WITH CAUTION in tests only.
+     */
+    public static synchronized void reset() {
+        logger.warn("!!! Resetting ServiceRegistry !!!");
+        instances.clear();
+        tableSchemas.clear();
+        constructionCounts.clear();
+        timeSource = TimeSource.system();
+    }
+
+    /**
+     * Drops the shared components so they are rebuilt against a new client, keeping schemas and counters.
+     * Called by {@link DynamoDbClientProvider} whenever its client is overridden or reset.
+     */
+    static void clearInstances() {
+        instances.clear();
+    }
+
+    /**
+     * Returns the shared instance of a component, building it on first use.
+     * The lock is reentrant, so factories may resolve their own dependencies through the registry.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Class<T> type, Supplier<? extends T> factory) {
+        Object instance = instances.get(type);
+        if (instance == null) {
+            synchronized (ServiceRegistry.class) {
+                instance = instances.get(type);
+                if (instance == null) {
+                    long start = System.nanoTime();
+                    instance = factory.get();
+                    instances.put(type, instance);
+                    constructionCounts.merge(type, 1, Integer::sum);
+                    logger.debug("Built shared {} in {}ms", type.getSimpleName(), (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+        return (T) instance;
+    }
+}
@@ -0,0 +1,25 @@
+package com.assassin.util;
+
+import java.time.Instant;
+
+/**
+ * The wall clock. {@link #now()} keeps the full precision of {@link Instant#now()}, so timestamps used as
+ * sort keys stay as fine-grained as they were before services read time through a {@link TimeSource}.
+ */
+final class SystemTimeSource implements TimeSource {
+
+    static final SystemTimeSource INSTANCE = new SystemTimeSource();
+
+    // Private constructor to prevent instantiation
+    private SystemTimeSource() {}
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant now() {
+        return Instant.now();
+    }
+}
@@ -0,0 +1,32 @@
+package com.assassin.util;
+
+import java.time.Instant;
+
+/**
+ * The clock the services read the current time from.
+ * <p>
+ * Production code uses {@link #system()}; simulations and tests hand the services a
+ * {@link VirtualTimeSource} instead, so zone phases, location staleness and alert cooldowns follow a clock
+ * they advance themselves and a whole match runs deterministically in seconds.
+ */
+public interface TimeSource {
+
+    /**
+     * @return The current time in milliseconds since the epoch
+     */
+    long currentTimeMillis();
+
+    /**
+     * @return The current time
+     */
+    default Instant now() {
+        return Instant.ofEpochMilli(currentTimeMillis());
+    }
+
+    /**
+     * @return The wall clock
+     */
+    static TimeSource system() {
+        return SystemTimeSource.INSTANCE;
+    }
+}
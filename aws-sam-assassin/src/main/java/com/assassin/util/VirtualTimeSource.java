@@ -0,0 +1,50 @@
+package com.assassin.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock that only moves when told to, for simulations and tests. Safe to read and advance from
+ * several threads; time never goes backwards.
+ */
+public final class VirtualTimeSource implements TimeSource {
+
+    private final AtomicLong nowMillis;
+
+    /**
+     * @param start The time the clock starts at
+     */
+    public VirtualTimeSource(Instant start) {
+        this.nowMillis = new AtomicLong(start.toEpochMilli());
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nowMillis.get();
+    }
+
+    /**
+     * @param duration How far to move the clock forward
+     * @return The new current time
+     * @throws IllegalArgumentException If the duration is negative
+     */
+    public Instant advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Virtual time cannot go backwards: " + duration);
+        }
+        return Instant.ofEpochMilli(nowMillis.addAndGet(duration.toMillis()));
+    }
+
+    /**
+     * @param time The time to move the clock to
+     * @throws IllegalArgumentException If the time is before the current time
+     */
+    public void advanceTo(Instant time) {
+        long target = time.toEpochMilli();
+        long current = nowMillis.getAndAccumulate(target, Math::max);
+        if (target < current) {
+            throw new IllegalArgumentException("Virtual time cannot go backwards from " + Instant.ofEpochMilli(current) + " to " + time);
+        }
+    }
+}
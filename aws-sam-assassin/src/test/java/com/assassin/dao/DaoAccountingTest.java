@@ -0,0 +1,128 @@
+package com.assassin.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.assassin.exception.KillPersistenceException;
+import com.assassin.model.Game;
+import com.assassin.model.Player;
+
+class DaoAccountingTest {
+
+    private PlayerDao playerDelegate;
+    private PlayerDao playerDao;
+    private GameDao gameDao;
+
+    @BeforeEach
+    void setUp() {
+        playerDelegate = mock(PlayerDao.class);
+        playerDao = DaoAccounting.wrap(PlayerDao.class, playerDelegate);
+        gameDao = DaoAccounting.wrap(GameDao.class, mock(GameDao.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        assertFalse(DaoAccounting.isActive(), "Every test must close its scopes");
+    }
+
+    @Test
+    void testCountsReadsWritesAndItemsPerScope() {
+        when(playerDelegate.getPlayerById("p1")).thenReturn(Optional.of(new Player()));
+        when(playerDelegate.getPlayersByGameId("g1")).thenReturn(List.of(new Player(), new Player(), new Player()));
+
+        DaoAccounting.Scope scope = DaoAccounting.begin("test");
+        try {
+            playerDao.getPlayerById("p1");
+            playerDao.getPlayersByGameId("g1");
+            playerDao.getPlayersByGameId("g1");
+            playerDao.savePlayer(new Player());
+            gameDao.saveGame(new Game());
+        } finally {
+            scope.close();
+        }
+
+        assertEquals(3, scope.getReads());
+        assertEquals(2, scope.getWrites());
+        assertEquals(5, scope.getCalls());
+        assertEquals(7, scope.getItems());
+        assertEquals(Map.of("PlayerDao.getPlayerById", 1, "PlayerDao.getPlayersByGameId", 2,
+                "PlayerDao.savePlayer", 1, "GameDao.saveGame", 1), scope.getCallsByMethod());
+        assertTrue(scope.summary().startsWith("test: 5 DAO calls (3 reads, 2 writes), 7 items"), scope.summary());
+    }
+
+    @Test
+    void testNothingIsRecordedOutsideAScope() {
+        playerDao.getPlayerById("p1");
+
+        try (DaoAccounting.Scope scope = DaoAccounting.begin("empty")) {
+            assertEquals(0, scope.getCalls());
+        }
+    }
+
+    @Test
+    void testNestedScopesBothRecordAndCloseRestoresTheParent() {
+        try (DaoAccounting.Scope outer = DaoAccounting.begin("outer")) {
+            playerDao.getAllPlayers();
+            try (DaoAccounting.Scope inner = DaoAccounting.begin("inner")) {
+                playerDao.deletePlayer("p1");
+                DaoAccounting.recordRoundTrip("DeleteItem", true, 1.0);
+                assertEquals(1, inner.getCalls());
+                assertEquals(1, inner.getRoundTrips());
+            }
+            playerDao.getAllPlayers();
+
+            assertEquals(3, outer.getCalls());
+            assertEquals(1, outer.getRoundTrips());
+            assertEquals(1.0, outer.getWriteCapacityUnits());
+            assertEquals(Map.of("DeleteItem", 1), outer.getRequestsByOperation());
+        }
+    }
+
+    @Test
+    void testCallsOneDaoMakesToAnotherCountOnce() throws Exception {
+        KillDao killDelegate = mock(KillDao.class);
+        KillDao killDao = DaoAccounting.wrap(KillDao.class, killDelegate);
+        when(killDelegate.isPlayerAlive("p1", "g1")).thenAnswer(invocation -> playerDao.getPlayerById("p1").isPresent());
+
+        try (DaoAccounting.Scope scope = DaoAccounting.begin("nested")) {
+            killDao.isPlayerAlive("p1", "g1");
+
+            assertEquals(Map.of("KillDao.isPlayerAlive", 1), scope.getCallsByMethod());
+        }
+    }
+
+    @Test
+    void testFailedCallsAreRecordedAndRethrownUnwrapped() throws Exception {
+        KillDao killDelegate = mock(KillDao.class);
+        KillDao killDao = DaoAccounting.wrap(KillDao.class, killDelegate);
+        when(killDelegate.getKillCount()).thenThrow(new KillPersistenceException("down"));
+
+        try (DaoAccounting.Scope scope = DaoAccounting.begin("failure")) {
+            assertThrows(KillPersistenceException.class, killDao::getKillCount);
+            assertEquals(1, scope.getReads());
+        }
+    }
+
+    @Test
+    void testClassifiesDaoMethodsByName() {
+        assertTrue(DaoAccounting.isWrite("incrementPlayerKillCount"));
+        assertTrue(DaoAccounting.isWrite("markNotificationAsRead"));
+        assertTrue(DaoAccounting.isWrite("updatePlayerLocation"));
+        assertFalse(DaoAccounting.isWrite("getPlayersTargeting"));
+        assertFalse(DaoAccounting.isWrite("countWinsByPlayer"));
+        assertEquals(0, DaoAccounting.itemCount(42L));
+        assertEquals(0, DaoAccounting.itemCount(Optional.empty()));
+        assertEquals(1, DaoAccounting.itemCount(new Player()));
+    }
+}
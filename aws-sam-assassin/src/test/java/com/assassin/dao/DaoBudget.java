@@ -0,0 +1,40 @@
+package com.assassin.dao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Upper bounds on the DynamoDB work a test may do, checked by {@link DaoBudgetExtension}.
+ * Only DAOs wrapped with {@link DaoAccounting#wrap} are counted. Negative values are not checked.
+ * <p>
+ * For example {@code @DaoBudget(reads = 2, writes = 1)} fails the test if it makes a third read.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(DaoBudgetExtension.class)
+public @interface DaoBudget {
+
+    /**
+     * @return Maximum DAO calls that read data
+     */
+    int reads() default -1;
+
+    /**
+     * @return Maximum DAO calls that modify data
+     */
+    int writes() default -1;
+
+    /**
+     * @return Maximum items returned by all DAO calls
+     */
+    int items() default -1;
+
+    /**
+     * @return Maximum requests sent by the DynamoDB client, for tests running against a real or local table
+     */
+    int requests() default -1;
+}
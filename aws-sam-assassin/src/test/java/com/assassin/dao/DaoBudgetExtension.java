@@ -0,0 +1,74 @@
+package com.assassin.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Records the DynamoDB work done by each test method and fails the test if it exceeds its {@link DaoBudget}.
+ * The scope only covers the test method itself, not {@code @BeforeEach} setup. Tests can also take the
+ * {@link DaoAccounting.Scope} as a parameter to make finer assertions, e.g. on calls per DAO method.
+ */
+public class DaoBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DaoBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        scope(context);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        DaoAccounting.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), DaoAccounting.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        if (context.getExecutionException().isPresent()) {
+            return; // Report the test's own failure rather than a budget overrun it may have caused
+        }
+        Optional<DaoBudget> budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), DaoBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), DaoBudget.class));
+        if (budget.isEmpty()) {
+            return;
+        }
+        List<String> overruns = new ArrayList<>();
+        check(overruns, "reads", scope.getReads(), budget.get().reads());
+        check(overruns, "writes", scope.getWrites(), budget.get().writes());
+        check(overruns, "items", scope.getItems(), budget.get().items());
+        check(overruns, "DynamoDB requests", scope.getRoundTrips(), budget.get().requests());
+        if (!overruns.isEmpty()) {
+            throw new AssertionError("DynamoDB budget exceeded: " + String.join(", ", overruns) + "\n" + scope.summary());
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == DaoAccounting.Scope.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return scope(extensionContext);
+    }
+
+    // Parameters are resolved before beforeTestExecution, so whichever runs first opens the scope
+    private static DaoAccounting.Scope scope(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(context.getUniqueId(),
+                id -> DaoAccounting.begin(context.getDisplayName()), DaoAccounting.Scope.class);
+    }
+
+    private static void check(List<String> overruns, String name, int actual, int limit) {
+        if (limit >= 0 && actual > limit) {
+            overruns.add(name + " " + actual + " > " + limit);
+        }
+    }
+}
@@ -0,0 +1,831 @@
+package com.assassin.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.assassin.exception.GameNotFoundException;
+import com.assassin.exception.KillNotFoundException;
+import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.exception.ValidationException;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
+import com.assassin.model.GameRoster;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Kill;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.model.SafeZone;
+
+/**
+ * Behaviour every DAO implementation must share, run against each backend by a subclass.
+ * <p>
+ * Backends may keep data between tests, so every test writes under its own ID prefix and never asserts on
+ * table-wide results.
+ */
+abstract class DaoContract {
+
+    private static final double LATITUDE = 37.7749;
+    private static final double LONGITUDE = -122.4194;
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    protected PlayerDao playerDao;
+    protected GameDao gameDao;
+    protected KillDao killDao;
+    protected NotificationDao notificationDao;
+    protected SafeZoneDao safeZoneDao;
+    protected GameZoneStateDao gameZoneStateDao;
+    protected RecentKillFeedDao recentKillFeedDao;
+    protected GameEventDao gameEventDao;
+    protected GameRosterDao gameRosterDao;
+
+    private String prefix;
+
+    protected abstract PlayerDao createPlayerDao();
+
+    protected abstract GameDao createGameDao();
+
+    protected abstract KillDao createKillDao(PlayerDao playerDao);
+
+    protected abstract NotificationDao createNotificationDao();
+
+    protected abstract SafeZoneDao createSafeZoneDao();
+
+    protected abstract GameZoneStateDao createGameZoneStateDao();
+
+    protected abstract RecentKillFeedDao createRecentKillFeedDao();
+
+    protected abstract GameEventDao createGameEventDao();
+
+    protected abstract GameRosterDao createGameRosterDao(PlayerDao playerDao);
+
+    @BeforeEach
+    void createDaos() {
+        prefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+        playerDao = createPlayerDao();
+        gameDao = createGameDao();
+        killDao = createKillDao(playerDao);
+        notificationDao = createNotificationDao();
+        safeZoneDao = createSafeZoneDao();
+        gameZoneStateDao = createGameZoneStateDao();
+        recentKillFeedDao = createRecentKillFeedDao();
+        gameEventDao = createGameEventDao();
+        gameRosterDao = createGameRosterDao(playerDao);
+    }
+
+    // --- Players ---
+
+    @Test
+    void testSavedPlayerIsReadBackById() {
+        Player player = player("p1", "game");
+        player.setEmail(id("p1") + "@example.com");
+        playerDao.savePlayer(player);
+
+        Optional<Player> found = playerDao.getPlayerById(id("p1"));
+        assertTrue(found.isPresent());
+        assertEquals(id("game"), found.get().getGameID());
+        assertEquals(id("p1"), playerDao.findPlayerById(id("p1")).getPlayerID());
+        assertEquals(id("p1"), playerDao.findPlayerByEmail(id("p1") + "@example.com").getPlayerID());
+        assertTrue(playerDao.getPlayerById(id("missing")).isEmpty());
+        assertNull(playerDao.findPlayerById(id("missing")));
+        assertNull(playerDao.findPlayerByEmail(id("missing") + "@example.com"));
+    }
+
+    @Test
+    void testPlayersByGameAndTargetUseTheirIndexes() {
+        Player hunter = player("hunter", "game");
+        hunter.setTargetID(id("target"));
+        Player otherGameHunter = player("other", "otherGame");
+        otherGameHunter.setTargetID(id("target"));
+        playerDao.savePlayer(hunter);
+        playerDao.savePlayer(otherGameHunter);
+        playerDao.savePlayer(player("target", "game"));
+
+        assertEquals(List.of(id("hunter"), id("target")), ids(playerDao.getPlayersByGameId(id("game"))).stream().sorted().toList());
+        assertEquals(List.of(id("hunter")), ids(playerDao.getPlayersTargeting(id("target"), id("game"))));
+        assertTrue(playerDao.getPlayersTargeting(id("target"), null).isEmpty());
+        assertTrue(playerDao.getPlayersByGameId(id("noGame")).isEmpty());
+    }
+
+    @Test
+    void testLeaderboardIsOrderedByKillCountDescending() {
+        String partition = id("leaderboard");
+        int[] killCounts = {3, 9, 0, 5};
+        for (int i = 0; i < killCounts.length; i++) {
+            Player player = player("p" + i, "game");
+            player.setKillCount(killCounts[i]);
+            player.setLeaderboardStatusPartition(partition);
+            playerDao.savePlayer(player);
+        }
+
+        List<Player> top = playerDao.getLeaderboardByKillCount(partition, 3);
+        assertEquals(List.of(id("p1"), id("p3"), id("p0")), ids(top));
+    }
+
+    @Test
+    void testPlayersByGamePageThroughEveryPlayerOnce() {
+        for (int i = 0; i < 5; i++) {
+            playerDao.savePlayer(player("p" + i, "game"));
+        }
+
+        List<Player> players = new ArrayList<>();
+        String pageToken = null;
+        do {
+            PagedResult<Player> page = playerDao.getPlayersByGameId(id("game"), 2, pageToken);
+            assertTrue(page.getItems().size() <= 2);
+            players.addAll(page.getItems());
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(List.of(id("p0"), id("p1"), id("p2"), id("p3"), id("p4")), ids(players).stream().sorted().toList());
+        assertFalse(playerDao.getPlayersByGameId(id("noGame"), 2, null).hasMore());
+        assertThrows(ValidationException.class, () -> playerDao.getPlayersByGameId(id("game"), 2, "not a token"));
+    }
+
+    @Test
+    void testParallelScanVisitsEveryPlayerOnceWithOnlyTheProjectedAttributes() {
+        for (int i = 0; i < 7; i++) {
+            Player player = player("p" + i, "game");
+            player.setSecret("secret");
+            playerDao.savePlayer(player);
+        }
+        ScanOptions options = ScanOptions.builder().segments(3).pageSize(2).attributes("PlayerID", "GameID").build();
+
+        Queue<Player> scanned = new ConcurrentLinkedQueue<>();
+        ParallelScan.Result result = playerDao.scanAllPlayers(options, player -> {
+            if (player.getPlayerID().startsWith(prefix)) {
+                scanned.add(player);
+            }
+        });
+
+        assertEquals(List.of(id("p0"), id("p1"), id("p2"), id("p3"), id("p4"), id("p5"), id("p6")),
+                ids(new ArrayList<>(scanned)).stream().sorted().toList());
+        assertTrue(result.getItemCount() >= 7);
+        for (Player player : scanned) {
+            assertEquals(id("game"), player.getGameID());
+            assertNull(player.getSecret());
+        }
+    }
+
+    @Test
+    void testIncrementKillCountReturnsTheNewCount() {
+        playerDao.savePlayer(player("p1", "game"));
+
+        assertEquals(1, playerDao.incrementPlayerKillCount(id("p1")));
+        assertEquals(2, playerDao.incrementPlayerKillCount(id("p1")));
+        assertEquals(2, playerDao.getPlayerById(id("p1")).get().getKillCount());
+        assertThrows(PlayerNotFoundException.class, () -> playerDao.incrementPlayerKillCount(id("missing")));
+    }
+
+    @Test
+    void testLocationUpdateChangesOnlyLocation() {
+        Player player = player("p1", "game");
+        player.setEmail(id("p1") + "@example.com");
+        playerDao.savePlayer(player);
+
+        playerDao.updatePlayerLocation(id("p1"), id("game"), LATITUDE + 0.001, LONGITUDE, "2030-01-01T00:00:00Z", 4.0);
+
+        Player updated = playerDao.getPlayerById(id("p1")).get();
+        assertEquals(LATITUDE + 0.001, updated.getLatitude());
+        assertEquals(LONGITUDE, updated.getLongitude());
+        assertEquals("2030-01-01T00:00:00Z", updated.getLocationTimestamp());
+        assertEquals(4.0, updated.getLocationAccuracy());
+        assertEquals(id("p1") + "@example.com", updated.getEmail());
+        assertEquals(PlayerStatus.ACTIVE.name(), updated.getStatus());
+        assertThrows(PlayerNotFoundException.class,
+                () -> playerDao.updatePlayerLocation(id("missing"), LATITUDE, LONGITUDE, "2030-01-01T00:00:00Z", 4.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> playerDao.updatePlayerLocation(null, LATITUDE, LONGITUDE, "2030-01-01T00:00:00Z", 4.0));
+    }
+
+    @Test
+    void testGameCellKeyUpdateKeepsEveryOtherAttribute() {
+        Player player = player("p1", "game");
+        player.setKillCount(3);
+        player.setTargetID(id("p2"));
+        player.setLatitude(north(30));
+        player.setLongitude(LONGITUDE);
+        playerDao.savePlayer(player);
+        playerDao.savePlayer(player("p2", "game"));
+        playerDao.incrementPlayerKillCount(id("p1"));
+
+        Player scanned = playerDao.getPlayerById(id("p1")).get();
+        // Any other cell, so the update is visible through the index
+        String otherCellKey = DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(5_000), LONGITUDE);
+
+        assertTrue(playerDao.updateGameCellKey(scanned, otherCellKey));
+
+        Player updated = playerDao.getPlayerById(id("p1")).get();
+        assertEquals(otherCellKey, updated.getGameCellKey());
+        assertEquals(4, updated.getKillCount());
+        assertEquals(id("p2"), updated.getTargetID());
+        assertEquals(PlayerStatus.ACTIVE.name(), updated.getStatus());
+        assertEquals(north(30), updated.getLatitude());
+        assertTrue(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, 100).isEmpty());
+        Player missing = player("missing", "game");
+        missing.setLatitude(LATITUDE);
+        missing.setLongitude(LONGITUDE);
+        assertThrows(PlayerNotFoundException.class,
+                () -> playerDao.updateGameCellKey(missing, DynamoDbPlayerDao.gameCellKeyFor(id("game"), LATITUDE, LONGITUDE)));
+    }
+
+    @Test
+    void testGameCellKeyUpdateLeavesPlayersChangedSinceTheScan() {
+        Player player = player("p1", "game");
+        player.setLatitude(north(30));
+        player.setLongitude(LONGITUDE);
+        playerDao.savePlayer(player);
+        Player scanned = playerDao.getPlayerById(id("p1")).get();
+        String staleCellKey = DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(5_000), LONGITUDE);
+
+        // Moved since the scan: the location update's key stands
+        playerDao.updatePlayerLocation(id("p1"), id("game"), north(400), LONGITUDE, "2030-01-01T00:00:00Z", 5.0);
+        assertFalse(playerDao.updateGameCellKey(scanned, staleCellKey));
+        assertEquals(DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(400), LONGITUDE),
+                playerDao.getPlayerById(id("p1")).get().getGameCellKey());
+
+        // Re-keyed since the scan: the newer key stands
+        Player rescanned = playerDao.getPlayerById(id("p1")).get();
+        assertTrue(playerDao.updateGameCellKey(rescanned, staleCellKey));
+        assertFalse(playerDao.updateGameCellKey(rescanned, DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(400), LONGITUDE)));
+        assertEquals(staleCellKey, playerDao.getPlayerById(id("p1")).get().getGameCellKey());
+    }
+
+    @Test
+    void testSavePlayerIndexesTheLocationWithoutChangingTheCallersPlayer() {
+        Player player = player("p1", "game");
+        player.setLatitude(north(30));
+        player.setLongitude(LONGITUDE);
+
+        playerDao.savePlayer(player);
+
+        assertNull(player.getGameCellKey());
+        assertEquals(DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(30), LONGITUDE),
+                playerDao.getPlayerById(id("p1")).get().getGameCellKey());
+        assertEquals(List.of(id("p1")), ids(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, 100)));
+    }
+
+    @Test
+    void testFindPlayersNearFollowsLocationUpdates() {
+        playerDao.savePlayer(player("near", "game"));
+        playerDao.savePlayer(player("far", "game"));
+        playerDao.savePlayer(player("otherGame", "otherGame"));
+
+        playerDao.updatePlayerLocation(id("near"), id("game"), north(30), LONGITUDE, "2030-01-01T00:00:00Z", 5.0);
+        playerDao.updatePlayerLocation(id("far"), id("game"), north(400), LONGITUDE, "2030-01-01T00:00:00Z", 5.0);
+        playerDao.updatePlayerLocation(id("otherGame"), id("otherGame"), north(10), LONGITUDE, "2030-01-01T00:00:00Z", 5.0);
+
+        assertEquals(List.of(id("near")), ids(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, 100)));
+        assertEquals(List.of(id("far"), id("near")),
+                ids(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, 5_000)).stream().sorted().toList());
+        assertTrue(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, -1).isEmpty());
+    }
+
+    @Test
+    void testFindPlayersNearReturnsTheSamePartialItemsForSmallAndLargeRadii() {
+        Player player = player("p1", "game");
+        player.setPlayerName("Nearby");
+        player.setEmail("nearby@example.com");
+        player.setTargetID(id("p2"));
+        player.setLatitude(north(30));
+        player.setLongitude(LONGITUDE);
+        player.setLocationTimestamp("2030-01-01T00:00:00Z");
+        player.setLocationAccuracy(5.0);
+        playerDao.savePlayer(player);
+
+        // 100m is served by the GameCellIndex, 5km by the GameIdIndex fallback
+        for (double radius : new double[] {100, 5_000}) {
+            List<Player> nearby = playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, radius);
+            assertEquals(1, nearby.size());
+            Player found = nearby.get(0);
+            assertEquals(id("p1"), found.getPlayerID());
+            assertEquals("Nearby", found.getPlayerName());
+            assertEquals(id("game"), found.getGameID());
+            assertEquals(PlayerStatus.ACTIVE.name(), found.getStatus());
+            assertEquals(id("p2"), found.getTargetID());
+            assertEquals(north(30), found.getLatitude());
+            assertEquals("2030-01-01T00:00:00Z", found.getLocationTimestamp());
+            assertNull(found.getEmail(), "radius " + radius);
+            assertNull(found.getLocationAccuracy(), "radius " + radius);
+        }
+    }
+
+    @Test
+    void testDeletePlayerRemovesItAndRejectsUnknownIds() {
+        playerDao.savePlayer(player("p1", "game"));
+
+        playerDao.deletePlayer(id("p1"));
+
+        assertTrue(playerDao.getPlayerById(id("p1")).isEmpty());
+        assertTrue(playerDao.getPlayersByGameId(id("game")).isEmpty());
+        assertThrows(PlayerNotFoundException.class, () -> playerDao.deletePlayer(id("p1")));
+    }
+
+    // --- Games ---
+
+    @Test
+    void testGamesByStatusAreNewestFirst() {
+        String status = id("PENDING");
+        gameDao.saveGame(game("old", status, "2030-01-01T00:00:00Z"));
+        gameDao.saveGame(game("new", status, "2030-01-03T00:00:00Z"));
+        gameDao.saveGame(game("middle", status, "2030-01-02T00:00:00Z"));
+        gameDao.saveGame(game("other", id("ACTIVE"), "2030-01-04T00:00:00Z"));
+
+        List<String> gameIds = gameDao.listGamesByStatus(status).stream().map(Game::getGameID).collect(Collectors.toList());
+        assertEquals(List.of(id("new"), id("middle"), id("old")), gameIds);
+        assertTrue(gameDao.getGameById(id("missing")).isEmpty());
+    }
+
+    @Test
+    void testUpdateGameBoundaryKeepsOtherAttributes() {
+        gameDao.saveGame(game("g1", id("ACTIVE"), "2030-01-01T00:00:00Z"));
+        List<Coordinate> boundary = List.of(new Coordinate(LATITUDE, LONGITUDE), new Coordinate(north(100), LONGITUDE),
+                new Coordinate(LATITUDE, LONGITUDE + 0.001));
+
+        gameDao.updateGameBoundary(id("g1"), boundary);
+
+        Game updated = gameDao.getGameById(id("g1")).get();
+        assertEquals(3, updated.getBoundary().size());
+        assertEquals(north(100), updated.getBoundary().get(1).getLatitude());
+        assertEquals("Contract game", updated.getGameName());
+        assertThrows(GameNotFoundException.class, () -> gameDao.updateGameBoundary(id("missing"), boundary));
+    }
+
+    @Test
+    void testDeleteGameRejectsUnknownIds() {
+        gameDao.saveGame(game("g1", id("ACTIVE"), "2030-01-01T00:00:00Z"));
+
+        gameDao.deleteGame(id("g1"));
+
+        assertTrue(gameDao.getGameById(id("g1")).isEmpty());
+        assertThrows(GameNotFoundException.class, () -> gameDao.deleteGame(id("g1")));
+    }
+
+    // --- Kills ---
+
+    @Test
+    void testKillsByKillerVictimAndGame() {
+        killDao.saveKill(kill("killer", "victim", "game", "2030-01-01T00:00:01Z", "PENDING"));
+        killDao.saveKill(kill("killer", "victim2", "game", "2030-01-01T00:00:03Z", "PENDING"));
+        killDao.saveKill(kill("killer2", "victim", "otherGame", "2030-01-01T00:00:02Z", "PENDING"));
+
+        assertEquals(List.of("2030-01-01T00:00:03Z", "2030-01-01T00:00:01Z"), times(killDao.findKillsByKiller(id("killer"))));
+        assertEquals(List.of("2030-01-01T00:00:02Z", "2030-01-01T00:00:01Z"), times(killDao.findKillsByVictim(id("victim"))));
+        assertEquals(List.of("2030-01-01T00:00:01Z", "2030-01-01T00:00:03Z"), times(killDao.findKillsByGameId(id("game"))));
+        assertEquals(2, killDao.getPlayerDeathCount(id("victim")));
+        assertEquals(2, killDao.countDeathsByVictim(id("victim")));
+        assertEquals(0, killDao.countDeathsByVictim(id("nobody")));
+        assertThrows(KillNotFoundException.class, () -> killDao.findKillsByKiller(id("nobody")));
+        assertThrows(KillNotFoundException.class, () -> killDao.findKillsByVictim(id("nobody")));
+    }
+
+    @Test
+    void testKillsByKillerPageNewestFirst() {
+        for (int second = 1; second <= 5; second++) {
+            killDao.saveKill(kill("killer", "victim" + second, "game", "2030-01-01T00:00:0" + second + "Z", "PENDING"));
+        }
+
+        List<Kill> kills = new ArrayList<>();
+        String pageToken = null;
+        do {
+            PagedResult<Kill> page = killDao.findKillsByKiller(id("killer"), 2, pageToken);
+            kills.addAll(page.getItems());
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(List.of("2030-01-01T00:00:05Z", "2030-01-01T00:00:04Z", "2030-01-01T00:00:03Z",
+                "2030-01-01T00:00:02Z", "2030-01-01T00:00:01Z"), times(kills));
+        assertTrue(killDao.findKillsByKiller(id("nobody"), 2, null).getItems().isEmpty());
+    }
+
+    @Test
+    void testSavedKillIsReadBackByKeyWithItsStatusPartition() {
+        killDao.saveKill(kill("killer", "victim", "game", "2030-01-01T00:00:01Z", null));
+
+        Optional<Kill> kill = killDao.getKill(id("killer"), "2030-01-01T00:00:01Z");
+        assertTrue(kill.isPresent());
+        assertEquals(id("victim"), kill.get().getVictimID());
+        assertEquals("UNKNOWN", kill.get().getKillStatusPartition());
+        assertTrue(killDao.getKill(id("killer"), "2030-01-01T00:00:02Z").isEmpty());
+    }
+
+    @Test
+    void testKillRecordByVictimIsTheLatestKillInThatGame() {
+        killDao.saveKill(kill("killer", "victim", "game", "2030-01-01T00:00:01Z", "PENDING"));
+        killDao.saveKill(kill("killer2", "victim", "otherGame", "2030-01-01T00:00:05Z", "PENDING"));
+
+        assertEquals(Optional.empty(), killDao.findKillRecordByVictimAndGame(id("victim"), id("game")));
+        assertEquals(id("killer2"), killDao.findKillRecordByVictimAndGame(id("victim"), id("otherGame")).get().getKillerID());
+    }
+
+    @Test
+    void testRecentVerifiedKillsAreNewestFirst() {
+        // Far-future times put these ahead of any verified kill written elsewhere
+        killDao.saveKill(kill("killer", "victim1", "game", "9999-01-01T00:00:01Z-" + prefix, "VERIFIED"));
+        killDao.saveKill(kill("killer", "victim2", "game", "9999-01-01T00:00:03Z-" + prefix, "VERIFIED"));
+        killDao.saveKill(kill("killer", "victim3", "game", "9999-01-01T00:00:05Z-" + prefix, "PENDING"));
+
+        List<Kill> recent = killDao.findRecentKills(2);
+        assertEquals(List.of(id("victim2"), id("victim1")), recent.stream().map(Kill::getVictimID).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testIsPlayerAliveChecksGameAndStatus() {
+        playerDao.savePlayer(player("alive", "game"));
+        Player dead = player("dead", "game");
+        dead.setStatus(PlayerStatus.DEAD.name());
+        playerDao.savePlayer(dead);
+
+        assertTrue(killDao.isPlayerAlive(id("alive"), id("game")));
+        assertFalse(killDao.isPlayerAlive(id("alive"), id("otherGame")));
+        assertFalse(killDao.isPlayerAlive(id("dead"), id("game")));
+        assertFalse(killDao.isPlayerAlive(id("missing"), id("game")));
+    }
+
+    @Test
+    void testRecentKillFeedKeepsEachKillOnceNewestFirst() {
+        String feedId = id("feed");
+        assertTrue(recentKillFeedDao.getFeed(feedId).isEmpty());
+
+        recentKillFeedDao.addKill(feedId, KillFeedEntry.from(kill("killer", "victim1", "game", "2030-01-01T00:00:01Z", "VERIFIED")), "2030-01-01T00:00:01Z");
+        recentKillFeedDao.addKill(feedId, KillFeedEntry.from(kill("killer", "victim2", "game", "2030-01-01T00:00:02Z", "VERIFIED")), "2030-01-01T00:00:02Z");
+        recentKillFeedDao.addKill(feedId, KillFeedEntry.from(kill("killer", "victim1", "game", "2030-01-01T00:00:01Z", "VERIFIED")), "2030-01-01T00:00:03Z");
+
+        RecentKillFeed feed = recentKillFeedDao.getFeed(feedId).get();
+        assertEquals(List.of(id("victim2"), id("victim1")),
+                feed.newestFirst(10).stream().map(KillFeedEntry::getVictimID).collect(Collectors.toList()));
+        assertEquals(2L, feed.getVersion());
+        assertEquals("2030-01-01T00:00:02Z", feed.getLastUpdated());
+        assertEquals(id("game"), feed.newestFirst(1).get(0).getGameId());
+    }
+
+    @Test
+    void testConcurrentRecentKillFeedAdditionsAreAllKept() throws Exception {
+        String feedId = id("feed");
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<RecentKillFeed>> additions = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                KillFeedEntry entry = KillFeedEntry.from(kill("killer" + i, "victim" + i, "game", "2030-01-01T00:00:0" + i + "Z", "VERIFIED"));
+                additions.add(executor.submit(() -> recentKillFeedDao.addKill(feedId, entry, "2030-01-01T00:01:00Z")));
+            }
+            for (Future<RecentKillFeed> addition : additions) {
+                addition.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        RecentKillFeed feed = recentKillFeedDao.getFeed(feedId).get();
+        assertEquals(writers, feed.getEntries().size());
+        assertEquals((long) writers, feed.getVersion());
+    }
+
+    // --- Game events ---
+
+    @Test
+    void testGameEventsAreNumberedPerGameFromOne() {
+        String gameId = id("game");
+        assertEquals(0, gameEventDao.getLatestSeq(gameId));
+
+        GameEvent first = gameEventDao.addEvent(gameId, GameEvent.Type.KILL_REPORTED, "2030-01-01T00:00:01Z",
+                Map.of("killerId", id("killer"), "victimId", id("victim")));
+        GameEvent second = gameEventDao.addEvent(gameId, GameEvent.Type.PLAYER_ELIMINATED, "2030-01-01T00:00:01Z",
+                Map.of("playerId", id("victim")));
+        GameEvent other = gameEventDao.addEvent(id("otherGame"), GameEvent.Type.SAFE_ZONE_CREATED, "2030-01-01T00:00:02Z", Map.of());
+
+        assertEquals(1L, first.getSeq());
+        assertEquals(2L, second.getSeq());
+        assertEquals(1L, other.getSeq());
+        assertEquals(2, gameEventDao.getLatestSeq(gameId));
+    }
+
+    @Test
+    void testGameEventsAreReadBackAfterTheCursorOldestFirst() {
+        String gameId = id("game");
+        for (int i = 1; i <= 4; i++) {
+            gameEventDao.addEvent(gameId, GameEvent.Type.ZONE_PHASE_CHANGED, "2030-01-01T00:00:0" + i + "Z",
+                    Map.of("stageIndex", String.valueOf(i)));
+        }
+
+        List<GameEvent> all = gameEventDao.readSince(gameId, 0, 10);
+        assertEquals(List.of(1L, 2L, 3L, 4L), all.stream().map(GameEvent::getSeq).collect(Collectors.toList()));
+        assertEquals("ZONE_PHASE_CHANGED", all.get(0).getType());
+        assertEquals("1", all.get(0).getData().get("stageIndex"));
+        assertEquals(List.of(3L, 4L),
+                gameEventDao.readSince(gameId, 2, 10).stream().map(GameEvent::getSeq).collect(Collectors.toList()));
+        assertEquals(List.of(2L),
+                gameEventDao.readSince(gameId, 1, 1).stream().map(GameEvent::getSeq).collect(Collectors.toList()));
+        assertTrue(gameEventDao.readSince(gameId, 4, 10).isEmpty());
+        assertTrue(gameEventDao.readSince(id("otherGame"), 0, 10).isEmpty());
+    }
+
+    @Test
+    void testConcurrentGameEventsGetDistinctSequenceNumbers() throws Exception {
+        String gameId = id("game");
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<GameEvent>> additions = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                additions.add(executor.submit(() -> gameEventDao.addEvent(gameId, GameEvent.Type.KILL_REPORTED,
+                        "2030-01-01T00:00:00Z", Map.of())));
+            }
+            for (Future<GameEvent> addition : additions) {
+                addition.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), gameEventDao.readSince(gameId, 0, 10).stream()
+                .map(GameEvent::getSeq).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testReaderFollowingTheCursorWhileEventsAreAddedSeesEveryEvent() throws Exception {
+        String gameId = id("game");
+        int writers = 3;
+        int eventsPerWriter = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Long> seen = new ArrayList<>();
+        try {
+            List<Future<?>> additions = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                additions.add(executor.submit(() -> {
+                    for (int j = 0; j < eventsPerWriter; j++) {
+                        gameEventDao.addEvent(gameId, GameEvent.Type.KILL_REPORTED, "2030-01-01T00:00:00Z", Map.of());
+                    }
+                }));
+            }
+            // Poll the way KillHandler's clients do, moving the cursor to the last event returned
+            long cursor = 0;
+            while (seen.size() < writers * eventsPerWriter) {
+                for (GameEvent event : gameEventDao.readSince(gameId, cursor, 100)) {
+                    seen.add(event.getSeq());
+                    cursor = event.getSeq();
+                }
+                if (additions.stream().allMatch(Future::isDone) && cursor == gameEventDao.getLatestSeq(gameId)) {
+                    break;
+                }
+            }
+            for (Future<?> addition : additions) {
+                addition.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long seq = 1; seq <= writers * eventsPerWriter; seq++) {
+            expected.add(seq);
+        }
+        assertEquals(expected, seen);
+    }
+
+    // --- Game rosters ---
+
+    @Test
+    void testEliminationIsSavedWithTheRoster() {
+        List<Player> players = List.of(player("p1", "game"), player("p2", "game"), player("p3", "game"));
+        players.forEach(playerDao::savePlayer);
+        gameRosterDao.saveRoster(GameRoster.of(id("game"), players));
+
+        Player victim = players.get(0);
+        victim.setStatus(PlayerStatus.DEAD.name());
+        Optional<GameRoster> written = gameRosterDao.updatePlayerStatus(victim, PlayerStatus.ACTIVE.name(), "2030-01-01T00:00:01Z");
+
+        assertTrue(written.isPresent());
+        assertEquals(2L, written.get().getVersion());
+        GameRoster stored = gameRosterDao.getRoster(id("game")).get();
+        assertEquals(2, stored.getAliveCount());
+        assertFalse(stored.isAlive(id("p1")));
+        assertEquals(1, stored.getStatusCounts().get(PlayerStatus.DEAD.name()));
+        assertEquals(2, stored.getStatusCounts().get(PlayerStatus.ACTIVE.name()));
+        assertEquals(PlayerStatus.DEAD.name(), playerDao.getPlayerById(id("p1")).get().getStatus());
+
+        // Recording the same elimination again leaves the roster alone but still saves the player
+        victim.setKillCount(3);
+        assertTrue(gameRosterDao.updatePlayerStatus(victim, PlayerStatus.ACTIVE.name(), "2030-01-01T00:00:02Z").isEmpty());
+        assertEquals(2L, gameRosterDao.getRoster(id("game")).get().getVersion());
+        assertEquals(3, playerDao.getPlayerById(id("p1")).get().getKillCount());
+    }
+
+    @Test
+    void testEliminationIndexesTheLocationWithoutChangingTheCallersPlayer() {
+        Player victim = player("p1", "game");
+        victim.setLatitude(north(30));
+        victim.setLongitude(LONGITUDE);
+        List<Player> players = List.of(victim, player("p2", "game"));
+        gameRosterDao.saveRoster(GameRoster.of(id("game"), players));
+
+        victim.setStatus(PlayerStatus.DEAD.name());
+        assertTrue(gameRosterDao.updatePlayerStatus(victim, PlayerStatus.ACTIVE.name(), "2030-01-01T00:00:01Z").isPresent());
+
+        assertNull(victim.getGameCellKey());
+        assertEquals(DynamoDbPlayerDao.gameCellKeyFor(id("game"), north(30), LONGITUDE),
+                playerDao.getPlayerById(id("p1")).get().getGameCellKey());
+        assertEquals(List.of(id("p1")), ids(playerDao.findPlayersNear(id("game"), LATITUDE, LONGITUDE, 100)));
+    }
+
+    @Test
+    void testStatusChangeWithoutARosterOnlySavesThePlayer() {
+        Player player = player("p1", "game");
+        player.setStatus(PlayerStatus.DEAD.name());
+
+        assertTrue(gameRosterDao.updatePlayerStatus(player, PlayerStatus.ACTIVE.name(), "2030-01-01T00:00:01Z").isEmpty());
+
+        assertTrue(gameRosterDao.getRoster(id("game")).isEmpty());
+        assertEquals(PlayerStatus.DEAD.name(), playerDao.getPlayerById(id("p1")).get().getStatus());
+    }
+
+    @Test
+    void testConcurrentEliminationsLeaveExactlyOneLastPlayerStanding() throws Exception {
+        int players = 5;
+        List<Player> roster = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            roster.add(player("p" + i, "game"));
+        }
+        roster.forEach(playerDao::savePlayer);
+        gameRosterDao.saveRoster(GameRoster.of(id("game"), roster));
+
+        ExecutorService executor = Executors.newFixedThreadPool(players - 1);
+        Queue<String> winners = new ConcurrentLinkedQueue<>();
+        try {
+            List<Future<?>> eliminations = new ArrayList<>();
+            for (Player victim : roster.subList(1, players)) {
+                eliminations.add(executor.submit(() -> {
+                    victim.setStatus(PlayerStatus.DEAD.name());
+                    gameRosterDao.updatePlayerStatus(victim, PlayerStatus.ACTIVE.name(), "2030-01-01T00:00:01Z")
+                            .flatMap(GameRoster::lastPlayerStanding)
+                            .ifPresent(winners::add);
+                }));
+            }
+            for (Future<?> elimination : eliminations) {
+                elimination.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of(id("p0")), new ArrayList<>(winners));
+        GameRoster stored = gameRosterDao.getRoster(id("game")).get();
+        assertEquals(1, stored.getAliveCount());
+        assertEquals((long) players, stored.getVersion());
+    }
+
+    // --- Notifications ---
+
+    @Test
+    void testNotificationsAreNewestFirstAfterTheCursor() {
+        String recipient = id("recipient");
+        for (int second = 1; second <= 4; second++) {
+            notificationDao.saveNotification(notification(recipient, "2030-01-01T00:00:0" + second + "Z"));
+        }
+
+        assertEquals(List.of("2030-01-01T00:00:04Z", "2030-01-01T00:00:03Z"),
+                notificationTimes(notificationDao.findNotificationsByPlayer(recipient, null, 2)));
+        assertEquals(List.of("2030-01-01T00:00:04Z", "2030-01-01T00:00:03Z"),
+                notificationTimes(notificationDao.findNotificationsByPlayer(recipient, "2030-01-01T00:00:02Z", 0)));
+        assertEquals(id("n-2030-01-01T00:00:02Z"),
+                notificationDao.getNotification(recipient, "2030-01-01T00:00:02Z").get().getNotificationId());
+        assertTrue(notificationDao.getNotification(recipient, "2030-01-01T00:00:09Z").isEmpty());
+    }
+
+    @Test
+    void testNotificationArgumentsAreValidated() {
+        assertThrows(IllegalArgumentException.class, () -> notificationDao.saveNotification(null));
+        assertThrows(IllegalArgumentException.class, () -> notificationDao.getNotification("", "2030-01-01T00:00:00Z"));
+        assertThrows(IllegalArgumentException.class, () -> notificationDao.getNotification(id("recipient"), null));
+        assertThrows(IllegalArgumentException.class, () -> notificationDao.findNotificationsByPlayer(null, null, 10));
+    }
+
+    // --- Safe zones and zone state ---
+
+    @Test
+    void testSafeZonesByGame() {
+        safeZoneDao.saveSafeZone(safeZone("s1", "game"));
+        safeZoneDao.saveSafeZone(safeZone("s2", "game"));
+        safeZoneDao.saveSafeZone(safeZone("s3", "otherGame"));
+
+        List<String> zoneIds = safeZoneDao.getSafeZonesByGameId(id("game")).stream()
+                .map(SafeZone::getSafeZoneId).sorted().collect(Collectors.toList());
+        assertEquals(List.of(id("s1"), id("s2")), zoneIds);
+        assertEquals(75.0, safeZoneDao.getSafeZoneById(id("s1")).get().getRadiusMeters());
+
+        safeZoneDao.deleteSafeZone(id("s1"));
+        assertTrue(safeZoneDao.getSafeZoneById(id("s1")).isEmpty());
+        assertEquals(1, safeZoneDao.getSafeZonesByGameId(id("game")).size());
+    }
+
+    @Test
+    void testGameZoneStateRoundTrips() {
+        GameZoneState state = new GameZoneState();
+        state.setGameId(id("game"));
+        state.setCurrentPhase(GameZoneState.ZonePhase.SHRINKING);
+        state.setCurrentCenter(new Coordinate(LATITUDE, LONGITUDE));
+        state.setCurrentRadiusMeters(250.0);
+
+        gameZoneStateDao.saveGameZoneState(state);
+
+        GameZoneState found = gameZoneStateDao.getGameZoneState(id("game")).get();
+        assertEquals(GameZoneState.ZonePhase.SHRINKING, found.getCurrentPhaseAsEnum());
+        assertEquals(250.0, found.getCurrentRadiusMeters());
+        assertEquals(LATITUDE, found.getCurrentCenter().getLatitude());
+        assertTrue(gameZoneStateDao.getGameZoneState(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> gameZoneStateDao.saveGameZoneState(new GameZoneState()));
+
+        gameZoneStateDao.deleteGameZoneState(id("game"));
+        assertTrue(gameZoneStateDao.getGameZoneState(id("game")).isEmpty());
+    }
+
+    // --- Fixtures ---
+
+    private String id(String name) {
+        return prefix + name;
+    }
+
+    private Player player(String name, String gameName) {
+        Player player = new Player();
+        player.setPlayerID(id(name));
+        player.setGameID(id(gameName));
+        player.setStatus(PlayerStatus.ACTIVE.name());
+        return player;
+    }
+
+    private Game game(String name, String status, String createdAt) {
+        Game game = new Game();
+        game.setGameID(id(name));
+        game.setGameName("Contract game");
+        game.setStatus(status);
+        game.setCreatedAt(createdAt);
+        return game;
+    }
+
+    private Kill kill(String killer, String victim, String gameName, String time, String verificationStatus) {
+        Kill kill = new Kill();
+        kill.setKillerID(id(killer));
+        kill.setVictimID(id(victim));
+        kill.setGameId(id(gameName));
+        kill.setTime(time);
+        kill.setVerificationStatus(verificationStatus);
+        return kill;
+    }
+
+    private Notification notification(String recipient, String timestamp) {
+        Notification notification = new Notification();
+        notification.setNotificationId(id("n-" + timestamp));
+        notification.setRecipientPlayerId(recipient);
+        notification.setTimestamp(timestamp);
+        notification.setType("PROXIMITY_ALERT");
+        notification.setStatus("UNREAD");
+        return notification;
+    }
+
+    private SafeZone safeZone(String name, String gameName) {
+        SafeZone zone = new SafeZone();
+        zone.setSafeZoneId(id(name));
+        zone.setGameId(id(gameName));
+        zone.setName("Zone " + name);
+        zone.setCenter(new Coordinate(LATITUDE, LONGITUDE));
+        zone.setRadiusMeters(75.0);
+        return zone;
+    }
+
+    private static double north(double meters) {
+        return LATITUDE + meters / METERS_PER_DEGREE_LATITUDE;
+    }
+
+    private static List<String> ids(List<Player> players) {
+        return players.stream().map(Player::getPlayerID).collect(Collectors.toList());
+    }
+
+    private static List<String> times(List<Kill> kills) {
+        return kills.stream().map(Kill::getTime).collect(Collectors.toList());
+    }
+
+    private static List<String> notificationTimes(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getTimestamp).collect(Collectors.toList());
+    }
+}
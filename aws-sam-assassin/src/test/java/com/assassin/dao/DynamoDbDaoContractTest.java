@@ -0,0 +1,93 @@
+package com.assassin.dao;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.assassin.util.DynamoDbClientProvider;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Runs the DAO contract against the DynamoDB DAOs on DynamoDB Local, so the in-memory DAOs are held to
+ * what DynamoDB actually returns. The tables are created once and shared by all tests.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DynamoDbDaoContractTest extends DaoContract {
+
+    private static final String TABLE_PREFIX = "contract-";
+
+    @Container
+    static GenericContainer<?> dynamoDbLocal = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:2.5.2"))
+            .withExposedPorts(8000);
+
+    @BeforeAll
+    static void createTables() {
+        DynamoDbClient client = DynamoDbClient.builder()
+                .endpointOverride(URI.create("http://" + dynamoDbLocal.getHost() + ":" + dynamoDbLocal.getMappedPort(8000)))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .region(Region.US_EAST_1)
+                .build();
+        DynamoDbLocalTables.useTablePrefix(TABLE_PREFIX);
+        DynamoDbClientProvider.overrideClient(client);
+        DynamoDbLocalTables.createAll(client);
+    }
+
+    @AfterAll
+    static void resetClient() {
+        DynamoDbClientProvider.resetClient();
+    }
+
+    @Override
+    protected PlayerDao createPlayerDao() {
+        return new DynamoDbPlayerDao();
+    }
+
+    @Override
+    protected GameDao createGameDao() {
+        return new DynamoDbGameDao();
+    }
+
+    @Override
+    protected KillDao createKillDao(PlayerDao playerDao) {
+        return new DynamoDbKillDao(playerDao);
+    }
+
+    @Override
+    protected NotificationDao createNotificationDao() {
+        return new DynamoDbNotificationDao();
+    }
+
+    @Override
+    protected SafeZoneDao createSafeZoneDao() {
+        return new DynamoDbSafeZoneDao();
+    }
+
+    @Override
+    protected GameZoneStateDao createGameZoneStateDao() {
+        return new DynamoDbGameZoneStateDao();
+    }
+
+    @Override
+    protected RecentKillFeedDao createRecentKillFeedDao() {
+        return new DynamoDbRecentKillFeedDao();
+    }
+
+    @Override
+    protected GameEventDao createGameEventDao() {
+        return new DynamoDbGameEventDao();
+    }
+
+    @Override
+    protected GameRosterDao createGameRosterDao(PlayerDao playerDao) {
+        return new DynamoDbGameRosterDao(playerDao);
+    }
+}
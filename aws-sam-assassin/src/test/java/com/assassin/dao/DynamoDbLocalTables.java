@@ -0,0 +1,153 @@
+package com.assassin.dao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.config.MapConfiguration;
+import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
+import com.assassin.model.GameRoster;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Kill;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.model.SafeZone;
+import com.assassin.util.ServiceRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * Creates the DAOs' tables in DynamoDB Local, with keys and global secondary indexes taken from the
+ * shared table schemas so they cannot drift from what the DAOs query.
+ */
+public final class DynamoDbLocalTables {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbLocalTables.class);
+
+    private static final String[] TABLE_PROPERTIES = {
+            "PLAYERS_TABLE_NAME", "GAMES_TABLE_NAME", "KILLS_TABLE_NAME",
+            "NOTIFICATIONS_TABLE_NAME", "SAFE_ZONES_TABLE_NAME", "MAP_CONFIG_TABLE_NAME",
+            "RECENT_KILL_FEED_TABLE_NAME", "GAME_EVENTS_TABLE_NAME",
+            "GAME_ROSTERS_TABLE_NAME"
+    };
+
+    // Private constructor to prevent instantiation
+    private DynamoDbLocalTables() {}
+
+    /**
+     * Points the DAOs at tables named after a prefix, e.g. {@code sim-players}, through the system
+     * properties they read their table names from.
+     *
+     * @param prefix Table name prefix
+     */
+    public static void useTablePrefix(String prefix) {
+        for (String property : TABLE_PROPERTIES) {
+            System.setProperty(property, prefix + property.replace("_TABLE_NAME", "").toLowerCase());
+        }
+    }
+
+    /**
+     * Clears the table name properties set by {@link #useTablePrefix(String)}.
+     */
+    public static void clearTablePrefix() {
+        for (String property : TABLE_PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    /**
+     * Creates every DAO table and the map configuration table under their configured names.
+     *
+     * @param client Client for DynamoDB Local
+     */
+    public static void createAll(DynamoDbClient client) {
+        createTable(client, System.getProperty("PLAYERS_TABLE_NAME"), ServiceRegistry.tableSchema(Player.class),
+                "EmailIndex", "TargetIdIndex", "GameIdIndex", "KillCountIndex", "GameCellIndex");
+        createTable(client, System.getProperty("GAMES_TABLE_NAME"), ServiceRegistry.tableSchema(Game.class),
+                "StatusCreatedAtIndex");
+        createTable(client, System.getProperty("KILLS_TABLE_NAME"), ServiceRegistry.tableSchema(Kill.class),
+                "VictimID-Time-index", "GameID-Time-index", "StatusTimeIndex");
+        createTable(client, System.getProperty("NOTIFICATIONS_TABLE_NAME"), ServiceRegistry.tableSchema(Notification.class));
+        createTable(client, System.getProperty("SAFE_ZONES_TABLE_NAME"), ServiceRegistry.tableSchema(SafeZone.class),
+                "GameIdIndex");
+        createTable(client, System.getProperty("MAP_CONFIG_TABLE_NAME"), ServiceRegistry.tableSchema(MapConfiguration.class));
+        createTable(client, gameZoneStateTableName(), ServiceRegistry.tableSchema(GameZoneState.class));
+        createTable(client, System.getProperty("RECENT_KILL_FEED_TABLE_NAME"), ServiceRegistry.tableSchema(RecentKillFeed.class));
+        createTable(client, System.getProperty("GAME_EVENTS_TABLE_NAME"), ServiceRegistry.tableSchema(GameEvent.class));
+        createTable(client, System.getProperty("GAME_ROSTERS_TABLE_NAME"), ServiceRegistry.tableSchema(GameRoster.class));
+    }
+
+    /**
+     * @return The zone state table name; the zone state DAO only reads it from the environment
+     */
+    public static String gameZoneStateTableName() {
+        String tableName = System.getenv("GAME_ZONE_STATE_TABLE_NAME");
+        return tableName != null ? tableName : "dev-GameZoneState";
+    }
+
+    /**
+     * Creates one on-demand table and waits until it exists.
+     *
+     * @param client Client for DynamoDB Local
+     * @param tableName Table name
+     * @param schema Schema whose primary and index keys define the table
+     * @param indexNames Global secondary indexes to create, projecting all attributes
+     */
+    public static void createTable(DynamoDbClient client, String tableName, TableSchema<?> schema, String... indexNames) {
+        TableMetadata metadata = schema.tableMetadata();
+        Map<String, AttributeDefinition> attributes = new LinkedHashMap<>();
+        CreateTableRequest.Builder request = CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(keySchema(metadata, metadata.primaryPartitionKey(),
+                        metadata.primarySortKey().orElse(null), attributes))
+                .billingMode(BillingMode.PAY_PER_REQUEST);
+        if (indexNames.length > 0) {
+            List<GlobalSecondaryIndex> indexes = new ArrayList<>();
+            for (String indexName : indexNames) {
+                indexes.add(GlobalSecondaryIndex.builder()
+                        .indexName(indexName)
+                        .keySchema(keySchema(metadata, metadata.indexPartitionKey(indexName),
+                                metadata.indexSortKey(indexName).orElse(null), attributes))
+                        .projection(p -> p.projectionType(ProjectionType.ALL))
+                        .build());
+            }
+            request.globalSecondaryIndexes(indexes);
+        }
+        client.createTable(request.attributeDefinitions(attributes.values()).build());
+        client.waiter().waitUntilTableExists(b -> b.tableName(tableName));
+        logger.info("Created table {}", tableName);
+    }
+
+    private static List<KeySchemaElement> keySchema(TableMetadata metadata, String partitionKey, String sortKey,
+                                                    Map<String, AttributeDefinition> attributes) {
+        List<KeySchemaElement> keys = new ArrayList<>(2);
+        keys.add(KeySchemaElement.builder().attributeName(partitionKey).keyType(KeyType.HASH).build());
+        if (sortKey != null) {
+            keys.add(KeySchemaElement.builder().attributeName(sortKey).keyType(KeyType.RANGE).build());
+        }
+        for (KeySchemaElement key : keys) {
+            String name = key.attributeName();
+            attributes.computeIfAbsent(name, n -> AttributeDefinition.builder()
+                    .attributeName(n)
+                    .attributeType(metadata.scalarAttributeType(n).orElse(ScalarAttributeType.S))
+                    .build());
+        }
+        return keys;
+    }
+}
@@ -54,16 +54,10 @@ class DynamoDbNotificationDaoTest {
     void setUp() {
         // Mock the static client provider to return our mocked client
         // Use try-with-resources for MockedStatic
-        try (MockedStatic<DynamoDbClientProvider> mockedProvider = mockStatic(DynamoDbClientProvider.class);
-             MockedStatic<DynamoDbEnhancedClient> mockedEnhancedBuilder = mockStatic(DynamoDbEnhancedClient.class)) {
+        try (MockedStatic<DynamoDbClientProvider> mockedProvider = mockStatic(DynamoDbClientProvider.class)) {
             
-            mockedProvider.when(DynamoDbClientProvider::getClient).thenReturn(mockDynamoDbClient);
-            
-            // Mock the enhanced client builder chain
-            DynamoDbEnhancedClient.Builder mockBuilder = mock(DynamoDbEnhancedClient.Builder.class);
-            mockedEnhancedBuilder.when(DynamoDbEnhancedClient::builder).thenReturn(mockBuilder);
-            when(mockBuilder.dynamoDbClient(any(DynamoDbClient.class))).thenReturn(mockBuilder);
-            when(mockBuilder.build()).thenReturn(mockEnhancedClient);
+            // The DAO shares the provider's enhanced client rather than building its own
+            mockedProvider.when(DynamoDbClientProvider::getDynamoDbEnhancedClient).thenReturn(mockEnhancedClient);
 
             // Mock the table creation part
             when(mockEnhancedClient.table(anyString(), any(TableSchema.class))).thenReturn(mockNotificationTable);
@@ -0,0 +1,52 @@
+package com.assassin.dao;
+
+/**
+ * Runs the DAO contract against the in-memory DAOs, with fresh tables for every test.
+ */
+class InMemoryDaoContractTest extends DaoContract {
+
+    @Override
+    protected PlayerDao createPlayerDao() {
+        return new InMemoryPlayerDao();
+    }
+
+    @Override
+    protected GameDao createGameDao() {
+        return new InMemoryGameDao();
+    }
+
+    @Override
+    protected KillDao createKillDao(PlayerDao playerDao) {
+        return new InMemoryKillDao(playerDao);
+    }
+
+    @Override
+    protected NotificationDao createNotificationDao() {
+        return new InMemoryNotificationDao();
+    }
+
+    @Override
+    protected SafeZoneDao createSafeZoneDao() {
+        return new InMemorySafeZoneDao();
+    }
+
+    @Override
+    protected GameZoneStateDao createGameZoneStateDao() {
+        return new InMemoryGameZoneStateDao();
+    }
+
+    @Override
+    protected RecentKillFeedDao createRecentKillFeedDao() {
+        return new InMemoryRecentKillFeedDao();
+    }
+
+    @Override
+    protected GameEventDao createGameEventDao() {
+        return new InMemoryGameEventDao();
+    }
+
+    @Override
+    protected GameRosterDao createGameRosterDao(PlayerDao playerDao) {
+        return new InMemoryGameRosterDao(playerDao);
+    }
+}
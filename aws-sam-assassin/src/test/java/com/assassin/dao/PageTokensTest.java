@@ -0,0 +1,50 @@
+package com.assassin.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.assassin.exception.ValidationException;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PageTokensTest {
+
+    @Test
+    void testStringAndNumberKeysRoundTrip() {
+        Map<String, AttributeValue> key = Map.of(
+                "KillerID", AttributeValue.builder().s("player/1+2").build(),
+                "KillCount", AttributeValue.builder().n("42").build());
+
+        String token = PageTokens.encode(key);
+
+        assertFalse(token.contains("/") || token.contains("+") || token.contains("="), "Token must be URL-safe");
+        assertEquals(key, PageTokens.decode(token));
+    }
+
+    @Test
+    void testMissingKeyMeansNoToken() {
+        assertNull(PageTokens.encode(null));
+        assertNull(PageTokens.encode(Map.of()));
+        assertNull(PageTokens.decode(null));
+        assertNull(PageTokens.decode(""));
+    }
+
+    @Test
+    void testMalformedTokensAreRejected() {
+        assertThrows(ValidationException.class, () -> PageTokens.decode("not a token"));
+        assertThrows(ValidationException.class, () -> PageTokens.decode(encodeRaw("[1,2]")));
+        assertThrows(ValidationException.class, () -> PageTokens.decode(encodeRaw("{\"a\":{\"B\":\"x\"}}")));
+        assertThrows(ValidationException.class, () -> PageTokens.decode(encodeRaw("{\"a\":{\"N\":\"ten\"}}")));
+    }
+
+    private static String encodeRaw(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.assassin.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ReadCapacityLimiterTest {
+
+    private long nanos;
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private ReadCapacityLimiter limiter(double unitsPerSecond) {
+        // Sleeping moves the fake clock forward
+        return new ReadCapacityLimiter(unitsPerSecond, () -> nanos, sleepNanos -> {
+            sleeps.add(sleepNanos);
+            nanos += sleepNanos;
+        });
+    }
+
+    @Test
+    void testWaitsUntilConsumedCapacityIsPaidBack() throws InterruptedException {
+        ReadCapacityLimiter limiter = limiter(100);
+
+        limiter.acquire();
+        limiter.consume(50);
+        limiter.acquire();
+
+        assertEquals(List.of(500_000_000L), sleeps);
+        assertEquals(500_000_000L, nanos);
+    }
+
+    @Test
+    void testAverageRateMatchesTheBudget() throws InterruptedException {
+        ReadCapacityLimiter limiter = limiter(10);
+
+        for (int page = 0; page < 100; page++) {
+            limiter.acquire();
+            limiter.consume(2.5);
+        }
+
+        // 250 units at 10 per second; the first page is free
+        assertEquals(24.75, nanos / 1e9, 0.01);
+    }
+
+    @Test
+    void testIdleTimeBanksAtMostOneSecondOfCapacity() throws InterruptedException {
+        ReadCapacityLimiter limiter = limiter(10);
+
+        nanos += 60_000_000_000L;
+        limiter.consume(10);
+        limiter.acquire();
+        limiter.consume(5);
+        limiter.acquire();
+
+        assertEquals(List.of(500_000_000L), sleeps);
+    }
+
+    @Test
+    void testNoBudgetNeverWaits() throws InterruptedException {
+        ReadCapacityLimiter limiter = limiter(0);
+
+        limiter.consume(1_000_000);
+        limiter.acquire();
+
+        assertTrue(sleeps.isEmpty());
+    }
+}
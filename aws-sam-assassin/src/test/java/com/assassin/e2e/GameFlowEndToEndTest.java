@@ -32,6 +32,9 @@ import com.assassin.dao.DynamoDbGameDao;
 import com.assassin.dao.DynamoDbKillDao;
 import com.assassin.dao.DynamoDbPlayerDao;
 import com.assassin.dao.GameDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.InMemoryGameRosterDao;
+import com.assassin.dao.InMemoryRecentKillFeedDao;
 import com.assassin.dao.KillDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.handlers.KillHandler;
@@ -40,10 +43,15 @@ import com.assassin.integration.TestContext;
 import com.assassin.model.Game;
 import com.assassin.model.Kill;
 import com.assassin.model.Player;
+import com.assassin.service.GameEventService;
+import com.assassin.service.GameRosterService;
 import com.assassin.service.KillService;
 import com.assassin.service.NotificationService;
+import com.assassin.service.RecentKillFeedService;
+import com.assassin.service.SafeZoneService;
 import com.assassin.service.verification.VerificationManager;
 import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.TimeSource;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
@@ -102,6 +110,7 @@ public class GameFlowEndToEndTest {
     private PlayerHandler playerHandler;
     private KillHandler killHandler;
     private KillService killService;
+    private RecentKillFeedService recentKillFeedService;
     private Gson gson;
     private Context mockContext;
     
@@ -155,11 +164,16 @@ public class GameFlowEndToEndTest {
         gameDao = new DynamoDbGameDao();
         NotificationService notificationService = new NotificationService();
         VerificationManager verificationManager = new VerificationManager(playerDao, gameDao); // Use DAOs created above
-        // Instantiate KillService using the constructor that accepts the enhancedClient
-        killService = new KillService(killDao, playerDao, gameDao, notificationService, verificationManager, enhancedClient);
+        // Instantiate KillService with safe zones from the enhancedClient, in-memory recent-kill feeds and rosters,
+        // and an in-memory event sequence shared with the handler
+        recentKillFeedService = new RecentKillFeedService(new InMemoryRecentKillFeedDao(), TimeSource.system());
+        GameEventService gameEventService = new GameEventService(new InMemoryGameEventDao(), TimeSource.system());
+        killService = new KillService(killDao, playerDao, gameDao, notificationService, verificationManager,
+                new SafeZoneService(enhancedClient), TimeSource.system(), recentKillFeedService, gameEventService,
+                new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system()));
         
         playerHandler = new PlayerHandler(playerDao);
-        killHandler = new KillHandler(killService);
+        killHandler = new KillHandler(killService, gameEventService);
         
         // Initialize Gson and context
         gson = new GsonBuilder().setPrettyPrinting().create();
@@ -1287,6 +1301,7 @@ public class GameFlowEndToEndTest {
         oldKill.setVerificationMethod("GPS");
         oldKill.setKillStatusPartition("VERIFIED"); // Manually set partition key
         killDao.saveKill(oldKill);
+        recentKillFeedService.recordVerifiedKill(oldKill); // Saved directly, so not verified through the service
         
         // 2. A kill that happened very recently (should be first in recent results)
         Kill veryRecentKill = new Kill();
@@ -1299,6 +1314,7 @@ public class GameFlowEndToEndTest {
         veryRecentKill.setVerificationMethod("NFC");
         veryRecentKill.setKillStatusPartition("VERIFIED"); // Manually set partition key
         killDao.saveKill(veryRecentKill);
+        recentKillFeedService.recordVerifiedKill(veryRecentKill);
         
         // Create request context with auth
         APIGatewayProxyRequestEvent.ProxyRequestContext requestContext = new APIGatewayProxyRequestEvent.ProxyRequestContext();
@@ -25,6 +25,7 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Kill;
+import com.assassin.service.GameEventService;
 import com.assassin.service.KillService;
 import com.assassin.util.HandlerUtils;
 import com.google.gson.Gson;
@@ -41,6 +42,9 @@ public class KillHandlerTest {
     @Mock
     private KillService mockKillService;
     
+    @Mock
+    private GameEventService mockGameEventService;
+    
     @Mock
     private Context mockContext;
     
@@ -49,7 +53,7 @@ public class KillHandlerTest {
     
     @BeforeEach
     void setUp() {
-        killHandler = new KillHandler(mockKillService);
+        killHandler = new KillHandler(mockKillService, mockGameEventService);
         gson = new GsonBuilder().setPrettyPrinting().create();
     }
     
@@ -0,0 +1,135 @@
+package com.assassin.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.assassin.dao.InMemoryPlayerDao;
+import com.assassin.model.Player;
+import com.assassin.util.HandlerUtils;
+import com.assassin.util.JsonCodecs;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Tests for the paged GET /players endpoint, against the in-memory player table.
+ */
+class PlayerHandlerTest {
+
+    private static final int PLAYER_COUNT = 5;
+
+    private PlayerHandler playerHandler;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryPlayerDao playerDao = new InMemoryPlayerDao();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            Player player = new Player();
+            player.setPlayerID("player-" + i);
+            player.setPlayerName("Player " + i);
+            player.setEmail("player" + i + "@example.com");
+            player.setStatus("ACTIVE");
+            playerDao.savePlayer(player);
+        }
+        playerHandler = new PlayerHandler(playerDao);
+    }
+
+    @Test
+    void handleRequest_ListPlayers_FollowsNextPageTokenToTheLastPage() {
+        Set<String> playerIds = new HashSet<>();
+        String pageToken = null;
+        int pages = 0;
+        do {
+            Map<String, String> params = new HashMap<>();
+            params.put("limit", "2");
+            if (pageToken != null) {
+                params.put("pageToken", pageToken);
+            }
+            APIGatewayProxyResponseEvent response = listPlayers(params);
+
+            assertEquals(200, response.getStatusCode());
+            List<Player> page = JsonCodecs.gson().fromJson(response.getBody(), new TypeToken<List<Player>>() {}.getType());
+            assertTrue(page.size() <= 2);
+            page.forEach(player -> assertTrue(playerIds.add(player.getPlayerID()), "Player returned twice: " + player.getPlayerID()));
+            pageToken = response.getHeaders().get(HandlerUtils.NEXT_PAGE_TOKEN_HEADER);
+            pages++;
+        } while (pageToken != null && pages <= PLAYER_COUNT);
+
+        assertEquals(3, pages);
+        assertEquals(PLAYER_COUNT, playerIds.size());
+    }
+
+    @Test
+    void handleRequest_ListPlayers_SinglePageHasNoNextPageToken() {
+        APIGatewayProxyResponseEvent response = listPlayers(null);
+
+        assertEquals(200, response.getStatusCode());
+        assertNull(response.getHeaders().get(HandlerUtils.NEXT_PAGE_TOKEN_HEADER));
+        // CORS still lets browsers read the header on pages that carry it
+        assertEquals(HandlerUtils.NEXT_PAGE_TOKEN_HEADER, response.getHeaders().get("Access-Control-Expose-Headers"));
+        assertEquals(PLAYER_COUNT, JsonParser.parseString(response.getBody()).getAsJsonArray().size());
+    }
+
+    @Test
+    void handleRequest_ListPlayers_BodyMatchesSerializingTheWholeList() {
+        APIGatewayProxyResponseEvent response = listPlayers(Map.of("limit", "3"));
+
+        JsonArray body = JsonParser.parseString(response.getBody()).getAsJsonArray();
+        assertEquals(3, body.size());
+        List<Player> players = new ArrayList<>();
+        for (JsonElement element : body) {
+            players.add(JsonCodecs.gson().fromJson(element, Player.class));
+        }
+        assertEquals(JsonParser.parseString(JsonCodecs.gson().toJson(players)), body);
+        assertNotNull(response.getHeaders().get(HandlerUtils.NEXT_PAGE_TOKEN_HEADER));
+    }
+
+    @Test
+    void handleRequest_ListPlayers_LimitIsClampedToAtLeastOne() {
+        APIGatewayProxyResponseEvent response = listPlayers(Map.of("limit", "0"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(1, JsonParser.parseString(response.getBody()).getAsJsonArray().size());
+        assertNotNull(response.getHeaders().get(HandlerUtils.NEXT_PAGE_TOKEN_HEADER));
+    }
+
+    @Test
+    void handleRequest_ListPlayers_NonNumericLimitReturnsBadRequest() {
+        APIGatewayProxyResponseEvent response = listPlayers(Map.of("limit", "ten"));
+
+        assertEquals(400, response.getStatusCode());
+        assertTrue(response.getBody().contains("limit must be a number"));
+    }
+
+    @Test
+    void handleRequest_ListPlayers_InvalidPageTokenReturnsBadRequest() {
+        APIGatewayProxyResponseEvent response = listPlayers(Map.of("pageToken", "not-a-token!"));
+
+        assertEquals(400, response.getStatusCode());
+        assertTrue(response.getBody().contains("Invalid page token"));
+        assertFalse(response.getHeaders().containsKey(HandlerUtils.NEXT_PAGE_TOKEN_HEADER));
+    }
+
+    private APIGatewayProxyResponseEvent listPlayers(Map<String, String> queryParams) {
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withPath("/players")
+                .withHttpMethod("GET")
+                .withQueryStringParameters(queryParams);
+        return playerHandler.handleRequest(request, null);
+    }
+}
@@ -0,0 +1,239 @@
+package com.assassin.integration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * Smoke test for the native custom-runtime build ({@code mvn -Pnative verify}).
+ * <p>
+ * Runs target/bootstrap the way Lambda would: a minimal Runtime API served from this test hands it one
+ * event and collects the response, while the handlers talk to DynamoDB Local. Skipped when the native
+ * executable has not been built or Docker is unavailable.
+ */
+@Tag("native")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NativeBootstrapSmokeTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(NativeBootstrapSmokeTest.class);
+    private static final Path BOOTSTRAP = Paths.get("target", "bootstrap");
+    private static final String PLAYERS_TABLE = "native-players";
+    private static final String CONNECTIONS_TABLE = "native-connections";
+    private static final String RUNTIME_API_PREFIX = "/2018-06-01/runtime/invocation/";
+
+    @Container
+    static GenericContainer<?> dynamoDbLocal = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:2.5.2"))
+            .withExposedPorts(8000);
+
+    private String endpoint;
+    private DynamoDbClient ddbClient;
+    private HttpServer runtimeApi;
+    private Process bootstrap;
+
+    // State of the single invocation served per test
+    private volatile String pendingEvent;
+    private volatile CountDownLatch nextRequested;
+    private volatile CountDownLatch testFinished;
+    private volatile CompletableFuture<String> invocationResult;
+
+    @BeforeAll
+    void setup() {
+        assumeTrue(Files.isExecutable(BOOTSTRAP), "Native executable not built; run mvn -Pnative package first");
+
+        endpoint = "http://" + dynamoDbLocal.getHost() + ":" + dynamoDbLocal.getMappedPort(8000);
+        ddbClient = DynamoDbClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .region(Region.US_EAST_1)
+                .build();
+        createTable(PLAYERS_TABLE, "PlayerID");
+        createTable(CONNECTIONS_TABLE, "connectionId");
+    }
+
+    @AfterEach
+    void stopBootstrap() {
+        if (testFinished != null) {
+            testFinished.countDown();
+        }
+        if (bootstrap != null) {
+            bootstrap.destroyForcibly();
+        }
+        if (runtimeApi != null) {
+            runtimeApi.stop(0);
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (ddbClient != null) {
+            ddbClient.close();
+        }
+    }
+
+    @Test
+    void testLocationHandlerReadsPlayerTableNatively() throws Exception {
+        String event = "{\"httpMethod\":\"POST\",\"path\":\"/location\","
+                + "\"body\":\"{\\\"latitude\\\":37.78,\\\"longitude\\\":-122.41}\","
+                + "\"requestContext\":{\"authorizer\":{\"claims\":{\"sub\":\"unknown-player\"}}}}";
+
+        JsonObject response = invoke("com.assassin.handlers.LocationHandler::handleRequest", event);
+
+        // A 404 proves the GetItem round trip through the enhanced client and static schema worked
+        assertEquals(404, response.get("statusCode").getAsInt(), "Unexpected response: " + response);
+    }
+
+    @Test
+    void testConnectHandlerWritesConnectionNatively() throws Exception {
+        String event = "{\"requestContext\":{\"connectionId\":\"native-conn-1\"},"
+                + "\"queryStringParameters\":{\"playerId\":\"native-player-1\"}}";
+
+        JsonObject response = invoke("com.assassin.handlers.websocket.ConnectHandler::handleRequest", event);
+
+        assertEquals(200, response.get("statusCode").getAsInt(), "Unexpected response: " + response);
+        Map<String, AttributeValue> item = ddbClient.getItem(GetItemRequest.builder()
+                .tableName(CONNECTIONS_TABLE)
+                .key(Map.of("connectionId", AttributeValue.builder().s("native-conn-1").build()))
+                .build()).item();
+        assertEquals("native-player-1", item.get("playerId").s());
+    }
+
+    // Starts the native bootstrap for one handler, serves it the event and returns the parsed response
+    private JsonObject invoke(String handler, String event) throws Exception {
+        pendingEvent = event;
+        nextRequested = new CountDownLatch(1);
+        testFinished = new CountDownLatch(1);
+        invocationResult = new CompletableFuture<>();
+        startRuntimeApi();
+
+        ProcessBuilder builder = new ProcessBuilder(BOOTSTRAP.toAbsolutePath().toString()).inheritIO();
+        Map<String, String> env = builder.environment();
+        env.put("_HANDLER", handler);
+        env.put("AWS_LAMBDA_RUNTIME_API", "localhost:" + runtimeApi.getAddress().getPort());
+        env.put("AWS_REGION", "us-east-1");
+        env.put("AWS_ACCESS_KEY_ID", "local");
+        env.put("AWS_SECRET_ACCESS_KEY", "local");
+        env.put("DYNAMODB_ENDPOINT_OVERRIDE", endpoint);
+        env.put("PLAYERS_TABLE_NAME", PLAYERS_TABLE);
+        env.put("GAMES_TABLE_NAME", "native-games");
+        env.put("KILLS_TABLE_NAME", "native-kills");
+        env.put("SAFE_ZONES_TABLE_NAME", "native-safe-zones");
+        env.put("CONNECTIONS_TABLE_NAME", CONNECTIONS_TABLE);
+
+        long start = System.nanoTime();
+        bootstrap = builder.start();
+        assertTrue(nextRequested.await(10, TimeUnit.SECONDS), "Bootstrap never asked for an invocation");
+        long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        String body = invocationResult.get(30, TimeUnit.SECONDS);
+        logger.info("{} native startup {} ms, response {}", handler, startupMillis, body);
+        return JsonParser.parseString(body).getAsJsonObject();
+    }
+
+    // Just enough of the Lambda Runtime API for one invocation; later "next" calls block until the test ends
+    private void startRuntimeApi() throws IOException {
+        runtimeApi = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        runtimeApi.createContext("/2018-06-01/runtime/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(RUNTIME_API_PREFIX + "next")) {
+                if (nextRequested.getCount() == 0) {
+                    awaitTestFinished();
+                    exchange.close();
+                    return;
+                }
+                nextRequested.countDown();
+                Map<String, String> headers = new HashMap<>();
+                headers.put("Lambda-Runtime-Aws-Request-Id", "native-smoke-1");
+                headers.put("Lambda-Runtime-Deadline-Ms", String.valueOf(System.currentTimeMillis() + 30_000));
+                headers.put("Lambda-Runtime-Invoked-Function-Arn", "arn:aws:lambda:us-east-1:000000000000:function:native-smoke");
+                respond(exchange, 200, headers, pendingEvent);
+            } else if (path.endsWith("/response")) {
+                invocationResult.complete(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                respond(exchange, 202, Map.of(), "");
+            } else {
+                // invocation/{id}/error or init/error
+                invocationResult.completeExceptionally(new AssertionError("Runtime reported an error at " + path + ": "
+                        + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+                respond(exchange, 202, Map.of(), "");
+            }
+        });
+        // Handlers run off the dispatcher thread so a parked "next" call cannot block stop()
+        runtimeApi.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "runtime-api");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        runtimeApi.start();
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, String> headers, String body) throws IOException {
+        headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void awaitTestFinished() {
+        try {
+            testFinished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void createTable(String tableName, String hashKey) {
+        ddbClient.createTable(CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(KeySchemaElement.builder().attributeName(hashKey).keyType(KeyType.HASH).build())
+                .attributeDefinitions(AttributeDefinition.builder().attributeName(hashKey).attributeType(ScalarAttributeType.S).build())
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package com.assassin.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.assassin.dao.DaoAccounting;
+import com.assassin.dao.PlayerDao;
+import com.assassin.model.Player;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrEventsTest {
+
+    @AfterEach
+    void tearDown() {
+        JfrEvents.setEnabled(false);
+    }
+
+    @Test
+    void testDisabledEventsAreNeverCreated() {
+        JfrEvents.setEnabled(false);
+
+        JfrEvents.ZoneTick event = JfrEvents.begin(JfrEvents.ZoneTick::new);
+
+        assertNull(event);
+        assertFalse(JfrEvents.shouldCommit(event));
+    }
+
+    @Test
+    void testRecordingCapturesGameAndDaoEvents() throws Exception {
+        JfrEvents.setEnabled(true);
+        PlayerDao delegate = mock(PlayerDao.class);
+        when(delegate.getPlayersByGameId("g1")).thenReturn(List.of(new Player(), new Player()));
+        PlayerDao playerDao = DaoAccounting.wrap(PlayerDao.class, delegate);
+
+        Path file = Files.createTempFile("game-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.assassin.ZoneTick");
+            recording.enable("com.assassin.DaoCall");
+            recording.start();
+
+            JfrEvents.ZoneTick event = JfrEvents.begin(JfrEvents.ZoneTick::new);
+            try (DaoAccounting.Scope scope = DaoAccounting.begin("jfr")) {
+                playerDao.getPlayersByGameId("g1");
+            }
+            if (JfrEvents.shouldCommit(event)) {
+                event.gameId = "g1";
+                event.playerCount = 2;
+                event.zoneActive = true;
+                event.commit();
+            }
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<RecordedEvent> ticks = named(events, "com.assassin.ZoneTick");
+            List<RecordedEvent> daoCalls = named(events, "com.assassin.DaoCall");
+            assertEquals(1, ticks.size());
+            assertEquals("g1", ticks.get(0).getString("gameId"));
+            assertEquals(2, ticks.get(0).getInt("playerCount"));
+            assertTrue(ticks.get(0).getBoolean("zoneActive"));
+            assertFalse(ticks.get(0).getDuration().isNegative());
+
+            assertEquals(1, daoCalls.size());
+            assertEquals("PlayerDao.getPlayersByGameId", daoCalls.get(0).getString("operation"));
+            assertEquals(2, daoCalls.get(0).getInt("items"));
+            assertFalse(daoCalls.get(0).getBoolean("write"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+package com.assassin.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsAreContiguousAndNarrow() {
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+            long lower = LatencyHistogram.bucketLowerBound(i);
+            long upper = LatencyHistogram.bucketUpperBound(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(lower), "lower bound of bucket " + i);
+            assertEquals(i, LatencyHistogram.bucketIndex(upper - 1), "last value of bucket " + i);
+            assertEquals(upper, LatencyHistogram.bucketLowerBound(i + 1));
+            assertTrue(upper - lower <= Math.max(1, lower / 32), "bucket " + i + " is wider than 1/32");
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(100_000L * 100_001 / 2, snapshot.getSum());
+        assertWithin(50_000, snapshot.getPercentile(50));
+        assertWithin(99_000, snapshot.getPercentile(99));
+        assertWithin(99_900, snapshot.getPercentile(99.9));
+        assertEquals(100_000, snapshot.getPercentile(100));
+    }
+
+    @Test
+    void testSnapshotResetsTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(250);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot first = histogram.snapshotAndReset();
+        LatencyHistogram.Snapshot second = histogram.snapshotAndReset();
+
+        assertEquals(2, first.getCount());
+        assertEquals(0, first.getMin());
+        assertEquals(0, second.getCount());
+        assertEquals(0, second.getPercentile(99));
+        assertEquals(0, second.getMax());
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNothing() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        long taken = 0;
+        try {
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50_000; i++) {
+                        histogram.record(random.nextInt(1_000_000));
+                    }
+                }));
+            }
+            // Flushing while recorders run must neither lose nor double-count values
+            while (!futures.stream().allMatch(Future::isDone)) {
+                taken += histogram.snapshotAndReset().getCount();
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        taken += histogram.snapshotAndReset().getCount();
+
+        assertEquals(200_000, taken);
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32 + 1,
+                "expected about " + expected + " but was " + actual);
+    }
+}
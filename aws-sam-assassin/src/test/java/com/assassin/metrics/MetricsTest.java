@@ -0,0 +1,205 @@
+package com.assassin.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.assassin.util.HandlerUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Checks the EMF lines by parsing them the way CloudWatch does: the {@code _aws} metadata declares which
+ * top-level fields are metrics and which are dimensions.
+ */
+class MetricsTest {
+
+    private final List<String> lines = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.reset();
+        Metrics.setSink(lines::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setSink(null);
+        Metrics.reset();
+    }
+
+    @Test
+    void testFlushWritesOneEmfLinePerOperation() {
+        Metrics.recordLatency("LocationService.updatePlayerLocation", TimeUnit.MILLISECONDS.toNanos(12));
+        Metrics.recordLatency("LocationService.updatePlayerLocation", TimeUnit.MILLISECONDS.toNanos(12));
+        Metrics.recordLatency("LocationService.updatePlayerLocation", TimeUnit.MILLISECONDS.toNanos(40));
+        Metrics.recordFault("LocationService.updatePlayerLocation");
+
+        assertEquals(1, Metrics.flush());
+
+        JsonObject line = JsonParser.parseString(lines.get(0)).getAsJsonObject();
+        JsonObject directive = line.getAsJsonObject("_aws").getAsJsonArray("CloudWatchMetrics").get(0).getAsJsonObject();
+        assertEquals(Metrics.DEFAULT_NAMESPACE, directive.get("Namespace").getAsString());
+        assertEquals("Operation", directive.getAsJsonArray("Dimensions").get(0).getAsJsonArray().get(0).getAsString());
+        assertTrue(line.getAsJsonObject("_aws").get("Timestamp").getAsLong() > 0);
+        assertEquals("LocationService.updatePlayerLocation", line.get("Operation").getAsString());
+        assertDeclaredMetricsArePresent(line, directive);
+
+        JsonObject latency = line.getAsJsonObject("Latency");
+        JsonArray values = latency.getAsJsonArray("Values");
+        JsonArray counts = latency.getAsJsonArray("Counts");
+        assertEquals(2, values.size());
+        assertEquals(2, counts.get(0).getAsLong());
+        assertEquals(12.0, values.get(0).getAsDouble(), 12.0 / 32);
+        assertEquals(40.0, values.get(1).getAsDouble(), 40.0 / 32);
+        assertEquals(3, latency.get("Count").getAsLong());
+        assertEquals(12.0, latency.get("Min").getAsDouble());
+        assertEquals(40.0, latency.get("Max").getAsDouble());
+        assertEquals(64.0, latency.get("Sum").getAsDouble());
+        assertEquals(1, line.get("Faults").getAsLong());
+        assertEquals(0, line.get("Errors").getAsLong());
+    }
+
+    @Test
+    void testFlushPublishesOnlyWhatWasRecordedSinceTheLastFlush() {
+        Metrics.recordLatency("PlayerDao.getPlayerById", 1_000);
+        Metrics.flush();
+        lines.clear();
+
+        assertEquals(0, Metrics.flush());
+
+        Metrics.recordError("PlayerHandler.GET_PLAYER");
+        Metrics.flush();
+        JsonObject line = JsonParser.parseString(lines.get(0)).getAsJsonObject();
+        assertEquals("PlayerHandler.GET_PLAYER", line.get("Operation").getAsString());
+        assertFalse(line.has("Latency"));
+        assertDeclaredMetricsArePresent(line, metricDirective(line));
+    }
+
+    @Test
+    void testWideDistributionsAreSplitAcrossLines() {
+        // 0-249 us fill 127 buckets, more than one line can carry
+        for (long micros = 0; micros < 250; micros++) {
+            Metrics.recordLatency("ShrinkingZoneService.advanceZoneState", TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(2, Metrics.flush());
+
+        long total = 0;
+        for (String text : lines) {
+            JsonObject line = JsonParser.parseString(text).getAsJsonObject();
+            JsonObject latency = line.getAsJsonObject("Latency");
+            assertTrue(latency.getAsJsonArray("Values").size() <= Metrics.MAX_VALUES_PER_LINE);
+            assertDeclaredMetricsArePresent(line, metricDirective(line));
+            total += latency.get("Count").getAsLong();
+        }
+        assertEquals(250, total);
+    }
+
+    @Test
+    void testCacheHitRatio() {
+        Metrics.CacheCounter cache = Metrics.cache("MapConfiguration");
+        cache.hit();
+        cache.hit();
+        cache.hit();
+        cache.record(false);
+
+        Metrics.flush();
+
+        JsonObject line = JsonParser.parseString(lines.get(0)).getAsJsonObject();
+        assertEquals("MapConfiguration", line.get("Cache").getAsString());
+        assertEquals(3, line.get("Hits").getAsLong());
+        assertEquals(1, line.get("Misses").getAsLong());
+        assertEquals(75.0, line.get("HitRatio").getAsDouble());
+        assertDeclaredMetricsArePresent(line, metricDirective(line));
+    }
+
+    @Test
+    void testGaugesArePublishedAtEveryFlushUntilReset() {
+        long[] trackedGames = {3};
+        Metrics.gauge("GeofenceTrackedGames", () -> trackedGames[0]);
+
+        assertEquals(1, Metrics.flush());
+        trackedGames[0] = 1;
+        assertEquals(1, Metrics.flush());
+
+        JsonObject line = JsonParser.parseString(lines.get(1)).getAsJsonObject();
+        assertEquals("GeofenceTrackedGames", line.get("Gauge").getAsString());
+        assertEquals(1, line.get("Value").getAsLong());
+        assertDeclaredMetricsArePresent(line, metricDirective(line));
+        assertEquals(3, JsonParser.parseString(lines.get(0)).getAsJsonObject().get("Value").getAsLong());
+
+        Metrics.reset();
+        assertEquals(0, Metrics.flush());
+    }
+
+    @Test
+    void testHandlerInvocationIsRecordedUnderItsRoute() {
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath("/players/p1");
+
+        HandlerUtils.invoke("PlayerHandler", request, () -> HandlerUtils.createApiResponse(404, null));
+
+        JsonObject line = findOperation("PlayerHandler.GET_PLAYER");
+        assertNotNull(line, "expected a line for the route in " + lines);
+        assertEquals(1, line.getAsJsonObject("Latency").get("Count").getAsLong());
+        assertEquals(1, line.get("Errors").getAsLong());
+        assertEquals(0, line.get("Faults").getAsLong());
+    }
+
+    @Test
+    void testHandlerExceptionsCountAsFaults() {
+        APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath("/no/such/route");
+
+        assertThrows(IllegalStateException.class, () -> HandlerUtils.invoke("PlayerHandler", request,
+                () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        JsonObject line = findOperation("PlayerHandler.UNMATCHED");
+        assertNotNull(line, "expected a line for unmatched paths in " + lines);
+        assertEquals(1, line.get("Faults").getAsLong());
+    }
+
+    private JsonObject findOperation(String operation) {
+        for (String text : lines) {
+            JsonObject line = JsonParser.parseString(text).getAsJsonObject();
+            if (line.has("Operation") && operation.equals(line.get("Operation").getAsString())) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static JsonObject metricDirective(JsonObject line) {
+        return line.getAsJsonObject("_aws").getAsJsonArray("CloudWatchMetrics").get(0).getAsJsonObject();
+    }
+
+    // CloudWatch rejects a line whose declared metrics or dimensions are missing from it
+    private static void assertDeclaredMetricsArePresent(JsonObject line, JsonObject directive) {
+        for (JsonElement metric : directive.getAsJsonArray("Metrics")) {
+            String name = metric.getAsJsonObject().get("Name").getAsString();
+            assertTrue(line.has(name), "declared metric " + name + " missing from " + line);
+        }
+        for (JsonElement dimensionSet : directive.getAsJsonArray("Dimensions")) {
+            for (JsonElement dimension : dimensionSet.getAsJsonArray()) {
+                assertTrue(line.has(dimension.getAsString()), "dimension missing from " + line);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.assassin.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the alive set and status counts behind the win check.
+ */
+class GameRosterTest {
+
+    @Test
+    void testRosterCountsPlayersByStatus() {
+        GameRoster roster = GameRoster.of("game-1", List.of(
+                player("p1", "ACTIVE"), player("p2", "active"), player("p3", "DEAD"), player("p4", null)));
+
+        assertEquals(2, roster.getAliveCount());
+        assertEquals(List.of("p1", "p2"), roster.getAlivePlayerIds());
+        assertEquals(Map.of("ACTIVE", 2, "DEAD", 1, "PENDING", 1), roster.getStatusCounts());
+    }
+
+    @Test
+    void testEliminationIsCountedOnce() {
+        GameRoster roster = GameRoster.of("game-1", List.of(player("p1", "ACTIVE"), player("p2", "ACTIVE"), player("p3", "ACTIVE")));
+
+        assertTrue(roster.applyStatusChange("p1", "ACTIVE", "DEAD"));
+        assertFalse(roster.applyStatusChange("p1", "ACTIVE", "DEAD"));
+        assertFalse(roster.applyStatusChange("p2", "DEAD", "DEAD"));
+
+        assertEquals(2, roster.getAliveCount());
+        assertFalse(roster.isAlive("p1"));
+        assertEquals(Map.of("ACTIVE", 2, "DEAD", 1), roster.getStatusCounts());
+    }
+
+    @Test
+    void testLastPlayerStandingOnlyWhenOneIsLeft() {
+        GameRoster roster = GameRoster.of("game-1", List.of(player("p1", "ACTIVE"), player("p2", "ACTIVE"), player("p3", "ACTIVE")));
+
+        roster.applyStatusChange("p1", "ACTIVE", "DEAD");
+        assertEquals(Optional.empty(), roster.lastPlayerStanding());
+
+        roster.applyStatusChange("p3", "ACTIVE", "DEAD");
+        assertEquals(Optional.of("p2"), roster.lastPlayerStanding());
+
+        roster.applyStatusChange("p2", "ACTIVE", "DEAD");
+        assertEquals(Optional.empty(), roster.lastPlayerStanding());
+        assertEquals(0, roster.getAliveCount());
+    }
+
+    @Test
+    void testRevivedPlayerIsAliveAgain() {
+        GameRoster roster = GameRoster.of("game-1", List.of(player("p1", "ACTIVE"), player("p2", "DEAD")));
+
+        assertTrue(roster.applyStatusChange("p2", "DEAD", "ACTIVE"));
+        assertFalse(roster.applyStatusChange("p2", "PENDING", "ACTIVE"));
+
+        assertEquals(2, roster.getAliveCount());
+        assertEquals(Map.of("ACTIVE", 2), roster.getStatusCounts());
+    }
+
+    private static Player player(String playerId, String status) {
+        Player player = new Player();
+        player.setPlayerID(playerId);
+        player.setGameID("game-1");
+        player.setStatus(status);
+        return player;
+    }
+}
@@ -0,0 +1,64 @@
+package com.assassin.model;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the ring buffer behind the recent-kill feeds.
+ */
+class RecentKillFeedTest {
+
+    @Test
+    void testNewestKillsComeFirst() {
+        RecentKillFeed feed = new RecentKillFeed("game-1");
+        feed.add(entry("killer-1", "2030-01-01T00:00:01Z"));
+        feed.add(entry("killer-2", "2030-01-01T00:00:03Z"));
+        feed.add(entry("killer-3", "2030-01-01T00:00:02Z"));
+
+        assertEquals(List.of("2030-01-01T00:00:03Z", "2030-01-01T00:00:02Z"), times(feed.newestFirst(2)));
+        assertEquals(3, feed.newestFirst(10).size());
+        assertTrue(feed.newestFirst(0).isEmpty());
+    }
+
+    @Test
+    void testSameKillIsAddedOnce() {
+        RecentKillFeed feed = new RecentKillFeed("game-1");
+
+        assertTrue(feed.add(entry("killer-1", "2030-01-01T00:00:01Z")));
+        assertFalse(feed.add(entry("killer-1", "2030-01-01T00:00:01Z")));
+        assertTrue(feed.add(entry("killer-1", "2030-01-01T00:00:02Z")));
+        assertEquals(2, feed.getEntries().size());
+    }
+
+    @Test
+    void testFullFeedOverwritesTheKillAddedLongestAgo() {
+        RecentKillFeed feed = new RecentKillFeed(RecentKillFeed.GLOBAL_FEED_ID);
+        int added = RecentKillFeed.CAPACITY + 3;
+        for (int i = 0; i < added; i++) {
+            feed.add(entry("killer-" + i, String.format("2030-01-01T00:%02d:%02dZ", i / 60, i % 60)));
+        }
+
+        assertEquals(RecentKillFeed.CAPACITY, feed.getEntries().size());
+        assertEquals(3, feed.getHead());
+        List<KillFeedEntry> newest = feed.newestFirst(RecentKillFeed.CAPACITY);
+        assertEquals("killer-" + (added - 1), newest.get(0).getKillerID());
+        assertEquals("killer-3", newest.get(RecentKillFeed.CAPACITY - 1).getKillerID());
+    }
+
+    private static KillFeedEntry entry(String killerId, String time) {
+        Kill kill = new Kill();
+        kill.setKillerID(killerId);
+        kill.setVictimID("victim-of-" + killerId);
+        kill.setTime(time);
+        return KillFeedEntry.from(kill);
+    }
+
+    private static List<String> times(List<KillFeedEntry> entries) {
+        return entries.stream().map(KillFeedEntry::getTime).collect(Collectors.toList());
+    }
+}
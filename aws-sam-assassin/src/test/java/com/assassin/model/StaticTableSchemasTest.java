@@ -0,0 +1,235 @@
+package com.assassin.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.IndexMetadata;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Checks that every hand-built schema maps items exactly like the bean schema derived from the annotations.
+ */
+public class StaticTableSchemasTest {
+
+    @Test
+    public void testPlayerSchemaMatchesBeanSchema() {
+        Player player = new Player();
+        player.setPlayerID("p1");
+        player.setEmail("p1@example.com");
+        player.setPlayerName("Player One");
+        player.setTargetID("p2");
+        player.setTargetName("Player Two");
+        player.setTargetSecret("ts");
+        player.setSecret("s");
+        player.setLastWill("Avenge me");
+        player.setGameID("g1");
+        player.setStatus("ACTIVE");
+        player.setKillCount(3);
+        player.setVersion(7L);
+        player.setPasswordHash("hash");
+        player.setActive(true);
+        player.setNfcTagId("nfc");
+        player.setLatitude(37.77);
+        player.setLongitude(-122.41);
+        player.setLocationTimestamp("2024-01-01T00:00:00Z");
+        player.setLocationAccuracy(5.0);
+        player.setGameCellKey("g1#9q8yyk");
+        player.setFirstEnteredOutOfZoneTimestamp("2024-01-01T00:01:00Z");
+        player.setLastZoneDamageTimestamp("2024-01-01T00:02:00Z");
+
+        assertEquivalent(Player.class, player);
+        assertEquivalent(Player.class, new Player());
+    }
+
+    @Test
+    public void testGameSchemaMatchesBeanSchema() {
+        Game game = new Game();
+        game.setGameID("g1");
+        game.setGameName("Test Game");
+        game.setStatus(GameStatus.ACTIVE.name());
+        game.setCreatedAt("2024-01-01T00:00:00Z");
+        game.setPlayerIDs(List.of("p1", "p2"));
+        game.setAdminPlayerID("p1");
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("mode", "classic");
+        settings.put("maxPlayers", 20L);
+        settings.put("friendlyFire", false);
+        game.setSettings(settings);
+        game.setBoundary(List.of(new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(1, 1)));
+        game.setShrinkingZoneEnabled(true);
+        game.setMapId("map-1");
+        game.setStartTimeEpochMillis(1_700_000_000_000L);
+
+        assertEquivalent(Game.class, game);
+        assertEquivalent(Game.class, new Game());
+    }
+
+    @Test
+    public void testKillSchemaMatchesBeanSchema() {
+        Kill kill = new Kill();
+        kill.setKillerID("p1");
+        kill.setTime("2024-01-01T00:00:00Z");
+        kill.setVictimID("p2");
+        kill.setLatitude(37.77);
+        kill.setLongitude(-122.41);
+        kill.setLastWill("Avenge me");
+        kill.setDeathConfirmed(true);
+        kill.setVerificationMethod("NFC");
+        kill.setVerificationStatus("VERIFIED");
+        kill.setVerificationData(Map.of("nfcTagId", "nfc"));
+        kill.setVerificationNotes("ok");
+        kill.setGameId("g1");
+        kill.setKillStatusPartition("VERIFIED");
+
+        assertEquivalent(Kill.class, kill);
+        assertEquivalent(Kill.class, new Kill());
+    }
+
+    @Test
+    public void testNotificationSchemaMatchesBeanSchema() {
+        Notification notification = new Notification("p1", "KILL_VERIFIED", "You were eliminated", Map.of("killerId", "p2"));
+        notification.setNotificationId("n1");
+        notification.setGameId("g1");
+        notification.setTitle("Eliminated");
+        notification.setRead(true);
+
+        assertEquivalent(Notification.class, notification);
+    }
+
+    @Test
+    public void testSafeZoneSchemaMatchesBeanSchema() {
+        SafeZone safeZone = new SafeZone();
+        safeZone.setSafeZoneId("sz1");
+        safeZone.setGameId("g1");
+        safeZone.setName("Library");
+        safeZone.setCenter(new Coordinate(37.77, -122.41));
+        safeZone.setRadiusMeters(50.0);
+        safeZone.setType("PUBLIC");
+        safeZone.setCreatedAt("2024-01-01T00:00:00Z");
+        safeZone.setExpiresAt("2024-01-02T00:00:00Z");
+
+        assertEquivalent(SafeZone.class, safeZone);
+        assertEquivalent(SafeZone.class, new SafeZone());
+    }
+
+    @Test
+    public void testGameZoneStateSchemaMatchesBeanSchema() {
+        GameZoneState state = new GameZoneState();
+        state.setGameId("g1");
+        state.setCurrentStageIndex(2);
+        state.setCurrentPhase(GameZoneState.ZonePhase.SHRINKING);
+        state.setPhaseEndTime("2024-01-01T00:05:00Z");
+        state.setCurrentRadiusMeters(500.0);
+        state.setCurrentCenter(new Coordinate(37.77, -122.41));
+        state.setLastUpdated("2024-01-01T00:00:00Z");
+        state.setNextRadiusMeters(250.0);
+        state.setTargetCenterLatitude(37.78);
+        state.setTargetCenterLongitude(-122.42);
+        state.setStageStartTimeEpochMillis(1_700_000_000_000L);
+        state.setNextShrinkTimeEpochMillis(1_700_000_300_000L);
+        state.setLastUpdateTimeEpochMillis(1_700_000_010_000L);
+
+        assertEquivalent(GameZoneState.class, state);
+        assertEquivalent(GameZoneState.class, new GameZoneState());
+    }
+
+    @Test
+    public void testWebSocketConnectionSchemaMatchesBeanSchema() {
+        WebSocketConnection connection = new WebSocketConnection();
+        connection.setConnectionId("c1");
+        connection.setPlayerId("p1");
+
+        assertEquivalent(WebSocketConnection.class, connection);
+    }
+
+    @Test
+    public void testRecentKillFeedSchemaMatchesBeanSchema() {
+        Kill kill = new Kill();
+        kill.setKillerID("p1");
+        kill.setVictimID("p2");
+        kill.setGameId("g1");
+        kill.setTime("2024-01-01T00:00:00Z");
+        kill.setVerificationMethod("GPS");
+        kill.setLatitude(37.77);
+        kill.setLongitude(-122.41);
+        RecentKillFeed feed = new RecentKillFeed("g1");
+        feed.add(KillFeedEntry.from(kill));
+        feed.add(new KillFeedEntry());
+        feed.setVersion(3L);
+        feed.setLastUpdated("2024-01-01T00:00:01Z");
+
+        assertEquivalent(RecentKillFeed.class, feed);
+        assertEquivalent(RecentKillFeed.class, new RecentKillFeed());
+    }
+
+    @Test
+    public void testGameEventSchemaMatchesBeanSchema() {
+        GameEvent event = new GameEvent("g1", 7L, GameEvent.Type.PLAYER_ELIMINATED, "2024-01-01T00:00:00Z",
+                Map.of("playerId", "p2", "cause", "ZONE"));
+
+        assertEquivalent(GameEvent.class, event);
+        assertEquivalent(GameEvent.class, new GameEvent());
+    }
+
+    @Test
+    public void testGameRosterSchemaMatchesBeanSchema() {
+        Player alive = new Player();
+        alive.setPlayerID("p1");
+        alive.setStatus("ACTIVE");
+        Player dead = new Player();
+        dead.setPlayerID("p2");
+        dead.setStatus("DEAD");
+        GameRoster roster = GameRoster.of("g1", List.of(alive, dead));
+        roster.setVersion(2L);
+        roster.setLastUpdated("2024-01-01T00:00:00Z");
+
+        assertEquivalent(GameRoster.class, roster);
+        assertEquivalent(GameRoster.class, new GameRoster());
+    }
+
+    @Test
+    public void testForClassReturnsNullForUnknownClass() {
+        assertNull(StaticTableSchemas.forClass(Coordinate.class));
+    }
+
+    private static <T> void assertEquivalent(Class<T> type, T sample) {
+        TableSchema<T> beanSchema = TableSchema.fromBean(type);
+        TableSchema<T> staticSchema = StaticTableSchemas.forClass(type);
+        assertNotNull(staticSchema, "No static schema for " + type.getSimpleName());
+
+        assertEquals(new HashSet<>(beanSchema.attributeNames()), new HashSet<>(staticSchema.attributeNames()),
+                "Attribute names differ for " + type.getSimpleName());
+
+        TableMetadata beanMetadata = beanSchema.tableMetadata();
+        TableMetadata staticMetadata = staticSchema.tableMetadata();
+        Set<String> indexNames = indexNames(beanMetadata);
+        assertEquals(indexNames, indexNames(staticMetadata), "Indexes differ for " + type.getSimpleName());
+        for (String indexName : indexNames) {
+            assertEquals(beanMetadata.indexPartitionKey(indexName), staticMetadata.indexPartitionKey(indexName),
+                    "Partition key differs for " + type.getSimpleName() + " index " + indexName);
+            assertEquals(beanMetadata.indexSortKey(indexName), staticMetadata.indexSortKey(indexName),
+                    "Sort key differs for " + type.getSimpleName() + " index " + indexName);
+        }
+
+        // Same item must serialize identically, and deserializing it must lose nothing
+        Map<String, AttributeValue> beanItem = beanSchema.itemToMap(sample, false);
+        assertEquals(beanItem, staticSchema.itemToMap(sample, false), "Serialized item differs for " + type.getSimpleName());
+        assertEquals(beanItem, staticSchema.itemToMap(staticSchema.mapToItem(beanItem), false),
+                "Round trip differs for " + type.getSimpleName());
+    }
+
+    private static Set<String> indexNames(TableMetadata metadata) {
+        return metadata.indices().stream().map(IndexMetadata::name).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,62 @@
+package com.assassin.performance;
+
+import org.junit.jupiter.api.AfterAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Plays one small game with {@link GameLoadSimulator} so the simulator keeps working as the services change.
+ * The full sweep from 50 to 10,000 bots is run from {@code GameLoadSimulator.main}.
+ */
+@Tag("performance")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class GameLoadSimulationTest {
+
+    private static final int PLAYERS = 40;
+    private static final int ROUNDS = 4;
+
+    @Container
+    static GenericContainer<?> dynamoDbLocal = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:2.5.2"))
+            .withExposedPorts(8000);
+
+    private GameLoadSimulator simulator;
+
+    @BeforeAll
+    void setup() {
+        simulator = new GameLoadSimulator("http://" + dynamoDbLocal.getHost() + ":" + dynamoDbLocal.getMappedPort(8000));
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void testSmallGameReportsEveryOperation() throws Exception {
+        GameLoadSimulator.Report report = simulator.run(PLAYERS, ROUNDS, 4);
+        report.print(System.out);
+
+        GameLoadSimulator.OperationReport locations = report.getOperation(GameLoadSimulator.LOCATION_UPDATE);
+        assertTrue(locations.getCount() >= PLAYERS, "Every bot should report at least once");
+        assertEquals(0, locations.getFailures(), "Bots stay inside the boundary and under the speed limit");
+        assertTrue(locations.getRoundTrips() >= locations.getCount(), "Each location update reaches DynamoDB");
+        assertTrue(locations.getP50Micros() > 0);
+
+        assertEquals(report.getOperation(GameLoadSimulator.LOCATION_UPDATE).getCount(),
+                report.getOperation(GameLoadSimulator.PROXIMITY_ALERTS).getCount());
+        assertEquals(2, report.getOperation(GameLoadSimulator.SWEEP).getCount(), "Sweeps after rounds 3 and 4");
+        assertEquals(PLAYERS, report.getSurvivors() + report.getKills());
+        assertTrue(report.getNotifications() > 0, "Bots placed near their targets should raise proximity alerts");
+    }
+}
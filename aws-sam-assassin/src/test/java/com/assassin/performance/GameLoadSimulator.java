@@ -0,0 +1,610 @@
+package com.assassin.performance;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.assassin.config.MapConfiguration;
+import com.assassin.dao.DaoAccounting;
+import com.assassin.dao.DynamoDbLocalTables;
+import com.assassin.handlers.ZoneUpdateHandler;
+import com.assassin.integration.TestContext;
+import com.assassin.metrics.LatencyHistogram;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameStatus;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Kill;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.service.KillService;
+import com.assassin.service.LocationService;
+import com.assassin.service.ProximityDetectionService;
+import com.assassin.util.ConsumedCapacityInterceptor;
+import com.assassin.util.DynamoDbClientProvider;
+import com.assassin.util.GeoUtils;
+import com.assassin.util.ServiceRegistry;
+import com.assassin.util.TimeSource;
+import com.assassin.util.VirtualTimeSource;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Plays whole games against DynamoDB Local through the real services: N bots walk around an irregular
+ * 64-vertex boundary, report their location, check proximity alerts and eliminate their targets, while the
+ * scheduled zone update and the proximity sweep run every few rounds.
+ * <p>
+ * Half the bots pursue their target, the rest random-walk; every fourth bot starts 15 to 40 m from its
+ * target so alerts and kills begin in the first rounds. Each round moves every live bot in parallel, then
+ * settles eliminations one at a time so two kills never race over the same link of the target chain.
+ * The services run on a {@link VirtualTimeSource} that moves forward one round's worth of game time per
+ * round, so alert cooldowns and zone phases play out at game pace without the simulator waiting for them.
+ * <p>
+ * Every operation runs in its own {@link DaoAccounting} scope, so the report gives, per operation and per
+ * game size, the throughput, p50/p99/p99.9 latency, DAO calls and DynamoDB requests, plus the number of
+ * notifications stored. {@code CONNECTIONS_TABLE_NAME} should be unset so notifications are stored but not
+ * pushed.
+ * <p>
+ * Run {@code main} from the test classpath with optional arguments: comma-separated game sizes
+ * (default 50,100,500,1000,5000,10000), rounds per game (default 5) and worker threads (default 16).
+ * Set {@code -Dsimulator.endpoint=http://localhost:8000} to use a running DynamoDB Local instead of
+ * starting a container.
+ */
+public class GameLoadSimulator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameLoadSimulator.class);
+
+    static final String LOCATION_UPDATE = "reportLocation";
+    static final String PROXIMITY_ALERTS = "checkAndSendProximityAlerts";
+    static final String ELIMINATION_CHECK = "canEliminateTarget";
+    static final String KILL = "reportKill";
+    static final String ZONE_UPDATE = "ZoneUpdateHandler";
+    static final String SWEEP = "processTick";
+
+    private static final String TABLE_PREFIX = "sim-";
+    private static final String MAP_ID = "sim-map";
+    private static final double AREA_RADIUS_METERS = 600.0;
+    private static final double ELIMINATION_DISTANCE_METERS = 10.0;
+    private static final double PROXIMITY_DISTANCE_METERS = 50.0;
+    private static final double WALK_STEP_METERS = 5.0;
+    private static final double PURSUIT_STEP_METERS = 6.0;
+    private static final int ZONE_UPDATE_EVERY_ROUNDS = 3;
+    private static final Duration ROUND_DURATION = Duration.ofSeconds(10);
+    private static final String NOTIFICATION_SAVE = "NotificationDao.saveNotification";
+
+    private final DynamoDbClient client;
+    private final VirtualTimeSource clock = new VirtualTimeSource(Instant.now());
+    private final List<Coordinate> boundary = GeoFixtures.irregularPolygon(64, AREA_RADIUS_METERS, 42);
+
+    /**
+     * Points the services at DynamoDB Local and creates the tables they use.
+     *
+     * @param endpoint DynamoDB Local endpoint, e.g. {@code http://localhost:8000}
+     */
+    public GameLoadSimulator(String endpoint) {
+        client = DynamoDbClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .region(Region.US_EAST_1)
+                .overrideConfiguration(c -> c.addExecutionInterceptor(new ConsumedCapacityInterceptor()))
+                .build();
+        DynamoDbLocalTables.useTablePrefix(TABLE_PREFIX);
+        DynamoDbClientProvider.overrideClient(client);
+        ServiceRegistry.useTimeSource(clock);
+        DynamoDbLocalTables.createAll(client);
+
+        MapConfiguration mapConfig = new MapConfiguration();
+        mapConfig.setMapId(MAP_ID);
+        mapConfig.setMapName("Load simulation");
+        mapConfig.setGameBoundary(boundary);
+        mapConfig.setEliminationDistanceMeters(ELIMINATION_DISTANCE_METERS);
+        mapConfig.setProximityAwarenessDistanceMeters(PROXIMITY_DISTANCE_METERS);
+        DynamoDbClientProvider.getDynamoDbEnhancedClient()
+                .table(System.getProperty("MAP_CONFIG_TABLE_NAME"), ServiceRegistry.tableSchema(MapConfiguration.class))
+                .putItem(mapConfig);
+    }
+
+    /**
+     * Plays one game to completion of the given number of rounds and reports the work it took.
+     * The game is marked completed afterwards so later games' zone updates do not pick it up.
+     *
+     * @param players Number of bots
+     * @param rounds Number of rounds; every live bot moves once per round
+     * @param threads Worker threads moving bots in parallel
+     * @return What the game cost, per operation
+     */
+    public Report run(int players, int rounds, int threads) throws InterruptedException {
+        String gameId = "sim-" + players + "-" + System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Bot[] bots = seed(gameId, players, executor);
+            GameRun game = new GameRun(gameId, bots);
+            long start = System.nanoTime();
+            for (int round = 1; round <= rounds; round++) {
+                clock.advance(ROUND_DURATION);
+                game.moveAll(executor);
+                game.settleEliminations();
+                if (round % ZONE_UPDATE_EVERY_ROUNDS == 0 || round == rounds) {
+                    game.updateZone();
+                }
+            }
+            Report report = game.report(players, rounds, System.nanoTime() - start);
+            logger.info("Finished game {} with {} bots after {} rounds", gameId, players, rounds);
+            return report;
+        } finally {
+            executor.shutdownNow();
+            Game finished = ServiceRegistry.gameDao().getGameById(gameId).orElse(null);
+            if (finished != null) {
+                finished.setStatus(GameStatus.COMPLETED.name());
+                ServiceRegistry.gameDao().saveGame(finished);
+            }
+        }
+    }
+
+    private Bot[] seed(String gameId, int players, ExecutorService executor) throws InterruptedException {
+        Game game = new Game();
+        game.setGameID(gameId);
+        game.setGameName("Load simulation " + players);
+        game.setStatus(GameStatus.ACTIVE.name());
+        game.setCreatedAt(clock.now().toString());
+        game.setBoundary(boundary);
+        game.setMapId(MAP_ID);
+        game.setShrinkingZoneEnabled(true);
+        ServiceRegistry.gameDao().saveGame(game);
+
+        GameZoneState zoneState = new GameZoneState();
+        zoneState.setGameId(gameId);
+        zoneState.setCurrentStageIndex(1);
+        zoneState.setCurrentPhase(GameZoneState.ZonePhase.SHRINKING);
+        zoneState.setCurrentCenter(GeoFixtures.offset(0, 0));
+        zoneState.setCurrentRadiusMeters(AREA_RADIUS_METERS * 0.8);
+        zoneState.setPhaseEndTime(clock.now().plusSeconds(3600).toString());
+        zoneState.setLastUpdated(clock.now().toString());
+        ServiceRegistry.gameZoneStateDao().saveGameZoneState(zoneState);
+
+        Random random = new Random(players);
+        Bot[] bots = new Bot[players];
+        for (int i = 0; i < players; i++) {
+            Coordinate start = randomPointInside(random);
+            // Every fourth bot's target starts close by, so alerts and kills begin early
+            if (i % 4 == 3) {
+                Coordinate near = GeoFixtures.offset(bots[i - 1].position, 15.0 + 25.0 * random.nextDouble(), 0);
+                if (GeoUtils.isPointInBoundary(near, boundary)) {
+                    start = near;
+                }
+            }
+            bots[i] = new Bot(gameId + "-p" + i, start, i % 2 == 0, 2 * Math.PI * random.nextDouble());
+        }
+        for (int i = 0; i < players; i++) {
+            bots[i].target = bots[(i + 1) % players];
+        }
+
+        String now = clock.now().toString();
+        List<Callable<Void>> saves = new ArrayList<>(players);
+        for (Bot bot : bots) {
+            saves.add(() -> {
+                Player player = new Player();
+                player.setPlayerID(bot.id);
+                player.setPlayerName(bot.id);
+                player.setGameID(gameId);
+                player.setTargetID(bot.target.id);
+                player.setStatus(PlayerStatus.ACTIVE.name());
+                player.setLatitude(bot.position.getLatitude());
+                player.setLongitude(bot.position.getLongitude());
+                player.setLocationTimestamp(now);
+                ServiceRegistry.playerDao().savePlayer(player);
+                return null;
+            });
+        }
+        awaitAll(executor.invokeAll(saves));
+        return bots;
+    }
+
+    private Coordinate randomPointInside(Random random) {
+        while (true) {
+            Coordinate point = GeoFixtures.offset(AREA_RADIUS_METERS * (2 * random.nextDouble() - 1),
+                    AREA_RADIUS_METERS * (2 * random.nextDouble() - 1));
+            if (GeoUtils.isPointInBoundary(point, boundary)) {
+                return point;
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<Void>> futures) throws InterruptedException {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Simulation task failed", e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ServiceRegistry.useTimeSource(TimeSource.system());
+        DynamoDbClientProvider.resetClient();
+        DynamoDbLocalTables.clearTablePrefix();
+        client.close();
+    }
+
+    /**
+     * One player. Positions are written by the bot's own move and read by its hunter's, which may see the
+     * previous round's position, as a real client would.
+     */
+    private static final class Bot {
+        private final String id;
+        private final boolean pursuer;
+        private volatile Coordinate position;
+        private volatile Bot target;
+        private volatile boolean alive = true;
+        private double heading;
+
+        Bot(String id, Coordinate position, boolean pursuer, double heading) {
+            this.id = id;
+            this.position = position;
+            this.pursuer = pursuer;
+            this.heading = heading;
+        }
+    }
+
+    /**
+     * State and per-operation statistics of one game.
+     */
+    private final class GameRun {
+        private final String gameId;
+        private final Bot[] bots;
+        private final Random random;
+        private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+        private final LocationService locationService = ServiceRegistry.locationService();
+        private final ProximityDetectionService proximityDetectionService = ServiceRegistry.proximityDetectionService();
+        private final KillService killService = ServiceRegistry.killService();
+        private final ZoneUpdateHandler zoneUpdateHandler = new ZoneUpdateHandler();
+        private int kills;
+
+        GameRun(String gameId, Bot[] bots) {
+            this.gameId = gameId;
+            this.bots = bots;
+            this.random = new Random(bots.length);
+            for (String operation : List.of(LOCATION_UPDATE, PROXIMITY_ALERTS, ELIMINATION_CHECK, KILL, ZONE_UPDATE, SWEEP)) {
+                stats.put(operation, new OperationStats(operation));
+            }
+        }
+
+        void moveAll(ExecutorService executor) throws InterruptedException {
+            List<Callable<Void>> moves = new ArrayList<>(bots.length);
+            for (Bot bot : bots) {
+                if (!bot.alive) {
+                    continue;
+                }
+                // Headings are drawn here, on one thread, so a seed always plays the same paths
+                double jitter = random.nextGaussian() * 0.5;
+                moves.add(() -> {
+                    move(bot, jitter);
+                    measure(LOCATION_UPDATE, () -> locationService.reportLocation(
+                            bot.id, bot.position.getLatitude(), bot.position.getLongitude(), 5.0));
+                    measure(PROXIMITY_ALERTS, () -> {
+                        proximityDetectionService.checkAndSendProximityAlerts(gameId, bot.id);
+                        return null;
+                    });
+                    return null;
+                });
+            }
+            awaitAll(executor.invokeAll(moves));
+        }
+
+        private void move(Bot bot, double jitter) {
+            Coordinate from = bot.position;
+            double step = WALK_STEP_METERS;
+            if (bot.pursuer && bot.target != null) {
+                Coordinate to = bot.target.position;
+                double north = (to.getLatitude() - from.getLatitude()) * 111_320.0;
+                double east = (to.getLongitude() - from.getLongitude())
+                        * 111_320.0 * Math.cos(Math.toRadians(from.getLatitude()));
+                bot.heading = Math.atan2(north, east);
+                step = Math.min(PURSUIT_STEP_METERS, Math.hypot(north, east));
+            } else {
+                bot.heading += jitter;
+            }
+            Coordinate next = GeoFixtures.offset(from, step * Math.sin(bot.heading), step * Math.cos(bot.heading));
+            if (!GeoUtils.isPointInBoundary(next, boundary)) {
+                // Turn back towards the middle rather than report a location the game rejects
+                bot.heading += Math.PI;
+                next = GeoFixtures.offset(from, step * Math.sin(bot.heading), step * Math.cos(bot.heading));
+                if (!GeoUtils.isPointInBoundary(next, boundary)) {
+                    next = from;
+                }
+            }
+            bot.position = next;
+        }
+
+        void settleEliminations() {
+            for (Bot bot : bots) {
+                Bot target = bot.target;
+                if (!bot.alive || target == null || target == bot || !target.alive
+                        || GeoUtils.calculateDistance(bot.position, target.position) > ELIMINATION_DISTANCE_METERS) {
+                    continue;
+                }
+                Boolean inRange = measure(ELIMINATION_CHECK,
+                        () -> proximityDetectionService.canEliminateTarget(gameId, bot.id, target.id, null));
+                if (!Boolean.TRUE.equals(inRange)) {
+                    continue;
+                }
+                Kill kill = measure(KILL, () -> killService.reportKill(bot.id, target.id,
+                        bot.position.getLatitude(), bot.position.getLongitude(), "GPS", Collections.emptyMap()));
+                if (kill != null) {
+                    // Mirror the reassignment KillService just stored
+                    target.alive = false;
+                    bot.target = target.target;
+                    kills++;
+                }
+            }
+        }
+
+        void updateZone() {
+            measure(ZONE_UPDATE, () -> zoneUpdateHandler.handleRequest(new ScheduledEvent(), new TestContext()));
+            measure(SWEEP, () -> ServiceRegistry.gameTickProcessor().processTick(gameId, clock.currentTimeMillis()));
+        }
+
+        private <T> T measure(String operation, Callable<T> call) {
+            OperationStats operationStats = stats.get(operation);
+            DaoAccounting.Scope scope = DaoAccounting.begin(operation);
+            long start = System.nanoTime();
+            try {
+                return call.call();
+            } catch (Exception e) {
+                operationStats.failures.increment();
+                logger.debug("{} failed: {}", operation, e.getMessage());
+                return null;
+            } finally {
+                operationStats.latency.record((System.nanoTime() - start) / 1_000);
+                scope.close();
+                operationStats.daoCalls.add(scope.getCalls());
+                operationStats.roundTrips.add(scope.getRoundTrips());
+                operationStats.notifications.add(scope.getCallsByMethod().getOrDefault(NOTIFICATION_SAVE, 0));
+            }
+        }
+
+        Report report(int players, int rounds, long elapsedNanos) {
+            List<OperationReport> operations = new ArrayList<>();
+            for (OperationStats operationStats : stats.values()) {
+                operations.add(operationStats.report());
+            }
+            int alive = 0;
+            for (Bot bot : bots) {
+                if (bot.alive) {
+                    alive++;
+                }
+            }
+            return new Report(players, rounds, elapsedNanos, kills, alive, operations);
+        }
+    }
+
+    private static final class OperationStats {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder daoCalls = new LongAdder();
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder notifications = new LongAdder();
+
+        OperationStats(String name) {
+            this.name = name;
+        }
+
+        OperationReport report() {
+            LatencyHistogram.Snapshot snapshot = latency.snapshotAndReset();
+            return new OperationReport(name, snapshot.getCount(), failures.sum(),
+                    snapshot.getPercentile(50), snapshot.getPercentile(99), snapshot.getPercentile(99.9),
+                    daoCalls.sum(), roundTrips.sum(), notifications.sum());
+        }
+    }
+
+    /**
+     * What one operation cost over a whole game.
+     */
+    public static final class OperationReport {
+        private final String name;
+        private final long count;
+        private final long failures;
+        private final long p50Micros;
+        private final long p99Micros;
+        private final long p999Micros;
+        private final long daoCalls;
+        private final long roundTrips;
+        private final long notifications;
+
+        OperationReport(String name, long count, long failures, long p50Micros, long p99Micros, long p999Micros,
+                        long daoCalls, long roundTrips, long notifications) {
+            this.name = name;
+            this.count = count;
+            this.failures = failures;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+            this.p999Micros = p999Micros;
+            this.daoCalls = daoCalls;
+            this.roundTrips = roundTrips;
+            this.notifications = notifications;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return Calls that threw; they are still counted and timed
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getP999Micros() {
+            return p999Micros;
+        }
+
+        public long getDaoCalls() {
+            return daoCalls;
+        }
+
+        /**
+         * @return Requests the DynamoDB client sent
+         */
+        public long getRoundTrips() {
+            return roundTrips;
+        }
+
+        public long getNotifications() {
+            return notifications;
+        }
+    }
+
+    /**
+     * What one game cost.
+     */
+    public static final class Report {
+        private final int players;
+        private final int rounds;
+        private final long elapsedNanos;
+        private final int kills;
+        private final int survivors;
+        private final List<OperationReport> operations;
+
+        Report(int players, int rounds, long elapsedNanos, int kills, int survivors, List<OperationReport> operations) {
+            this.players = players;
+            this.rounds = rounds;
+            this.elapsedNanos = elapsedNanos;
+            this.kills = kills;
+            this.survivors = survivors;
+            this.operations = Collections.unmodifiableList(operations);
+        }
+
+        public int getPlayers() {
+            return players;
+        }
+
+        public int getKills() {
+            return kills;
+        }
+
+        public int getSurvivors() {
+            return survivors;
+        }
+
+        public List<OperationReport> getOperations() {
+            return operations;
+        }
+
+        /**
+         * @param name One of the operation names, e.g. {@code reportLocation}
+         * @return The operation's report
+         */
+        public OperationReport getOperation(String name) {
+            for (OperationReport operation : operations) {
+                if (operation.getName().equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + name);
+        }
+
+        public long getNotifications() {
+            long total = 0;
+            for (OperationReport operation : operations) {
+                total += operation.getNotifications();
+            }
+            return total;
+        }
+
+        /**
+         * @return Operations of all kinds completed per second of wall time
+         */
+        public double getThroughput() {
+            long total = 0;
+            for (OperationReport operation : operations) {
+                total += operation.getCount();
+            }
+            return total / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Prints the report as a table, one row per operation.
+         *
+         * @param out Where to print
+         */
+        public void print(PrintStream out) {
+            out.printf("%n%d players, %d rounds in %.1f s: %.0f ops/s, %d kills, %d survivors, %d notifications%n",
+                    players, rounds, elapsedNanos / 1e9, getThroughput(), kills, survivors, getNotifications());
+            out.printf("%-28s %9s %7s %10s %10s %10s %10s %10s %8s%n",
+                    "operation", "count", "failed", "p50 ms", "p99 ms", "p99.9 ms", "DAO/op", "DDB req/op", "notif");
+            for (OperationReport operation : operations) {
+                long count = Math.max(1, operation.getCount());
+                out.printf("%-28s %9d %7d %10.2f %10.2f %10.2f %10.1f %10.1f %8d%n",
+                        operation.getName(), operation.getCount(), operation.getFailures(),
+                        operation.getP50Micros() / 1000.0, operation.getP99Micros() / 1000.0,
+                        operation.getP999Micros() / 1000.0, (double) operation.getDaoCalls() / count,
+                        (double) operation.getRoundTrips() / count, operation.getNotifications());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[] {50, 100, 500, 1000, 5000, 10000};
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        String endpoint = System.getProperty("simulator.endpoint");
+        GenericContainer<?> dynamoDbLocal = null;
+        if (endpoint == null) {
+            dynamoDbLocal = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:2.5.2"))
+                    .withExposedPorts(8000);
+            dynamoDbLocal.start();
+            endpoint = "http://" + dynamoDbLocal.getHost() + ":" + dynamoDbLocal.getMappedPort(8000);
+        }
+        try (GameLoadSimulator simulator = new GameLoadSimulator(endpoint)) {
+            for (int players : sizes) {
+                simulator.run(players, rounds, threads).print(System.out);
+            }
+        } finally {
+            if (dynamoDbLocal != null) {
+                dynamoDbLocal.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.assassin.performance;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.model.Game;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Converts game settings to and from DynamoDB with {@link Game.GenericMapConverter}, which runs on every
+ * game read and write.
+ * <p>
+ * The written map holds the scalar types the converter supports; the read side also decodes the nested
+ * list of zone stages that stored games carry.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericMapConverterBenchmark {
+
+    private Game.GenericMapConverter converter;
+    private Map<String, Object> settings;
+    private AttributeValue storedSettings;
+
+    @Setup
+    public void setUp() {
+        converter = new Game.GenericMapConverter();
+
+        settings = new LinkedHashMap<>();
+        settings.put("mode", "classic");
+        settings.put("maxPlayers", 50);
+        settings.put("eliminationDistanceMeters", 10.0);
+        settings.put("proximityAwarenessDistanceMeters", 50.0);
+        settings.put("shrinkingZoneEnabled", true);
+        settings.put("weapon", "water-pistol");
+        settings.put("startTimeEpochMillis", 1_704_067_200_000L);
+        settings.put("safeZonesEnabled", false);
+
+        Map<String, AttributeValue> stored = new LinkedHashMap<>(converter.transformFrom(settings).m());
+        stored.put("shrinkingZoneConfig", AttributeValue.builder().l(List.of(
+                stage(0, "1200.0"), stage(1, "600.0"), stage(2, "150.0"))).build());
+        storedSettings = AttributeValue.builder().m(stored).build();
+    }
+
+    private static AttributeValue stage(int index, String endRadiusMeters) {
+        return AttributeValue.builder().m(Map.of(
+                "stageIndex", AttributeValue.builder().n(Integer.toString(index)).build(),
+                "waitTimeSeconds", AttributeValue.builder().n("300").build(),
+                "transitionTimeSeconds", AttributeValue.builder().n("3600").build(),
+                "endRadiusMeters", AttributeValue.builder().n(endRadiusMeters).build(),
+                "damagePerSecond", AttributeValue.builder().n("1.0").build())).build();
+    }
+
+    @Benchmark
+    public AttributeValue writeSettings() {
+        return converter.transformFrom(settings);
+    }
+
+    @Benchmark
+    public Map<String, Object> readSettings() {
+        return converter.transformTo(storedSettings);
+    }
+
+    @Benchmark
+    public Map<String, Object> roundTripSettings() {
+        return converter.transformTo(converter.transformFrom(settings));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GenericMapConverterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
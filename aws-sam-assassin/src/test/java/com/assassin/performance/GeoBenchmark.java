@@ -0,0 +1,104 @@
+package com.assassin.performance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.model.Coordinate;
+import com.assassin.service.GeofenceManager;
+import com.assassin.service.MapConfigurationService;
+import com.assassin.util.GeoUtils;
+
+/**
+ * The per-location-update geometry: point-in-polygon, haversine distance and the geofence's signed
+ * distance to the boundary, on boundaries from the four-corner default up to a traced city district.
+ * <p>
+ * Each invocation takes the next of {@value #POINTS} scattered points so branch prediction sees the
+ * inside/outside mix of real traffic. {@link GeofenceManager} gets its boundary from a stub-only mock,
+ * which adds a constant per call; compare it with {@code isPointInBoundary} at the same vertex count.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoBenchmark {
+
+    private static final int POINTS = 1024;
+    private static final double BOUNDARY_RADIUS_METERS = 1500.0;
+    private static final String GAME_ID = "bench-game";
+
+    @Param({"4", "64", "512"})
+    public int vertices;
+
+    private List<Coordinate> boundary;
+    private Coordinate[] points;
+    private GeofenceManager geofenceManager;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boundary = GeoFixtures.irregularPolygon(vertices, BOUNDARY_RADIUS_METERS, 42);
+        points = GeoFixtures.scatter(POINTS, BOUNDARY_RADIUS_METERS, 7);
+
+        // Stub-only: a regular mock would record every invocation and grow for the whole run
+        MapConfigurationService mapConfigurationService = mock(MapConfigurationService.class, withSettings().stubOnly());
+        when(mapConfigurationService.getGameBoundary(GAME_ID)).thenReturn(boundary);
+        geofenceManager = new GeofenceManager(mapConfigurationService);
+    }
+
+    private Coordinate nextPoint() {
+        return points[next++ & (POINTS - 1)];
+    }
+
+    @Benchmark
+    public boolean isPointInBoundary() {
+        return GeoUtils.isPointInBoundary(nextPoint(), boundary);
+    }
+
+    @Benchmark
+    public double calculateDistanceCoordinates() {
+        return GeoUtils.calculateDistance(nextPoint(), boundary.get(0));
+    }
+
+    @Benchmark
+    public double calculateDistanceDegrees() {
+        Coordinate point = nextPoint();
+        return GeoUtils.calculateDistance(point.getLatitude(), point.getLongitude(),
+                GeoFixtures.CENTER_LATITUDE, GeoFixtures.CENTER_LONGITUDE);
+    }
+
+    // GeofenceManager.calculateApproximateDistanceToBoundary through its public entry point
+    @Benchmark
+    public double geofenceDistanceToBoundary() {
+        return geofenceManager.getDistanceToBoundary(GAME_ID, nextPoint());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GeoBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
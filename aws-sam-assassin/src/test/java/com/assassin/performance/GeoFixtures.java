@@ -0,0 +1,81 @@
+package com.assassin.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.assassin.model.Coordinate;
+
+/**
+ * Deterministic geometry for the benchmarks: irregular boundaries shaped like a traced campus or park
+ * outline rather than the four-corner default, and player positions scattered over and around them.
+ */
+final class GeoFixtures {
+
+    static final double CENTER_LATITUDE = 37.7749;
+    static final double CENTER_LONGITUDE = -122.4194;
+
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    // Private constructor to prevent instantiation
+    private GeoFixtures() {}
+
+    /**
+     * Builds a star-shaped polygon whose vertex radius wanders between 70% and 100% of the given radius.
+     *
+     * @param vertices Number of vertices
+     * @param radiusMeters Largest distance of a vertex from the center
+     * @param seed Seed for the radius jitter
+     * @return The polygon, not closed (the first vertex is not repeated)
+     */
+    static List<Coordinate> irregularPolygon(int vertices, double radiusMeters, long seed) {
+        Random random = new Random(seed);
+        List<Coordinate> polygon = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = radiusMeters * (0.7 + 0.3 * random.nextDouble());
+            polygon.add(offset(radius * Math.sin(angle), radius * Math.cos(angle)));
+        }
+        return polygon;
+    }
+
+    /**
+     * Scatters points uniformly over a square around the center, so roughly a third fall outside a
+     * polygon of the same radius.
+     *
+     * @param count Number of points
+     * @param radiusMeters Half the side of the square
+     * @param seed Seed for the positions
+     * @return The points
+     */
+    static Coordinate[] scatter(int count, double radiusMeters, long seed) {
+        Random random = new Random(seed);
+        Coordinate[] points = new Coordinate[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = offset(radiusMeters * (2 * random.nextDouble() - 1), radiusMeters * (2 * random.nextDouble() - 1));
+        }
+        return points;
+    }
+
+    /**
+     * @param northMeters Offset north of the center
+     * @param eastMeters Offset east of the center
+     * @return The coordinate at that offset
+     */
+    static Coordinate offset(double northMeters, double eastMeters) {
+        return offset(new Coordinate(CENTER_LATITUDE, CENTER_LONGITUDE), northMeters, eastMeters);
+    }
+
+    /**
+     * @param origin Coordinate to offset from
+     * @param northMeters Offset north of the origin
+     * @param eastMeters Offset east of the origin
+     * @return The coordinate at that offset, using a flat-earth approximation that is exact enough at city scale
+     */
+    static Coordinate offset(Coordinate origin, double northMeters, double eastMeters) {
+        double latitude = origin.getLatitude() + northMeters / METERS_PER_DEGREE_LATITUDE;
+        double longitude = origin.getLongitude()
+                + eastMeters / (METERS_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(origin.getLatitude())));
+        return new Coordinate(latitude, longitude);
+    }
+}
@@ -0,0 +1,153 @@
+package com.assassin.performance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.Kill;
+import com.assassin.model.LocationUpdateInput;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.util.JsonCodecs;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Compares the streaming codecs in {@link JsonCodecs} with the reflective, pretty-printing Gson
+ * the handlers used before, on the hottest request and response bodies.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private static final String LOCATION_BODY =
+            "{\"latitude\":37.7749,\"longitude\":-122.4194,\"timestamp\":\"2024-01-01T00:00:00Z\",\"accuracy\":8.5}";
+
+    private Gson reflective;
+    private Gson codecs;
+    private Player player;
+    private Kill kill;
+    private Notification notification;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        reflective = new GsonBuilder().setPrettyPrinting().create();
+        codecs = JsonCodecs.gson();
+
+        player = new Player();
+        player.setPlayerID("player-1");
+        player.setPlayerName("Player One");
+        player.setGameID("game-1");
+        player.setTargetID("player-2");
+        player.setStatus("ACTIVE");
+        player.setKillCount(3);
+        player.setLatitude(37.7749);
+        player.setLongitude(-122.4194);
+        player.setLocationTimestamp("2024-01-01T00:00:00Z");
+
+        kill = new Kill();
+        kill.setKillerID("player-1");
+        kill.setVictimID("player-2");
+        kill.setTime("2024-01-01T00:00:00Z");
+        kill.setLatitude(37.7749);
+        kill.setLongitude(-122.4194);
+        kill.setVerificationMethod("GPS");
+        kill.setVerificationData(Map.of("killerLatitude", "37.7749", "killerLongitude", "-122.4194"));
+        kill.setGameId("game-1");
+
+        notification = new Notification("player-2", "KILL_VERIFIED", "You have been eliminated", Map.of("killerId", "player-1"));
+        notification.setNotificationId("notification-1");
+        notification.setGameId("game-1");
+
+        game = new Game();
+        game.setGameID("game-1");
+        game.setGameName("Benchmark Game");
+        game.setStatus("ACTIVE");
+        game.setCreatedAt("2024-01-01T00:00:00Z");
+        game.setPlayerIDs(List.of("player-1", "player-2", "player-3", "player-4"));
+        game.setSettings(Map.of("mode", "classic", "maxPlayers", 50));
+        game.setBoundary(List.of(new Coordinate(37.70, -122.50), new Coordinate(37.70, -122.35),
+                new Coordinate(37.82, -122.35), new Coordinate(37.82, -122.50)));
+    }
+
+    @Benchmark
+    public LocationUpdateInput parseLocationReflective() {
+        return reflective.fromJson(LOCATION_BODY, LocationUpdateInput.class);
+    }
+
+    @Benchmark
+    public LocationUpdateInput parseLocationCodec() {
+        return codecs.fromJson(LOCATION_BODY, LocationUpdateInput.class);
+    }
+
+    @Benchmark
+    public String writePlayerReflective() {
+        return reflective.toJson(player);
+    }
+
+    @Benchmark
+    public String writePlayerCodec() {
+        return codecs.toJson(player);
+    }
+
+    @Benchmark
+    public String writeKillReflective() {
+        return reflective.toJson(kill);
+    }
+
+    @Benchmark
+    public String writeKillCodec() {
+        return codecs.toJson(kill);
+    }
+
+    @Benchmark
+    public String writeNotificationReflective() {
+        return reflective.toJson(notification);
+    }
+
+    @Benchmark
+    public String writeNotificationCodec() {
+        return codecs.toJson(notification);
+    }
+
+    @Benchmark
+    public String writeGameReflective() {
+        return reflective.toJson(game);
+    }
+
+    @Benchmark
+    public String writeGameCodec() {
+        return codecs.toJson(game);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JsonCodecBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.assassin.performance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.config.MapConfiguration;
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.SafeZoneDao;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameStatus;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.model.SafeZone;
+import com.assassin.service.GameTickProcessor;
+import com.assassin.service.MapConfigurationService;
+
+/**
+ * One proximity sweep, {@link GameTickProcessor#processTick(Game, GameZoneState, long)}, over a whole
+ * roster: zone membership, safe zones, signed boundary distance and target/hunter bands for every player.
+ * <p>
+ * Players are scattered over a 1.2 km square around an irregular 64-vertex boundary with a target chain,
+ * so the sweep produces the mix of boundary, zone and proximity events a live game does. The roster and
+ * map lookups are stub-only mocks, a constant per tick next to the per-player work.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProximitySweepBenchmark {
+
+    private static final String GAME_ID = "bench-game";
+    private static final double AREA_RADIUS_METERS = 600.0;
+
+    @Param({"50", "500"})
+    public int players;
+
+    private GameTickProcessor tickProcessor;
+    private Game game;
+    private GameZoneState zoneState;
+    private long nowMillis;
+
+    @Setup
+    public void setUp() {
+        nowMillis = System.currentTimeMillis();
+
+        game = new Game();
+        game.setGameID(GAME_ID);
+        game.setStatus(GameStatus.ACTIVE.name());
+        game.setShrinkingZoneEnabled(true);
+        game.setBoundary(GeoFixtures.irregularPolygon(64, AREA_RADIUS_METERS, 42));
+
+        zoneState = new GameZoneState();
+        zoneState.setGameId(GAME_ID);
+        zoneState.setCurrentPhase(GameZoneState.ZonePhase.SHRINKING);
+        zoneState.setCurrentCenter(GeoFixtures.offset(0, 0));
+        zoneState.setCurrentRadiusMeters(AREA_RADIUS_METERS * 0.6);
+
+        MapConfiguration mapConfig = new MapConfiguration();
+        mapConfig.setEliminationDistanceMeters(10.0);
+        mapConfig.setProximityAwarenessDistanceMeters(50.0);
+
+        // Stub-only: a regular mock would record every invocation and grow for the whole run
+        GameDao gameDao = mock(GameDao.class, withSettings().stubOnly());
+        PlayerDao playerDao = mock(PlayerDao.class, withSettings().stubOnly());
+        GameZoneStateDao gameZoneStateDao = mock(GameZoneStateDao.class, withSettings().stubOnly());
+        SafeZoneDao safeZoneDao = mock(SafeZoneDao.class, withSettings().stubOnly());
+        MapConfigurationService mapConfigurationService = mock(MapConfigurationService.class, withSettings().stubOnly());
+        when(playerDao.getPlayersByGameId(GAME_ID)).thenReturn(roster(players));
+        when(safeZoneDao.getSafeZonesByGameId(GAME_ID)).thenReturn(List.of(
+                safeZone("s1", 200, 150), safeZone("s2", -300, -100), safeZone("s3", 50, -400)));
+        when(mapConfigurationService.getEffectiveMapConfiguration(GAME_ID)).thenReturn(mapConfig);
+
+        tickProcessor = new GameTickProcessor(gameDao, playerDao, gameZoneStateDao, safeZoneDao, mapConfigurationService);
+    }
+
+    private List<Player> roster(int size) {
+        Coordinate[] positions = GeoFixtures.scatter(size, AREA_RADIUS_METERS, 7);
+        // Every fourth player is closing in on their target, 10 to 40 m away
+        for (int i = 0; i + 1 < size; i += 4) {
+            positions[i + 1] = GeoFixtures.offset(positions[i], 10.0 * (1 + i / 4 % 4), 0);
+        }
+        String locationTimestamp = Instant.ofEpochMilli(nowMillis - 5_000).toString();
+        List<Player> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Player player = new Player();
+            player.setPlayerID("p" + i);
+            player.setGameID(GAME_ID);
+            player.setTargetID("p" + ((i + 1) % size));
+            // One in ten already eliminated
+            player.setStatus(i % 10 == 9 ? PlayerStatus.DEAD.name() : PlayerStatus.ACTIVE.name());
+            player.setLatitude(positions[i].getLatitude());
+            player.setLongitude(positions[i].getLongitude());
+            player.setLocationTimestamp(locationTimestamp);
+            roster.add(player);
+        }
+        return roster;
+    }
+
+    private static SafeZone safeZone(String id, double northMeters, double eastMeters) {
+        SafeZone zone = new SafeZone();
+        zone.setSafeZoneId(id);
+        zone.setGameId(GAME_ID);
+        zone.setCenter(GeoFixtures.offset(northMeters, eastMeters));
+        zone.setRadiusMeters(75.0);
+        return zone;
+    }
+
+    @Benchmark
+    public GameTickProcessor.TickResult processTick() {
+        return tickProcessor.processTick(game, zoneState, nowMillis);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProximitySweepBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
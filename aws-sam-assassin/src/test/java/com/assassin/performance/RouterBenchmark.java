@@ -0,0 +1,95 @@
+package com.assassin.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.routing.ApiRoute;
+import com.assassin.routing.Router;
+
+/**
+ * Resolves one concrete request for every route in {@link ApiRoute} through the shared trie, against the
+ * per-request {@code String.matches} dispatch the handlers used before.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    private String[] methods;
+    private String[] paths;
+    // Template converted to the regex the old handlers matched against
+    private String[] regexes;
+
+    @Setup
+    public void setUp() {
+        ApiRoute[] routes = ApiRoute.values();
+        methods = new String[routes.length];
+        paths = new String[routes.length];
+        regexes = new String[routes.length];
+        for (int i = 0; i < routes.length; i++) {
+            methods[i] = routes[i].getMethod();
+            paths[i] = routes[i].getTemplate().replaceAll("\\{[^}]+\\}", "id-" + i);
+            regexes[i] = routes[i].getTemplate().replaceAll("\\{[^}]+\\}", "[^/]+");
+        }
+    }
+
+    @Benchmark
+    public void trieMatchAllRoutes(Blackhole blackhole) {
+        for (int i = 0; i < paths.length; i++) {
+            blackhole.consume(ApiRoute.match(methods[i], paths[i]));
+        }
+    }
+
+    @Benchmark
+    public void trieMatchAndReadParametersAllRoutes(Blackhole blackhole) {
+        for (int i = 0; i < paths.length; i++) {
+            Router.Match<ApiRoute> match = ApiRoute.match(methods[i], paths[i]);
+            blackhole.consume(match.getPathParameters());
+        }
+    }
+
+    @Benchmark
+    public void trieMiss(Blackhole blackhole) {
+        blackhole.consume(ApiRoute.match("GET", "/games/g1/unknown/segment"));
+    }
+
+    // Linear scan with String.matches, compiling a pattern per comparison as the old handlers did
+    @Benchmark
+    public void regexMatchAllRoutes(Blackhole blackhole) {
+        for (int i = 0; i < paths.length; i++) {
+            for (int j = 0; j < regexes.length; j++) {
+                if (methods[j].equals(methods[i]) && paths[i].matches(regexes[j])) {
+                    blackhole.consume(j);
+                    break;
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RouterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,131 @@
+package com.assassin.performance;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.model.Game;
+import com.assassin.model.GameStatus;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.ShrinkingZoneStage;
+import com.assassin.service.GameEventService;
+import com.assassin.service.ShrinkingZoneService;
+import com.assassin.util.TimeSource;
+
+/**
+ * One scheduled zone update of a game halfway through a shrink, which runs
+ * {@code ShrinkingZoneService.calculateCurrentShrinkingState}, against the same update during a wait,
+ * which does everything else (config lookup, phase end parsing) but skips the interpolation.
+ * <p>
+ * DAOs are stub-only mocks returning fixed objects, so the difference between the two is the interpolation
+ * and the state copy it saves.
+ * <p>
+ * Run with {@code main} from the test classpath, or all benchmarks with {@code mvn -Pbenchmarks test -DskipTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShrinkingZoneBenchmark {
+
+    private static final String SHRINKING_GAME_ID = "shrinking-game";
+    private static final String WAITING_GAME_ID = "waiting-game";
+    private static final int TRANSITION_SECONDS = 3600;
+
+    private ShrinkingZoneService shrinkingZoneService;
+
+    @Setup
+    public void setUp() {
+        List<ShrinkingZoneStage> stages = List.of(
+                stage(0, 1200.0), stage(1, 600.0), stage(2, 150.0));
+        // Halfway through the stage 1 shrink for the whole run (stage 0 takes a placeholder path that logs)
+        Instant phaseEnd = Instant.now().plusSeconds(TRANSITION_SECONDS / 2);
+
+        GameDao gameDao = mock(GameDao.class, withSettings().stubOnly());
+        GameZoneStateDao gameZoneStateDao = mock(GameZoneStateDao.class, withSettings().stubOnly());
+        PlayerDao playerDao = mock(PlayerDao.class, withSettings().stubOnly());
+        when(gameDao.getGameById(SHRINKING_GAME_ID)).thenReturn(Optional.of(game(SHRINKING_GAME_ID, stages)));
+        when(gameDao.getGameById(WAITING_GAME_ID)).thenReturn(Optional.of(game(WAITING_GAME_ID, stages)));
+        when(gameZoneStateDao.getGameZoneState(SHRINKING_GAME_ID))
+                .thenReturn(Optional.of(zoneState(SHRINKING_GAME_ID, GameZoneState.ZonePhase.SHRINKING, phaseEnd)));
+        when(gameZoneStateDao.getGameZoneState(WAITING_GAME_ID))
+                .thenReturn(Optional.of(zoneState(WAITING_GAME_ID, GameZoneState.ZonePhase.WAITING, phaseEnd)));
+
+        shrinkingZoneService = new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao, TimeSource.system(),
+                new GameEventService(new InMemoryGameEventDao(), TimeSource.system()));
+    }
+
+    private static ShrinkingZoneStage stage(int index, double endRadiusMeters) {
+        ShrinkingZoneStage stage = new ShrinkingZoneStage();
+        stage.setStageIndex(index);
+        stage.setWaitTimeSeconds(300);
+        stage.setTransitionTimeSeconds(TRANSITION_SECONDS);
+        stage.setEndRadiusMeters(endRadiusMeters);
+        stage.setDamagePerSecond(1.0);
+        return stage;
+    }
+
+    private static Game game(String gameId, List<ShrinkingZoneStage> stages) {
+        Game game = new Game();
+        game.setGameID(gameId);
+        game.setStatus(GameStatus.ACTIVE.name());
+        game.setShrinkingZoneEnabled(true);
+        game.setSettings(Map.of("shrinkingZoneConfig", stages));
+        return game;
+    }
+
+    private static GameZoneState zoneState(String gameId, GameZoneState.ZonePhase phase, Instant phaseEnd) {
+        GameZoneState state = new GameZoneState();
+        state.setGameId(gameId);
+        state.setCurrentStageIndex(1);
+        state.setCurrentPhase(phase);
+        state.setPhaseEndTime(phaseEnd.toString());
+        state.setCurrentRadiusMeters(900.0);
+        state.setCurrentCenter(GeoFixtures.offset(0, 0));
+        state.setLastUpdated(Instant.now().toString());
+        return state;
+    }
+
+    @Benchmark
+    public Optional<GameZoneState> advanceWhileShrinking() {
+        return shrinkingZoneService.advanceZoneState(SHRINKING_GAME_ID);
+    }
+
+    @Benchmark
+    public Optional<GameZoneState> advanceWhileWaiting() {
+        return shrinkingZoneService.advanceZoneState(WAITING_GAME_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ShrinkingZoneBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
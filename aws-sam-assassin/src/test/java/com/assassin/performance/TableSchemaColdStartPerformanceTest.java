@@ -0,0 +1,109 @@
+package com.assassin.performance;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.assassin.model.Game;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Kill;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.SafeZone;
+import com.assassin.model.StaticTableSchemas;
+import com.assassin.model.WebSocketConnection;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Cold-start benchmark comparing bean-introspected table schemas with the hand-built static ones.
+ * <p>
+ * Each sample runs in a fresh JVM with the same C1-only tiering Lambda uses, so class loading,
+ * reflection and LambdaMetafactory costs are paid exactly as on a cold start. The comparison is logged
+ * rather than asserted: timings from a shared build machine are too noisy to fail a build on.
+ * <p>
+ * Note: Tagged as "performance" so it can be excluded from regular CI runs.
+ */
+@Tag("performance")
+public class TableSchemaColdStartPerformanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableSchemaColdStartPerformanceTest.class);
+    private static final int RUNS_PER_MODE = 5;
+    private static final List<Class<?>> MODEL_CLASSES = List.of(
+            Player.class, Game.class, Kill.class, Notification.class,
+            SafeZone.class, GameZoneState.class, WebSocketConnection.class);
+
+    @Test
+    public void testReportsColdSchemaInitForBeanAndStaticSchemas() throws Exception {
+        long beanMicros = medianInitMicros("bean");
+        long staticMicros = medianInitMicros("static");
+
+        logger.info("Cold schema init for {} model classes: bean={}us static={}us ({}x faster)",
+                MODEL_CLASSES.size(), beanMicros, staticMicros,
+                String.format("%.1f", (double) beanMicros / Math.max(1, staticMicros)));
+        if (staticMicros >= beanMicros) {
+            logger.warn("Static schemas were not faster than bean schemas in this run (static={}us, bean={}us)",
+                    staticMicros, beanMicros);
+        }
+    }
+
+    private long medianInitMicros(String mode) throws Exception {
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < RUNS_PER_MODE; i++) {
+            samples.add(runColdStart(mode));
+        }
+        Collections.sort(samples);
+        logger.info("{} schema init samples (us): {}", mode, samples);
+        return samples.get(samples.size() / 2);
+    }
+
+    // Launches a fresh JVM that builds every schema once and prints the elapsed microseconds
+    private long runColdStart(String mode) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java,
+                "-XX:+TieredCompilation", "-XX:TieredStopAtLevel=1",
+                "-cp", System.getProperty("java.class.path"),
+                ColdStart.class.getName(), mode)
+                .redirectErrorStream(true)
+                .start();
+
+        String lastLine = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lastLine = line;
+            }
+        }
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS), "Cold start JVM did not exit");
+        assertEquals(0, process.exitValue(), "Cold start JVM failed: " + lastLine);
+        return Long.parseLong(lastLine.trim());
+    }
+
+    /**
+     * Entry point of the child JVM. Builds every model schema with the requested strategy.
+     */
+    public static final class ColdStart {
+        public static void main(String[] args) {
+            boolean useStatic = "static".equals(args[0]);
+            long start = System.nanoTime();
+            for (Class<?> modelClass : MODEL_CLASSES) {
+                TableSchema<?> schema = useStatic ? StaticTableSchemas.forClass(modelClass) : TableSchema.fromBean(modelClass);
+                // Touch the metadata so lazily built parts are included
+                schema.tableMetadata().primaryPartitionKey();
+            }
+            System.out.println(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+}
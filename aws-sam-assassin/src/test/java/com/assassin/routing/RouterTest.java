@@ -0,0 +1,118 @@
+package com.assassin.routing;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.assassin.handlers.GameHandler;
+import com.assassin.handlers.GameManagementHandler;
+import com.assassin.handlers.KillHandler;
+import com.assassin.handlers.PlayerHandler;
+import com.assassin.handlers.SafeZoneHandler;
+import com.assassin.server.ApiRoutes;
+
+class RouterTest {
+
+    private final Router<String> router = Router.<String>builder()
+            .add("GET", "/players/{playerId}", "byId")
+            .add("GET", "/players/me", "me")
+            .add("GET", "/players", "list")
+            .add("PUT", "/players/{playerId}", "update")
+            .add("POST", "/kills/{killerId}/{killTime}/verify", "verify")
+            .add("GET", "/games/{gameId}/events/{since:long}", "eventsSince")
+            .add("GET", "/games/{gameId}/events/{cursor}", "eventsAfterCursor")
+            .add("GET", "/leaderboard/{limit:int}", "leaderboard")
+            .build();
+
+    @Test
+    void testLiteralSegmentsWinOverParametersWhateverTheOrder() {
+        assertEquals("me", router.match("GET", "/players/me").getTarget());
+        assertEquals("byId", router.match("GET", "/players/p1").getTarget());
+    }
+
+    @Test
+    void testBacktracksToParameterWhenLiteralHasNoRouteForTheMethod() {
+        Router.Match<String> match = router.match("PUT", "/players/me");
+
+        assertEquals("update", match.getTarget());
+        assertEquals("me", match.get("playerId"));
+    }
+
+    @Test
+    void testExtractsNamedPathParameters() {
+        Router.Match<String> match = router.match("POST", "/kills/p1/2024-01-01T00:00:00Z/verify");
+
+        assertNotNull(match);
+        assertEquals(Map.of("killerId", "p1", "killTime", "2024-01-01T00:00:00Z"), match.getPathParameters());
+        assertEquals("p1", match.get("killerId"));
+        assertNull(match.get("gameId"));
+        assertEquals("/kills/{killerId}/{killTime}/verify", match.getRoute().getTemplate());
+    }
+
+    @Test
+    void testTypedParametersOnlyMatchTheirType() {
+        Router.Match<String> numeric = router.match("GET", "/games/g1/events/1700000000000");
+        assertEquals("eventsSince", numeric.getTarget());
+        assertEquals(1_700_000_000_000L, numeric.getLong("since"));
+
+        assertEquals("eventsAfterCursor", router.match("GET", "/games/g1/events/abc123").getTarget());
+
+        assertEquals(25, router.match("GET", "/leaderboard/25").getInt("limit"));
+        assertNull(router.match("GET", "/leaderboard/top"));
+        assertNull(router.match("GET", "/leaderboard/99999999999"), "Values that overflow an int do not match");
+        assertEquals(-2147483648, router.match("GET", "/leaderboard/-2147483648").getInt("limit"));
+    }
+
+    @Test
+    void testTrailingSlashIsIgnored() {
+        assertEquals("list", router.match("GET", "/players/").getTarget());
+        assertTrue(router.match("GET", "/players").getPathParameters().isEmpty());
+    }
+
+    @Test
+    void testUnknownPathsAndMethods() {
+        assertNull(router.match("GET", "/players/p1/extra"));
+        assertNull(router.match("DELETE", "/players/p1"));
+        assertNull(router.match("GET", "/"));
+        assertTrue(router.hasPath("/players/p1"), "Known path with another method is a 405, not a 404");
+        assertFalse(router.hasPath("/nope"));
+    }
+
+    @Test
+    void testRejectsDuplicateAndMalformedTemplates() {
+        assertThrows(IllegalArgumentException.class, () -> Router.<String>builder()
+                .add("GET", "/games/{gameId}", "a")
+                .add("GET", "/games/{id}", "b")
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> Router.<String>builder()
+                .add("GET", "/games/{gameId:uuid}", "a"));
+    }
+
+    @Test
+    void testApiRoutesDispatchToTheEndpointsHandlersSwitchOn() {
+        assertEquals(ApiRoute.GET_MY_TARGET, ApiRoute.match("GET", "/players/me/target").getTarget());
+        assertEquals(ApiRoute.JOIN_GAME, ApiRoute.match("POST", "/games/g1/join").getTarget());
+        assertEquals(ApiRoute.PLAYER_STATS, ApiRoute.match("GET", "/stats/player/p1").getTarget());
+        assertEquals("g1", ApiRoute.match("GET", "/games/g1/timeline").get("gameID"));
+        assertEquals(ApiRoute.values().length, ApiRoute.router().getRoutes().size());
+    }
+
+    @Test
+    void testApiRoutesMapToTheHandlersThatServeThem() {
+        Router<Class<?>> routes = ApiRoutes.table();
+
+        assertEquals(PlayerHandler.class, routes.match("GET", "/players/me/target").getTarget());
+        assertEquals(GameHandler.class, routes.match("POST", "/games/g1/join").getTarget());
+        assertEquals(GameManagementHandler.class, routes.match("PUT", "/games/g1/boundary").getTarget());
+        assertEquals(KillHandler.class, routes.match("GET", "/games/g1/timeline").getTarget());
+        assertEquals(KillHandler.class, routes.match("GET", "/kills/recent").getTarget());
+        assertEquals(SafeZoneHandler.class, routes.match("GET", "/games/g1/safezones").getTarget());
+        assertEquals("g1", routes.match("GET", "/games/g1/safezones").getPathParameters().get("gameId"));
+    }
+}
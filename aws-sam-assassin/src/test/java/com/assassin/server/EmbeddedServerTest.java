@@ -0,0 +1,199 @@
+package com.assassin.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2WebSocketResponse;
+import com.assassin.routing.Router;
+
+/**
+ * Runs the embedded server on free ports with stub handlers and talks to it over real HTTP and WebSocket clients.
+ */
+class EmbeddedServerTest {
+
+    private final List<APIGatewayProxyRequestEvent> apiEvents = new CopyOnWriteArrayList<>();
+    private final List<APIGatewayV2WebSocketEvent> webSocketEvents = new CopyOnWriteArrayList<>();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private EmbeddedServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Router<Class<?>> routes = Router.<Class<?>>builder()
+                .add("GET", "/games/{gameId}", EchoHandler.class)
+                .add("POST", "/location", EchoHandler.class)
+                .build();
+        RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> echo = (event, context) -> {
+            apiEvents.add(event);
+            return new APIGatewayProxyResponseEvent().withStatusCode(200)
+                    .withHeaders(Map.of("Content-Type", "application/json"))
+                    .withBody("{\"path\":\"" + event.getPath() + "\"}");
+        };
+        ApiDispatcher dispatcher = new ApiDispatcher(routes, handlerClass -> echo, new ServerAuthenticator.HeaderAuthenticator());
+
+        server = new EmbeddedServer(0, 0, 4, 16, dispatcher, (port, executor) -> new WebSocketServer(port, executor,
+                webSocketHandler(200, null), webSocketHandler(200, "ack"), webSocketHandler(200, null)));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void testRoutesRequestToHandlerAsProxyEvent() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(api("/games/g1?include=players&include=zones"))
+                .header("X-Player-Id", "p1").GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"path\":\"/games/g1\"}", response.body());
+        APIGatewayProxyRequestEvent event = apiEvents.get(0);
+        assertEquals("GET", event.getHttpMethod());
+        assertEquals("/games/{gameId}", event.getResource());
+        assertEquals(Map.of("gameId", "g1"), event.getPathParameters());
+        assertEquals("players", event.getQueryStringParameters().get("include"));
+        assertEquals(List.of("players", "zones"), event.getMultiValueQueryStringParameters().get("include"));
+        assertNull(event.getBody());
+        Map<?, ?> claims = (Map<?, ?>) event.getRequestContext().getAuthorizer().get("claims");
+        assertEquals("p1", claims.get("sub"));
+    }
+
+    @Test
+    void testPassesBodyAndReportsUnknownRoutes() throws Exception {
+        HttpResponse<String> posted = client.send(HttpRequest.newBuilder(api("/location"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"latitude\":1}")).build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> missing = client.send(HttpRequest.newBuilder(api("/nowhere")).GET().build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> wrongMethod = client.send(HttpRequest.newBuilder(api("/location")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, posted.statusCode());
+        assertEquals("{\"latitude\":1}", apiEvents.get(0).getBody());
+        assertNull(apiEvents.get(0).getRequestContext().getAuthorizer(), "No X-Player-Id means no claims");
+        assertEquals(404, missing.statusCode());
+        assertEquals(405, wrongMethod.statusCode());
+    }
+
+    @Test
+    void testWebSocketRoutesConnectMessageAndDisconnect() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        WebSocket webSocket = client.newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + server.getWebSocketPort() + "/?playerId=p1"), new WebSocket.Listener() {
+                    @Override
+                    public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+                        received.add(data.toString());
+                        ws.request(1);
+                        return null;
+                    }
+                }).get(5, TimeUnit.SECONDS);
+
+        webSocket.sendText("hello", true).get(5, TimeUnit.SECONDS);
+        assertEquals("ack", received.poll(5, TimeUnit.SECONDS));
+
+        String connectionId = webSocketEvents.get(0).getRequestContext().getConnectionId();
+        assertTrue(server.getWebSocketServer().send(connectionId, "pushed"));
+        assertEquals("pushed", received.poll(5, TimeUnit.SECONDS));
+
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "bye").get(5, TimeUnit.SECONDS);
+        waitFor(() -> webSocketEvents.size() == 3);
+
+        List<String> routeKeys = new ArrayList<>();
+        webSocketEvents.forEach(e -> routeKeys.add(e.getRequestContext().getRouteKey()));
+        assertEquals(List.of("$connect", "$default", "$disconnect"), routeKeys);
+        assertEquals("p1", webSocketEvents.get(0).getQueryStringParameters().get("playerId"));
+        assertEquals("hello", webSocketEvents.get(1).getBody());
+        assertEquals(0, server.getWebSocketServer().getConnectionCount());
+    }
+
+    @Test
+    void testRejectedConnectFailsTheUpgrade() throws Exception {
+        server.stop();
+        server = new EmbeddedServer(0, 0, 2, 4, new ApiDispatcher(Router.<Class<?>>builder().build(),
+                handlerClass -> null, new ServerAuthenticator.HeaderAuthenticator()),
+                (port, executor) -> new WebSocketServer(port, executor, webSocketHandler(401, null), webSocketHandler(200, null), null));
+        server.start();
+
+        CompletableFuture<WebSocket> connecting = client.newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + server.getWebSocketPort() + "/"), new WebSocket.Listener() {});
+
+        assertTrue(connecting.handle((ws, error) -> error != null).get(5, TimeUnit.SECONDS));
+        assertEquals(0, server.getWebSocketServer().getConnectionCount());
+    }
+
+    @Test
+    void testHeaderAuthenticationHasToBeAllowedExplicitly() {
+        assumeTrue(System.getenv("COGNITO_USER_POOL_ID") == null, "Cognito is configured");
+        try {
+            System.clearProperty("ALLOW_HEADER_AUTH");
+            assertThrows(IllegalStateException.class, ServerAuthenticator::fromEnvironment);
+
+            System.setProperty("ALLOW_HEADER_AUTH", "true");
+            assertInstanceOf(ServerAuthenticator.HeaderAuthenticator.class, ServerAuthenticator.fromEnvironment());
+        } finally {
+            System.clearProperty("ALLOW_HEADER_AUTH");
+        }
+    }
+
+    @Test
+    void testHeaderAuthenticationListensOnLoopbackUnlessToldOtherwise() throws Exception {
+        assumeTrue(System.getenv("BIND_ADDRESS") == null, "BIND_ADDRESS is configured");
+        try {
+            assertTrue(EmbeddedServer.bindAddress(new ServerAuthenticator.HeaderAuthenticator()).isLoopbackAddress());
+            assertNull(EmbeddedServer.bindAddress(new ServerAuthenticator.CognitoAuthenticator(null)));
+
+            System.setProperty("BIND_ADDRESS", "0.0.0.0");
+            assertTrue(EmbeddedServer.bindAddress(new ServerAuthenticator.HeaderAuthenticator()).isAnyLocalAddress());
+        } finally {
+            System.clearProperty("BIND_ADDRESS");
+        }
+    }
+
+    private URI api(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getHttpPort() + pathAndQuery);
+    }
+
+    private RequestHandler<APIGatewayV2WebSocketEvent, APIGatewayV2WebSocketResponse> webSocketHandler(int status, String body) {
+        return (event, context) -> {
+            webSocketEvents.add(event);
+            APIGatewayV2WebSocketResponse response = new APIGatewayV2WebSocketResponse();
+            response.setStatusCode(status);
+            response.setBody(body);
+            return response;
+        };
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // Route target only; the stub factory returns the same echo handler for every class
+    private static final class EchoHandler {}
+}
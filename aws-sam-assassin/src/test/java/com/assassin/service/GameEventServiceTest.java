@@ -0,0 +1,91 @@
+package com.assassin.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.assassin.dao.GameEventDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.exception.GamePersistenceException;
+import com.assassin.exception.ValidationException;
+import com.assassin.model.GameEvent;
+import com.assassin.util.VirtualTimeSource;
+
+class GameEventServiceTest {
+
+    private VirtualTimeSource clock;
+    private GameEventService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+        service = new GameEventService(new InMemoryGameEventDao(), clock);
+    }
+
+    @Test
+    void testClientCatchesUpFromItsLastSequenceNumber() {
+        service.record("game-1", GameEvent.Type.KILL_REPORTED, GameEventService.data("killerId", "k1", "victimId", "v1"));
+        clock.advance(Duration.ofSeconds(1));
+        service.record("game-1", GameEvent.Type.PLAYER_ELIMINATED, GameEventService.data("playerId", "v1", "cause", "KILL"));
+        service.record("game-2", GameEvent.Type.SAFE_ZONE_CREATED, GameEventService.data("safeZoneId", "z1"));
+
+        List<GameEvent> missed = service.readSince("game-1", 1, 10);
+
+        assertEquals(1, missed.size());
+        assertEquals(2L, missed.get(0).getSeq());
+        assertEquals(GameEvent.Type.PLAYER_ELIMINATED.name(), missed.get(0).getType());
+        assertEquals("2030-01-01T00:00:01Z", missed.get(0).getTime());
+        assertEquals(2, service.getLatestSeq("game-1"));
+        assertEquals(1, service.getLatestSeq("game-2"));
+    }
+
+    @Test
+    void testEventsWithoutAGameAreDropped() {
+        GameEventDao dao = mock(GameEventDao.class);
+        GameEventService droppingService = new GameEventService(dao, clock);
+
+        droppingService.record(null, GameEvent.Type.KILL_VERIFIED, Map.of());
+        droppingService.record("", GameEvent.Type.KILL_VERIFIED, Map.of());
+
+        verify(dao, never()).addEvent(anyString(), any(GameEvent.Type.class), anyString(), anyMap());
+    }
+
+    @Test
+    void testRecordingFailureDoesNotFailTheChange() {
+        GameEventDao dao = mock(GameEventDao.class);
+        when(dao.addEvent(anyString(), any(GameEvent.Type.class), anyString(), anyMap()))
+                .thenThrow(new GamePersistenceException("Throttled"));
+
+        new GameEventService(dao, clock).record("game-1", GameEvent.Type.SAFE_ZONE_DELETED, Map.of());
+
+        verify(dao).addEvent("game-1", GameEvent.Type.SAFE_ZONE_DELETED, "2030-01-01T00:00:00Z", Map.of());
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThrows(ValidationException.class, () -> service.readSince("game-1", -1, 10));
+        assertThrows(ValidationException.class, () -> service.readSince("game-1", 0, 0));
+    }
+
+    @Test
+    void testDataLeavesOutNullValues() {
+        Map<String, String> data = GameEventService.data("playerId", "p1", "eliminatedBy", null);
+
+        assertEquals("p1", data.get("playerId"));
+        assertFalse(data.containsKey("eliminatedBy"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.assassin.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.assassin.dao.GameRosterDao;
+import com.assassin.dao.InMemoryGameRosterDao;
+import com.assassin.dao.InMemoryPlayerDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.model.GameRoster;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.util.VirtualTimeSource;
+
+class GameRosterServiceTest {
+
+    private VirtualTimeSource clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void testEliminationsRevealTheLastPlayerStanding() {
+        PlayerDao playerDao = new InMemoryPlayerDao();
+        GameRosterService service = new GameRosterService(new InMemoryGameRosterDao(playerDao), clock);
+        List<Player> players = List.of(player("p1"), player("p2"), player("p3"));
+        service.startRoster("game-1", players);
+
+        Optional<GameRoster> afterFirst = service.recordStatusChange(eliminate(players.get(0)), PlayerStatus.ACTIVE.name());
+        clock.advance(Duration.ofSeconds(1));
+        Optional<GameRoster> afterSecond = service.recordStatusChange(eliminate(players.get(2)), PlayerStatus.ACTIVE.name());
+
+        assertEquals(Optional.empty(), afterFirst.get().lastPlayerStanding());
+        assertEquals(Optional.of("p2"), afterSecond.get().lastPlayerStanding());
+        assertEquals("2030-01-01T00:00:01Z", afterSecond.get().getLastUpdated());
+        assertEquals(1, service.getRoster("game-1").get().getAliveCount());
+        assertEquals(PlayerStatus.DEAD.name(), playerDao.getPlayerById("p3").get().getStatus());
+    }
+
+    @Test
+    void testReadsAreServedFromTheWarmCopyUntilItExpires() {
+        GameRosterDao dao = mock(GameRosterDao.class);
+        GameRoster roster = GameRoster.of("game-1", List.of(player("p1"), player("p2")));
+        roster.setVersion(1L);
+        when(dao.getRoster("game-1")).thenReturn(Optional.of(roster));
+        GameRosterService service = new GameRosterService(dao, clock);
+
+        service.getRoster("game-1");
+        clock.advance(Duration.ofMillis(GameRosterService.CACHE_TTL_MS - 1));
+        service.getRoster("game-1");
+        verify(dao, times(1)).getRoster("game-1");
+
+        clock.advance(Duration.ofMillis(1));
+        service.getRoster("game-1");
+        verify(dao, times(2)).getRoster("game-1");
+    }
+
+    @Test
+    void testOlderRosterNeverReplacesTheWarmCopy() {
+        GameRosterDao dao = mock(GameRosterDao.class);
+        GameRoster newer = GameRoster.of("game-1", List.of(player("p1")));
+        newer.setVersion(3L);
+        GameRoster older = GameRoster.of("game-1", List.of(player("p1"), player("p2")));
+        older.setVersion(2L);
+        when(dao.updatePlayerStatus(any(Player.class), anyString(), anyString()))
+                .thenReturn(Optional.of(newer), Optional.of(older));
+        GameRosterService service = new GameRosterService(dao, clock);
+
+        service.recordStatusChange(eliminate(player("p2")), PlayerStatus.ACTIVE.name());
+        service.recordStatusChange(eliminate(player("p3")), PlayerStatus.ACTIVE.name());
+
+        assertEquals(3L, service.getRoster("game-1").get().getVersion());
+        verify(dao, never()).getRoster(anyString());
+    }
+
+    @Test
+    void testGameWithoutRosterHasNone() {
+        GameRosterService service = new GameRosterService(new InMemoryGameRosterDao(new InMemoryPlayerDao()), clock);
+
+        assertTrue(service.recordStatusChange(eliminate(player("p1")), PlayerStatus.ACTIVE.name()).isEmpty());
+        assertTrue(service.getRoster("game-1").isEmpty());
+    }
+
+    private static Player player(String playerId) {
+        Player player = new Player();
+        player.setPlayerID(playerId);
+        player.setGameID("game-1");
+        player.setStatus(PlayerStatus.ACTIVE.name());
+        return player;
+    }
+
+    private static Player eliminate(Player player) {
+        player.setStatus(PlayerStatus.DEAD.name());
+        return player;
+    }
+}
@@ -10,11 +10,11 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.assassin.dao.GameDao;
+import com.assassin.dao.InMemoryGameRosterDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
@@ -22,7 +22,11 @@ import com.assassin.exception.UnauthorizedException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.GameRoster;
 import com.assassin.model.GameStatus;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.util.TimeSource;
 
 @ExtendWith(MockitoExtension.class)
 class GameServiceTest {
@@ -33,7 +37,13 @@ class GameServiceTest {
     @Mock
     private PlayerDao playerDao; // Mock PlayerDao even if not directly used in updateBoundary
 
-    @InjectMocks
+    @Mock
+    private GeofenceManager geofenceManager;
+
+    @Mock
+    private ProximityDetectionService proximityDetectionService;
+
+    private InMemoryGameRosterDao gameRosterDao;
     private GameService gameService;
 
     private Game testGame;
@@ -44,6 +54,9 @@ class GameServiceTest {
 
     @BeforeEach
     void setUp() {
+        gameRosterDao = new InMemoryGameRosterDao(playerDao);
+        gameService = new GameService(gameDao, playerDao, new GameRosterService(gameRosterDao, TimeSource.system()),
+                geofenceManager, proximityDetectionService);
         testGame = new Game();
         testGame.setGameID(gameId);
         testGame.setAdminPlayerID(adminPlayerId);
@@ -130,6 +143,63 @@ class GameServiceTest {
         verify(gameDao).saveGame(testGame);
     }
     
-    // Add tests for startGameAndAssignTargets if they don't exist
-    // ...
+    @Test
+    void testStartGameAndAssignTargets_StoresTheRoster() throws Exception {
+        testGame.setPlayerIDs(List.of("p1", "p2", "p3"));
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+        when(playerDao.getPlayerById("p1")).thenReturn(Optional.of(player("p1", PlayerStatus.ACTIVE)));
+        when(playerDao.getPlayerById("p2")).thenReturn(Optional.of(player("p2", PlayerStatus.ACTIVE)));
+        when(playerDao.getPlayerById("p3")).thenReturn(Optional.of(player("p3", PlayerStatus.DEAD)));
+
+        gameService.startGameAndAssignTargets(gameId);
+
+        GameRoster roster = gameRosterDao.getRoster(gameId).orElseThrow();
+        assertEquals(2, roster.getAliveCount());
+        assertTrue(roster.getAlivePlayerIds().containsAll(List.of("p1", "p2")));
+        assertEquals(1, roster.getStatusCounts().get(PlayerStatus.DEAD.name()));
+        assertEquals(GameStatus.ACTIVE.name(), testGame.getStatus());
+        verify(gameDao).saveGame(testGame);
+    }
+
+    @Test
+    void testForceEndGame_AdminEndsGameAndReleasesItsState() {
+        testGame.setStatus(GameStatus.ACTIVE.name());
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+
+        Game ended = gameService.forceEndGame(gameId, adminPlayerId);
+
+        assertEquals(GameStatus.CANCELLED.name(), ended.getStatus());
+        verify(gameDao).saveGame(testGame);
+        verify(geofenceManager).clearGameGeofences(gameId);
+        verify(proximityDetectionService).clearProximityCache(gameId);
+    }
+
+    @Test
+    void testForceEndGame_NonAdminIsRejected() {
+        testGame.setStatus(GameStatus.ACTIVE.name());
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+
+        assertThrows(UnauthorizedException.class, () -> gameService.forceEndGame(gameId, nonAdminPlayerId));
+
+        verify(gameDao, never()).saveGame(any(Game.class));
+        verify(geofenceManager, never()).clearGameGeofences(anyString());
+    }
+
+    @Test
+    void testForceEndGame_EndedGameIsRejected() {
+        testGame.setStatus(GameStatus.COMPLETED.name());
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+
+        assertThrows(GameStateException.class, () -> gameService.forceEndGame(gameId, adminPlayerId));
+
+        verify(gameDao, never()).saveGame(any(Game.class));
+    }
+
+    private Player player(String playerId, PlayerStatus status) {
+        Player player = new Player();
+        player.setPlayerID(playerId);
+        player.setGameID(gameId);
+        player.setStatus(status.name());
+        return player;
+    }
 } 
\ No newline at end of file
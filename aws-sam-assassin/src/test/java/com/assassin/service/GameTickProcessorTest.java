@@ -0,0 +1,193 @@
+package com.assassin.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.assassin.config.MapConfiguration;
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.SafeZoneDao;
+import com.assassin.exception.PersistenceException;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameStatus;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStatus;
+import com.assassin.model.SafeZone;
+import com.assassin.service.GameTickProcessor.TickEvent;
+import com.assassin.service.GameTickProcessor.TickEventType;
+import com.assassin.service.GameTickProcessor.TickResult;
+
+@ExtendWith(MockitoExtension.class)
+class GameTickProcessorTest {
+
+    @Mock
+    private GameDao gameDao;
+    @Mock
+    private PlayerDao playerDao;
+    @Mock
+    private GameZoneStateDao gameZoneStateDao;
+    @Mock
+    private SafeZoneDao safeZoneDao;
+    @Mock
+    private MapConfigurationService mapConfigurationService;
+
+    private GameTickProcessor processor;
+
+    private final String gameId = "tick-game";
+    private final Coordinate center = new Coordinate(37.7749, -122.4194);
+    private final long now = Instant.parse("2026-01-01T12:00:00Z").toEpochMilli();
+
+    private Game game;
+    private GameZoneState zoneState;
+    private Player hunter;
+    private Player target;
+    private Player straggler;
+    private Player dead;
+
+    @BeforeEach
+    void setUp() {
+        processor = new GameTickProcessor(gameDao, playerDao, gameZoneStateDao, safeZoneDao, mapConfigurationService);
+
+        game = new Game();
+        game.setGameID(gameId);
+        game.setStatus(GameStatus.ACTIVE.name());
+        game.setBoundary(Arrays.asList(
+                new Coordinate(37.8749, -122.5194),
+                new Coordinate(37.8749, -122.3194),
+                new Coordinate(37.6749, -122.3194),
+                new Coordinate(37.6749, -122.5194)));
+
+        zoneState = new GameZoneState();
+        zoneState.setGameId(gameId);
+        zoneState.setCurrentCenter(center);
+        zoneState.setCurrentRadiusMeters(1000.0);
+
+        MapConfiguration mapConfig = new MapConfiguration();
+        mapConfig.setEliminationDistanceMeters(10.0);
+        mapConfig.setProximityAwarenessDistanceMeters(50.0);
+        lenient().when(mapConfigurationService.getEffectiveMapConfiguration(gameId)).thenReturn(mapConfig);
+
+        // hunter -> target (~5m apart), target -> straggler (far, outside zone), straggler -> hunter
+        hunter = player("hunter", "target", 37.7749, -122.4194, PlayerStatus.ACTIVE);
+        target = player("target", "straggler", 37.77492, -122.41935, PlayerStatus.ACTIVE);
+        straggler = player("straggler", "hunter", 37.8000, -122.4000, PlayerStatus.ACTIVE);
+        dead = player("dead", null, 37.7749, -122.4194, PlayerStatus.DEAD);
+        lenient().when(playerDao.getPlayersByGameId(gameId)).thenReturn(List.of(hunter, target, straggler, dead));
+    }
+
+    private Player player(String id, String targetId, double lat, double lon, PlayerStatus status) {
+        Player p = new Player();
+        p.setPlayerID(id);
+        p.setGameID(gameId);
+        p.setTargetID(targetId);
+        p.setStatus(status.name());
+        p.setLatitude(lat);
+        p.setLongitude(lon);
+        p.setLocationTimestamp(Instant.ofEpochMilli(now - 5000).toString());
+        return p;
+    }
+
+    private long count(TickResult result, String playerId, TickEventType type) {
+        return result.getEvents().stream()
+                .filter(e -> e.getPlayerId().equals(playerId) && e.getEventType() == type)
+                .count();
+    }
+
+    @Test
+    void processTick_EvaluatesAllRulesInSinglePass() {
+        when(safeZoneDao.getSafeZonesByGameId(gameId)).thenReturn(List.of());
+
+        TickResult result = processor.processTick(game, zoneState, now);
+
+        assertEquals(1, count(result, "hunter", TickEventType.TARGET_IN_RANGE));
+        assertEquals(1, count(result, "target", TickEventType.HUNTER_IN_RANGE));
+        assertEquals(1, count(result, "straggler", TickEventType.OUTSIDE_ZONE));
+        assertEquals(0, count(result, "dead", TickEventType.OUTSIDE_ZONE));
+        assertTrue(result.getSnapshot().isOutsideZone(2));
+        assertFalse(result.getSnapshot().isOutsideZone(0));
+        assertTrue(result.getSnapshot().getBoundaryDistance(0) > 50.0, "Center should be far inside the boundary");
+
+        TickEvent inRange = result.getEvents().stream()
+                .filter(e -> e.getEventType() == TickEventType.TARGET_IN_RANGE)
+                .findFirst().orElseThrow();
+        assertEquals("target", inRange.getOtherPlayerId());
+        assertTrue(inRange.getDistanceMeters() < 10.0);
+
+        // Roster and context are loaded exactly once per tick
+        verify(playerDao, times(1)).getPlayersByGameId(gameId);
+        verify(safeZoneDao, times(1)).getSafeZonesByGameId(gameId);
+        verify(mapConfigurationService, times(1)).getEffectiveMapConfiguration(gameId);
+        verify(playerDao, never()).getPlayerById(anyString());
+        verify(gameDao, never()).getGameById(anyString());
+    }
+
+    @Test
+    void processTick_TargetInSafeZone_DowngradesToNearby() {
+        SafeZone safeZone = new SafeZone();
+        safeZone.setSafeZoneId("sz-1");
+        safeZone.setCenter(new Coordinate(37.77492, -122.41935));
+        safeZone.setRadiusMeters(3.0);
+        when(safeZoneDao.getSafeZonesByGameId(gameId)).thenReturn(List.of(safeZone));
+
+        TickResult result = processor.processTick(game, zoneState, now);
+
+        assertEquals(0, count(result, "hunter", TickEventType.TARGET_IN_RANGE));
+        assertEquals(1, count(result, "hunter", TickEventType.TARGET_NEARBY));
+        assertEquals(1, count(result, "target", TickEventType.HUNTER_NEARBY));
+        assertTrue(result.getSnapshot().isInSafeZone(1));
+    }
+
+    @Test
+    void processTick_SafeZoneReadFails_EvaluatesWithoutSafeZones() {
+        when(safeZoneDao.getSafeZonesByGameId(gameId)).thenThrow(new PersistenceException("AccessDenied"));
+
+        TickResult result = processor.processTick(game, zoneState, now);
+
+        assertEquals(1, count(result, "straggler", TickEventType.OUTSIDE_ZONE));
+        assertEquals(1, count(result, "hunter", TickEventType.TARGET_IN_RANGE));
+        assertFalse(result.getSnapshot().isInSafeZone(1));
+    }
+
+    @Test
+    void processTick_StaleLocation_SkipsProximity() {
+        when(safeZoneDao.getSafeZonesByGameId(gameId)).thenReturn(List.of());
+        target.setLocationTimestamp(Instant.ofEpochMilli(now - 120000).toString());
+
+        TickResult result = processor.processTick(game, zoneState, now);
+
+        assertEquals(0, count(result, "hunter", TickEventType.TARGET_IN_RANGE));
+        assertEquals(0, count(result, "target", TickEventType.HUNTER_IN_RANGE));
+    }
+
+    @Test
+    void processTick_InactiveGame_ReturnsEmptyWithoutLoadingRoster() {
+        game.setStatus(GameStatus.COMPLETED.name());
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(game));
+
+        TickResult result = processor.processTick(gameId, now);
+
+        assertTrue(result.getEvents().isEmpty());
+        assertEquals(0, result.getSnapshot().size());
+        verify(playerDao, never()).getPlayersByGameId(anyString());
+    }
+}
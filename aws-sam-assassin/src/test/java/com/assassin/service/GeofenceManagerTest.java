@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
 import com.assassin.service.GeofenceManager.GeofenceEvent;
 import com.assassin.service.GeofenceManager.GeofenceEventType;
 
@@ -237,4 +238,57 @@ public class GeofenceManagerTest {
         // Assert
         verify(mockListener, never()).accept(any(GeofenceEvent.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void trackedState_IsPartitionedByGameAndReported() {
+        when(mapConfigurationService.isCoordinateInGameBoundary(any(), any(Coordinate.class)))
+            .thenReturn(true);
+
+        geofenceManager.updatePlayerLocation(gameId, playerId, insideBoundary);
+        geofenceManager.updatePlayerLocation(gameId, "other-player", insideBoundary);
+        geofenceManager.updatePlayerLocation("other-game", playerId, insideBoundary);
+
+        assertEquals(2, geofenceManager.getTrackedGameCount());
+        assertEquals(3, geofenceManager.getTrackedPlayerCount());
+        assertEquals(2, geofenceManager.getTrackedPlayerCount(gameId));
+        assertEquals(Optional.of(insideBoundary), geofenceManager.getLastKnownLocation(gameId, playerId));
+        assertFalse(geofenceManager.getLastBoundaryEventMillis(gameId, playerId).isPresent());
+
+        geofenceManager.clearGameGeofences(gameId);
+
+        assertEquals(1, geofenceManager.getTrackedGameCount());
+        assertEquals(0, geofenceManager.getTrackedPlayerCount(gameId));
+        assertEquals(1, geofenceManager.getTrackedPlayerCount("other-game"));
+    }
+
+    @Test
+    void evictIdleGames_RemovesOnlyIdleGames() {
+        when(mapConfigurationService.isCoordinateInGameBoundary(any(), any(Coordinate.class)))
+            .thenReturn(true);
+        geofenceManager.updatePlayerLocation(gameId, playerId, insideBoundary);
+        long now = System.currentTimeMillis();
+
+        assertEquals(0, geofenceManager.evictIdleGames(now + 60_000));
+        assertEquals(1, geofenceManager.getTrackedGameCount());
+
+        assertEquals(1, geofenceManager.evictIdleGames(now + 31 * 60_000));
+        assertEquals(0, geofenceManager.getTrackedGameCount());
+        assertFalse(geofenceManager.getLastKnownLocation(gameId, playerId).isPresent());
+    }
+
+    @Test
+    void updatePlayerLocation_LoadedGame_UsesItsMapBoundaryWithoutLookingUpTheGame() {
+        Game game = new Game();
+        game.setGameID(gameId);
+        when(mapConfigurationService.getGameBoundary(game)).thenReturn(testBoundary);
+
+        geofenceManager.updatePlayerLocation(game, playerId, insideBoundary);
+        Optional<GeofenceEvent> event = geofenceManager.updatePlayerLocation(game, playerId, outsideBoundary);
+
+        assertTrue(event.isPresent());
+        assertEquals(GeofenceEventType.EXIT_BOUNDARY, event.get().getEventType());
+        assertTrue(event.get().getDistanceToBoundary() < 0);
+        verify(mapConfigurationService, never()).getGameBoundary(gameId);
+        verify(mapConfigurationService, never()).isCoordinateInGameBoundary(any(), any(Coordinate.class));
+    }
+}
@@ -26,10 +26,15 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.assassin.dao.GameDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.InMemoryGameRosterDao;
+import com.assassin.dao.InMemoryRecentKillFeedDao;
 import com.assassin.dao.KillDao;
 import com.assassin.dao.PlayerDao;
+import com.assassin.exception.KillNotFoundException;
 import com.assassin.exception.ValidationException;
 import com.assassin.model.Game;
+import com.assassin.model.GameEvent;
 import com.assassin.model.GameState;
 import com.assassin.model.Kill;
 import com.assassin.model.Notification;
@@ -37,6 +42,7 @@ import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus;
 import com.assassin.service.verification.VerificationManager;
 import com.assassin.service.verification.VerificationResult;
+import com.assassin.util.TimeSource;
 
 @ExtendWith(MockitoExtension.class)
 class KillServiceTest {
@@ -80,7 +86,10 @@ class KillServiceTest {
         MockitoAnnotations.openMocks(this);
         
         // Using constructor with all dependencies to match service implementation
-        killService = new KillService(killDao, playerDao, gameDao, notificationService, verificationManager, safeZoneService);
+        killService = new KillService(killDao, playerDao, gameDao, notificationService, verificationManager, safeZoneService,
+                TimeSource.system(), new RecentKillFeedService(new InMemoryRecentKillFeedDao(), TimeSource.system()),
+                new GameEventService(new InMemoryGameEventDao(), TimeSource.system()),
+                new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system()));
 
         // Basic valid game and players setup
         testGame = new Game();
@@ -167,6 +176,53 @@ class KillServiceTest {
         verify(notificationService, never()).sendNotification(any(Notification.class));
     }
 
+    @Test
+    void verifyKill_Success_AddsKillToRecentKillFeeds() throws Exception {
+        when(killDao.getKill(killerId, killTimeString)).thenReturn(Optional.of(testKill));
+        when(verificationManager.verifyKill(any(Kill.class), anyMap(), anyString()))
+                .thenReturn(VerificationResult.verified("Verified via GPS proximity (within threshold)"));
+
+        killService.verifyKill(killerId, killTimeString, "verifier-1", new HashMap<>());
+
+        List<Kill> global = killService.findRecentKills(10);
+        assertEquals(1, global.size());
+        assertEquals(victimId, global.get(0).getVictimID());
+        assertEquals("VERIFIED", global.get(0).getVerificationStatus());
+        assertEquals(killTimeString, killService.findRecentKills(gameId, 10).get(0).getTime());
+        assertThrows(KillNotFoundException.class, () -> killService.findRecentKills("another-game", 10));
+    }
+
+    @Test
+    void verifyKill_Rejected_LeavesRecentKillFeedsEmpty() throws Exception {
+        when(killDao.getKill(killerId, killTimeString)).thenReturn(Optional.of(testKill));
+        when(verificationManager.verifyKill(any(Kill.class), anyMap(), anyString()))
+                .thenReturn(VerificationResult.rejected("Rejected via GPS proximity (outside threshold)"));
+
+        killService.verifyKill(killerId, killTimeString, "verifier-1", new HashMap<>());
+
+        assertThrows(KillNotFoundException.class, () -> killService.findRecentKills(10));
+    }
+
+    @Test
+    void verifyKill_RecordsTheOutcomeInTheGameEventSequence() throws Exception {
+        GameEventService gameEventService = new GameEventService(new InMemoryGameEventDao(), TimeSource.system());
+        killService = new KillService(killDao, playerDao, gameDao, notificationService, verificationManager, safeZoneService,
+                TimeSource.system(), new RecentKillFeedService(new InMemoryRecentKillFeedDao(), TimeSource.system()),
+                gameEventService, new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system()));
+        when(killDao.getKill(killerId, killTimeString)).thenReturn(Optional.of(testKill));
+        when(verificationManager.verifyKill(any(Kill.class), anyMap(), anyString()))
+                .thenReturn(VerificationResult.rejected("Rejected via GPS proximity (outside threshold)"));
+
+        killService.verifyKill(killerId, killTimeString, "verifier-1", new HashMap<>());
+
+        List<GameEvent> events = gameEventService.readSince(gameId, 0, 10);
+        assertEquals(1, events.size());
+        assertEquals(GameEvent.Type.KILL_VERIFIED.name(), events.get(0).getType());
+        assertEquals(victimId, events.get(0).getData().get("victimId"));
+        assertEquals(killTimeString, events.get(0).getData().get("killTime"));
+        assertEquals("REJECTED", events.get(0).getData().get("verificationStatus"));
+    }
+
     @Test
     void verifyKill_Gps_Failure_MissingVictimLocation() throws Exception {
         // Arrange: Specific mocks for this test
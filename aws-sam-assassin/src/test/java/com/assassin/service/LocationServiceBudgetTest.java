@@ -0,0 +1,138 @@
+package com.assassin.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.assassin.dao.DaoAccounting;
+import com.assassin.dao.DaoBudget;
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.GameZoneState;
+import com.assassin.model.Player;
+import com.assassin.util.VirtualTimeSource;
+
+/**
+ * DynamoDB budgets for the location update path, the most frequent request in a running game.
+ * The geofencing and zone lookups are real; only the map configuration table, which is not a DAO,
+ * is stubbed.
+ */
+@ExtendWith(MockitoExtension.class)
+class LocationServiceBudgetTest {
+
+    private static final String PLAYER_ID = "budget-player";
+    private static final String OTHER_PLAYER_ID = "budget-other-player";
+    private static final String GAME_ID = "budget-game";
+    private static final List<Coordinate> BOUNDARY = List.of(new Coordinate(40.1, -75.1), new Coordinate(40.1, -74.9),
+            new Coordinate(39.9, -74.9), new Coordinate(39.9, -75.1));
+
+    @Mock
+    private PlayerDao playerDao;
+
+    @Mock
+    private GameDao gameDao;
+
+    @Mock
+    private GameZoneStateDao gameZoneStateDao;
+
+    private VirtualTimeSource clock;
+    private LocationService locationService;
+    private Player player;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+        GameDao countedGameDao = DaoAccounting.wrap(GameDao.class, gameDao);
+        MapConfigurationService mapConfigService = spy(new MapConfigurationService(countedGameDao,
+                DaoAccounting.wrap(GameZoneStateDao.class, gameZoneStateDao), null, null, clock));
+        doReturn(BOUNDARY).when(mapConfigService).getGameBoundary(any(Game.class));
+        GeofenceManager geofenceManager = new GeofenceManager(mapConfigService, clock);
+        locationService = new LocationService(DaoAccounting.wrap(PlayerDao.class, playerDao), countedGameDao,
+                mapConfigService, geofenceManager, clock);
+
+        player = new Player();
+        player.setPlayerID(PLAYER_ID);
+        player.setGameID(GAME_ID);
+        player.setTargetID(OTHER_PLAYER_ID);
+        Player other = new Player();
+        other.setPlayerID(OTHER_PLAYER_ID);
+        other.setGameID(GAME_ID);
+        // The target as the nearby query returns it, ~33m north of the player
+        Player nearbyTarget = new Player();
+        nearbyTarget.setPlayerID(OTHER_PLAYER_ID);
+        nearbyTarget.setGameID(GAME_ID);
+        nearbyTarget.setLatitude(40.0003);
+        nearbyTarget.setLongitude(-75.0);
+        nearbyTarget.setLocationTimestamp(clock.now().toString());
+
+        Game game = new Game();
+        game.setGameID(GAME_ID);
+        game.setBoundary(BOUNDARY);
+        game.setShrinkingZoneEnabled(true);
+        GameZoneState zone = new GameZoneState();
+        zone.setGameId(GAME_ID);
+        zone.setCurrentCenter(new Coordinate(40.0, -75.0));
+        zone.setCurrentRadiusMeters(5000.0);
+        when(playerDao.getPlayerById(PLAYER_ID)).thenReturn(Optional.of(player));
+        when(playerDao.getPlayerById(OTHER_PLAYER_ID)).thenReturn(Optional.of(other));
+        when(gameDao.getGameById(GAME_ID)).thenReturn(Optional.of(game));
+        when(gameZoneStateDao.getGameZoneState(GAME_ID)).thenReturn(Optional.of(zone));
+        when(playerDao.findPlayersNear(eq(GAME_ID), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(nearbyTarget));
+
+        // Both players have reported before, so the zone state is cached
+        locationService.reportLocation(OTHER_PLAYER_ID, 40.0003, -75.0, 10.0);
+        locationService.reportLocation(PLAYER_ID, 40.0, -75.0, 10.0);
+    }
+
+    @Test
+    @DaoBudget(reads = 2, writes = 1)
+    void testLocationUpdateReadsPlayerAndGameAndWritesOnce(DaoAccounting.Scope scope) throws Exception {
+        locationService.updatePlayerLocation(PLAYER_ID, 40.0, -75.0, 10.0);
+
+        assertEquals(Map.of("PlayerDao.getPlayerById", 1, "GameDao.getGameById", 1,
+                "PlayerDao.updatePlayerLocation", 1), scope.getCallsByMethod());
+    }
+
+    @Test
+    @DaoBudget(reads = 3, writes = 1)
+    void testReportLocationFindsTargetAndHuntersWithOneNearbyQuery(DaoAccounting.Scope scope) throws Exception {
+        int interval = locationService.reportLocation(PLAYER_ID, 40.0, -75.0, 10.0).getRecommendedIntervalSeconds();
+
+        assertEquals(ReportingIntervalPolicy.MIN_INTERVAL_SECONDS, interval);
+        assertEquals(Map.of("PlayerDao.getPlayerById", 1, "GameDao.getGameById", 1,
+                "PlayerDao.findPlayersNear", 1, "PlayerDao.updatePlayerLocation", 1), scope.getCallsByMethod());
+    }
+
+    @Test
+    @DaoBudget(reads = 10, writes = 3)
+    void testZoneStateIsReadAtMostOncePerCacheLifetime(DaoAccounting.Scope scope) throws Exception {
+        clock.advance(Duration.ofSeconds(5));
+        locationService.reportLocation(PLAYER_ID, 40.0, -75.0, 10.0);
+        clock.advance(Duration.ofSeconds(5));
+        locationService.reportLocation(PLAYER_ID, 40.0, -75.0, 10.0);
+        assertNull(scope.getCallsByMethod().get("GameZoneStateDao.getGameZoneState"));
+
+        clock.advance(Duration.ofMillis(MapConfigurationService.ZONE_STATE_CACHE_TTL_MS));
+        locationService.reportLocation(PLAYER_ID, 40.0, -75.0, 10.0);
+        assertEquals(1, scope.getCallsByMethod().get("GameZoneStateDao.getGameZoneState"));
+    }
+}
@@ -31,6 +31,7 @@ import com.assassin.exception.InvalidLocationException;
 import com.assassin.exception.PlayerNotFoundException;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
+import com.assassin.model.LocationUpdateResponse;
 import com.assassin.model.Player;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,7 +97,7 @@ public class LocationServiceTest {
         );
         
         // Assert
-        verify(playerDao).updatePlayerLocation(eq(playerId), eq(validLat), eq(validLon), anyString(), eq(10.0));
+        verify(playerDao).updatePlayerLocation(eq(playerId), eq(gameId), eq(validLat), eq(validLon), anyString(), eq(10.0));
     }
 
     @Test
@@ -108,7 +109,7 @@ public class LocationServiceTest {
         assertThrows(PlayerNotFoundException.class, () -> {
             locationService.updatePlayerLocation(playerId, validLat, validLon, 10.0);
         });
-        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any());
+        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any(), any());
     }
     
     @Test
@@ -144,7 +145,7 @@ public class LocationServiceTest {
         assertThrows(GameNotFoundException.class, () -> {
             locationService.updatePlayerLocation(playerId, validLat, validLon, 10.0);
         });
-        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any());
+        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -161,7 +162,7 @@ public class LocationServiceTest {
         assertThrows(InvalidLocationException.class, () -> {
             locationService.updatePlayerLocation(playerId, outsideLat, outsideLon, 10.0);
         }, "Should throw InvalidLocationException when outside boundaries");
-        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any());
+        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any(), any());
     }
     
     @Test
@@ -178,7 +179,7 @@ public class LocationServiceTest {
         assertThrows(InvalidLocationException.class, () -> {
             locationService.updatePlayerLocation(playerId, validLat, validLon, 10.0); // Current location is far
         }, "Should throw InvalidLocationException for impossible speed");
-        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any());
+        verify(playerDao, never()).updatePlayerLocation(any(), any(), any(), any(), any(), any());
     }
     
     @Test
@@ -194,7 +195,7 @@ public class LocationServiceTest {
         // Should still update location, but skip game checks
         verify(playerDao).updatePlayerLocation(eq(playerId), eq(validLat), eq(validLon), anyString(), eq(10.0));
         verify(gameDao, never()).getGameById(any());
-        verify(mapConfigService, never()).getGameBoundary(any());
+        verify(mapConfigService, never()).getGameBoundary(anyString());
     }
     
     @Test
@@ -208,7 +209,7 @@ public class LocationServiceTest {
         GeofenceManager.GeofenceEvent mockEvent = new GeofenceManager.GeofenceEvent(
             gameId, playerId, expectedCoordinate, 
             GeofenceManager.GeofenceEventType.APPROACHING_BOUNDARY, 30.0);
-        when(geofenceManager.updatePlayerLocation(eq(gameId), eq(playerId), any(Coordinate.class)))
+        when(geofenceManager.updatePlayerLocation(eq(testGame), eq(playerId), any(Coordinate.class)))
             .thenReturn(Optional.of(mockEvent));
         
         // Act
@@ -221,10 +222,10 @@ public class LocationServiceTest {
         assertEquals(30.0, result.get().getDistanceToBoundary());
         
         // Verify geofence manager was called with correct parameters
-        verify(geofenceManager).updatePlayerLocation(eq(gameId), eq(playerId), eq(expectedCoordinate));
+        verify(geofenceManager).updatePlayerLocation(eq(testGame), eq(playerId), eq(expectedCoordinate));
         
         // Verify player location was updated
-        verify(playerDao).updatePlayerLocation(eq(playerId), eq(validLat), eq(validLon), anyString(), eq(10.0));
+        verify(playerDao).updatePlayerLocation(eq(playerId), eq(gameId), eq(validLat), eq(validLon), anyString(), eq(10.0));
     }
     
     @Test
@@ -234,7 +235,7 @@ public class LocationServiceTest {
         when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
         
         // Setup mock for GeofenceManager to return no event
-        when(geofenceManager.updatePlayerLocation(eq(gameId), eq(playerId), any(Coordinate.class)))
+        when(geofenceManager.updatePlayerLocation(eq(testGame), eq(playerId), any(Coordinate.class)))
             .thenReturn(Optional.empty());
         
         // Act
@@ -245,10 +246,10 @@ public class LocationServiceTest {
         assertFalse(result.isPresent(), "Should not return geofence event");
         
         // Verify geofence manager was called
-        verify(geofenceManager).updatePlayerLocation(eq(gameId), eq(playerId), any(Coordinate.class));
+        verify(geofenceManager).updatePlayerLocation(eq(testGame), eq(playerId), any(Coordinate.class));
         
         // Verify player location was updated
-        verify(playerDao).updatePlayerLocation(eq(playerId), eq(validLat), eq(validLon), anyString(), eq(10.0));
+        verify(playerDao).updatePlayerLocation(eq(playerId), eq(gameId), eq(validLat), eq(validLon), anyString(), eq(10.0));
     }
     
     // --- Tests for getClientMapConfiguration --- 
@@ -281,4 +282,77 @@ public class LocationServiceTest {
             locationService.getClientMapConfiguration(gameId);
         });
     }
-} 
\ No newline at end of file
+
+    // --- Tests for reportLocation ---
+
+    @Test
+    void reportLocation_TargetNearby_RecommendsFastCadence() throws Exception {
+        testPlayer.setTargetID("target-id");
+        when(playerDao.getPlayerById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+        when(playerDao.findPlayersNear(gameId, validLat, validLon, ReportingIntervalPolicy.MAX_PLAYER_DISTANCE_METERS))
+            .thenReturn(List.of(nearbyPlayer("target-id", "other-id", 0.0001, Instant.now())));
+        when(geofenceManager.getDistanceToBoundary(eq(testGame), any(Coordinate.class))).thenReturn(5000.0);
+
+        LocationUpdateResponse response = locationService.reportLocation(playerId, validLat, validLon, 10.0);
+
+        assertEquals(ReportingIntervalPolicy.MIN_INTERVAL_SECONDS, response.getRecommendedIntervalSeconds());
+        verify(playerDao).updatePlayerLocation(eq(playerId), eq(gameId), eq(validLat), eq(validLon), anyString(), eq(10.0));
+        verify(playerDao, never()).getPlayersTargeting(any(), any());
+    }
+
+    @Test
+    void reportLocation_HunterNearby_IgnoresPlayersOutsideTheEngagement() throws Exception {
+        testPlayer.setTargetID("target-id");
+        when(playerDao.getPlayerById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+        // The bystander is closest but neither hunts nor is hunted by the player
+        when(playerDao.findPlayersNear(gameId, validLat, validLon, ReportingIntervalPolicy.MAX_PLAYER_DISTANCE_METERS))
+            .thenReturn(List.of(nearbyPlayer("bystander-id", "target-id", 0.00001, Instant.now()),
+                                nearbyPlayer("hunter-id", playerId, 0.001, Instant.now())));
+        when(geofenceManager.getDistanceToBoundary(eq(testGame), any(Coordinate.class))).thenReturn(5000.0);
+
+        LocationUpdateResponse response = locationService.reportLocation(playerId, validLat, validLon, 10.0);
+
+        // The hunter is ~111m away
+        assertEquals(5, response.getRecommendedIntervalSeconds());
+    }
+
+    @Test
+    void reportLocation_TargetStoppedReporting_RecommendsSlowCadence() throws Exception {
+        testPlayer.setTargetID("target-id");
+        when(playerDao.getPlayerById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+        when(playerDao.findPlayersNear(gameId, validLat, validLon, ReportingIntervalPolicy.MAX_PLAYER_DISTANCE_METERS))
+            .thenReturn(List.of(nearbyPlayer("target-id", "other-id", 0.0001, Instant.now().minusSeconds(600))));
+        when(geofenceManager.getDistanceToBoundary(eq(testGame), any(Coordinate.class))).thenReturn(5000.0);
+
+        LocationUpdateResponse response = locationService.reportLocation(playerId, validLat, validLon, 10.0);
+
+        assertEquals(ReportingIntervalPolicy.MAX_INTERVAL_SECONDS, response.getRecommendedIntervalSeconds());
+    }
+
+    @Test
+    void reportLocation_FarFromEverything_RecommendsSlowCadence() throws Exception {
+        when(playerDao.getPlayerById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
+        when(playerDao.findPlayersNear(gameId, validLat, validLon, ReportingIntervalPolicy.MAX_PLAYER_DISTANCE_METERS))
+            .thenReturn(List.of());
+        when(geofenceManager.getDistanceToBoundary(eq(testGame), any(Coordinate.class))).thenReturn(5000.0);
+
+        LocationUpdateResponse response = locationService.reportLocation(playerId, validLat, validLon, 10.0);
+
+        assertEquals(ReportingIntervalPolicy.MAX_INTERVAL_SECONDS, response.getRecommendedIntervalSeconds());
+    }
+
+    private Player nearbyPlayer(String id, String targetId, double latitudeOffset, Instant reportedAt) {
+        Player player = new Player();
+        player.setPlayerID(id);
+        player.setGameID(gameId);
+        player.setTargetID(targetId);
+        player.setLatitude(validLat + latitudeOffset);
+        player.setLongitude(validLon);
+        player.setLocationTimestamp(reportedAt.toString());
+        return player;
+    }
+}
@@ -17,7 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -26,12 +25,15 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.assassin.dao.GameDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.InMemoryGameRosterDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.model.Coordinate;
 import com.assassin.model.Game;
 import com.assassin.model.GameZoneState;
 import com.assassin.model.Player;
 import com.assassin.model.ShrinkingZoneStage;
+import com.assassin.util.TimeSource;
 
 @ExtendWith(MockitoExtension.class)
 class PlayerStatusServiceTest {
@@ -43,7 +45,6 @@ class PlayerStatusServiceTest {
     @Mock
     private GameDao gameDao;
 
-    @InjectMocks
     private PlayerStatusService playerStatusService;
 
     private Player testPlayer;
@@ -57,6 +58,9 @@ class PlayerStatusServiceTest {
 
     @BeforeEach
     void setUp() {
+        playerStatusService = new PlayerStatusService(playerDao, shrinkingZoneService, gameDao, TimeSource.system(),
+                new GameEventService(new InMemoryGameEventDao(), TimeSource.system()),
+                new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system()));
         zoneCenter = new Coordinate(10.0, 10.0);
         zoneRadius = 1000.0; // 1km
 
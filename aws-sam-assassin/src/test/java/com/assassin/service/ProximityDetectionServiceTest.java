@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -363,7 +364,35 @@ class ProximityDetectionServiceTest {
                 org.mockito.ArgumentMatchers.anyLong());
     }
     
-    // TODO: Add tests for proximity cache behavior
+    @Test
+    void getRecentProximityResults_ReturnsCachedResultForBothPlayers() {
+        target.setLatitude(targetCoordClose.getLatitude());
+        target.setLongitude(targetCoordClose.getLongitude());
+        proximityDetectionService.canEliminateTarget("game1", "assassin1", "target1", null);
+
+        Map<String, ProximityDetectionService.ProximityResult> forAssassin =
+                proximityDetectionService.getRecentProximityResults("assassin1");
+        Map<String, ProximityDetectionService.ProximityResult> forTarget =
+                proximityDetectionService.getRecentProximityResults("target1");
+
+        assertEquals(1, forAssassin.size());
+        assertTrue(forAssassin.get("target1").isInRange());
+        assertEquals(1, forTarget.size());
+        assertTrue(forTarget.containsKey("assassin1"));
+        assertTrue(proximityDetectionService.getRecentProximityResults("someOtherTarget").isEmpty());
+    }
+
+    @Test
+    void clearProximityCache_RemovesOnlyThatGamesResults() {
+        proximityDetectionService.canEliminateTarget("game1", "assassin1", "target1", null);
+
+        proximityDetectionService.clearProximityCache("game2");
+        assertEquals(1, proximityDetectionService.getRecentProximityResults("assassin1").size());
+
+        proximityDetectionService.clearProximityCache("game1");
+        assertTrue(proximityDetectionService.getRecentProximityResults("assassin1").isEmpty());
+    }
+
     // TODO: Add tests for checkProximityAlerts method
 
 } 
\ No newline at end of file
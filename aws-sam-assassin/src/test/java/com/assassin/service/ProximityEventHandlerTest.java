@@ -23,6 +23,8 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.assassin.dao.GameDao;
+import com.assassin.dao.InMemoryGameEventDao;
+import com.assassin.dao.InMemoryGameRosterDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.PlayerNotFoundException;
@@ -31,6 +33,7 @@ import com.assassin.model.GameStatus;
 import com.assassin.model.Notification;
 import com.assassin.model.Player;
 import com.assassin.model.PlayerStatus;
+import com.assassin.util.TimeSource;
 
 @ExtendWith(MockitoExtension.class)
 public class ProximityEventHandlerTest {
@@ -47,6 +50,9 @@ public class ProximityEventHandlerTest {
     @Mock
     private ProximityDetectionService proximityDetectionService;
     
+    @Mock
+    private GeofenceManager geofenceManager;
+    
     private ProximityEventHandler proximityEventHandler;
     
     private Game testGame;
@@ -59,7 +65,10 @@ public class ProximityEventHandlerTest {
             playerDao, 
             gameDao, 
             proximityDetectionService,
-            notificationService
+            notificationService,
+            new GameEventService(new InMemoryGameEventDao(), TimeSource.system()),
+            new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system()),
+            geofenceManager
         );
         
         // Setup test data
@@ -236,6 +245,8 @@ public class ProximityEventHandlerTest {
         verify(gameDao, times(1)).saveGame(gameCaptor.capture());
         Game updatedGame = gameCaptor.getValue();
         assertEquals(GameStatus.COMPLETED.name(), updatedGame.getStatus(), "Game should be completed");
+        verify(geofenceManager).clearGameGeofences("game123");
+        verify(proximityDetectionService).clearProximityCache("game123");
         
         // Verify winner notification
         ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
@@ -244,4 +255,65 @@ public class ProximityEventHandlerTest {
                    .anyMatch(n -> n.getRecipientPlayerId().equals("player123") && n.getType().equals("GAME_WON")), 
                    "Winner notification missing");
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void processEliminationAttempt_RosterAnswersWinCheckWithoutReloadingPlayers() throws GameNotFoundException, PlayerNotFoundException {
+        // Arrange: the game started with a roster of three alive players
+        ProximityEventHandler rosterHandler = handlerWithRoster(testPlayer, testTarget, alivePlayer("otherActivePlayer"));
+        when(gameDao.getGameById("game123")).thenReturn(Optional.of(testGame));
+        when(playerDao.getPlayerById("player123")).thenReturn(Optional.of(testPlayer));
+        when(playerDao.getPlayerById("target123")).thenReturn(Optional.of(testTarget));
+        when(proximityDetectionService.canEliminateTarget(eq("game123"), eq("player123"), eq("target123"), anyString()))
+            .thenReturn(true);
+        
+        // Act
+        boolean result = rosterHandler.processEliminationAttempt("game123", "player123", "target123", "pistol");
+        
+        // Assert: two players are still alive, which the roster knew without a player reload
+        assertTrue(result, "Elimination should succeed");
+        verify(playerDao, never()).getPlayersByGameId(anyString());
+        verify(gameDao, never()).saveGame(any(Game.class));
+    }
+    
+    @Test
+    void processEliminationAttempt_RosterRevealsLastPlayerStanding() throws GameNotFoundException, PlayerNotFoundException {
+        // Arrange: the game started with a roster of the hunter and the target
+        ProximityEventHandler rosterHandler = handlerWithRoster(testPlayer, testTarget);
+        when(gameDao.getGameById("game123")).thenReturn(Optional.of(testGame));
+        when(playerDao.getPlayerById("player123")).thenReturn(Optional.of(testPlayer));
+        when(playerDao.getPlayerById("target123")).thenReturn(Optional.of(testTarget));
+        when(proximityDetectionService.canEliminateTarget(eq("game123"), eq("player123"), eq("target123"), anyString()))
+            .thenReturn(true);
+        // Only read to tell every player who won
+        when(playerDao.getPlayersByGameId("game123")).thenReturn(Arrays.asList(testPlayer, testTarget));
+        
+        // Act
+        boolean result = rosterHandler.processEliminationAttempt("game123", "player123", "target123", "pistol");
+        
+        // Assert
+        assertTrue(result, "Elimination should succeed");
+        ArgumentCaptor<Game> gameCaptor = ArgumentCaptor.forClass(Game.class);
+        verify(gameDao, times(1)).saveGame(gameCaptor.capture());
+        assertEquals(GameStatus.COMPLETED.name(), gameCaptor.getValue().getStatus(), "Game should be completed");
+        ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationService, atLeastOnce()).sendNotification(notificationCaptor.capture());
+        assertTrue(notificationCaptor.getAllValues().stream()
+                   .anyMatch(n -> n.getRecipientPlayerId().equals("player123") && n.getType().equals("GAME_WON")), 
+                   "Winner notification missing");
+    }
+    
+    private ProximityEventHandler handlerWithRoster(Player... players) {
+        GameRosterService gameRosterService = new GameRosterService(new InMemoryGameRosterDao(playerDao), TimeSource.system());
+        gameRosterService.startRoster("game123", Arrays.asList(players));
+        return new ProximityEventHandler(playerDao, gameDao, proximityDetectionService, notificationService,
+                new GameEventService(new InMemoryGameEventDao(), TimeSource.system()), gameRosterService, geofenceManager);
+    }
+    
+    private static Player alivePlayer(String playerId) {
+        Player player = new Player();
+        player.setPlayerID(playerId);
+        player.setGameID("game123");
+        player.setStatus(PlayerStatus.ACTIVE.name());
+        return player;
+    }
+}
@@ -0,0 +1,106 @@
+package com.assassin.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.assassin.dao.InMemoryRecentKillFeedDao;
+import com.assassin.dao.RecentKillFeedDao;
+import com.assassin.exception.KillPersistenceException;
+import com.assassin.model.Kill;
+import com.assassin.model.KillFeedEntry;
+import com.assassin.model.RecentKillFeed;
+import com.assassin.util.VirtualTimeSource;
+
+class RecentKillFeedServiceTest {
+
+    private VirtualTimeSource clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void testVerifiedKillReachesGameAndGlobalFeeds() {
+        RecentKillFeedService service = new RecentKillFeedService(new InMemoryRecentKillFeedDao(), clock);
+
+        service.recordVerifiedKill(kill("game-1", "killer-1", "2030-01-01T00:00:00Z"));
+        service.recordVerifiedKill(kill("game-2", "killer-2", "2030-01-01T00:00:01Z"));
+
+        assertEquals("killer-1", service.getRecentKills("game-1", 10).get(0).getKillerID());
+        assertEquals(1, service.getRecentKills("game-2", 10).size());
+        assertEquals("killer-2", service.getRecentKills(null, 10).get(0).getKillerID());
+        assertEquals(2, service.getRecentKills(null, 10).size());
+        assertTrue(service.getRecentKills("game-3", 10).isEmpty());
+    }
+
+    @Test
+    void testReadsAreServedFromTheWarmCopyUntilItExpires() {
+        RecentKillFeedDao dao = mock(RecentKillFeedDao.class);
+        RecentKillFeed feed = new RecentKillFeed("game-1");
+        feed.add(KillFeedEntry.from(kill("game-1", "killer-1", "2030-01-01T00:00:00Z")));
+        when(dao.getFeed("game-1")).thenReturn(Optional.of(feed));
+        RecentKillFeedService service = new RecentKillFeedService(dao, clock);
+
+        service.getRecentKills("game-1", 10);
+        clock.advance(Duration.ofMillis(RecentKillFeedService.CACHE_TTL_MS - 1));
+        service.getRecentKills("game-1", 10);
+        verify(dao, times(1)).getFeed("game-1");
+
+        clock.advance(Duration.ofMillis(1));
+        service.getRecentKills("game-1", 10);
+        verify(dao, times(2)).getFeed("game-1");
+    }
+
+    @Test
+    void testOwnWritesAreVisibleWithoutARead() {
+        RecentKillFeedDao dao = mock(RecentKillFeedDao.class);
+        RecentKillFeed written = new RecentKillFeed(RecentKillFeed.GLOBAL_FEED_ID);
+        written.add(KillFeedEntry.from(kill("game-1", "killer-1", "2030-01-01T00:00:00Z")));
+        when(dao.addKill(anyString(), any(KillFeedEntry.class), anyString())).thenReturn(written);
+        RecentKillFeedService service = new RecentKillFeedService(dao, clock);
+
+        service.recordVerifiedKill(kill("game-1", "killer-1", "2030-01-01T00:00:00Z"));
+
+        assertEquals("killer-1", service.getRecentKills(null, 10).get(0).getKillerID());
+        verify(dao, never()).getFeed(RecentKillFeed.GLOBAL_FEED_ID);
+    }
+
+    @Test
+    void testFeedWriteFailureDoesNotFailTheVerification() {
+        RecentKillFeedDao dao = mock(RecentKillFeedDao.class);
+        when(dao.addKill(eq("game-1"), any(KillFeedEntry.class), anyString()))
+                .thenThrow(new KillPersistenceException("Throttled"));
+        when(dao.addKill(eq(RecentKillFeed.GLOBAL_FEED_ID), any(KillFeedEntry.class), anyString()))
+                .thenReturn(new RecentKillFeed(RecentKillFeed.GLOBAL_FEED_ID));
+        RecentKillFeedService service = new RecentKillFeedService(dao, clock);
+
+        service.recordVerifiedKill(kill("game-1", "killer-1", "2030-01-01T00:00:00Z"));
+
+        verify(dao).addKill(eq(RecentKillFeed.GLOBAL_FEED_ID), any(KillFeedEntry.class), eq("2030-01-01T00:00:00Z"));
+    }
+
+    private static Kill kill(String gameId, String killerId, String time) {
+        Kill kill = new Kill();
+        kill.setGameId(gameId);
+        kill.setKillerID(killerId);
+        kill.setVictimID("victim-of-" + killerId);
+        kill.setTime(time);
+        kill.setVerificationStatus("VERIFIED");
+        return kill;
+    }
+}
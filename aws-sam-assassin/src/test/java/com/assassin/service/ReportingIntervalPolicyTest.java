@@ -0,0 +1,34 @@
+package com.assassin.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class ReportingIntervalPolicyTest {
+
+    private final ReportingIntervalPolicy policy = new ReportingIntervalPolicy();
+
+    @Test
+    void engagement_UsesMinimumInterval() {
+        assertEquals(2, policy.recommendIntervalSeconds(20.0, 5000.0, Double.NaN));
+    }
+
+    @Test
+    void farFromEverything_UsesMaximumInterval() {
+        assertEquals(60, policy.recommendIntervalSeconds(5000.0, 5000.0, 5000.0));
+        assertEquals(60, policy.recommendIntervalSeconds(Double.NaN, Double.NaN, Double.NaN));
+    }
+
+    @Test
+    void closestConcernWins() {
+        // Target far away but zone edge close
+        assertEquals(5, policy.recommendIntervalSeconds(2000.0, 5000.0, 10.0));
+        // Target at mid range, boundary further away
+        assertEquals(15, policy.recommendIntervalSeconds(400.0, 250.0, Double.NaN));
+    }
+
+    @Test
+    void outsideBoundaryOrZone_ReportsQuickly() {
+        assertEquals(5, policy.recommendIntervalSeconds(Double.NaN, -300.0, Double.NaN));
+        assertEquals(5, policy.recommendIntervalSeconds(Double.NaN, Double.NaN, -1.0));
+    }
+}
@@ -33,6 +33,7 @@ import com.assassin.config.MapConfiguration;
 import com.assassin.config.ZonePhase;
 import com.assassin.dao.GameDao;
 import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.InMemoryGameEventDao;
 import com.assassin.dao.PlayerDao;
 import com.assassin.exception.GameNotFoundException;
 import com.assassin.exception.GameStateException;
@@ -42,6 +43,7 @@ import com.assassin.model.GameStatus;
 import com.assassin.model.GameZoneState;
 import com.assassin.model.ShrinkingZoneStage;
 import com.assassin.util.GeoUtils;
+import com.assassin.util.TimeSource;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT) // Apply lenient strictness globally
@@ -113,7 +115,8 @@ class ShrinkingZoneServiceTest {
 
         testGame.setSettings(Map.of("shrinkingZoneConfig", testConfig));
 
-        shrinkingZoneService = Mockito.spy(new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao));
+        shrinkingZoneService = Mockito.spy(new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao, TimeSource.system(),
+                new GameEventService(new InMemoryGameEventDao(), TimeSource.system())));
         
         // Set up common mocks with lenient()
         lenient().when(gameDao.getGameById(gameId)).thenReturn(Optional.of(testGame));
@@ -385,7 +388,8 @@ class ShrinkingZoneServiceTest {
     @Test
     void testBaseConstructor() {
          // Primarily to ensure the constructor runs without errors
-         ShrinkingZoneService service = new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao);
+         ShrinkingZoneService service = new ShrinkingZoneService(gameDao, gameZoneStateDao, playerDao, TimeSource.system(),
+                 new GameEventService(new InMemoryGameEventDao(), TimeSource.system()));
          assertNotNull(service, "Service should be instantiated");
     }
 
@@ -0,0 +1,105 @@
+package com.assassin.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.assassin.model.Game;
+import com.assassin.model.Notification;
+import com.assassin.model.NotificationType;
+import com.assassin.model.Player;
+import com.assassin.service.GameTickProcessor.PlayerSnapshot;
+import com.assassin.service.GameTickProcessor.TickEvent;
+import com.assassin.service.GameTickProcessor.TickEventType;
+import com.assassin.service.GameTickProcessor.TickResult;
+import com.assassin.util.VirtualTimeSource;
+
+@ExtendWith(MockitoExtension.class)
+class TickEventDispatcherTest {
+
+    private static final String GAME_ID = "tick-game";
+
+    @Mock
+    private NotificationService notificationService;
+
+    private VirtualTimeSource clock;
+    private TickEventDispatcher dispatcher;
+    private PlayerSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+        dispatcher = new TickEventDispatcher(notificationService, clock);
+        snapshot = new PlayerSnapshot(List.of(player("hunter", "Hunter"), player("target", "Target")));
+    }
+
+    @Test
+    void testEachEventBecomesANotificationForItsPlayer() {
+        int sent = dispatcher.dispatch(tick(
+                new TickEvent(GAME_ID, "hunter", "target", TickEventType.TARGET_NEARBY, 30.0),
+                new TickEvent(GAME_ID, "target", null, TickEventType.OUTSIDE_ZONE, 120.0)));
+
+        assertEquals(2, sent);
+        ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationService, times(2)).sendNotification(captor.capture());
+        Notification alert = captor.getAllValues().get(0);
+        assertEquals("hunter", alert.getRecipientPlayerId());
+        assertEquals(NotificationType.PROXIMITY_ALERT.name(), alert.getType());
+        assertTrue(alert.getMessage().contains("Target"));
+        Notification warning = captor.getAllValues().get(1);
+        assertEquals("target", warning.getRecipientPlayerId());
+        assertEquals(NotificationType.ZONE_WARNING.name(), warning.getType());
+    }
+
+    @Test
+    void testPersistingConditionIsNotifiedAgainOnlyAfterTheCooldown() {
+        TickEvent outside = new TickEvent(GAME_ID, "target", null, TickEventType.OUTSIDE_ZONE, 120.0);
+
+        assertEquals(1, dispatcher.dispatch(tick(outside)));
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(0, dispatcher.dispatch(tick(outside)));
+        // A different condition for the same player is not held back
+        assertEquals(1, dispatcher.dispatch(tick(
+                new TickEvent(GAME_ID, "target", "hunter", TickEventType.HUNTER_IN_RANGE, 5.0))));
+
+        clock.advance(Duration.ofMillis(TickEventDispatcher.ALERT_COOLDOWN_MS));
+        assertEquals(1, dispatcher.dispatch(tick(outside)));
+    }
+
+    @Test
+    void testFailedNotificationIsRetriedOnTheNextTick() {
+        TickEvent outside = new TickEvent(GAME_ID, "target", null, TickEventType.OUTSIDE_ZONE, 120.0);
+        doThrow(new RuntimeException("unavailable")).doNothing().when(notificationService).sendNotification(any());
+
+        assertEquals(0, dispatcher.dispatch(tick(outside)));
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(1, dispatcher.dispatch(tick(outside)));
+    }
+
+    private TickResult tick(TickEvent... events) {
+        Game game = new Game();
+        game.setGameID(GAME_ID);
+        return new TickResult(GAME_ID, game, null, snapshot, List.of(events), clock.currentTimeMillis());
+    }
+
+    private static Player player(String id, String name) {
+        Player player = new Player();
+        player.setPlayerID(id);
+        player.setPlayerName(name);
+        player.setGameID(GAME_ID);
+        return player;
+    }
+}
@@ -0,0 +1,46 @@
+package com.assassin.service.maintenance;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.assassin.dao.InMemoryPlayerDao;
+import com.assassin.dao.ParallelScan;
+import com.assassin.dao.PlayerDao;
+import com.assassin.model.Player;
+import com.assassin.util.JsonCodecs;
+
+class PlayerExportJobTest {
+
+    @Test
+    void testExportsOnePlayerPerLineWithoutSecrets() throws IOException {
+        PlayerDao playerDao = new InMemoryPlayerDao();
+        for (int i = 0; i < 3; i++) {
+            Player player = new Player();
+            player.setPlayerID("p" + i);
+            player.setGameID("game");
+            player.setSecret("secret-" + i);
+            player.setTargetID("p" + ((i + 1) % 3));
+            playerDao.savePlayer(player);
+        }
+        StringWriter out = new StringWriter();
+
+        ParallelScan.Result result = new PlayerExportJob(playerDao).export(out, 2, 0);
+
+        List<Player> exported = out.toString().lines()
+                .map(line -> JsonCodecs.gson().fromJson(line, Player.class))
+                .collect(Collectors.toList());
+        assertEquals(3, result.getItemCount());
+        assertEquals(List.of("p0", "p1", "p2"), exported.stream().map(Player::getPlayerID).sorted().toList());
+        for (Player player : exported) {
+            assertEquals("game", player.getGameID());
+            assertNull(player.getSecret());
+            assertNull(player.getTargetID());
+        }
+    }
+}
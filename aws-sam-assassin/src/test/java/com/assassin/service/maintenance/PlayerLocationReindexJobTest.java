@@ -0,0 +1,78 @@
+package com.assassin.service.maintenance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.assassin.dao.DynamoDbPlayerDao;
+import com.assassin.dao.ParallelScan;
+import com.assassin.dao.PlayerDao;
+import com.assassin.exception.PlayerNotFoundException;
+import com.assassin.model.Player;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerLocationReindexJobTest {
+
+    private static final double LATITUDE = 37.7749;
+    private static final double LONGITUDE = -122.4194;
+
+    @Mock
+    private PlayerDao playerDao;
+
+    @Test
+    void testRewritesOnlyStaleCellKeys() {
+        Player current = player("current", "game", LATITUDE, LONGITUDE);
+        current.setGameCellKey(DynamoDbPlayerDao.gameCellKeyFor("game", LATITUDE, LONGITUDE));
+        Player missingKey = player("missing", "game", LATITUDE, LONGITUDE);
+        Player wrongGame = player("moved", "game2", LATITUDE, LONGITUDE);
+        wrongGame.setGameCellKey(DynamoDbPlayerDao.gameCellKeyFor("game", LATITUDE, LONGITUDE));
+        Player noLocation = player("nowhere", "game", null, null);
+        Player changed = player("changed", "game", LATITUDE, LONGITUDE);
+        Player deleted = player("deleted", "game", LATITUDE, LONGITUDE);
+        scanReturns(List.of(current, missingKey, wrongGame, noLocation, changed, deleted));
+        String cellKey = DynamoDbPlayerDao.gameCellKeyFor("game", LATITUDE, LONGITUDE);
+        String game2CellKey = DynamoDbPlayerDao.gameCellKeyFor("game2", LATITUDE, LONGITUDE);
+        when(playerDao.updateGameCellKey(missingKey, cellKey)).thenReturn(true);
+        when(playerDao.updateGameCellKey(wrongGame, game2CellKey)).thenReturn(true);
+        // Moved since the scan, so the conditional update leaves it alone
+        when(playerDao.updateGameCellKey(changed, cellKey)).thenReturn(false);
+        doThrow(new PlayerNotFoundException("gone")).when(playerDao).updateGameCellKey(deleted, cellKey);
+
+        long reindexed = new PlayerLocationReindexJob(playerDao).reindex(4, 50);
+
+        assertEquals(2, reindexed);
+        verify(playerDao, never()).updateGameCellKey(same(current), anyString());
+        verify(playerDao, never()).updateGameCellKey(same(noLocation), anyString());
+        verify(playerDao, never()).updatePlayerLocation(anyString(), anyString(), any(), any(), any(), any());
+    }
+
+    private void scanReturns(List<Player> players) {
+        when(playerDao.scanAllPlayers(any(), any())).thenAnswer(invocation -> {
+            Consumer<Player> consumer = invocation.getArgument(1);
+            players.forEach(consumer);
+            return new ParallelScan.Result(players.size(), players.size() * 0.5, Duration.ZERO);
+        });
+    }
+
+    private static Player player(String id, String gameId, Double latitude, Double longitude) {
+        Player player = new Player();
+        player.setPlayerID(id);
+        player.setGameID(gameId);
+        player.setLatitude(latitude);
+        player.setLongitude(longitude);
+        return player;
+    }
+}
@@ -0,0 +1,155 @@
+package com.assassin.util;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwk.JwkException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Tests for the verified-token cache and the signing key refresh, against a self-signed key set.
+ */
+class AuthorizationUtilsTest {
+
+    private static final String REGION = "us-east-1";
+    private static final String USER_POOL_ID = "us-east-1_test";
+    private static final String CLIENT_ID = "test-client";
+    private static final String ISSUER = "https://cognito-idp." + REGION + ".amazonaws.com/" + USER_POOL_ID;
+
+    private static KeyPair firstKey;
+    private static KeyPair secondKey;
+
+    private VirtualTimeSource clock;
+    private AtomicReference<Map<String, RSAPublicKey>> publishedKeys;
+    private AtomicInteger keyFetches;
+    private AuthorizationUtils authorizationUtils;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        firstKey = generator.generateKeyPair();
+        secondKey = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualTimeSource(Instant.parse("2030-01-01T00:00:00Z"));
+        publishedKeys = new AtomicReference<>(Map.of("key-1", (RSAPublicKey) firstKey.getPublic()));
+        keyFetches = new AtomicInteger();
+        authorizationUtils = new AuthorizationUtils(REGION, USER_POOL_ID, CLIENT_ID, () -> {
+            keyFetches.incrementAndGet();
+            return publishedKeys.get();
+        }, clock);
+    }
+
+    @Test
+    void testVerifiedTokenIsServedFromCacheUntilItExpires() throws Exception {
+        String token = sign("key-1", firstKey, CLIENT_ID, Duration.ofHours(1));
+
+        DecodedJWT first = authorizationUtils.validateAndDecodeToken(token);
+        clock.advance(Duration.ofMinutes(59));
+        DecodedJWT second = authorizationUtils.validateAndDecodeToken(token);
+
+        assertSame(first, second);
+        assertEquals("player-1", authorizationUtils.getUserIdFromToken(second));
+        assertEquals(1, keyFetches.get());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThrows(JWTVerificationException.class, () -> authorizationUtils.validateAndDecodeToken(token));
+    }
+
+    @Test
+    void testTokenSignedByAnotherKeyIsRejected() throws Exception {
+        String forged = sign("key-1", secondKey, CLIENT_ID, Duration.ofHours(1));
+        String otherClient = sign("key-1", firstKey, "other-client", Duration.ofHours(1));
+
+        assertThrows(JWTVerificationException.class, () -> authorizationUtils.validateAndDecodeToken(forged));
+        assertThrows(JWTVerificationException.class, () -> authorizationUtils.validateAndDecodeToken(forged));
+        assertThrows(JWTVerificationException.class, () -> authorizationUtils.validateAndDecodeToken(otherClient));
+    }
+
+    @Test
+    void testUnknownKeyIdFetchesRotatedKeysAtMostOncePerMinute() throws Exception {
+        authorizationUtils.prefetchKeys();
+        publishedKeys.set(Map.of("key-1", (RSAPublicKey) firstKey.getPublic(), "key-2", (RSAPublicKey) secondKey.getPublic()));
+        String rotated = sign("key-2", secondKey, CLIENT_ID, Duration.ofHours(1));
+
+        // The keys were read a moment ago, so the new kid has to wait for the next allowed fetch
+        assertThrows(JwkException.class, () -> authorizationUtils.validateAndDecodeToken(rotated));
+        assertThrows(JwkException.class, () -> authorizationUtils.validateAndDecodeToken(sign("key-3", secondKey, CLIENT_ID, Duration.ofHours(1))));
+        assertEquals(1, keyFetches.get());
+
+        clock.advance(Duration.ofMillis(AuthorizationUtils.MIN_KEY_FETCH_INTERVAL_MS));
+        assertEquals("player-1", authorizationUtils.validateAndDecodeToken(rotated).getSubject());
+        assertEquals(2, keyFetches.get());
+    }
+
+    @Test
+    void testFailedPrefetchDoesNotHoldBackTheFirstTokens() throws Exception {
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        AuthorizationUtils utils = new AuthorizationUtils(REGION, USER_POOL_ID, CLIENT_ID, () -> {
+            keyFetches.incrementAndGet();
+            if (failNext.getAndSet(false)) {
+                throw new JwkException("JWKS unavailable");
+            }
+            return publishedKeys.get();
+        }, clock);
+
+        assertThrows(JwkException.class, utils::prefetchKeys);
+        String token = sign("key-1", firstKey, CLIENT_ID, Duration.ofHours(1));
+
+        assertEquals("player-1", utils.validateAndDecodeToken(token).getSubject());
+        assertEquals(2, keyFetches.get());
+    }
+
+    @Test
+    void testRetiredKeyEvictsTheTokensItSigned() throws Exception {
+        String token = sign("key-1", firstKey, CLIENT_ID, Duration.ofHours(1));
+        DecodedJWT first = authorizationUtils.validateAndDecodeToken(token);
+
+        publishedKeys.set(Map.of("key-2", (RSAPublicKey) secondKey.getPublic()));
+        authorizationUtils.prefetchKeys();
+        assertThrows(JwkException.class, () -> authorizationUtils.validateAndDecodeToken(token));
+
+        publishedKeys.set(Map.of("key-1", (RSAPublicKey) firstKey.getPublic()));
+        clock.advance(Duration.ofMillis(AuthorizationUtils.MIN_KEY_FETCH_INTERVAL_MS));
+        assertNotSame(first, authorizationUtils.validateAndDecodeToken(token));
+    }
+
+    @Test
+    void testPrimeVerificationStaysOffline() {
+        AuthorizationUtils.primeVerification();
+    }
+
+    private String sign(String keyId, KeyPair keyPair, String audience, Duration lifetime) {
+        Instant issuedAt = clock.now();
+        return JWT.create()
+                .withKeyId(keyId)
+                .withIssuer(ISSUER)
+                .withAudience(audience)
+                .withSubject("player-1")
+                .withIssuedAt(issuedAt)
+                .withExpiresAt(issuedAt.plus(lifetime))
+                .sign(Algorithm.RSA256(null, (RSAPrivateKey) keyPair.getPrivate()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.assassin.util;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringGameCacheTest {
+
+    private static final long TTL = 10000;
+    private static final long TICK = 1000;
+    private final long start = 1_700_000_000_000L;
+
+    private ExpiringGameCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringGameCache<>(TTL, TICK);
+    }
+
+    @Test
+    void testGetReturnsLiveValueAndHidesExpiredValue() {
+        cache.put("game1", ExpiringGameCache.key("a", "b"), "ab", start);
+
+        assertEquals("ab", cache.get("game1", "a|b", start + TTL - 1));
+        assertNull(cache.get("game1", "a|b", start + TTL));
+        assertNull(cache.get("game2", "a|b", start));
+    }
+
+    @Test
+    void testExpireRemovesOnlyDueEntries() {
+        cache.put("game1", "early", "1", start, "p1");
+        cache.put("game1", "late", "2", start + 5000, "p1");
+
+        assertEquals(0, cache.expire(start + 1000));
+        assertEquals(1, cache.expire(start + TTL + TICK));
+        assertEquals(1, cache.size());
+        assertEquals(List.of("2"), cache.getForPlayer("p1", start + TTL + TICK));
+
+        assertEquals(1, cache.expire(start + 5000 + TTL + TICK));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.gameCount());
+        assertTrue(cache.getForPlayer("p1", start + 5000 + TTL + TICK).isEmpty());
+    }
+
+    @Test
+    void testExpireAfterLongIdleSweepsEverything() {
+        for (int i = 0; i < 50; i++) {
+            cache.put("game" + (i % 5), "k" + i, "v" + i, start + i * 100L, "p" + i);
+        }
+
+        assertEquals(50, cache.expire(start + 100 * TTL));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testOverwriteKeepsLatestEntryAlive() {
+        cache.put("game1", "k", "old", start, "p1");
+        cache.put("game1", "k", "new", start + 8000, "p2");
+
+        // The superseded entry's slot comes due first but must not evict the replacement
+        assertEquals(0, cache.expire(start + TTL + TICK));
+        assertEquals("new", cache.get("game1", "k", start + TTL + TICK));
+        assertTrue(cache.getForPlayer("p1", start + TTL + TICK).isEmpty());
+        assertEquals(List.of("new"), cache.getForPlayer("p2", start + TTL + TICK));
+    }
+
+    @Test
+    void testGetForPlayerOnlyReturnsMatchingEntries() {
+        cache.put("game1", ExpiringGameCache.key("a", "b"), "ab", start, "a", "b");
+        cache.put("game1", ExpiringGameCache.key("b", "c"), "bc", start, "b", "c");
+        cache.put("game2", ExpiringGameCache.key("a", "d"), "ad", start, "a", "d");
+
+        assertEquals(2, cache.getForPlayer("a", start).size());
+        assertEquals(2, cache.getForPlayer("b", start).size());
+        assertEquals(List.of("bc"), cache.getForPlayer("c", start));
+    }
+
+    @Test
+    void testClearGameLeavesOtherGames() {
+        cache.put("game1", "k1", "v1", start, "a");
+        cache.put("game2", "k2", "v2", start, "a");
+
+        cache.clearGame("game1");
+
+        assertNull(cache.get("game1", "k1", start));
+        assertEquals("v2", cache.get("game2", "k2", start));
+        assertEquals(List.of("v2"), cache.getForPlayer("a", start));
+        assertEquals(1, cache.sizeByGame().size());
+    }
+
+    @Test
+    void testRejectsNonPositiveDurations() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringGameCache<String>(0, TICK));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringGameCache<String>(TTL, 0));
+    }
+}
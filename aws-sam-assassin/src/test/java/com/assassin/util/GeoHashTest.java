@@ -0,0 +1,47 @@
+package com.assassin.util;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    void testEncodeKnownValue() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("u4pru", GeoHash.encode(57.64911, 10.40744, 5));
+    }
+
+    @Test
+    void testEncodeRejectsInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(0, 0, 13));
+    }
+
+    @Test
+    void testCoveringCellsIncludesCenterAndNeighbourWithinRadius() {
+        double lat = 37.7749;
+        double lon = -122.4194;
+        Set<String> cells = GeoHash.coveringCells(lat, lon, 500, 6);
+
+        assertTrue(cells.contains(GeoHash.encode(lat, lon, 6)), "Center cell should be covered");
+        // A point ~400m north must fall in one of the covering cells
+        assertTrue(cells.contains(GeoHash.encode(lat + 0.0036, lon, 6)), "Point within radius should be covered");
+        assertTrue(cells.size() <= GeoHash.estimateCoveringCellCount(lat, lon, 500, 6),
+                "Estimate should bound the actual cell count");
+    }
+
+    @Test
+    void testCoveringCellsSmallRadiusStaysSmall() {
+        Set<String> cells = GeoHash.coveringCells(37.7749, -122.4194, 10, 6);
+        assertTrue(cells.size() >= 1 && cells.size() <= 4, "A 10m circle should touch at most 4 cells at precision 6");
+    }
+
+    @Test
+    void testGameCellKey() {
+        assertEquals("game-1#9q8yyk", GeoHash.gameCellKey("game-1", "9q8yyk"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.assassin.util;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.assassin.model.Coordinate;
+import com.assassin.model.Game;
+import com.assassin.model.Kill;
+import com.assassin.model.LocationUpdateInput;
+import com.assassin.model.Notification;
+import com.assassin.model.Player;
+import com.assassin.model.PlayerStats;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+class JsonCodecsTest {
+
+    // The reflective path the handlers used before the codecs
+    private final Gson reflective = new Gson();
+    private final Gson codecs = JsonCodecs.gson();
+
+    @Test
+    void testLocationUpdateInputMatchesReflectiveGson() {
+        String json = "{\"latitude\":37.7749,\"longitude\":\"-122.4194\",\"timestamp\":\"2024-01-01T00:00:00Z\",\"accuracy\":5,\"extra\":{\"ignored\":[1,2]}}";
+
+        LocationUpdateInput input = codecs.fromJson(json, LocationUpdateInput.class);
+
+        assertEquals(37.7749, input.getLatitude());
+        assertEquals(-122.4194, input.getLongitude());
+        assertEquals("2024-01-01T00:00:00Z", input.getTimestamp());
+        assertEquals(5.0, input.getAccuracy());
+        assertSameJson(input);
+    }
+
+    @Test
+    void testPlayerRoundTripMatchesReflectiveGson() {
+        Player player = new Player();
+        player.setPlayerID("p1");
+        player.setEmail("p1@example.com");
+        player.setPlayerName("Player One");
+        player.setTargetID("p2");
+        player.setTargetName("Player Two");
+        player.setGameID("g1");
+        player.setStatus("ACTIVE");
+        player.setKillCount(4);
+        player.setVersion(3L);
+        player.setActive(true);
+        player.setLatitude(37.77);
+        player.setLongitude(-122.41);
+        player.setLocationTimestamp("2024-01-01T00:00:00Z");
+        player.setLocationAccuracy(8.5);
+        player.setGameCellKey("g1#9q8yyk");
+
+        assertSameJson(player);
+        Player decoded = codecs.fromJson(reflective.toJson(player), Player.class);
+        assertEquals(reflective.toJson(player), reflective.toJson(decoded));
+    }
+
+    @Test
+    void testPlayerKeepsExplicitLeaderboardPartitionWhateverTheFieldOrder() {
+        Player player = codecs.fromJson("{\"leaderboardStatusPartition\":\"GLOBAL\",\"status\":\"ACTIVE\"}", Player.class);
+
+        assertEquals("GLOBAL", player.getLeaderboardStatusPartition());
+    }
+
+    @Test
+    void testKillRoundTripMatchesReflectiveGson() {
+        Kill kill = new Kill();
+        kill.setKillerID("p1");
+        kill.setVictimID("p2");
+        kill.setTime("2024-01-01T00:00:00Z");
+        kill.setLatitude(37.77);
+        kill.setLongitude(-122.41);
+        kill.setDeathConfirmed(true);
+        kill.setVerificationMethod("NFC");
+        kill.setVerificationData(Map.of("nfcTagId", "tag-1"));
+        kill.setGameId("g1");
+
+        assertSameJson(kill);
+        Kill decoded = codecs.fromJson(reflective.toJson(kill), Kill.class);
+        assertEquals(reflective.toJson(kill), reflective.toJson(decoded));
+    }
+
+    @Test
+    void testNotificationRoundTripMatchesReflectiveGson() {
+        Notification notification = new Notification("p1", "KILL_VERIFIED", "Target eliminated", Map.of("victimId", "p2"));
+        notification.setNotificationId("n1");
+        notification.setGameId("g1");
+        notification.setRead(true);
+
+        assertSameJson(notification);
+        Notification decoded = codecs.fromJson(reflective.toJson(notification), Notification.class);
+        assertEquals(reflective.toJson(notification), reflective.toJson(decoded));
+    }
+
+    @Test
+    void testGameRoundTripMatchesReflectiveGson() {
+        Game game = new Game();
+        game.setGameID("g1");
+        game.setGameName("Test Game");
+        game.setStatus("ACTIVE");
+        game.setCreatedAt("2024-01-01T00:00:00Z");
+        game.setPlayerIDs(List.of("p1", "p2"));
+        game.setAdminPlayerID("p1");
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("mode", "classic");
+        settings.put("maxPlayers", 20.0);
+        settings.put("nested", Map.of("enabled", true));
+        game.setSettings(settings);
+        game.setBoundary(List.of(new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(1, 1)));
+        game.setShrinkingZoneEnabled(true);
+        game.setMapId("map-1");
+        game.setStartTimeEpochMillis(1_700_000_000_000L);
+
+        assertSameJson(game);
+        Game decoded = codecs.fromJson(reflective.toJson(game), Game.class);
+        assertEquals(JsonParser.parseString(reflective.toJson(game)), JsonParser.parseString(reflective.toJson(decoded)));
+    }
+
+    @Test
+    void testPlayerStatsMatchesReflectiveGson() {
+        assertSameJson(new PlayerStats("p1", 3, 1, 30));
+    }
+
+    @Test
+    void testCollectionsAndNullsUseCodecs() {
+        Type coordinateListType = new TypeToken<List<Coordinate>>() {}.getType();
+        List<Coordinate> boundary = codecs.fromJson("[{\"latitude\":1.5,\"longitude\":2.5},{\"latitude\":3,\"longitude\":4}]", coordinateListType);
+
+        assertEquals(List.of(new Coordinate(1.5, 2.5), new Coordinate(3, 4)), boundary);
+        assertNull(codecs.fromJson("null", Player.class));
+        assertEquals("null", codecs.toJson(null, Player.class));
+    }
+
+    @Test
+    void testOutputIsCompactAndOmitsNulls() {
+        Kill kill = new Kill();
+        kill.setKillerID("p1");
+
+        String json = codecs.toJson(kill);
+
+        assertFalse(json.contains("\n"), "Responses must not be pretty-printed");
+        assertFalse(json.contains("victimID"), "Null fields must be omitted");
+        assertTrue(json.startsWith("{\"killerID\":\"p1\""));
+    }
+
+    // Codec output must be the exact bytes reflective Gson produced for the same object
+    private void assertSameJson(Object value) {
+        assertEquals(reflective.toJson(value), codecs.toJson(value));
+    }
+}
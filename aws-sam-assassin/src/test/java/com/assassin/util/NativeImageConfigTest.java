@@ -0,0 +1,81 @@
+package com.assassin.util;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * Checks the native-image configuration against the classes it has to cover, so a new DAO or model does not
+ * only fail once the native image is built and deployed.
+ */
+class NativeImageConfigTest {
+
+    private static final String CONFIG_DIR = "/META-INF/native-image/com.assassin/assassin-game-api/";
+
+    @Test
+    void testEveryRegistryDaoIsRegisteredForItsAccountingProxy() throws Exception {
+        Set<String> proxied = new HashSet<>();
+        for (JsonElement entry : read("proxy-config.json")) {
+            JsonArray interfaces = entry.getAsJsonObject().getAsJsonArray("interfaces");
+            if (interfaces.size() == 1) {
+                proxied.add(interfaces.get(0).getAsString());
+            }
+        }
+        Set<String> reflected = reflectedClasses();
+
+        int daos = 0;
+        for (Method method : ServiceRegistry.class.getMethods()) {
+            Class<?> type = method.getReturnType();
+            if (Modifier.isStatic(method.getModifiers()) && type.isInterface() && type.getSimpleName().endsWith("Dao")) {
+                daos++;
+                assertTrue(proxied.contains(type.getName()), type.getName() + " missing from proxy-config.json");
+                assertTrue(reflected.contains(type.getName()), type.getName() + " missing from reflect-config.json");
+            }
+        }
+        assertTrue(daos > 0);
+    }
+
+    @Test
+    void testEveryModelIsRegisteredForReflection() throws Exception {
+        URL modelPackage = getClass().getResource("/com/assassin/model");
+        assertNotNull(modelPackage);
+        Set<String> reflected = reflectedClasses();
+
+        for (String file : new File(modelPackage.toURI()).list()) {
+            if (!file.endsWith(".class") || file.equals("StaticTableSchemas.class")) {
+                continue;
+            }
+            String className = "com.assassin.model." + file.substring(0, file.length() - ".class".length());
+            assertTrue(reflected.contains(className), className + " missing from reflect-config.json");
+        }
+    }
+
+    private static Set<String> reflectedClasses() throws Exception {
+        Set<String> names = new HashSet<>();
+        for (JsonElement entry : read("reflect-config.json")) {
+            names.add(entry.getAsJsonObject().get("name").getAsString());
+        }
+        return names;
+    }
+
+    private static JsonArray read(String fileName) throws Exception {
+        try (Reader reader = new InputStreamReader(
+                NativeImageConfigTest.class.getResourceAsStream(CONFIG_DIR + fileName), StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonArray();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.assassin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.assassin.handlers.KillHandler;
+import com.assassin.handlers.LocationHandler;
+import com.assassin.service.KillService;
+import com.assassin.service.LocationService;
+
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Invokes the checkpoint hooks directly, the way a CRaC runtime would before a snapshot and after a restore.
+ */
+class PrimingTest {
+
+    private static final List<String> TABLE_PROPERTIES = List.of(
+            "PLAYERS_TABLE_NAME", "GAMES_TABLE_NAME", "KILLS_TABLE_NAME",
+            "NOTIFICATIONS_TABLE_NAME", "SAFE_ZONES_TABLE_NAME");
+
+    private DynamoDbClient client;
+
+    @BeforeEach
+    void setUp() {
+        TABLE_PROPERTIES.forEach(name -> System.setProperty(name, "test-" + name));
+        client = mock(DynamoDbClient.class);
+        DynamoDbClientProvider.overrideClient(client);
+        ServiceRegistry.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Priming.unregister("counting");
+        Priming.unregister("failing");
+        DynamoDbClientProvider.resetClient();
+        ServiceRegistry.reset();
+        TABLE_PROPERTIES.forEach(System::clearProperty);
+    }
+
+    @Test
+    void testRegisteringTheSameNameTwiceKeepsTheFirstWarmUp() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Priming.register("counting", first::incrementAndGet);
+        Priming.register("counting", second::incrementAndGet);
+
+        Priming.beforeCheckpoint();
+
+        assertEquals(1, first.get());
+        assertEquals(0, second.get());
+    }
+
+    @Test
+    void testFailingWarmUpIsReportedWithoutStoppingTheOthers() {
+        AtomicInteger ran = new AtomicInteger();
+        Priming.register("failing", () -> {
+            throw new IllegalStateException("boom");
+        });
+        Priming.register("counting", ran::incrementAndGet);
+
+        Priming.Report report = Priming.beforeCheckpoint();
+
+        assertEquals(List.of("failing"), report.getFailedWarmUps());
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void testHandlerWarmUpsRunOfflineAndLoadClasses() throws Exception {
+        // Loading the handler classes is what registers their warm-ups
+        Class.forName(LocationHandler.class.getName());
+        Class.forName(KillHandler.class.getName());
+        assertTrue(Priming.registeredWarmUps().containsAll(List.of("LocationHandler", "KillHandler")));
+
+        Priming.Report report = Priming.beforeCheckpoint();
+
+        assertTrue(report.getFailedWarmUps().isEmpty(), "Warm-ups failed: " + report.getFailedWarmUps());
+        assertTrue(report.getWarmUpsRun() >= 2);
+        assertEquals(1, ServiceRegistry.constructionCount(LocationService.class));
+        assertEquals(1, ServiceRegistry.constructionCount(KillService.class));
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void testReportCountsClassesLoadedByWarmUps() {
+        Priming.register("counting", () -> new LoadedOnlyByPriming().hashCode());
+
+        Priming.Report report = Priming.beforeCheckpoint();
+
+        assertTrue(report.getClassesLoaded() >= 1, "Report should include the class loaded by the warm-up: " + report);
+    }
+
+    @Test
+    void testAfterRestoreKeepsTestOverride() {
+        Priming.afterRestore();
+
+        assertSame(client, DynamoDbClientProvider.getClient());
+    }
+
+    @Test
+    void testAfterRestoreRecreatesRestorableClientsBehindTheSameReference() {
+        List<CognitoIdentityProviderClient> built = new ArrayList<>();
+        CognitoIdentityProviderClient cognito = RestorableClients.create(CognitoIdentityProviderClient.class, () -> {
+            CognitoIdentityProviderClient next = mock(CognitoIdentityProviderClient.class);
+            when(next.serviceName()).thenReturn("cognito-" + built.size());
+            built.add(next);
+            return next;
+        });
+        assertEquals("cognito-0", cognito.serviceName());
+
+        Priming.afterRestore();
+
+        assertEquals(2, built.size());
+        assertEquals("cognito-1", cognito.serviceName());
+        verify(built.get(0)).close();
+    }
+
+    // Only ever referenced from a warm-up, so it is loaded while priming runs
+    private static final class LoadedOnlyByPriming {}
+}
@@ -0,0 +1,147 @@
+package com.assassin.util;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+
+import com.assassin.dao.GameDao;
+import com.assassin.dao.GameEventDao;
+import com.assassin.dao.GameRosterDao;
+import com.assassin.dao.GameZoneStateDao;
+import com.assassin.dao.KillDao;
+import com.assassin.dao.NotificationDao;
+import com.assassin.dao.PlayerDao;
+import com.assassin.dao.RecentKillFeedDao;
+import com.assassin.dao.SafeZoneDao;
+import com.assassin.model.Game;
+import com.assassin.model.Player;
+import com.assassin.service.GameEventService;
+import com.assassin.service.GameRosterService;
+import com.assassin.service.GameService;
+import com.assassin.service.GameTickProcessor;
+import com.assassin.service.GeofenceManager;
+import com.assassin.service.KillService;
+import com.assassin.service.LocationService;
+import com.assassin.service.MapConfigurationService;
+import com.assassin.service.NotificationService;
+import com.assassin.service.PlayerService;
+import com.assassin.service.PlayerStatusService;
+import com.assassin.service.ProximityDetectionService;
+import com.assassin.service.RecentKillFeedService;
+import com.assassin.service.SafeZoneService;
+import com.assassin.service.ShrinkingZoneService;
+import com.assassin.service.TickEventDispatcher;
+import com.assassin.service.verification.VerificationManager;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Verifies that a cold start builds each shared component exactly once, however many handlers ask for it.
+ */
+class ServiceRegistryTest {
+
+    private static final List<String> TABLE_PROPERTIES = List.of(
+            "PLAYERS_TABLE_NAME", "GAMES_TABLE_NAME", "KILLS_TABLE_NAME",
+            "NOTIFICATIONS_TABLE_NAME", "SAFE_ZONES_TABLE_NAME");
+
+    // What the kill, location, proximity and game handlers resolve between them
+    private static final Class<?>[] HANDLER_GRAPH = {
+            PlayerDao.class, GameDao.class, KillDao.class, NotificationDao.class, SafeZoneDao.class,
+            GameZoneStateDao.class, RecentKillFeedDao.class, GameEventDao.class, GameRosterDao.class,
+            ShrinkingZoneService.class, MapConfigurationService.class, GeofenceManager.class, NotificationService.class,
+            SafeZoneService.class, LocationService.class, ProximityDetectionService.class, VerificationManager.class,
+            RecentKillFeedService.class, GameEventService.class, GameRosterService.class, KillService.class,
+            GameService.class};
+
+    @BeforeEach
+    void setUp() {
+        TABLE_PROPERTIES.forEach(name -> System.setProperty(name, "test-" + name));
+        DynamoDbClientProvider.overrideClient(mock(DynamoDbClient.class));
+        ServiceRegistry.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DynamoDbClientProvider.resetClient();
+        ServiceRegistry.reset();
+        TABLE_PROPERTIES.forEach(System::clearProperty);
+    }
+
+    @Test
+    void testColdStartBuildsEachComponentOnce() {
+        // Resolve the same graph several handlers would build on a cold start
+        KillService killService = ServiceRegistry.killService();
+        LocationService locationService = ServiceRegistry.locationService();
+        ProximityDetectionService proximityService = ServiceRegistry.proximityDetectionService();
+        GameService gameService = ServiceRegistry.gameService();
+
+        assertBuiltOnce(HANDLER_GRAPH);
+        assertEquals(1, ServiceRegistry.constructionCount(Player.class));
+        assertEquals(1, ServiceRegistry.constructionCount(Game.class));
+        // Components no handler path above asks for are not built
+        assertNotBuilt(PlayerStatusService.class, GameTickProcessor.class, TickEventDispatcher.class,
+                PlayerService.class, AuthorizationUtils.class);
+
+        // Later lookups and default constructors reuse the shared graph
+        assertSame(killService, ServiceRegistry.killService());
+        assertSame(locationService, ServiceRegistry.locationService());
+        assertSame(proximityService, ServiceRegistry.proximityDetectionService());
+        assertSame(gameService, ServiceRegistry.gameService());
+        new GameService();
+        new LocationService();
+        assertBuiltOnce(HANDLER_GRAPH);
+        assertNotBuilt(PlayerStatusService.class, GameTickProcessor.class, TickEventDispatcher.class,
+                PlayerService.class, AuthorizationUtils.class);
+    }
+
+    private static void assertBuiltOnce(Class<?>... types) {
+        for (Class<?> type : types) {
+            assertEquals(1, ServiceRegistry.constructionCount(type), type.getSimpleName());
+        }
+    }
+
+    private static void assertNotBuilt(Class<?>... types) {
+        for (Class<?> type : types) {
+            assertEquals(0, ServiceRegistry.constructionCount(type), type.getSimpleName());
+        }
+    }
+
+    @Test
+    void testTableSchemaIsShared() {
+        assertSame(ServiceRegistry.tableSchema(Player.class), ServiceRegistry.tableSchema(Player.class));
+        assertEquals(1, ServiceRegistry.constructionCount(Player.class));
+    }
+
+    @Test
+    void testOverridingClientRebuildsComponentsButKeepsSchemas() {
+        PlayerDao before = ServiceRegistry.playerDao();
+
+        DynamoDbClientProvider.overrideClient(mock(DynamoDbClient.class));
+        PlayerDao after = ServiceRegistry.playerDao();
+
+        assertNotSame(before, after);
+        assertEquals(2, ServiceRegistry.constructionCount(PlayerDao.class));
+        assertEquals(1, ServiceRegistry.constructionCount(Player.class));
+    }
+
+    @Test
+    void testUsingVirtualClockRebuildsComponentsAndResetRestoresSystemClock() {
+        KillService before = ServiceRegistry.killService();
+        VirtualTimeSource clock = new VirtualTimeSource(Instant.parse("2025-01-01T00:00:00Z"));
+
+        ServiceRegistry.useTimeSource(clock);
+
+        assertSame(clock, ServiceRegistry.timeSource());
+        assertNotSame(before, ServiceRegistry.killService());
+
+        ServiceRegistry.reset();
+        assertSame(TimeSource.system(), ServiceRegistry.timeSource());
+    }
+}
@@ -0,0 +1,37 @@
+package com.assassin.util;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class VirtualTimeSourceTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void testClockOnlyMovesWhenAdvanced() {
+        VirtualTimeSource clock = new VirtualTimeSource(START);
+
+        assertEquals(START, clock.now());
+        assertEquals(START.toEpochMilli(), clock.currentTimeMillis());
+
+        assertEquals(START.plusSeconds(90), clock.advance(Duration.ofSeconds(90)));
+        assertEquals(START.plusSeconds(90), clock.now());
+
+        clock.advanceTo(START.plus(Duration.ofHours(1)));
+        assertEquals(START.plus(Duration.ofHours(1)).toEpochMilli(), clock.currentTimeMillis());
+    }
+
+    @Test
+    void testClockCannotGoBackwards() {
+        VirtualTimeSource clock = new VirtualTimeSource(START);
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> clock.advanceTo(START));
+        assertEquals(START.plus(Duration.ofMinutes(5)), clock.now());
+    }
+}